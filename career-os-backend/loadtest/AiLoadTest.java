@@ -0,0 +1,290 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model load generator for the AI endpoints and mentor matching.
+ * Requests are started at the target rate whether or not earlier ones have finished (constant or
+ * Poisson arrivals), so queueing in the backend shows up as latency instead of a lower send rate.
+ * Payloads cycle through a fixed number of seeded variants, which sets the prompt cache hit rate.
+ * Requests started during the warm-up are sent but left out of the report.
+ *
+ * Run with: java loadtest/AiLoadTest.java --username=... --password=... [--option=value ...]
+ * (see README.md for the options)
+ */
+public class AiLoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final String[] ROLES = {"Software Engineer", "Data Analyst", "Product Manager", "DevOps Engineer",
+            "Frontend Developer", "QA Engineer", "Business Analyst", "Data Scientist"};
+    private static final String[] GOALS = {"Senior Backend Engineer", "Machine Learning Engineer", "Engineering Manager",
+            "Cloud Architect", "Staff Engineer", "Head of Product", "Site Reliability Engineer", "Tech Lead"};
+    private static final String[] LEVELS = {"ENTRY_LEVEL", "MID_LEVEL", "SENIOR_LEVEL"};
+    private static final String[] INDUSTRIES = {"Technology", "Finance", "Healthcare", "E-commerce", "Education"};
+    private static final String[] SKILLS = {"Java", "Spring Boot", "Python", "SQL", "React", "AWS", "Docker",
+            "Kubernetes", "Kafka", "TypeScript", "Terraform", "Machine Learning", "System Design", "Go"};
+
+    private record Options(String baseUrl, String token, String username, String password, List<String> scenarios,
+                           double rps, Duration duration, Duration warmup, Duration timeout, boolean poisson,
+                           int variants, int maxInFlight, long seed, Path out) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --option=value but got " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            String scenarios = values.getOrDefault("scenario", "mix");
+            return new Options(
+                    values.getOrDefault("base-url", "http://localhost:8080/api/v1"),
+                    values.get("token"),
+                    values.get("username"),
+                    values.get("password"),
+                    scenarios.equals("mix") ? List.of(Scenario.NAMES) : List.of(scenarios.split(",")),
+                    Double.parseDouble(values.getOrDefault("rps", "10")),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout", "90"))),
+                    values.getOrDefault("arrivals", "constant").equals("poisson"),
+                    Integer.parseInt(values.getOrDefault("variants", "50")),
+                    Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    values.containsKey("out") ? Path.of(values.get("out")) : null);
+        }
+    }
+
+    private record Sample(String scenario, long startNanos, long latencyNanos, long lagNanos, String outcome) {}
+
+    private static final class Scenario {
+
+        static final String[] NAMES = {"recommendations", "resume-analysis", "career-path", "mentor-matches"};
+
+        static String path(String name) {
+            return switch (name) {
+                case "recommendations" -> "/api/v1/ai/recommendations";
+                case "resume-analysis" -> "/api/v1/ai/resume-analysis";
+                case "career-path" -> "/api/v1/ai/career-path";
+                case "mentor-matches" -> "/api/v1/mentorship/find-matches";
+                default -> throw new IllegalArgumentException("Unknown scenario " + name
+                        + ", expected one of " + String.join(", ", NAMES) + " or mix");
+            };
+        }
+
+        /**
+         * Request body for a payload variant; the same variant always gives the same body
+         */
+        static String body(String name, int variant) {
+            SplittableRandom random = new SplittableRandom(variant * 31L + name.hashCode());
+            String role = pick(ROLES, random);
+            String goal = pick(GOALS, random);
+            String level = pick(LEVELS, random);
+            String industry = pick(INDUSTRIES, random);
+            String skills = skills(random, 3 + random.nextInt(4));
+            return switch (name) {
+                case "recommendations", "career-path" -> """
+                        {"currentRole":"%s","careerGoal":"%s","experienceLevel":"%s","industry":"%s",\
+                        "currentSkills":[%s],"interests":["%s"]}"""
+                        .formatted(role, goal, level, industry, skills, pick(INDUSTRIES, random));
+                case "resume-analysis" -> """
+                        {"resumeContent":"%s with %d years of experience in %s. Built and operated services using %s. \
+                        Led a migration that cut infrastructure cost by %d%% and mentored %d engineers. \
+                        Education: BSc Computer Science.","targetRole":"%s","targetIndustry":"%s","analysisType":"COMPREHENSIVE"}"""
+                        .formatted(role, 2 + random.nextInt(10), industry, skills.replace("\"", ""),
+                                10 + random.nextInt(40), 1 + random.nextInt(5), goal, industry);
+                case "mentor-matches" -> """
+                        {"skillsToLearn":[%s],"experienceLevel":"%s","industryPreference":"%s",\
+                        "minCompatibilityScore":0.3,"maxResults":10,"learningGoals":"Become a %s"}"""
+                        .formatted(skills, level, industry, goal);
+                default -> throw new IllegalArgumentException("Unknown scenario " + name);
+            };
+        }
+
+        private static String pick(String[] values, SplittableRandom random) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private static String skills(SplittableRandom random, int count) {
+            List<String> pool = new ArrayList<>(Arrays.asList(SKILLS));
+            List<String> picked = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                picked.add("\"" + pool.remove(random.nextInt(pool.size())) + "\"");
+            }
+            return String.join(",", picked);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        options.scenarios().forEach(Scenario::path);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String token = options.token() != null ? options.token() : login(client, options);
+
+        ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        SplittableRandom random = new SplittableRandom(options.seed());
+        long intervalNanos = (long) (1_000_000_000L / options.rps());
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        System.out.printf("Driving %s at %.1f rps (%s arrivals) for %ds after a %ds warm-up, %d payload variants%n",
+                String.join(", ", options.scenarios()), options.rps(), options.poisson() ? "poisson" : "constant",
+                options.duration().toSeconds(), options.warmup().toSeconds(), options.variants());
+
+        long scheduled = start;
+        for (long n = 0; scheduled < end; n++) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String scenario = options.scenarios().get((int) (n % options.scenarios().size()));
+            int variant = options.variants() > 0 ? random.nextInt(options.variants()) : (int) n;
+            long due = scheduled;
+            boolean measured = due >= measureFrom;
+
+            if (inFlight.get() >= options.maxInFlight()) {
+                // The backend has stopped keeping up; count the request instead of piling on more threads
+                if (measured) {
+                    samples.add(new Sample(scenario, due, 0, 0, "dropped"));
+                }
+            } else {
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        Sample sample = send(client, options, token, scenario, variant, due);
+                        if (measured) {
+                            samples.add(sample);
+                        }
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            scheduled += options.poisson() ? (long) (-intervalNanos * Math.log(1 - random.nextDouble())) : intervalNanos;
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(options.timeout().toSeconds() + 5, TimeUnit.SECONDS)) {
+            System.out.printf("%d requests still running at shutdown%n", inFlight.get());
+        }
+        report(new ArrayList<>(samples), options);
+        if (options.out() != null) {
+            writeCsv(new ArrayList<>(samples), options.out(), measureFrom);
+        }
+    }
+
+    private static Sample send(HttpClient client, Options options, String token, String scenario, int variant, long due) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + Scenario.path(scenario)))
+                .timeout(options.timeout())
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString(Scenario.body(scenario, variant)))
+                .build();
+        long started = System.nanoTime();
+        String outcome;
+        try {
+            outcome = String.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+        } catch (IOException e) {
+            outcome = "io-error";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        }
+        // Latency is measured from the scheduled time, so driver lag is not hidden (coordinated omission)
+        long finished = System.nanoTime();
+        return new Sample(scenario, due, finished - due, started - due, outcome);
+    }
+
+    private static String login(HttpClient client, Options options) throws IOException, InterruptedException {
+        if (options.username() == null || options.password() == null) {
+            throw new IllegalArgumentException("Pass --token, or --username and --password to log in");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"%s\",\"password\":\"%s\"}"
+                        .formatted(options.username(), options.password())))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static void report(List<Sample> samples, Options options) {
+        Map<String, List<Sample>> byScenario = new TreeMap<>();
+        for (Sample sample : samples) {
+            byScenario.computeIfAbsent(sample.scenario(), s -> new ArrayList<>()).add(sample);
+        }
+        byScenario.put("all", samples);
+
+        double seconds = options.duration().toMillis() / 1000.0;
+        System.out.printf("%n%-16s %7s %8s %8s %8s %8s %8s %8s %8s %9s  %s%n", "scenario", "sent", "ok/s",
+                "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms", "lag p99", "success", "outcomes");
+        byScenario.forEach((scenario, list) -> {
+            long[] latencies = list.stream().filter(s -> !s.outcome().equals("dropped"))
+                    .mapToLong(Sample::latencyNanos).sorted().toArray();
+            long[] lags = list.stream().filter(s -> !s.outcome().equals("dropped"))
+                    .mapToLong(Sample::lagNanos).sorted().toArray();
+            long ok = list.stream().filter(s -> s.outcome().startsWith("2")).count();
+            Map<String, Integer> outcomes = new TreeMap<>();
+            list.forEach(s -> outcomes.merge(s.outcome(), 1, Integer::sum));
+            System.out.printf("%-16s %7d %8.1f %8.0f %8.0f %8.0f %8.0f %8.0f %8.0f %8.1f%%  %s%n", scenario,
+                    list.size(), ok / seconds, millis(latencies, 0.50), millis(latencies, 0.90),
+                    millis(latencies, 0.95), millis(latencies, 0.99), millis(latencies, 1.0), millis(lags, 0.99),
+                    list.isEmpty() ? 0.0 : 100.0 * ok / list.size(), outcomes);
+        });
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static void writeCsv(List<Sample> samples, Path out, long measureFrom) throws IOException {
+        samples.sort((a, b) -> Long.compare(a.startNanos(), b.startNanos()));
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out))) {
+            writer.println("offset_ms,scenario,outcome,latency_ms,lag_ms");
+            for (Sample sample : samples) {
+                writer.printf("%.1f,%s,%s,%.1f,%.1f%n", (sample.startNanos() - measureFrom) / 1e6, sample.scenario(),
+                        sample.outcome(), sample.latencyNanos() / 1e6, sample.lagNanos() / 1e6);
+            }
+        }
+        System.out.println("Wrote " + samples.size() + " samples to " + out);
+    }
+}
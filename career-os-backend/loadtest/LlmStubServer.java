@@ -0,0 +1,396 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for the OpenAI chat completions endpoint, for load testing without spending quota.
+ * Answers POST /v1/chat/completions with canned structured output for the use case detected from the
+ * prompt (skill recommendations, resume analysis, micro-batches, job insights, mentor explanations,
+ * assessment feedback), after a latency drawn from a configurable distribution plus generation time at
+ * a fixed token rate. Streamed requests are answered as server-sent chunks at that rate.
+ * Errors (429, 500, hangs, malformed JSON) are injected by share; the n-th request always gets the same
+ * latency and outcome for a given seed, so runs are reproducible. GET /stats returns the counters.
+ *
+ * Run with: java loadtest/LlmStubServer.java [--option=value ...] (see README.md for the options)
+ * then start the backend with OPENAI_BASE_URL=http://localhost:8089/
+ */
+public class LlmStubServer {
+
+    private static final Pattern TASK = Pattern.compile("(?m)^Task (\\d+):\\n");
+    private static final Pattern STREAM = Pattern.compile("\"stream\"\\s*:\\s*true");
+    private static final Pattern MODEL = Pattern.compile("\"model\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern CONTENT = Pattern.compile("\"content\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+    private static final AtomicLong requests = new AtomicLong();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> useCases = new ConcurrentHashMap<>();
+
+    private record Options(int port, String latency, double latencyMs, double latencySigma, double tokensPerSecond,
+                           double rateLimitedShare, double serverErrorShare, double hangShare, long hangMs,
+                           double malformedShare, int maxConcurrent, long seed) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --option=value but got " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            return new Options(
+                    Integer.parseInt(values.getOrDefault("port", "8089")),
+                    values.getOrDefault("latency", "lognormal"),
+                    Double.parseDouble(values.getOrDefault("latency-ms", "800")),
+                    Double.parseDouble(values.getOrDefault("latency-sigma", "0.5")),
+                    Double.parseDouble(values.getOrDefault("tokens-per-second", "60")),
+                    Double.parseDouble(values.getOrDefault("error-429", "0")),
+                    Double.parseDouble(values.getOrDefault("error-500", "0")),
+                    Double.parseDouble(values.getOrDefault("error-hang", "0")),
+                    Long.parseLong(values.getOrDefault("hang-ms", "120000")),
+                    Double.parseDouble(values.getOrDefault("error-malformed", "0")),
+                    Integer.parseInt(values.getOrDefault("max-concurrent", "0")),
+                    Long.parseLong(values.getOrDefault("seed", "42")));
+        }
+
+        /**
+         * Time to first token: fixed, uniform on [0, 2x], exponential with that mean, or lognormal with that median
+         */
+        long firstTokenMs(SplittableRandom random) {
+            double ms = switch (latency) {
+                case "fixed" -> latencyMs;
+                case "uniform" -> random.nextDouble() * 2 * latencyMs;
+                case "exponential" -> -latencyMs * Math.log(1 - random.nextDouble());
+                case "lognormal" -> latencyMs * Math.exp(latencySigma * random.nextGaussian());
+                default -> throw new IllegalArgumentException("Unknown latency distribution " + latency);
+            };
+            return Math.min((long) ms, (long) (latencyMs * 20));
+        }
+
+        long generationMs(int tokens) {
+            return tokensPerSecond > 0 ? (long) (tokens * 1000 / tokensPerSecond) : 0;
+        }
+    }
+
+    private enum Outcome { OK, RATE_LIMITED, OVERLOADED, SERVER_ERROR, HANG, MALFORMED }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(options.port()), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/chat/completions", exchange -> handle(exchange, options));
+        server.createContext("/stats", LlmStubServer::stats);
+        server.start();
+        System.out.printf("LLM stub listening on :%d (%s latency %.0f ms, %.0f tokens/s, errors 429=%.1f%% 500=%.1f%% "
+                        + "hang=%.1f%% malformed=%.1f%%, max concurrent %s, seed %d)%n",
+                options.port(), options.latency(), options.latencyMs(), options.tokensPerSecond(),
+                options.rateLimitedShare() * 100, options.serverErrorShare() * 100, options.hangShare() * 100,
+                options.malformedShare() * 100, options.maxConcurrent() > 0 ? options.maxConcurrent() : "unlimited",
+                options.seed());
+    }
+
+    private static void handle(HttpExchange exchange, Options options) throws IOException {
+        int concurrent = inFlight.incrementAndGet();
+        try (exchange) {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            long id = requests.incrementAndGet();
+            // Seeded by request number, so the n-th request of a run behaves the same every time
+            SplittableRandom random = new SplittableRandom(options.seed() ^ (id * 0x9E3779B97F4A7C15L));
+
+            String prompt = prompt(request);
+            String useCase = detectUseCase(prompt);
+            count(useCases, useCase);
+
+            Outcome outcome = pickOutcome(options, random, concurrent);
+            count(outcomes, outcome.name().toLowerCase());
+            switch (outcome) {
+                case RATE_LIMITED, OVERLOADED -> {
+                    Thread.sleep(Math.min(options.firstTokenMs(random), 200));
+                    exchange.getResponseHeaders().set("Retry-After", "1");
+                    respond(exchange, 429, error("Rate limit reached for requests", "requests"));
+                    return;
+                }
+                case SERVER_ERROR -> {
+                    Thread.sleep(options.firstTokenMs(random));
+                    respond(exchange, 500, error("The server had an error while processing your request", "server_error"));
+                    return;
+                }
+                case HANG -> {
+                    Thread.sleep(options.hangMs());
+                    respond(exchange, 504, error("Gateway timeout", "timeout"));
+                    return;
+                }
+                default -> { }
+            }
+
+            String content = complete(useCase, prompt);
+            if (outcome == Outcome.MALFORMED) {
+                // Cut the answer off mid-way, like a completion that hit max_tokens
+                content = content.substring(0, content.length() / 2);
+            }
+            String model = match(MODEL, request, "stub");
+            int promptTokens = Math.max(1, prompt.length() / 4);
+            int completionTokens = Math.max(1, content.length() / 4);
+            long firstTokenMs = options.firstTokenMs(random);
+
+            if (STREAM.matcher(request).find()) {
+                stream(exchange, options, id, model, content, firstTokenMs);
+            } else {
+                Thread.sleep(firstTokenMs + options.generationMs(completionTokens));
+                respond(exchange, 200, """
+                        {"id":"chatcmpl-stub-%d","object":"chat.completion","created":%d,"model":"%s",\
+                        "choices":[{"index":0,"finish_reason":"stop","message":{"role":"assistant","content":%s}}],\
+                        "usage":{"prompt_tokens":%d,"completion_tokens":%d,"total_tokens":%d}}
+                        """.formatted(id, System.currentTimeMillis() / 1000, model, json(content),
+                        promptTokens, completionTokens, promptTokens + completionTokens));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static Outcome pickOutcome(Options options, SplittableRandom random, int concurrent) {
+        if (options.maxConcurrent() > 0 && concurrent > options.maxConcurrent()) {
+            return Outcome.OVERLOADED;
+        }
+        double roll = random.nextDouble();
+        double[] shares = {options.rateLimitedShare(), options.serverErrorShare(), options.hangShare(), options.malformedShare()};
+        Outcome[] injected = {Outcome.RATE_LIMITED, Outcome.SERVER_ERROR, Outcome.HANG, Outcome.MALFORMED};
+        for (int i = 0; i < shares.length; i++) {
+            if (roll < shares[i]) {
+                return injected[i];
+            }
+            roll -= shares[i];
+        }
+        return Outcome.OK;
+    }
+
+    /**
+     * Server-sent chunks of a few tokens each, paced at the configured token rate
+     */
+    private static void stream(HttpExchange exchange, Options options, long id, String model, String content,
+                               long firstTokenMs) throws IOException, InterruptedException {
+        Thread.sleep(firstTokenMs);
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        int chunkChars = 16;
+        long pauseMs = options.generationMs(chunkChars / 4);
+        String prefix = "data: {\"id\":\"chatcmpl-stub-%d\",\"object\":\"chat.completion.chunk\",\"created\":%d,\"model\":\"%s\",\"choices\":[{\"index\":0,"
+                .formatted(id, System.currentTimeMillis() / 1000, model);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int start = 0; start < content.length(); start += chunkChars) {
+                String delta = content.substring(start, Math.min(content.length(), start + chunkChars));
+                write(out, prefix + "\"delta\":{\"content\":" + json(delta) + "},\"finish_reason\":null}]}\n\n");
+                Thread.sleep(pauseMs);
+            }
+            write(out, prefix + "\"delta\":{},\"finish_reason\":\"stop\"}]}\n\n");
+            write(out, "data: [DONE]\n\n");
+        }
+    }
+
+    private static void stats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            respond(exchange, 200, "{\"requests\":%d,\"inFlight\":%d,\"outcomes\":%s,\"useCases\":%s}"
+                    .formatted(requests.get(), inFlight.get(), counters(outcomes), counters(useCases)));
+        }
+    }
+
+    // Canned answers, shaped like the formats the backend's prompts ask for
+
+    private static String detectUseCase(String prompt) {
+        if (prompt.contains("Complete each of the following")) {
+            return "batch";
+        }
+        if (prompt.contains("ATS (Applicant Tracking System) expert")) {
+            return "resume_analysis";
+        }
+        if (prompt.contains("\"recommendations\"") && prompt.contains("\"learningPath\"")) {
+            return "skill_recommendations";
+        }
+        if (prompt.contains("Summarize the job market")) {
+            return "job_insights";
+        }
+        if (prompt.contains("mentor match")) {
+            return "mentor_explanation";
+        }
+        if (prompt.contains("Evaluate this skill assessment")) {
+            return "assessment_feedback";
+        }
+        return "other";
+    }
+
+    private static String complete(String useCase, String prompt) {
+        return switch (useCase) {
+            case "batch" -> batch(prompt);
+            case "resume_analysis" -> """
+                    {"atsScore":78,"overallFeedback":"Clear structure with quantified achievements; keyword coverage for the target role could be stronger.",\
+                    "strengths":["Quantified impact in recent roles","Consistent formatting","Relevant technical stack"],\
+                    "weaknesses":["Summary is generic","Few role-specific keywords","Education section lacks detail"],\
+                    "keywordAnalysis":{"foundKeywords":["Java","Spring Boot","PostgreSQL","REST"],"missingKeywords":["Kubernetes","CI/CD","Terraform"],"keywordDensity":9.5},\
+                    "sections":{"summary":{"score":6,"feedback":"Tailor the summary to the target role"},\
+                    "experience":{"score":8,"feedback":"Strong, results-oriented bullets"},\
+                    "skills":{"score":7,"feedback":"Group skills by category"},\
+                    "education":{"score":7,"feedback":"Add relevant coursework or certifications"}},\
+                    "recommendations":[{"category":"KEYWORDS","priority":"HIGH","suggestion":"Add Kubernetes and CI/CD experience where it applies","impact":"+8 ATS points"},\
+                    {"category":"CONTENT","priority":"MEDIUM","suggestion":"Rewrite the summary around the target role","impact":"+4 ATS points"},\
+                    {"category":"FORMATTING","priority":"LOW","suggestion":"Use standard section headings","impact":"+2 ATS points"}]}""";
+            case "skill_recommendations" -> """
+                    {"recommendations":[\
+                    {"skillName":"Kubernetes","category":"DEVOPS","priority":"HIGH","reason":"Most backend roles deploy to containers","timeToLearn":"3 months","difficulty":"INTERMEDIATE"},\
+                    {"skillName":"System Design","category":"SOFTWARE_ENGINEERING","priority":"HIGH","reason":"Required for senior interviews","timeToLearn":"6 months","difficulty":"ADVANCED"},\
+                    {"skillName":"AWS","category":"CLOUD_COMPUTING","priority":"HIGH","reason":"Most requested cloud platform","timeToLearn":"4 months","difficulty":"INTERMEDIATE"},\
+                    {"skillName":"Terraform","category":"DEVOPS","priority":"MEDIUM","reason":"Infrastructure as code is standard practice","timeToLearn":"2 months","difficulty":"INTERMEDIATE"},\
+                    {"skillName":"Kafka","category":"DATA_ENGINEERING","priority":"MEDIUM","reason":"Event-driven systems are common","timeToLearn":"2 months","difficulty":"INTERMEDIATE"},\
+                    {"skillName":"Observability","category":"DEVOPS","priority":"MEDIUM","reason":"Production ownership needs metrics and tracing","timeToLearn":"1 month","difficulty":"BEGINNER"},\
+                    {"skillName":"Technical Writing","category":"SOFT_SKILLS","priority":"LOW","reason":"Design docs drive decisions","timeToLearn":"2 months","difficulty":"BEGINNER"},\
+                    {"skillName":"Mentoring","category":"LEADERSHIP","priority":"LOW","reason":"Expected at senior level","timeToLearn":"6 months","difficulty":"INTERMEDIATE"}],\
+                    "learningPath":"Start with AWS and Kubernetes, add Terraform and Kafka through a side project, then practise system design.",\
+                    "careerImpact":"These skills cover most senior backend job requirements and typically support a move up one level within 12-18 months."}""";
+            case "job_insights" -> """
+                    - Demand for these skills is steady, with most openings in fintech and SaaS
+                    - Remote and hybrid roles make up about half of postings
+                    - Cloud and container experience is the most common extra requirement""";
+            case "mentor_explanation" -> "This mentor has hands-on experience in the skills you want to learn and a mentoring "
+                    + "style that fits your goals. Their schedule overlaps with yours, so regular sessions are realistic.";
+            case "assessment_feedback" -> """
+                    Strengths: solid fundamentals, clear problem decomposition
+                    Weaknesses: edge-case handling, performance trade-offs
+                    Recommendations: practise timed exercises, review complexity analysis, build a small project""";
+            default -> "Stub response.";
+        };
+    }
+
+    /**
+     * A JSON array with one {id, output} per task; structured tasks get their JSON as the output string
+     */
+    private static String batch(String prompt) {
+        Matcher matcher = TASK.matcher(prompt);
+        List<int[]> tasks = new ArrayList<>();
+        while (matcher.find()) {
+            tasks.add(new int[]{Integer.parseInt(matcher.group(1)), matcher.start(), matcher.end()});
+        }
+        StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < tasks.size(); i++) {
+            int end = i + 1 < tasks.size() ? tasks.get(i + 1)[1] : prompt.length();
+            String task = prompt.substring(tasks.get(i)[2], end);
+            if (i > 0) {
+                array.append(',');
+            }
+            array.append("{\"id\":").append(tasks.get(i)[0])
+                    .append(",\"output\":").append(json(complete(detectUseCase(task), task))).append('}');
+        }
+        return array.append(']').toString();
+    }
+
+    // Minimal JSON handling, enough for chat completion requests
+
+    private static String prompt(String request) {
+        StringBuilder prompt = new StringBuilder();
+        Matcher matcher = CONTENT.matcher(request);
+        while (matcher.find()) {
+            prompt.append(unescape(matcher.group(1))).append('\n');
+        }
+        return prompt.toString();
+    }
+
+    private static String unescape(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 == value.length()) {
+                out.append(c);
+                continue;
+            }
+            char escaped = value.charAt(++i);
+            switch (escaped) {
+                case 'n' -> out.append('\n');
+                case 't' -> out.append('\t');
+                case 'r' -> out.append('\r');
+                case 'b' -> out.append('\b');
+                case 'f' -> out.append('\f');
+                case 'u' -> {
+                    out.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                default -> out.append(escaped);
+            }
+        }
+        return out.toString();
+    }
+
+    private static String json(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 16).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private static String error(String message, String type) {
+        return "{\"error\":{\"message\":%s,\"type\":%s}}".formatted(json(message), json(type));
+    }
+
+    private static String match(Pattern pattern, String text, String fallback) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : fallback;
+    }
+
+    private static String counters(Map<String, LongAdder> counters) {
+        StringBuilder out = new StringBuilder("{");
+        new TreeMap<>(counters).forEach((key, count) ->
+                out.append(out.length() > 1 ? "," : "").append(json(key)).append(':').append(count.sum()));
+        return out.append('}').toString();
+    }
+
+    private static void count(Map<String, LongAdder> counters, String key) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
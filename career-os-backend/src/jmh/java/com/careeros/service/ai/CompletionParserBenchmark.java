@@ -0,0 +1,90 @@
+package com.careeros.service.ai;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming completion parser against the previous regex parsing, on completions shaped like the
+ * ones the prompts ask for. Run with: mvn -Pjmh test-compile exec:exec -Djmh.includes=CompletionParserBenchmark
+ * (add -Djmh.args="-prof gc" for allocation rates). No results are recorded yet: the parser replaced
+ * the regex parsing for its validation and the fields the regex parsing dropped, not for speed, and
+ * this guards against it being slower.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompletionParserBenchmark {
+
+    static final String SKILL_COMPLETION;
+    static final String RESUME_COMPLETION;
+
+    static {
+        StringBuilder skills = new StringBuilder("Here are the recommendations based on the profile you shared.\n\n```json\n{\n  \"recommendations\": [\n");
+        String[] names = {"Kubernetes", "Go", "Terraform", "System Design", "PostgreSQL Tuning",
+                "Kafka", "Observability", "GraphQL", "Rust", "Technical Leadership"};
+        for (int i = 0; i < names.length; i++) {
+            skills.append("    {\n")
+                    .append("      \"skillName\": \"").append(names[i]).append("\",\n")
+                    .append("      \"category\": \"DEVOPS\",\n")
+                    .append("      \"priority\": \"").append(i < 4 ? "HIGH" : "MEDIUM").append("\",\n")
+                    .append("      \"reason\": \"Frequently required in senior backend postings and complements your current stack\",\n")
+                    .append("      \"timeToLearn\": \"3-6 months\",\n")
+                    .append("      \"difficulty\": \"INTERMEDIATE\"\n")
+                    .append("    }").append(i < names.length - 1 ? ",\n" : "\n");
+        }
+        skills.append("  ],\n")
+                .append("  \"learningPath\": \"Start with containers and infrastructure as code, then move to distributed systems topics.\",\n")
+                .append("  \"careerImpact\": \"These skills position you for staff-level platform and backend roles.\"\n")
+                .append("}\n```\n");
+        SKILL_COMPLETION = skills.toString();
+
+        RESUME_COMPLETION = """
+                {
+                  "atsScore": 78,
+                  "overallFeedback": "Well structured resume with clear experience, but light on measurable outcomes.",
+                  "strengths": ["Clear chronology", "Relevant technical stack", "Concise summary"],
+                  "weaknesses": ["Few quantified achievements", "Missing cloud keywords", "Long bullet points"],
+                  "keywordAnalysis": {
+                    "foundKeywords": ["java", "spring", "postgresql", "rest", "docker"],
+                    "missingKeywords": ["kubernetes", "aws", "ci/cd", "microservices"],
+                    "keywordDensity": 12.5
+                  },
+                  "sections": {
+                    "summary": {"score": 8, "feedback": "Clear and targeted"},
+                    "experience": {"score": 7, "feedback": "Add metrics to each role"},
+                    "skills": {"score": 9, "feedback": "Comprehensive"},
+                    "education": {"score": 8, "feedback": "Fine as is"}
+                  },
+                  "recommendations": [
+                    {"category": "CONTENT", "priority": "HIGH", "suggestion": "Quantify impact in each role", "impact": "Higher recruiter engagement"},
+                    {"category": "KEYWORDS", "priority": "HIGH", "suggestion": "Add Kubernetes and AWS where truthful", "impact": "Better ATS keyword match"},
+                    {"category": "FORMATTING", "priority": "MEDIUM", "suggestion": "Shorten bullets to one line", "impact": "Easier scanning"}
+                  ]
+                }
+                """;
+    }
+
+    @Benchmark
+    public Object streamingSkillRecommendations() {
+        return CompletionParser.parseSkillRecommendations(SKILL_COMPLETION);
+    }
+
+    @Benchmark
+    public Object regexSkillRecommendations() {
+        return LegacyRegexParser.parseSkillRecommendationResponse(SKILL_COMPLETION);
+    }
+
+    @Benchmark
+    public Object streamingResumeAnalysis() {
+        return CompletionParser.parseResumeAnalysis(RESUME_COMPLETION);
+    }
+
+    @Benchmark
+    public Object regexResumeAnalysis() {
+        return LegacyRegexParser.parseResumeAnalysisResponse(RESUME_COMPLETION);
+    }
+}
@@ -0,0 +1,151 @@
+package com.careeros.service.ai;
+
+import com.careeros.dto.ai.ResumeAnalysisResponse;
+import com.careeros.dto.ai.SkillRecommendationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The regex-based completion parsing OpenAIService used before {@link CompletionParser}, kept as the
+ * benchmark baseline
+ */
+final class LegacyRegexParser {
+
+    private LegacyRegexParser() {
+    }
+
+    static SkillRecommendationResponse parseSkillRecommendationResponse(String response) {
+        try {
+            // Extract JSON from response
+            String jsonStr = extractJsonFromResponse(response);
+            
+            // Parse the response (simplified parsing - in production, use Jackson ObjectMapper)
+            SkillRecommendationResponse skillResponse = new SkillRecommendationResponse();
+            
+            // This is a simplified parser - implement proper JSON parsing
+            skillResponse.setRecommendations(parseSkillRecommendations(jsonStr));
+            skillResponse.setLearningPath(extractLearningPath(jsonStr));
+            skillResponse.setCareerImpact(extractCareerImpact(jsonStr));
+            
+            return skillResponse;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse AI response", e);
+        }
+    }
+
+    static ResumeAnalysisResponse parseResumeAnalysisResponse(String response) {
+        try {
+            // Extract JSON from response
+            String jsonStr = extractJsonFromResponse(response);
+            
+            // Parse the response (simplified parsing - in production, use Jackson ObjectMapper)
+            ResumeAnalysisResponse analysisResponse = new ResumeAnalysisResponse();
+            
+            // Extract ATS score
+            Pattern scorePattern = Pattern.compile("\"atsScore\"\\s*:\\s*(\\d+)");
+            Matcher scoreMatcher = scorePattern.matcher(jsonStr);
+            if (scoreMatcher.find()) {
+                analysisResponse.setAtsScore(Integer.parseInt(scoreMatcher.group(1)));
+            }
+            
+            // Extract overall feedback
+            analysisResponse.setOverallFeedback(extractStringValue(jsonStr, "overallFeedback"));
+            
+            // Extract strengths and weaknesses
+            analysisResponse.setStrengths(extractArrayValues(jsonStr, "strengths"));
+            analysisResponse.setWeaknesses(extractArrayValues(jsonStr, "weaknesses"));
+            
+            // Extract recommendations
+            analysisResponse.setRecommendations(parseRecommendations(jsonStr));
+            
+            return analysisResponse;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse AI response", e);
+        }
+    }
+
+    static String extractJsonFromResponse(String response) {
+        // Find JSON content between { and }
+        int start = response.indexOf('{');
+        int end = response.lastIndexOf('}');
+        if (start != -1 && end != -1 && end > start) {
+            return response.substring(start, end + 1);
+        }
+        return response;
+    }
+
+    static List<SkillRecommendationResponse.SkillRecommendation> parseSkillRecommendations(String jsonStr) {
+        List<SkillRecommendationResponse.SkillRecommendation> recommendations = new ArrayList<>();
+        
+        // Simplified parsing - implement proper JSON parsing in production
+        Pattern pattern = Pattern.compile("\"skillName\"\\s*:\\s*\"([^\"]+)\"");
+        Matcher matcher = pattern.matcher(jsonStr);
+        
+        while (matcher.find()) {
+            SkillRecommendationResponse.SkillRecommendation recommendation = 
+                new SkillRecommendationResponse.SkillRecommendation();
+            recommendation.setSkillName(matcher.group(1));
+            recommendation.setPriority("HIGH"); // Default values
+            recommendation.setCategory("PROGRAMMING_LANGUAGES");
+            recommendation.setReason("AI-recommended skill for career advancement");
+            recommendations.add(recommendation);
+        }
+        
+        return recommendations;
+    }
+
+    static String extractStringValue(String jsonStr, String key) {
+        Pattern pattern = Pattern.compile("\"" + key + "\"\\s*:\\s*\"([^\"]+)\"");
+        Matcher matcher = pattern.matcher(jsonStr);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+
+    static List<String> extractArrayValues(String jsonStr, String key) {
+        List<String> values = new ArrayList<>();
+        Pattern pattern = Pattern.compile("\"" + key + "\"\\s*:\\s*\\[([^\\]]+)\\]");
+        Matcher matcher = pattern.matcher(jsonStr);
+        
+        if (matcher.find()) {
+            String arrayContent = matcher.group(1);
+            Pattern valuePattern = Pattern.compile("\"([^\"]+)\"");
+            Matcher valueMatcher = valuePattern.matcher(arrayContent);
+            
+            while (valueMatcher.find()) {
+                values.add(valueMatcher.group(1));
+            }
+        }
+        
+        return values;
+    }
+
+    static String extractLearningPath(String jsonStr) {
+        return extractStringValue(jsonStr, "learningPath");
+    }
+
+    static String extractCareerImpact(String jsonStr) {
+        return extractStringValue(jsonStr, "careerImpact");
+    }
+
+    static List<ResumeAnalysisResponse.Recommendation> parseRecommendations(String jsonStr) {
+        List<ResumeAnalysisResponse.Recommendation> recommendations = new ArrayList<>();
+        
+        // Simplified parsing - implement proper JSON parsing in production
+        Pattern pattern = Pattern.compile("\"suggestion\"\\s*:\\s*\"([^\"]+)\"");
+        Matcher matcher = pattern.matcher(jsonStr);
+        
+        while (matcher.find()) {
+            ResumeAnalysisResponse.Recommendation recommendation = 
+                new ResumeAnalysisResponse.Recommendation();
+            recommendation.setSuggestion(matcher.group(1));
+            recommendation.setPriority("MEDIUM"); // Default values
+            recommendation.setCategory("CONTENT");
+            recommendation.setImpact("Moderate improvement expected");
+            recommendations.add(recommendation);
+        }
+        
+        return recommendations;
+    }
+}
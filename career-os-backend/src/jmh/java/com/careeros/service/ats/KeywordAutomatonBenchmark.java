@@ -0,0 +1,74 @@
+package com.careeros.service.ats;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword matching of a two-page resume against keyword sets of growing size: the automaton scan
+ * against the previous word-set intersection and a per-keyword substring search. The automaton's cost
+ * should stay flat as keywords grows while the substring search grows linearly. Run with:
+ * mvn -Pjmh test-compile exec:exec -Djmh.includes=KeywordAutomatonBenchmark (add -Djmh.args="-prof gc"
+ * for allocation rates).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeywordAutomatonBenchmark {
+
+    private static final String[] TECHNOLOGIES = {"java", "spring boot", "postgresql", "kafka", "kubernetes", "aws",
+            "redis", "terraform", "golang", "grpc", "observability", "system design", "microservices", "docker",
+            "ci/cd", "react", "typescript", "node.js", "python", "machine learning", "c++", "c#", "graphql", "rest api",
+            "distributed systems", "linux", "bash", "prometheus", "grafana", "elasticsearch"};
+
+    private static final String PARAGRAPH = "Owned services handling millions of requests a day across Java, Spring Boot, "
+            + "Postgres and Kafka on K8s, and led on-call for the team. Cut p99 latency of the checkout API by 40% "
+            + "through query and cache tuning. Migrated batch settlement to event streaming with Go and gRPC, removing "
+            + "a nightly four-hour job. Built CI/CD pipelines on AWS with Terraform and mentored three engineers. ";
+
+    @Param({"30", "300", "3000"})
+    public int keywords;
+
+    private String resume;
+    private List<String> keywordList;
+    private Set<String> keywordSet;
+    private KeywordAutomaton automaton;
+
+    @Setup
+    public void setUp() {
+        resume = PARAGRAPH.repeat(12);
+        keywordList = new ArrayList<>();
+        for (int i = 0; keywordList.size() < keywords; i++) {
+            keywordList.add(i < TECHNOLOGIES.length ? TECHNOLOGIES[i] : "skill" + i + (i % 3 == 0 ? " platform" : ""));
+        }
+        keywordSet = new LinkedHashSet<>(keywordList);
+        automaton = new AtsKeywordService().compile(keywordList);
+    }
+
+    @Benchmark
+    public KeywordReport automatonScan() {
+        return automaton.scan(resume);
+    }
+
+    @Benchmark
+    public double legacyWordSet() {
+        return LegacyKeywordMatcher.wordSetCoverage(keywordSet, resume);
+    }
+
+    @Benchmark
+    public List<String> substringSearch() {
+        return LegacyKeywordMatcher.substringMatches(keywordList, resume);
+    }
+
+    @Benchmark
+    public KeywordAutomaton compile() {
+        return KeywordAutomaton.compile(keywordList);
+    }
+}
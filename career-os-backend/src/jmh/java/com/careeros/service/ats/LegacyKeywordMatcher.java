@@ -0,0 +1,72 @@
+package com.careeros.service.ats;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The keyword matching ResumeBuilderService used before {@link KeywordAutomaton}, plus a naive
+ * per-keyword substring search, kept as benchmark baselines
+ */
+final class LegacyKeywordMatcher {
+
+    private LegacyKeywordMatcher() {
+    }
+
+    /**
+     * Regex word split of both texts and a set intersection; cannot match phrases
+     */
+    static double wordSetCoverage(Set<String> jobKeywords, String resumeContent) {
+        Set<String> resumeKeywords = extractKeywordsFromText(resumeContent);
+        int matched = 0;
+        for (String keyword : jobKeywords) {
+            if (resumeKeywords.contains(keyword)) {
+                matched++;
+            }
+        }
+        return jobKeywords.isEmpty() ? 0.0 : (double) matched / jobKeywords.size();
+    }
+
+    /**
+     * One indexOf pass over the text per keyword, so cost grows with the number of keywords
+     */
+    static List<String> substringMatches(List<String> keywords, String resumeContent) {
+        String text = resumeContent.toLowerCase(Locale.ROOT);
+        List<String> matched = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) {
+                matched.add(keyword);
+            }
+        }
+        return matched;
+    }
+
+    static Set<String> extractKeywordsFromText(String text) {
+        Set<String> keywords = new HashSet<>();
+        
+        if (text == null || text.isEmpty()) {
+            return keywords;
+        }
+        
+        // Simple keyword extraction - in production, use more sophisticated NLP
+        String[] words = text.toLowerCase()
+                .replaceAll("[^a-zA-Z0-9\\s+#.-]", "")
+                .split("\\s+");
+        
+        for (String word : words) {
+            if (word.length() > 2 && !isStopWord(word)) {
+                keywords.add(word);
+            }
+        }
+        
+        return keywords;
+    }
+
+    private static boolean isStopWord(String word) {
+        Set<String> stopWords = Set.of("the", "and", "or", "but", "in", "on", "at", "to", "for", 
+                "of", "with", "by", "is", "are", "was", "were", "be", "been", "have", "has", "had");
+        return stopWords.contains(word.toLowerCase());
+    }
+}
@@ -0,0 +1,115 @@
+package com.careeros.service.render;
+
+import com.careeros.entity.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resume rendering throughput on a two-page resume, through the same pooled converters as production.
+ * Throughput per core is the score at -t N divided by N; compare -t 1 with -t max to see how well it
+ * scales. Run with: mvn -Pjmh test-compile exec:exec -Djmh.includes=ResumeRendererBenchmark -Djmh.args="-t max"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResumeRendererBenchmark {
+
+    private ResumeRenderer renderer;
+    private ResumeTemplate template;
+    private Resume resume;
+
+    @Setup
+    public void setUp() throws Exception {
+        renderer = new ResumeRenderer();
+        ReflectionTestUtils.setField(renderer, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(renderer, "templateLocation", "classpath*:templates/resume/*.html");
+        ReflectionTestUtils.setField(renderer, "fontLocation", "classpath*:fonts/*.ttf");
+        ReflectionTestUtils.setField(renderer, "defaultTemplate", "modern");
+        ReflectionTestUtils.setField(renderer, "poolSize", Runtime.getRuntime().availableProcessors());
+        ReflectionTestUtils.setField(renderer, "acquireTimeout", Duration.ofSeconds(30));
+        renderer.init();
+        template = renderer.template("modern");
+        resume = sampleResume();
+    }
+
+    @Benchmark
+    public void pdf() {
+        renderer.renderPdf(resume, "modern", OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String html() {
+        return renderer.renderHtml(resume, template);
+    }
+
+    static Resume sampleResume() {
+        Resume resume = new Resume();
+        resume.setFullName("Jordan Lee");
+        resume.setEmail("jordan.lee@example.com");
+        resume.setPhone("+1 555 0100");
+        resume.setCity("Seattle");
+        resume.setState("WA");
+        resume.setCountry("USA");
+        resume.setLinkedinUrl("https://linkedin.com/in/jordanlee");
+        resume.setGithubUrl("https://github.com/jordanlee");
+        resume.setProfessionalSummary("Backend engineer with eight years of experience building payment and "
+                + "marketplace platforms on the JVM, with a focus on reliability and performance.");
+
+        for (int i = 0; i < 6; i++) {
+            WorkExperience experience = new WorkExperience();
+            experience.setJobTitle(i == 0 ? "Senior Software Engineer" : "Software Engineer");
+            experience.setCompanyName("Company " + (char) ('A' + i));
+            experience.setStartDate(LocalDate.of(2023 - 2 * i, 3, 1));
+            experience.setEndDate(i == 0 ? null : LocalDate.of(2025 - 2 * i, 2, 1));
+            experience.setDescription("Owned services handling millions of requests a day across Java, Spring Boot, "
+                    + "PostgreSQL and Kafka, and led on-call for the team.");
+            experience.setAchievements(Set.of(
+                    "Cut p99 latency of the checkout API by 40% through query and cache tuning",
+                    "Migrated batch settlement to event streaming, removing a nightly four-hour job",
+                    "Mentored three engineers through promotion"));
+            resume.getWorkExperiences().add(experience);
+        }
+
+        Education education = new Education();
+        education.setDegree("BSc");
+        education.setFieldOfStudy("Computer Science");
+        education.setInstitutionName("State University");
+        education.setEndDate(LocalDate.of(2015, 6, 1));
+        education.setGpa(3.7);
+        resume.getEducations().add(education);
+
+        String[] skills = {"Java", "Spring Boot", "PostgreSQL", "Kafka", "Kubernetes", "AWS", "Redis", "Terraform",
+                "Go", "gRPC", "Observability", "System Design"};
+        for (int i = 0; i < skills.length; i++) {
+            ResumeSkill skill = new ResumeSkill();
+            skill.setSkillName(skills[i]);
+            skill.setIsFeatured(i < 4);
+            resume.getSkills().add(skill);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            Project project = new Project();
+            project.setName("Open source project " + (i + 1));
+            project.setDescription("A library for rate limiting and load shedding in JVM services.");
+            project.setTechnologies(Set.of("Java", "Netty", "JMH"));
+            resume.getProjects().add(project);
+        }
+
+        Certification certification = new Certification();
+        certification.setName("AWS Certified Solutions Architect");
+        certification.setIssuingOrganization("Amazon Web Services");
+        certification.setIssueDate(LocalDate.of(2022, 5, 1));
+        resume.getCertifications().add(certification);
+        return resume;
+    }
+}
@@ -0,0 +1,28 @@
+package com.careeros.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Kafka topic configuration
+ */
+@Configuration
+public class KafkaConfig {
+
+    @Value("${app.job-applications.topic:job-application-events}")
+    private String jobApplicationTopic;
+
+    @Value("${app.job-applications.partitions:6}")
+    private int jobApplicationPartitions;
+
+    @Bean
+    public NewTopic jobApplicationEventsTopic() {
+        return TopicBuilder.name(jobApplicationTopic)
+                .partitions(jobApplicationPartitions)
+                .replicas(1)
+                .build();
+    }
+}
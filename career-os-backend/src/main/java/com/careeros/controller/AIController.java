@@ -10,10 +10,12 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * AI-powered features REST Controller
@@ -68,6 +70,22 @@ public class AIController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream resume analysis as it is generated
+     */
+    @PostMapping(value = "/resume-analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream resume analysis", description = "Server-sent events: token deltas, completed sections, then the full analysis")
+    @PreAuthorize("hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public SseEmitter streamResumeAnalysis(
+            @Valid @RequestBody ResumeAnalysisRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        logger.info("Streaming resume analysis request for user: {}", userPrincipal.getId());
+
+        request.setUserId(userPrincipal.getId());
+        return openAIService.streamResumeAnalysis(request);
+    }
+
     /**
      * Get career path suggestions
      */
@@ -90,6 +108,23 @@ public class AIController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream career path suggestions as they are generated
+     */
+    @PostMapping(value = "/career-path/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream career path", description = "Server-sent events: token deltas, completed sections, then the full suggestions")
+    @PreAuthorize("hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public SseEmitter streamCareerPath(
+            @Valid @RequestBody SkillRecommendationRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        logger.info("Streaming career path request for user: {}", userPrincipal.getId());
+
+        request.setUserId(userPrincipal.getId());
+        request.setAdditionalContext("Focus on career progression and advancement opportunities");
+        return openAIService.streamSkillRecommendations(request);
+    }
+
     /**
      * Get skill gap analysis
      */
@@ -112,6 +147,23 @@ public class AIController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream skill gap analysis as it is generated
+     */
+    @PostMapping(value = "/skill-gap-analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream skill gap analysis", description = "Server-sent events: token deltas, completed sections, then the full analysis")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public SseEmitter streamSkillGap(
+            @Valid @RequestBody SkillRecommendationRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        logger.info("Streaming skill gap analysis request for user: {}", userPrincipal.getId());
+
+        request.setUserId(userPrincipal.getId());
+        request.setAdditionalContext("Identify skill gaps between current abilities and target role requirements");
+        return openAIService.streamSkillRecommendations(request);
+    }
+
     /**
      * Get industry trends and insights
      */
@@ -0,0 +1,110 @@
+package com.careeros.controller;
+
+import com.careeros.security.UserPrincipal;
+import com.careeros.service.export.ExportJob;
+import com.careeros.service.export.ExportJobService;
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobResponseWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Export REST Controller for background exports of a user's documents
+ */
+@RestController
+@RequestMapping("/api/v1/exports")
+@Tag(name = "Exports", description = "Asynchronous document export endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = {"http://localhost:3000", "https://career-os.com"})
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @Autowired
+    private BlobResponseWriter blobResponseWriter;
+
+    /**
+     * Start an export of all of the user's resumes
+     */
+    @PostMapping("/resumes")
+    @Operation(summary = "Export resumes", description = "Queue a ZIP export of every resume as PDF, DOCX and JSON. Returns 202 with the job to poll, or 429 when the user already has an export in progress or the export queue is full.")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<ExportJob> exportResumes(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        logger.info("Resume export request for user: {}", userPrincipal.getId());
+
+        ExportJob job = exportJobService.submit(userPrincipal.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/exports/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * Poll the status of an export job
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get export status", description = "Status and progress of an export job; once completed it carries the download URL")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<ExportJob> getExport(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        return ResponseEntity.of(exportJobService.get(userPrincipal.getId(), jobId));
+    }
+
+    /**
+     * Stream the progress of an export job
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream export status", description = "Server-sent events: progress as files are rendered, then completed or failed with the final status")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<SseEmitter> streamExport(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        Optional<ExportJob> job = exportJobService.get(userPrincipal.getId(), jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(exportJobService.events(job.get()));
+    }
+
+    /**
+     * Download the ZIP file of a completed export
+     */
+    @RequestMapping(value = "/{jobId}/download", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "Download export", description = "Serve the ZIP file of a completed export with range and ETag support")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public void downloadExport(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Optional<BlobInfo> file = exportJobService.getFile(userPrincipal.getId(), jobId);
+        if (file.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        blobResponseWriter.write(file.get(), "resumes-" + jobId + ".zip", request, response);
+    }
+}
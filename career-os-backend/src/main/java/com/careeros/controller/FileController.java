@@ -0,0 +1,97 @@
+package com.careeros.controller;
+
+import com.careeros.security.UserPrincipal;
+import com.careeros.service.CertificateService;
+import com.careeros.service.FileStorageService;
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobResponseWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * File REST Controller for uploads and stored documents
+ */
+@RestController
+@RequestMapping("/api/v1/files")
+@Tag(name = "Files", description = "File upload and download endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = {"http://localhost:3000", "https://career-os.com"})
+public class FileController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileController.class);
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private CertificateService certificateService;
+
+    @Autowired
+    private BlobResponseWriter blobResponseWriter;
+
+    /**
+     * Upload a file as the raw request body
+     */
+    @PutMapping
+    @Operation(summary = "Upload file", description = "Stream the request body into storage; identical files are stored once. The Content-Type header gives the file type.")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<BlobInfo> upload(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request) throws IOException {
+
+        logger.info("Uploading {} file for user: {}", request.getContentType(), userPrincipal.getId());
+
+        BlobInfo blob = fileStorageService.upload(userPrincipal.getId(), request.getContentType(),
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(blob);
+    }
+
+    /**
+     * Download an uploaded file
+     */
+    @RequestMapping(value = "/{fileName}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "Download file", description = "Serve an uploaded file with range and ETag support")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public void download(
+            @PathVariable String fileName,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Optional<BlobInfo> blob = fileStorageService.find(userPrincipal.getId(), fileName);
+        if (blob.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        blobResponseWriter.write(blob.get(), fileName, request, response);
+    }
+
+    /**
+     * Download the PDF of one of the user's certificates
+     */
+    @RequestMapping(value = "/certificates/{certificateId}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "Download certificate", description = "Serve a certificate PDF with range and ETag support")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public void downloadCertificate(
+            @PathVariable String certificateId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        BlobInfo blob = certificateService.getCertificatePdf(userPrincipal.getId(), certificateId);
+        blobResponseWriter.write(blob, "certificate-" + certificateId + ".pdf", request, response);
+    }
+}
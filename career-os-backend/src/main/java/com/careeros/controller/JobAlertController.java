@@ -0,0 +1,78 @@
+package com.careeros.controller;
+
+import com.careeros.dto.job.SavedJobSearchRequest;
+import com.careeros.entity.SavedJobSearch;
+import com.careeros.security.UserPrincipal;
+import com.careeros.service.alert.JobAlertService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Job Alert REST Controller for saved searches
+ */
+@RestController
+@RequestMapping("/api/v1/job-alerts")
+@Tag(name = "Job Alerts", description = "Saved job searches and job alert endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = {"http://localhost:3000", "https://career-os.com"})
+public class JobAlertController {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobAlertController.class);
+
+    @Autowired
+    private JobAlertService jobAlertService;
+
+    /**
+     * Get saved searches
+     */
+    @GetMapping("/searches")
+    @Operation(summary = "Get saved searches", description = "Get the current user's saved job searches")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<SavedJobSearch>> getSavedSearches(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        
+        return ResponseEntity.ok(jobAlertService.getSavedSearches(userPrincipal.getId()));
+    }
+
+    /**
+     * Save a job search
+     */
+    @PostMapping("/searches")
+    @Operation(summary = "Save job search", description = "Save a job search and get alerts for new matching postings")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<SavedJobSearch> createSavedSearch(
+            @Valid @RequestBody SavedJobSearchRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        
+        logger.info("Saving job search for user: {}", userPrincipal.getId());
+        
+        SavedJobSearch search = jobAlertService.createSavedSearch(userPrincipal.getId(), request);
+        return ResponseEntity.ok(search);
+    }
+
+    /**
+     * Delete a saved job search
+     */
+    @DeleteMapping("/searches/{searchId}")
+    @Operation(summary = "Delete saved search", description = "Delete a saved job search and stop its alerts")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @PathVariable UUID searchId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        
+        jobAlertService.deleteSavedSearch(userPrincipal.getId(), searchId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.careeros.controller;
+
+import com.careeros.dto.job.ApplicationFunnel;
+import com.careeros.dto.job.JobApplicationEvent;
+import com.careeros.entity.UserJobApplication;
+import com.careeros.entity.UserJobApplication.ApplicationStage;
+import com.careeros.security.UserPrincipal;
+import com.careeros.service.tracking.JobApplicationTrackingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Job Application REST Controller for application tracking and funnels
+ */
+@RestController
+@RequestMapping("/api/v1/job-applications")
+@Tag(name = "Job Applications", description = "Job application tracking and funnel analytics endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = {"http://localhost:3000", "https://career-os.com"})
+public class JobApplicationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobApplicationController.class);
+
+    @Autowired
+    private JobApplicationTrackingService trackingService;
+
+    /**
+     * Record an application stage for a job
+     */
+    @PostMapping("/{jobId}/events")
+    @Operation(summary = "Track application", description = "Record that the user applied, interviewed, got an offer or was rejected")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<JobApplicationEvent> trackApplication(
+            @PathVariable UUID jobId,
+            @RequestParam(defaultValue = "APPLIED") ApplicationStage stage,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        
+        logger.info("Tracking {} for user {} and job {}", stage, userPrincipal.getId(), jobId);
+        
+        JobApplicationEvent event = trackingService.trackApplication(userPrincipal.getId(), jobId, stage);
+        return ResponseEntity.accepted().body(event);
+    }
+
+    /**
+     * Get the jobs the user applied to
+     */
+    @GetMapping("/mine")
+    @Operation(summary = "Get my applications", description = "Get the jobs the user applied to, most recently updated first")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<Page<UserJobApplication>> getMyApplications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        
+        return ResponseEntity.ok(trackingService.getApplications(userPrincipal.getId(), page, size));
+    }
+
+    /**
+     * Get the user's application funnel
+     */
+    @GetMapping("/funnel")
+    @Operation(summary = "Get my funnel", description = "Get the user's application funnel counts and conversion rates")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApplicationFunnel> getMyFunnel(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        
+        return ResponseEntity.ok(trackingService.getUserFunnel(userPrincipal.getId()));
+    }
+
+    /**
+     * Get a job's application funnel
+     */
+    @GetMapping("/funnel/jobs/{jobId}")
+    @Operation(summary = "Get job funnel", description = "Get application funnel counts for a job posting")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApplicationFunnel> getJobFunnel(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(trackingService.getJobFunnel(jobId));
+    }
+
+    /**
+     * Get a company's application funnel
+     */
+    @GetMapping("/funnel/companies/{company}")
+    @Operation(summary = "Get company funnel", description = "Get application funnel counts across a company's postings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApplicationFunnel> getCompanyFunnel(@PathVariable String company) {
+        return ResponseEntity.ok(trackingService.getCompanyFunnel(company));
+    }
+}
@@ -0,0 +1,53 @@
+package com.careeros.controller;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.service.JobMarketIntegrationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Job REST Controller for job posting details
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+@Tag(name = "Jobs", description = "Job posting endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = {"http://localhost:3000", "https://career-os.com"})
+public class JobController {
+
+    private static final int MAX_SIMILAR_JOBS = 50;
+
+    @Autowired
+    private JobMarketIntegrationService jobMarketIntegrationService;
+
+    /**
+     * Get a job posting; each call counts as a view
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get job posting", description = "Get a job posting with its required skills and view count, and count the view")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<JobPosting> getJobPosting(@PathVariable UUID jobId) {
+        return ResponseEntity.of(jobMarketIntegrationService.getJobPosting(jobId));
+    }
+
+    /**
+     * Get active job postings similar to a posting
+     */
+    @GetMapping("/{jobId}/similar")
+    @Operation(summary = "Get similar jobs", description = "Active job postings most similar to a posting by title, skills, level and industry, best first")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<JobPosting>> getSimilarJobs(
+            @PathVariable UUID jobId,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.of(jobMarketIntegrationService.findSimilarJobs(jobId, Math.max(1, Math.min(limit, MAX_SIMILAR_JOBS))));
+    }
+}
@@ -0,0 +1,49 @@
+package com.careeros.controller;
+
+import com.careeros.dto.mentorship.MentorshipMatchRequest;
+import com.careeros.dto.mentorship.MentorshipMatchResponse;
+import com.careeros.security.UserPrincipal;
+import com.careeros.service.MentorshipMatchingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Mentorship REST Controller for mentor matching
+ */
+@RestController
+@RequestMapping("/api/v1/mentorship")
+@Tag(name = "Mentorship", description = "Mentor matching endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = {"http://localhost:3000", "https://career-os.com"})
+public class MentorshipController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MentorshipController.class);
+
+    @Autowired
+    private MentorshipMatchingService mentorshipMatchingService;
+
+    /**
+     * Find mentor matches
+     */
+    @PostMapping("/find-matches")
+    @Operation(summary = "Find mentor matches", description = "Rank available mentors by compatibility with the current user, with AI explanations")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<MentorshipMatchResponse>> findMentorMatches(
+            @RequestBody MentorshipMatchRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        logger.info("Finding mentor matches for user: {}", userPrincipal.getId());
+
+        return ResponseEntity.ok(mentorshipMatchingService.findMentorMatches(userPrincipal.getId(), request));
+    }
+}
@@ -0,0 +1,135 @@
+package com.careeros.controller;
+
+import com.careeros.dto.resume.JobMatchRequest;
+import com.careeros.dto.resume.KeywordAnalysisRequest;
+import com.careeros.security.UserPrincipal;
+import com.careeros.service.ResumeBuilderService;
+import com.careeros.service.ats.JobMatch;
+import com.careeros.service.ats.KeywordReport;
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobResponseWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Resume REST Controller for document downloads
+ */
+@RestController
+@RequestMapping("/api/v1/resumes")
+@Tag(name = "Resumes", description = "Resume document endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = {"http://localhost:3000", "https://career-os.com"})
+public class ResumeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeController.class);
+
+    @Autowired
+    private ResumeBuilderService resumeBuilderService;
+
+    @Autowired
+    private BlobResponseWriter blobResponseWriter;
+
+    /**
+     * Download a resume as PDF
+     */
+    @GetMapping("/{resumeId}/pdf")
+    @Operation(summary = "Download PDF", description = "Serve the resume as PDF; unchanged resumes come from storage, others are rendered into it first; served with range and ETag support")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public void downloadPdf(
+            @PathVariable UUID resumeId,
+            @RequestParam(required = false) String template,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        logger.info("Downloading PDF resume {} for user: {}", resumeId, userPrincipal.getId());
+
+        serve(() -> resumeBuilderService.renderPdfResume(userPrincipal.getId(), resumeId, template), "resume.pdf", request, response);
+    }
+
+    /**
+     * Download a resume as DOCX
+     */
+    @GetMapping("/{resumeId}/docx")
+    @Operation(summary = "Download DOCX", description = "Serve the resume as a Word document; unchanged resumes come from storage, others are rendered into it first; served with range and ETag support")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public void downloadDocx(
+            @PathVariable UUID resumeId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        logger.info("Downloading DOCX resume {} for user: {}", resumeId, userPrincipal.getId());
+
+        serve(() -> resumeBuilderService.renderDocxResume(userPrincipal.getId(), resumeId), "resume.docx", request, response);
+    }
+
+    /**
+     * Match a resume against the keywords of a job description
+     */
+    @PostMapping("/{resumeId}/keyword-analysis")
+    @Operation(summary = "Keyword analysis", description = "Report which job description and role keywords the resume contains, with their positions")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<KeywordReport> analyzeKeywords(
+            @PathVariable UUID resumeId,
+            @Valid @RequestBody KeywordAnalysisRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        logger.info("Analyzing keywords of resume {} for user: {}", resumeId, userPrincipal.getId());
+
+        KeywordReport report = resumeBuilderService.analyzeKeywords(
+                userPrincipal.getId(), resumeId, request.getJobDescription(), request.getTargetRole());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Rank job postings by how well the resume fits each
+     */
+    @PostMapping("/{resumeId}/job-matches")
+    @Operation(summary = "Rank job matches", description = "Score the resume against up to 1000 job postings and return them best fit first, with the keywords each one is missing")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<List<JobMatch>> rankJobMatches(
+            @PathVariable UUID resumeId,
+            @Valid @RequestBody JobMatchRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        logger.info("Ranking {} job postings against resume {} for user: {}",
+                request.getJobPostingIds().size(), resumeId, userPrincipal.getId());
+
+        int limit = request.getLimit() != null ? request.getLimit() : 50;
+        List<JobMatch> matches = resumeBuilderService.rankJobMatches(
+                userPrincipal.getId(), resumeId, request.getJobPostingIds(), limit);
+        return ResponseEntity.ok(matches);
+    }
+
+    /**
+     * Serve a rendered file once the render transaction is over, so no database connection or PDF
+     * converter is held while the client downloads
+     */
+    private void serve(Supplier<BlobInfo> render, String fileName, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        try {
+            blobResponseWriter.write(render.get(), fileName, request, response);
+        } catch (NoSuchFileException e) {
+            // Expired from the render cache since the lookup; nothing was sent yet, so render it again
+            blobResponseWriter.write(render.get(), fileName, request, response);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.careeros.service.SocialLearningService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -219,6 +220,24 @@ public class SocialLearningController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Record a post view
+     */
+    @PostMapping("/posts/{postId}/view")
+    @Operation(summary = "Record post view", description = "Count a view of a post")
+    @PreAuthorize("hasRole('USER') or hasRole('PREMIUM_USER') or hasRole('ADMIN')")
+    public ResponseEntity<Void> recordPostView(
+            @PathVariable UUID postId,
+            @RequestParam(required = false) Integer durationSeconds,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request) {
+        
+        socialLearningService.recordPostView(postId, userPrincipal.getId(), durationSeconds,
+                request.getHeader("User-Agent"), request.getRemoteAddr());
+        
+        return ResponseEntity.accepted().build();
+    }
+
     /**
      * Search posts within a group
      */
@@ -0,0 +1,18 @@
+package com.careeros.dto.job;
+
+import lombok.Data;
+
+/**
+ * DTO for application funnel counts and conversion rates of a user, job or company
+ */
+@Data
+public class ApplicationFunnel {
+    private String scope;
+    private String scopeKey;
+    private Long applied;
+    private Long interviewed;
+    private Long offered;
+    private Long rejected;
+    private Double interviewRate; // Interviewed / applied
+    private Double offerRate; // Offered / interviewed
+}
@@ -0,0 +1,21 @@
+package com.careeros.dto.job;
+
+import com.careeros.entity.UserJobApplication.ApplicationStage;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Job application event published to Kafka, keyed by user ID
+ */
+@Data
+public class JobApplicationEvent {
+    private UUID eventId;
+    private UUID userId;
+    private UUID jobPostingId;
+    private String jobTitle;
+    private String company;
+    private ApplicationStage stage;
+    private LocalDateTime occurredAt;
+}
@@ -2,6 +2,7 @@ package com.careeros.dto.job;
 
 import lombok.Data;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -26,4 +27,7 @@ public class JobMarketInsights {
     private Double growthRate;
     private String marketTrend;
     private double remoteWorkPercentage;
+    private LocalDate periodStart; // Week the aggregates belong to
+    private LocalDateTime dataAsOf; // When the aggregates were computed
+    private boolean stale;
 }
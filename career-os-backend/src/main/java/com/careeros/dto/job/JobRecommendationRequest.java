@@ -10,6 +10,7 @@ import java.util.List;
 @Data
 public class JobRecommendationRequest {
     private String location;
+    private Double radiusKm; // Only consider on-site jobs within this distance of location
     private String jobTitle;
     private List<String> skills;
     private String experienceLevel;
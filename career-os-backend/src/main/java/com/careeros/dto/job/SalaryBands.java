@@ -0,0 +1,25 @@
+package com.careeros.dto.job;
+
+import lombok.Data;
+
+import java.time.YearMonth;
+
+/**
+ * DTO for salary percentile bands of a skill, location and industry slice
+ */
+@Data
+public class SalaryBands {
+    private String skill;
+    private String location;
+    private String industry;
+    private YearMonth fromMonth;
+    private YearMonth toMonth;
+    private Long sampleCount;
+    private Double averageSalary;
+    private Double p25;
+    private Double p50;
+    private Double p75;
+    private Double p90;
+    private Double minSalary;
+    private Double maxSalary;
+}
@@ -0,0 +1,19 @@
+package com.careeros.dto.job;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for saving a job search with alerts
+ */
+@Data
+public class SavedJobSearchRequest {
+    private String name;
+    private String keywords;
+    private List<String> skills;
+    private String location;
+    private Double radiusKm;
+    private Boolean remoteOnly;
+    private Double minSalary;
+}
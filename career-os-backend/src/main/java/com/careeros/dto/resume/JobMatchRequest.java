@@ -0,0 +1,48 @@
+package com.careeros.dto.resume;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for ranking job postings by how well a resume fits them
+ */
+public class JobMatchRequest {
+
+    @NotEmpty(message = "At least one job posting is required")
+    @Size(max = 1000, message = "At most 1000 job postings can be scored at once")
+    private List<UUID> jobPostingIds;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 1000, message = "Limit must be at most 1000")
+    private Integer limit = 50;
+
+    // Constructors
+    public JobMatchRequest() {}
+
+    public JobMatchRequest(List<UUID> jobPostingIds, Integer limit) {
+        this.jobPostingIds = jobPostingIds;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public List<UUID> getJobPostingIds() {
+        return jobPostingIds;
+    }
+
+    public void setJobPostingIds(List<UUID> jobPostingIds) {
+        this.jobPostingIds = jobPostingIds;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,42 @@
+package com.careeros.dto.resume;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for matching a resume against a job description's keywords
+ */
+public class KeywordAnalysisRequest {
+
+    @NotBlank(message = "Job description is required")
+    @Size(max = 20000, message = "Job description must be less than 20000 characters")
+    private String jobDescription;
+
+    @Size(max = 100, message = "Target role must be less than 100 characters")
+    private String targetRole;
+
+    // Constructors
+    public KeywordAnalysisRequest() {}
+
+    public KeywordAnalysisRequest(String jobDescription, String targetRole) {
+        this.jobDescription = jobDescription;
+        this.targetRole = targetRole;
+    }
+
+    // Getters and Setters
+    public String getJobDescription() {
+        return jobDescription;
+    }
+
+    public void setJobDescription(String jobDescription) {
+        this.jobDescription = jobDescription;
+    }
+
+    public String getTargetRole() {
+        return targetRole;
+    }
+
+    public void setTargetRole(String targetRole) {
+        this.targetRole = targetRole;
+    }
+}
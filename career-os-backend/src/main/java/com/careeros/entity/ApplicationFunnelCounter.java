@@ -0,0 +1,40 @@
+package com.careeros.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Application funnel counters for one user, job or company.
+ * Each counter is the number of applications that have reached that stage.
+ */
+@Entity
+@Table(name = "application_funnel_counters",
+    uniqueConstraints = @UniqueConstraint(name = "uk_application_funnel_counter", columnNames = {"scope", "scope_key"}))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ApplicationFunnelCounter extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false)
+    private FunnelScope scope;
+
+    @Column(name = "scope_key", nullable = false)
+    private String scopeKey; // User ID, job posting ID or lower-cased company name
+
+    @Column(name = "applied_count", nullable = false)
+    private Long appliedCount = 0L;
+
+    @Column(name = "interviewed_count", nullable = false)
+    private Long interviewedCount = 0L;
+
+    @Column(name = "offered_count", nullable = false)
+    private Long offeredCount = 0L;
+
+    @Column(name = "rejected_count", nullable = false)
+    private Long rejectedCount = 0L;
+
+    public enum FunnelScope {
+        USER, JOB, COMPANY
+    }
+}
@@ -1,5 +1,6 @@
 package com.careeros.entity;
 
+import com.careeros.service.render.ResumeContentChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -14,6 +15,7 @@ import java.time.LocalDate;
     @Index(name = "idx_education_resume", columnList = "resume_id"),
     @Index(name = "idx_education_dates", columnList = "start_date, end_date")
 })
+@EntityListeners(ResumeContentChangeListener.class)
 public class Education extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
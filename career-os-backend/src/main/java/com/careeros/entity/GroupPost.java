@@ -51,8 +51,8 @@ public class GroupPost extends BaseEntity {
     @Column(name = "comments_count", nullable = false)
     private Integer commentsCount = 0;
 
-    @Column(name = "views_count", nullable = false)
-    private Integer viewsCount = 0;
+    @Column(name = "views_count", nullable = false, updatable = false)
+    private Integer viewsCount = 0; // Written only by ViewCounterService flushes
 
     @Column(name = "is_pinned", nullable = false)
     private Boolean isPinned = false;
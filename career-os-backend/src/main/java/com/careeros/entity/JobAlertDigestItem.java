@@ -0,0 +1,35 @@
+package com.careeros.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A new posting matched to a user, waiting to go out in that user's next job alert digest
+ */
+@Entity
+@Table(name = "job_alert_digest_items",
+    uniqueConstraints = @UniqueConstraint(name = "uk_job_alert_digest_item", columnNames = {"user_id", "job_posting_id"}),
+    indexes = @Index(name = "idx_job_alert_digest_pending", columnList = "sent_at, user_id"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class JobAlertDigestItem extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "job_posting_id", nullable = false)
+    private UUID jobPostingId;
+
+    @Column(name = "saved_search_id")
+    private UUID savedSearchId; // Null when matched on the user's skill profile
+
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
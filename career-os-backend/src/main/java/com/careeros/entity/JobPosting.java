@@ -1,5 +1,6 @@
 package com.careeros.entity;
 
+import com.careeros.service.market.JobDimensions;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -11,7 +12,11 @@ import java.util.List;
  * Job Posting Entity for job market integration
  */
 @Entity
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+    @Index(name = "idx_job_posting_role_location", columnList = "role_key, location_key"),
+    @Index(name = "idx_job_posting_location_key", columnList = "location_key"),
+    @Index(name = "idx_job_posting_geohash", columnList = "geohash")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class JobPosting extends BaseEntity {
@@ -100,8 +105,8 @@ public class JobPosting extends BaseEntity {
     @Column(name = "application_count")
     private Integer applicationCount = 0;
 
-    @Column(name = "view_count")
-    private Integer viewCount = 0;
+    @Column(name = "view_count", updatable = false)
+    private Integer viewCount = 0; // Written only by ViewCounterService flushes
 
     @Column(name = "compatibility_score")
     private Double compatibilityScore;
@@ -109,11 +114,36 @@ public class JobPosting extends BaseEntity {
     @Column(name = "last_scraped_at")
     private LocalDateTime lastScrapedAt;
 
+    @Column(name = "role_key")
+    private String roleKey; // Normalized title dimension, see JobDimensions
+
+    @Column(name = "location_key")
+    private String locationKey; // Normalized location dimension, see JobDimensions
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "geohash", length = 12)
+    private String geohash; // Grid cell of the coordinates, see GeoHash
+
     public enum JobStatus {
         ACTIVE,
         EXPIRED,
         FILLED,
-        REMOVED
+        REMOVED,
+        ARCHIVED
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void deriveDimensions() {
+        this.roleKey = JobDimensions.roleKey(title);
+        this.locationKey = Boolean.TRUE.equals(isRemote) && (location == null || location.isBlank())
+                ? JobDimensions.REMOTE
+                : JobDimensions.locationKey(location);
     }
 
     // Additional getters and setters
@@ -232,4 +262,19 @@ public class JobPosting extends BaseEntity {
 
     public LocalDateTime getLastScrapedAt() { return lastScrapedAt; }
     public void setLastScrapedAt(LocalDateTime lastScrapedAt) { this.lastScrapedAt = lastScrapedAt; }
+
+    public String getRoleKey() { return roleKey; }
+    public void setRoleKey(String roleKey) { this.roleKey = roleKey; }
+
+    public String getLocationKey() { return locationKey; }
+    public void setLocationKey(String locationKey) { this.locationKey = locationKey; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public String getGeohash() { return geohash; }
+    public void setGeohash(String geohash) { this.geohash = geohash; }
 }
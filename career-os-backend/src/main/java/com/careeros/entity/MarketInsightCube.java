@@ -0,0 +1,68 @@
+package com.careeros.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed job market insights per (role, location, week).
+ * Maintained by MarketInsightAggregationService, read by getMarketInsights.
+ */
+@Entity
+@Table(name = "market_insight_cube",
+    uniqueConstraints = @UniqueConstraint(name = "uk_market_insight_cell",
+        columnNames = {"role_key", "location_key", "week_start"}))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class MarketInsightCube extends BaseEntity {
+
+    @Column(name = "role_key", nullable = false)
+    private String roleKey;
+
+    @Column(name = "location_key", nullable = false)
+    private String locationKey; // "*" for the all-locations rollup
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "total_job_postings", nullable = false)
+    private Integer totalJobPostings = 0;
+
+    @Column(name = "recent_job_postings", nullable = false)
+    private Integer recentJobPostings = 0;
+
+    @Column(name = "remote_job_count", nullable = false)
+    private Integer remoteJobCount = 0;
+
+    @Column(name = "average_salary")
+    private Double averageSalary;
+
+    @Column(name = "median_salary")
+    private Double medianSalary;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "top_hiring_companies", columnDefinition = "jsonb")
+    private List<String> topHiringCompanies;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "top_required_skills", columnDefinition = "jsonb")
+    private List<String> topRequiredSkills;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "experience_level_distribution", columnDefinition = "jsonb")
+    private Map<String, Integer> experienceLevelDistribution;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "job_type_distribution", columnDefinition = "jsonb")
+    private Map<String, Integer> jobTypeDistribution;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
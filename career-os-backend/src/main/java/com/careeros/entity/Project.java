@@ -1,5 +1,6 @@
 package com.careeros.entity;
 
+import com.careeros.service.render.ResumeContentChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -16,6 +17,7 @@ import java.util.Set;
     @Index(name = "idx_project_resume", columnList = "resume_id"),
     @Index(name = "idx_project_name", columnList = "name")
 })
+@EntityListeners(ResumeContentChangeListener.class)
 public class Project extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.careeros.entity;
 
+import com.careeros.service.render.ResumeContentChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -12,6 +13,7 @@ import jakarta.validation.constraints.Size;
     @Index(name = "idx_resume_skill_resume", columnList = "resume_id"),
     @Index(name = "idx_resume_skill_name", columnList = "skill_name")
 })
+@EntityListeners(ResumeContentChangeListener.class)
 public class ResumeSkill extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
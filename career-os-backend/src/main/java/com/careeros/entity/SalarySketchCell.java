@@ -0,0 +1,39 @@
+package com.careeros.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDate;
+
+/**
+ * Serialized salary quantile sketch per (skill, location, industry, month).
+ * Sketches merge across any of these dimensions at query time.
+ */
+@Entity
+@Table(name = "salary_sketch_cells",
+    uniqueConstraints = @UniqueConstraint(name = "uk_salary_sketch_cell",
+        columnNames = {"skill", "location_key", "industry", "month"}),
+    indexes = @Index(name = "idx_salary_sketch_month", columnList = "month"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class SalarySketchCell extends BaseEntity {
+
+    @Column(name = "skill", nullable = false)
+    private String skill; // Lower-cased skill name
+
+    @Column(name = "location_key", nullable = false)
+    private String locationKey;
+
+    @Column(name = "industry", nullable = false)
+    private String industry; // Lower-cased, "unknown" when not provided
+
+    @Column(name = "month", nullable = false)
+    private LocalDate month; // First day of the month
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount = 0L;
+
+    @Column(name = "sketch", nullable = false)
+    private byte[] sketch;
+}
@@ -0,0 +1,55 @@
+package com.careeros.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A user's saved job search; new postings matching it trigger job alerts
+ */
+@Entity
+@Table(name = "saved_job_searches", indexes = {
+    @Index(name = "idx_saved_job_search_user", columnList = "user_id")
+})
+@Data
+@EqualsAndHashCode(callSuper = true, exclude = "user")
+@ToString(exclude = "user")
+public class SavedJobSearch extends BaseEntity {
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "keywords")
+    private String keywords; // Title words that must all appear, e.g. "backend engineer"
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "skills", columnDefinition = "jsonb")
+    private List<String> skills = new ArrayList<>();
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "radius_km")
+    private Double radiusKm;
+
+    @Column(name = "remote_only", nullable = false)
+    private Boolean remoteOnly = false;
+
+    @Column(name = "min_salary")
+    private Double minSalary; // Annualized
+
+    @Column(name = "alerts_enabled", nullable = false)
+    private Boolean alertsEnabled = true;
+}
@@ -0,0 +1,42 @@
+package com.careeros.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDate;
+
+/**
+ * Daily skill demand counters per (skill, location, industry, day).
+ * Incremented by the ingestion path, summed over windows by analyzeSkillDemand.
+ */
+@Entity
+@Table(name = "skill_demand_daily",
+    uniqueConstraints = @UniqueConstraint(name = "uk_skill_demand_daily_cell",
+        columnNames = {"skill", "location_key", "industry", "day"}),
+    indexes = @Index(name = "idx_skill_demand_skill_day", columnList = "skill, day"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class SkillDemandDaily extends BaseEntity {
+
+    @Column(name = "skill", nullable = false)
+    private String skill; // Lower-cased skill name
+
+    @Column(name = "location_key", nullable = false)
+    private String locationKey;
+
+    @Column(name = "industry", nullable = false)
+    private String industry; // Lower-cased, "unknown" when not provided
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "posting_count", nullable = false)
+    private Long postingCount = 0L;
+
+    @Column(name = "salary_sum", nullable = false)
+    private Double salarySum = 0.0; // Sum of annualized salary midpoints
+
+    @Column(name = "salary_count", nullable = false)
+    private Long salaryCount = 0L; // Postings that contributed to salarySum
+}
@@ -0,0 +1,56 @@
+package com.careeros.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Current state of one user's application to one job, folded from the application event stream.
+ * Backs the "jobs I applied to" page without reading the event log.
+ */
+@Entity
+@Table(name = "user_job_applications",
+    uniqueConstraints = @UniqueConstraint(name = "uk_user_job_application", columnNames = {"user_id", "job_posting_id"}),
+    indexes = @Index(name = "idx_user_job_application_recent", columnList = "user_id, last_event_at"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class UserJobApplication extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "job_posting_id", nullable = false)
+    private UUID jobPostingId;
+
+    @Column(name = "job_title")
+    private String jobTitle;
+
+    @Column(name = "company")
+    private String company;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "current_stage", nullable = false)
+    private ApplicationStage currentStage;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+
+    @Column(name = "interviewed_at")
+    private LocalDateTime interviewedAt;
+
+    @Column(name = "offered_at")
+    private LocalDateTime offeredAt;
+
+    @Column(name = "rejected_at")
+    private LocalDateTime rejectedAt;
+
+    @Column(name = "last_event_at", nullable = false)
+    private LocalDateTime lastEventAt;
+
+    public enum ApplicationStage {
+        APPLIED, INTERVIEWED, OFFERED, REJECTED
+    }
+}
@@ -0,0 +1,42 @@
+package com.careeros.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Precomputed top ranked jobs and skill gaps of one user.
+ * Written by the nightly recommendation batch and incremental refreshes, read by interactive recommendations.
+ */
+@Entity
+@Table(name = "user_job_recommendations",
+    uniqueConstraints = @UniqueConstraint(name = "uk_user_job_recommendation_user", columnNames = "user_id"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class UserJobRecommendation extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "job_ids", columnDefinition = "jsonb", nullable = false)
+    private List<UUID> jobIds = new ArrayList<>(); // Best first
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "scores", columnDefinition = "jsonb", nullable = false)
+    private List<Double> scores = new ArrayList<>(); // Parallel to jobIds
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "skill_gaps", columnDefinition = "jsonb")
+    private List<String> skillGaps = new ArrayList<>();
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
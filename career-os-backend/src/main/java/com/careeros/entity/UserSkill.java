@@ -1,5 +1,6 @@
 package com.careeros.entity;
 
+import com.careeros.service.recommendation.UserSkillChangeListener;
 import jakarta.persistence.*;
 
 /**
@@ -10,6 +11,7 @@ import jakarta.persistence.*;
     @Index(name = "idx_user_skill_user", columnList = "user_id"),
     @Index(name = "idx_user_skill_skill", columnList = "skill_id")
 })
+@EntityListeners(UserSkillChangeListener.class)
 public class UserSkill extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
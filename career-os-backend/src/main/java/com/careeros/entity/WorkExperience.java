@@ -1,5 +1,6 @@
 package com.careeros.entity;
 
+import com.careeros.service.render.ResumeContentChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -16,6 +17,7 @@ import java.util.Set;
     @Index(name = "idx_work_experience_resume", columnList = "resume_id"),
     @Index(name = "idx_work_experience_dates", columnList = "start_date, end_date")
 })
+@EntityListeners(ResumeContentChangeListener.class)
 public class WorkExperience extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
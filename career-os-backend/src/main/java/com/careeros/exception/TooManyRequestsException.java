@@ -0,0 +1,20 @@
+package com.careeros.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is refused because the server is at capacity for that kind of work
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,40 @@
+package com.careeros.repository;
+
+import com.careeros.entity.ApplicationFunnelCounter;
+import com.careeros.entity.ApplicationFunnelCounter.FunnelScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for ApplicationFunnelCounter entity
+ */
+@Repository
+public interface ApplicationFunnelCounterRepository extends JpaRepository<ApplicationFunnelCounter, UUID> {
+
+    Optional<ApplicationFunnelCounter> findByScopeAndScopeKey(FunnelScope scope, String scopeKey);
+
+    /**
+     * Add to a funnel's counters, creating the row on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO application_funnel_counters (id, scope, scope_key, applied_count, interviewed_count, offered_count, rejected_count, created_at, updated_at, version) " +
+           "VALUES (gen_random_uuid(), :scope, :scopeKey, :applied, :interviewed, :offered, :rejected, now(), now(), 0) " +
+           "ON CONFLICT (scope, scope_key) DO UPDATE SET " +
+           "applied_count = application_funnel_counters.applied_count + EXCLUDED.applied_count, " +
+           "interviewed_count = application_funnel_counters.interviewed_count + EXCLUDED.interviewed_count, " +
+           "offered_count = application_funnel_counters.offered_count + EXCLUDED.offered_count, " +
+           "rejected_count = application_funnel_counters.rejected_count + EXCLUDED.rejected_count, " +
+           "updated_at = now()", nativeQuery = true)
+    void increment(@Param("scope") String scope,
+                   @Param("scopeKey") String scopeKey,
+                   @Param("applied") long applied,
+                   @Param("interviewed") long interviewed,
+                   @Param("offered") long offered,
+                   @Param("rejected") long rejected);
+}
@@ -0,0 +1,50 @@
+package com.careeros.repository;
+
+import com.careeros.entity.JobAlertDigestItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for JobAlertDigestItem entity
+ */
+@Repository
+public interface JobAlertDigestItemRepository extends JpaRepository<JobAlertDigestItem, UUID> {
+
+    /**
+     * Keyset page of users with unsent digest items
+     */
+    @Query("SELECT DISTINCT i.userId FROM JobAlertDigestItem i WHERE i.sentAt IS NULL AND i.userId > :afterId ORDER BY i.userId")
+    List<UUID> findUserIdsWithPendingItemsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Unsent digest items of one user, best matches first
+     */
+    @Query("SELECT i FROM JobAlertDigestItem i WHERE i.userId = :userId AND i.sentAt IS NULL ORDER BY i.score DESC")
+    List<JobAlertDigestItem> findPendingByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Mark the given items as sent; items enqueued since they were read stay pending
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobAlertDigestItem i SET i.sentAt = :sentAt WHERE i.id IN :ids AND i.sentAt IS NULL")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Drop sent items older than the cutoff
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JobAlertDigestItem i WHERE i.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,12 +1,16 @@
 package com.careeros.repository;
 
 import com.careeros.entity.JobPosting;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -147,9 +151,11 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, UUID> {
     Double getAverageSalaryByLocationAndTitle(@Param("location") String location, @Param("title") String title);
 
     /**
-     * Get median salary by location and title (approximation)
+     * Get median salary by location and title
      */
-    @Query("SELECT AVG(salary) FROM (SELECT (jp.minSalary + jp.maxSalary) / 2 as salary FROM JobPosting jp WHERE jp.location LIKE %:location% AND jp.title LIKE %:title% AND jp.minSalary IS NOT NULL AND jp.maxSalary IS NOT NULL ORDER BY salary) AS sorted_salaries")
+    @Query(value = "SELECT percentile_cont(0.5) WITHIN GROUP (ORDER BY (jp.min_salary + jp.max_salary) / 2.0) " +
+           "FROM job_postings jp WHERE jp.location LIKE CONCAT('%', :location, '%') AND jp.title LIKE CONCAT('%', :title, '%') " +
+           "AND jp.min_salary IS NOT NULL AND jp.max_salary IS NOT NULL", nativeQuery = true)
     Double getMedianSalaryByLocationAndTitle(@Param("location") String location, @Param("title") String title);
 
     /**
@@ -239,12 +245,6 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, UUID> {
     @Query("SELECT jp FROM JobPosting jp WHERE jp.compatibilityScore >= :minScore ORDER BY jp.compatibilityScore DESC")
     List<JobPosting> findJobsWithMinCompatibilityScore(@Param("minScore") Double minScore);
 
-    /**
-     * Update view count
-     */
-    @Query("UPDATE JobPosting jp SET jp.viewCount = jp.viewCount + 1 WHERE jp.id = :jobId")
-    void incrementViewCount(@Param("jobId") UUID jobId);
-
     /**
      * Find jobs by company size
      */
@@ -286,20 +286,92 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, UUID> {
     Integer countRemoteJobsByTitle(@Param("title") String title);
 
     /**
-     * Get higher paying roles for skill
+     * Keyset page of active job IDs after the given ID
+     */
+    @Query("SELECT jp.id FROM JobPosting jp WHERE jp.status = 'ACTIVE' AND jp.id > :afterId ORDER BY jp.id")
+    List<UUID> findActiveJobIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Active job IDs requiring at least one of the given normalized skill keys
      */
-    @Query("SELECT jp.title FROM JobPosting jp WHERE :skill MEMBER OF jp.requiredSkills AND jp.minSalary IS NOT NULL ORDER BY jp.minSalary DESC")
-    List<String> getHigherPayingRoles(@Param("skill") String skill);
+    @Query("SELECT DISTINCT jp.id FROM JobPosting jp JOIN jp.requiredSkills s WHERE jp.status = 'ACTIVE' AND LOWER(TRIM(s)) IN :skillKeys")
+    List<UUID> findActiveJobIdsBySkillKeys(@Param("skillKeys") Collection<String> skillKeys);
 
     /**
-     * Get trending roles for skills
+     * Load jobs with their required skills in one round trip
      */
-    @Query("SELECT jp.title, COUNT(jp) as jobCount FROM JobPosting jp WHERE EXISTS (SELECT s FROM jp.requiredSkills s WHERE s IN :skills) AND jp.postedDate >= :since GROUP BY jp.title ORDER BY jobCount DESC")
-    List<Object[]> getTrendingRolesForSkills(@Param("skills") List<String> skills, @Param("since") LocalDateTime since);
-    
+    @Query("SELECT DISTINCT jp FROM JobPosting jp LEFT JOIN FETCH jp.requiredSkills WHERE jp.id IN :ids")
+    List<JobPosting> findAllWithSkillsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find active jobs for a normalized role
+     */
+    @Query("SELECT DISTINCT jp FROM JobPosting jp LEFT JOIN FETCH jp.requiredSkills WHERE jp.roleKey = :roleKey AND jp.status = 'ACTIVE'")
+    List<JobPosting> findActiveByRoleKey(@Param("roleKey") String roleKey);
+
+    /**
+     * Find active jobs for a normalized role and location
+     */
+    @Query("SELECT DISTINCT jp FROM JobPosting jp LEFT JOIN FETCH jp.requiredSkills WHERE jp.roleKey = :roleKey AND jp.locationKey = :locationKey AND jp.status = 'ACTIVE'")
+    List<JobPosting> findActiveByRoleKeyAndLocationKey(@Param("roleKey") String roleKey, @Param("locationKey") String locationKey);
+
+    /**
+     * Active job IDs whose 4-character geohash prefix is one of the given cells
+     */
+    @Query(value = "SELECT jp.id FROM job_postings jp WHERE substring(jp.geohash, 1, 4) IN (:cells) AND jp.status = 'ACTIVE'", nativeQuery = true)
+    List<UUID> findActiveIdsInGeohashCells4(@Param("cells") Collection<String> cells);
+
+    /**
+     * Active job IDs whose 3-character geohash prefix is one of the given cells
+     */
+    @Query(value = "SELECT jp.id FROM job_postings jp WHERE substring(jp.geohash, 1, 3) IN (:cells) AND jp.status = 'ACTIVE'", nativeQuery = true)
+    List<UUID> findActiveIdsInGeohashCells3(@Param("cells") Collection<String> cells);
+
+    /**
+     * Keyset page of IDs of jobs with a location but no coordinates yet
+     */
+    @Query("SELECT jp.id FROM JobPosting jp WHERE jp.geohash IS NULL AND jp.location IS NOT NULL AND jp.id > :afterId ORDER BY jp.id")
+    List<UUID> findUngeocodedJobIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Keyset page of IDs of jobs stored before role and location keys were derived
+     */
+    @Query("SELECT jp.id FROM JobPosting jp WHERE jp.roleKey IS NULL AND jp.id > :afterId ORDER BY jp.id")
+    List<UUID> findJobIdsWithoutRoleKeyAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Postings per role key posted in [since, until), whatever their status is now
+     */
+    @Query("SELECT jp.roleKey, COUNT(jp) FROM JobPosting jp WHERE jp.postedDate >= :since AND jp.postedDate < :until AND jp.roleKey IS NOT NULL GROUP BY jp.roleKey")
+    List<Object[]> countPostedByRoleKey(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    /**
+     * Keyset page of IDs of active jobs whose application deadline has passed
+     */
+    @Query("SELECT jp.id FROM JobPosting jp WHERE jp.status = 'ACTIVE' AND jp.applicationDeadline < :now AND jp.id > :afterId ORDER BY jp.id")
+    List<UUID> findExpiredJobIdsAfter(@Param("now") LocalDateTime now, @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Keyset page of IDs of active jobs not seen by their source since the cutoff
+     */
+    @Query("SELECT jp.id FROM JobPosting jp WHERE jp.status = 'ACTIVE' AND jp.lastScrapedAt < :cutoffDate AND jp.id > :afterId ORDER BY jp.id")
+    List<UUID> findUnseenJobIdsAfter(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Keyset page of IDs of closed jobs last changed before the cutoff
+     */
+    @Query("SELECT jp.id FROM JobPosting jp WHERE jp.status IN ('EXPIRED', 'FILLED', 'REMOVED') AND jp.updatedAt < :cutoffDate AND jp.id > :afterId ORDER BY jp.id")
+    List<UUID> findClosedJobIdsAfter(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("afterId") UUID afterId, Pageable pageable);
+
     /**
-     * Get top skills for a role
+     * Move a batch of jobs to a new status in one statement, skipping any that changed status meanwhile
      */
-    @Query(value = "SELECT skill, COUNT(*) as count FROM job_posting_required_skills jprs JOIN job_posting jp ON jprs.job_posting_id = jp.id WHERE jp.title ILIKE CONCAT('%', :role, '%') AND jp.is_active = true GROUP BY skill ORDER BY count DESC LIMIT :limit", nativeQuery = true)
-    List<Object[]> getTopSkillsForRole(@Param("role") String role, @Param("limit") int limit);
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobPosting jp SET jp.status = :toStatus, jp.updatedAt = :now, jp.version = jp.version + 1 " +
+           "WHERE jp.id IN :ids AND jp.status IN :fromStatuses")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids,
+                           @Param("fromStatuses") Collection<JobPosting.JobStatus> fromStatuses,
+                           @Param("toStatus") JobPosting.JobStatus toStatus,
+                           @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,44 @@
+package com.careeros.repository;
+
+import com.careeros.entity.MarketInsightCube;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for MarketInsightCube entity
+ */
+@Repository
+public interface MarketInsightCubeRepository extends JpaRepository<MarketInsightCube, UUID> {
+
+    /**
+     * Find the cell for a role, location and week
+     */
+    Optional<MarketInsightCube> findByRoleKeyAndLocationKeyAndWeekStart(String roleKey, String locationKey, LocalDate weekStart);
+
+    /**
+     * Find the most recent cell for a role and location
+     */
+    Optional<MarketInsightCube> findFirstByRoleKeyAndLocationKeyOrderByWeekStartDesc(String roleKey, String locationKey);
+
+    /**
+     * Find all cells of a week
+     */
+    List<MarketInsightCube> findByWeekStart(LocalDate weekStart);
+
+    /**
+     * Delete cells older than the retention window
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MarketInsightCube c WHERE c.weekStart < :before")
+    int deleteByWeekStartBefore(@Param("before") LocalDate before);
+}
@@ -27,6 +27,12 @@ public interface MentorProfileRepository extends JpaRepository<MentorProfile, UU
     @Query("SELECT mp FROM MentorProfile mp WHERE mp.isAvailable = true AND mp.currentMentees < mp.maxMentees")
     List<MentorProfile> findAvailableMentors();
 
+    /**
+     * Find available mentors with their expertise areas loaded, for offline indexing
+     */
+    @Query("SELECT DISTINCT mp FROM MentorProfile mp LEFT JOIN FETCH mp.expertiseAreas WHERE mp.isAvailable = true")
+    List<MentorProfile> findAvailableMentorsWithExpertise();
+
     /**
      * Find verified mentors
      */
@@ -0,0 +1,44 @@
+package com.careeros.repository;
+
+import com.careeros.entity.SalarySketchCell;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for SalarySketchCell entity
+ */
+@Repository
+public interface SalarySketchCellRepository extends JpaRepository<SalarySketchCell, UUID> {
+
+    /**
+     * Lock a cell for a read-merge-write update
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SalarySketchCell c WHERE c.skill = :skill AND c.locationKey = :locationKey AND c.industry = :industry AND c.month = :month")
+    Optional<SalarySketchCell> findForUpdate(@Param("skill") String skill,
+                                             @Param("locationKey") String locationKey,
+                                             @Param("industry") String industry,
+                                             @Param("month") LocalDate month);
+
+    /**
+     * Find the cells to merge for a query; null dimensions match any value
+     */
+    @Query("SELECT c FROM SalarySketchCell c WHERE (:skill IS NULL OR c.skill = :skill) " +
+           "AND (:locationKey IS NULL OR c.locationKey = :locationKey) " +
+           "AND (:industry IS NULL OR c.industry = :industry) " +
+           "AND c.month BETWEEN :fromMonth AND :toMonth")
+    List<SalarySketchCell> findCells(@Param("skill") String skill,
+                                     @Param("locationKey") String locationKey,
+                                     @Param("industry") String industry,
+                                     @Param("fromMonth") LocalDate fromMonth,
+                                     @Param("toMonth") LocalDate toMonth);
+}
@@ -0,0 +1,30 @@
+package com.careeros.repository;
+
+import com.careeros.entity.SavedJobSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for SavedJobSearch entity
+ */
+@Repository
+public interface SavedJobSearchRepository extends JpaRepository<SavedJobSearch, UUID> {
+
+    /**
+     * Find a user's saved searches
+     */
+    @Query("SELECT s FROM SavedJobSearch s WHERE s.user.id = :userId ORDER BY s.createdAt DESC")
+    List<SavedJobSearch> findByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Find alert-enabled saved searches of the given users
+     */
+    @Query("SELECT s FROM SavedJobSearch s WHERE s.user.id IN :userIds AND s.alertsEnabled = true")
+    List<SavedJobSearch> findAlertingByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+}
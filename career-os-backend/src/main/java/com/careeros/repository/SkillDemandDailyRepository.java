@@ -0,0 +1,58 @@
+package com.careeros.repository;
+
+import com.careeros.entity.SkillDemandDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for SkillDemandDaily entity
+ */
+@Repository
+public interface SkillDemandDailyRepository extends JpaRepository<SkillDemandDaily, UUID> {
+
+    /**
+     * Add to a day's counters, creating the row on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO skill_demand_daily (id, skill, location_key, industry, day, posting_count, salary_sum, salary_count, created_at, updated_at, version) " +
+           "VALUES (gen_random_uuid(), :skill, :locationKey, :industry, :day, :postingCount, :salarySum, :salaryCount, now(), now(), 0) " +
+           "ON CONFLICT (skill, location_key, industry, day) DO UPDATE SET " +
+           "posting_count = skill_demand_daily.posting_count + EXCLUDED.posting_count, " +
+           "salary_sum = skill_demand_daily.salary_sum + EXCLUDED.salary_sum, " +
+           "salary_count = skill_demand_daily.salary_count + EXCLUDED.salary_count, " +
+           "updated_at = now()", nativeQuery = true)
+    void increment(@Param("skill") String skill,
+                   @Param("locationKey") String locationKey,
+                   @Param("industry") String industry,
+                   @Param("day") LocalDate day,
+                   @Param("postingCount") long postingCount,
+                   @Param("salarySum") double salarySum,
+                   @Param("salaryCount") long salaryCount);
+
+    /**
+     * Sum the counters of the given skills since fromDay in one range scan, split at splitDay.
+     * Returns [skill, postings before splitDay, postings from splitDay, salary sum, salary count] per skill.
+     * Null location or industry matches any value.
+     */
+    @Query("SELECT d.skill, " +
+           "SUM(CASE WHEN d.day < :splitDay THEN d.postingCount ELSE 0 END), " +
+           "SUM(CASE WHEN d.day >= :splitDay THEN d.postingCount ELSE 0 END), " +
+           "SUM(d.salarySum), SUM(d.salaryCount) " +
+           "FROM SkillDemandDaily d WHERE d.skill IN :skills AND d.day >= :fromDay " +
+           "AND (:locationKey IS NULL OR d.locationKey = :locationKey) " +
+           "AND (:industry IS NULL OR d.industry = :industry) " +
+           "GROUP BY d.skill")
+    List<Object[]> sumWindows(@Param("skills") Collection<String> skills,
+                              @Param("locationKey") String locationKey,
+                              @Param("industry") String industry,
+                              @Param("fromDay") LocalDate fromDay,
+                              @Param("splitDay") LocalDate splitDay);
+}
@@ -0,0 +1,33 @@
+package com.careeros.repository;
+
+import com.careeros.entity.UserJobApplication;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for UserJobApplication entity
+ */
+@Repository
+public interface UserJobApplicationRepository extends JpaRepository<UserJobApplication, UUID> {
+
+    /**
+     * A user's applications, most recently updated first
+     */
+    Page<UserJobApplication> findByUserIdOrderByLastEventAtDesc(UUID userId, Pageable pageable);
+
+    /**
+     * Load a user's application to a job, locking it while an event is applied
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM UserJobApplication a WHERE a.userId = :userId AND a.jobPostingId = :jobPostingId")
+    Optional<UserJobApplication> findForUpdate(@Param("userId") UUID userId, @Param("jobPostingId") UUID jobPostingId);
+}
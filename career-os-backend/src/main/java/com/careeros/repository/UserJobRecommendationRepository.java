@@ -0,0 +1,21 @@
+package com.careeros.repository;
+
+import com.careeros.entity.UserJobRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for UserJobRecommendation entity
+ */
+@Repository
+public interface UserJobRecommendationRepository extends JpaRepository<UserJobRecommendation, UUID> {
+
+    Optional<UserJobRecommendation> findByUserId(UUID userId);
+
+    List<UserJobRecommendation> findByUserIdIn(Collection<UUID> userIds);
+}
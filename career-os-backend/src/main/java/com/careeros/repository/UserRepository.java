@@ -1,6 +1,7 @@
 package com.careeros.repository;
 
 import com.careeros.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -45,4 +46,10 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     @Query("SELECT u FROM User u WHERE u.username LIKE %:searchTerm% OR u.email LIKE %:searchTerm% OR u.firstName LIKE %:searchTerm% OR u.lastName LIKE %:searchTerm%")
     List<User> searchUsers(@Param("searchTerm") String searchTerm);
+
+    /**
+     * Keyset page of [id, location] of active users
+     */
+    @Query("SELECT u.id, u.location FROM User u WHERE u.accountStatus = 'ACTIVE' AND u.id > :afterId ORDER BY u.id")
+    List<Object[]> findActiveUserLocationsAfter(@Param("afterId") UUID afterId, Pageable pageable);
 }
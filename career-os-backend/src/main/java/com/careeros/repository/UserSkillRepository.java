@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -77,4 +78,10 @@ public interface UserSkillRepository extends JpaRepository<UserSkill, UUID> {
      */
     @Query("SELECT us FROM UserSkill us WHERE us.user.id = :userId AND us.skill.name = :skillName")
     UserSkill findByUserIdAndSkillName(@Param("userId") UUID userId, @Param("skillName") String skillName);
+
+    /**
+     * [userId, skill name] pairs of the given users
+     */
+    @Query("SELECT us.user.id, us.skill.name FROM UserSkill us WHERE us.user.id IN :userIds")
+    List<Object[]> findSkillNamesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -6,8 +6,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -17,6 +21,13 @@ import java.util.concurrent.TimeUnit;
 public class CacheService {
     
     private static final Logger logger = LoggerFactory.getLogger(CacheService.class);
+
+    // Only the owner may release or extend a lock
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private static final RedisScript<Long> EXTEND_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
     
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
@@ -68,4 +79,41 @@ public class CacheService {
             return false;
         }
     }
+
+    /**
+     * Acquire a cluster-wide lock for owner, held for at most ttl. Returns false if another owner
+     * holds it or Redis is unavailable.
+     */
+    public boolean tryLock(String key, String owner, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+        } catch (Exception e) {
+            logger.error("Error acquiring lock: {}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * Extend a lock still held by owner. Returns false if the lock was lost.
+     */
+    public boolean extendLock(String key, String owner, Duration ttl) {
+        try {
+            Long result = redisTemplate.execute(EXTEND_LOCK_SCRIPT, List.of(key), owner, ttl.toMillis());
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            logger.error("Error extending lock: {}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * Release a lock if it is still held by owner
+     */
+    public void releaseLock(String key, String owner) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(key), owner);
+        } catch (Exception e) {
+            logger.error("Error releasing lock: {}", key, e);
+        }
+    }
 }
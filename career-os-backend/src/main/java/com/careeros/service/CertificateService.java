@@ -6,6 +6,8 @@ import com.careeros.dto.certificate.CertificateValidationResponse;
 import com.careeros.entity.User;
 import com.careeros.entity.DigitalCertificate;
 import com.careeros.repository.DigitalCertificateRepository;
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobStorage;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
@@ -20,7 +22,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -47,6 +53,9 @@ public class CertificateService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private BlobStorage blobStorage;
+
     @Value("${app.certificate.base-url:https://career-os.com/certificates}")
     private String certificateBaseUrl;
 
@@ -80,8 +89,7 @@ public class CertificateService {
             certificate.setVerificationHash(verificationHash);
 
             // Generate PDF certificate
-            byte[] pdfBytes = generatePdfCertificate(certificate);
-            String pdfUrl = saveCertificatePdf(pdfBytes, certificateId);
+            String pdfUrl = saveCertificatePdf(certificateId, out -> generatePdfCertificate(certificate, out));
             certificate.setPdfUrl(pdfUrl);
 
             // Generate verification URL
@@ -131,8 +139,7 @@ public class CertificateService {
         certificate.setVerificationHash(verificationHash);
 
         try {
-            byte[] pdfBytes = generatePathCompletionPdf(certificate);
-            String pdfUrl = saveCertificatePdf(pdfBytes, certificateId);
+            String pdfUrl = saveCertificatePdf(certificateId, out -> generatePathCompletionPdf(certificate, out));
             certificate.setPdfUrl(pdfUrl);
 
             String verificationUrl = generateVerificationUrl(certificateId);
@@ -250,9 +257,8 @@ public class CertificateService {
         return response;
     }
 
-    private byte[] generatePdfCertificate(DigitalCertificate certificate) throws Exception {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(baos);
+    private void generatePdfCertificate(DigitalCertificate certificate, OutputStream out) throws Exception {
+        PdfWriter writer = new PdfWriter(out);
         PdfDocument pdfDoc = new PdfDocument(writer);
         Document document = new Document(pdfDoc);
 
@@ -297,12 +303,10 @@ public class CertificateService {
                 .setFontSize(10));
 
         document.close();
-        return baos.toByteArray();
     }
 
-    private byte[] generatePathCompletionPdf(DigitalCertificate certificate) throws Exception {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(baos);
+    private void generatePathCompletionPdf(DigitalCertificate certificate, OutputStream out) throws Exception {
+        PdfWriter writer = new PdfWriter(out);
         PdfDocument pdfDoc = new PdfDocument(writer);
         Document document = new Document(pdfDoc);
 
@@ -352,7 +356,6 @@ public class CertificateService {
                 .setFontSize(10));
 
         document.close();
-        return baos.toByteArray();
     }
 
     private String generateCertificateId() {
@@ -378,12 +381,47 @@ public class CertificateService {
         return certificateBaseUrl + "/verify/" + certificateId;
     }
 
-    private String saveCertificatePdf(byte[] pdfBytes, String certificateId) {
-        // In a real implementation, this would save to cloud storage (S3, etc.)
-        // For now, return a placeholder URL
+    /**
+     * Get the stored PDF of one of a user's certificates
+     */
+    @Transactional(readOnly = true)
+    public BlobInfo getCertificatePdf(UUID userId, String certificateId) {
+        DigitalCertificate certificate = certificateRepository.findByCertificateId(certificateId)
+                .orElseThrow(() -> new RuntimeException("Certificate not found"));
+        if (!certificate.getRecipient().getId().equals(userId)) {
+            throw new RuntimeException("Certificate not found");
+        }
+        try {
+            return blobStorage.stat(certificatePdfKey(certificateId))
+                    .orElseThrow(() -> new RuntimeException("Certificate PDF not found"));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read certificate PDF", e);
+        }
+    }
+
+    private String saveCertificatePdf(String certificateId, PdfContent content) throws Exception {
+        // Written to a staging file and moved into storage, so the PDF is never held in memory whole
+        Path staged = blobStorage.newStagingFile();
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(staged))) {
+                content.write(out);
+            }
+            blobStorage.move(staged, certificatePdfKey(certificateId));
+        } finally {
+            Files.deleteIfExists(staged);
+        }
         return certificateBaseUrl + "/pdf/" + certificateId + ".pdf";
     }
 
+    private static String certificatePdfKey(String certificateId) {
+        return "certificates/" + certificateId + ".pdf";
+    }
+
+    @FunctionalInterface
+    private interface PdfContent {
+        void write(OutputStream out) throws Exception;
+    }
+
     private void recordOnBlockchain(DigitalCertificate certificate) {
         try {
             blockchainService.recordCertificate(certificate);
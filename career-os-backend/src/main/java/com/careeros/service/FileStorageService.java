@@ -0,0 +1,88 @@
+package com.careeros.service;
+
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobStorage;
+import com.careeros.service.storage.BoundedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Service for files users upload, such as existing resumes and portfolio documents.
+ * Uploads are streamed into {@link BlobStorage} under the user's prefix and content-addressed, so the
+ * same document uploaded twice is stored once and its name doubles as a strong ETag.
+ */
+@Service
+public class FileStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "application/pdf", "pdf",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx",
+            "application/msword", "doc",
+            "text/plain", "txt",
+            "image/png", "png",
+            "image/jpeg", "jpg");
+
+    private static final Pattern FILE_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z]{3,4}");
+
+    @Autowired
+    private BlobStorage blobStorage;
+
+    @Value("${app.storage.max-upload-size:10MB}")
+    private DataSize maxUploadSize;
+
+    /**
+     * Store an upload of the given content type, reading it straight from the request body
+     */
+    public BlobInfo upload(UUID userId, String contentType, long contentLength, InputStream content) {
+        String mediaType = contentType != null ? contentType.split(";")[0].trim().toLowerCase(Locale.ROOT) : "";
+        String extension = EXTENSIONS.get(mediaType);
+        if (extension == null) {
+            throw new IllegalArgumentException("Unsupported file type: " + mediaType);
+        }
+        if (contentLength > maxUploadSize.toBytes()) {
+            throw new IllegalArgumentException("File exceeds the limit of " + maxUploadSize.toMegabytes() + "MB");
+        }
+
+        try {
+            BlobInfo blob = blobStorage.putContentAddressed(userPrefix(userId), extension,
+                    new BoundedInputStream(content, maxUploadSize.toBytes()));
+            logger.info("Stored upload {} ({} bytes) for user: {}", blob.key(), blob.size(), userId);
+            return blob;
+        } catch (IOException e) {
+            logger.error("Error storing upload for user: {}", userId, e);
+            throw new RuntimeException("Failed to store file", e);
+        }
+    }
+
+    /**
+     * One of the user's uploads, by the file name returned at upload
+     */
+    public Optional<BlobInfo> find(UUID userId, String fileName) {
+        if (!FILE_NAME.matcher(fileName).matches()) {
+            return Optional.empty();
+        }
+        try {
+            return blobStorage.stat(userPrefix(userId) + "/" + fileName);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file", e);
+        }
+    }
+
+    private static String userPrefix(UUID userId) {
+        return "users/" + userId + "/files";
+    }
+}
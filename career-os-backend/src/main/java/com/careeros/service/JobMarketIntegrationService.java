@@ -3,22 +3,45 @@ package com.careeros.service;
 import com.careeros.dto.job.JobRecommendationRequest;
 import com.careeros.dto.job.JobRecommendationResponse;
 import com.careeros.dto.job.JobMarketInsights;
+import com.careeros.dto.job.SalaryBands;
 import com.careeros.dto.job.SkillDemandAnalysis;
 import com.careeros.entity.*;
+import com.careeros.entity.UserJobApplication.ApplicationStage;
 import com.careeros.repository.*;
 import com.careeros.service.ai.OpenAIService;
+import com.careeros.service.career.CareerGraphService;
+import com.careeros.service.career.RoleGraph;
+import com.careeros.service.geo.GeoPoint;
+import com.careeros.service.geo.JobGeoService;
+import com.careeros.service.geo.LocationGazetteer;
+import com.careeros.service.market.JobDimensions;
+import com.careeros.service.market.JobPostingsIngestedEvent;
+import com.careeros.service.market.MarketInsightAggregationService;
+import com.careeros.service.market.SalaryInsightService;
+import com.careeros.service.market.SkillDemandService;
+import com.careeros.service.recommendation.JobCompatibilityScorer;
+import com.careeros.service.recommendation.JobRecommendationPrecomputeService;
+import com.careeros.service.similarity.SimilarityService;
+import com.careeros.service.tracking.JobApplicationTrackingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,6 +53,8 @@ public class JobMarketIntegrationService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobMarketIntegrationService.class);
 
+    private static final String SYNC_LOCK_KEY = "lock:job-sync";
+
     @Autowired
     private JobPostingRepository jobPostingRepository;
 
@@ -48,6 +73,42 @@ public class JobMarketIntegrationService {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private MarketInsightAggregationService marketInsightAggregationService;
+
+    @Autowired
+    private SalaryInsightService salaryInsightService;
+
+    @Autowired
+    private SkillDemandService skillDemandService;
+
+    @Autowired
+    private JobGeoService jobGeoService;
+
+    @Autowired
+    private LocationGazetteer locationGazetteer;
+
+    @Autowired
+    private JobRecommendationPrecomputeService jobRecommendationPrecomputeService;
+
+    @Autowired
+    private JobCompatibilityScorer jobCompatibilityScorer;
+
+    @Autowired
+    private CareerGraphService careerGraphService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JobApplicationTrackingService jobApplicationTrackingService;
+
+    @Autowired
+    private SimilarityService similarityService;
+
+    @Autowired
+    private ViewCounterService viewCounterService;
+
     @Value("${app.job-apis.indeed.api-key:}")
     private String indeedApiKey;
 
@@ -60,43 +121,140 @@ public class JobMarketIntegrationService {
     @Value("${app.job-apis.github.api-key:}")
     private String githubApiKey;
 
+    @Value("${app.job-apis.sync-queries:software engineer,data scientist,product manager}")
+    private List<String> syncQueries;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.skill-demand.window-days:180}")
+    private int skillDemandWindowDays;
+
+    @Value("${app.recommendations.rerank-head:50}")
+    private int recommendationRerankHead;
+
     /**
-     * Get personalized job recommendations for a user
+     * Get personalized job recommendations for a user.
+     * Reads the user's precomputed ranked jobs, applies the request's filters and re-scores only the head.
      */
     public JobRecommendationResponse getJobRecommendations(UUID userId, JobRecommendationRequest request) {
         logger.info("Getting job recommendations for user {}", userId);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-
+        // Computed on first use, so only missing when the user was deleted in between
+        UserJobRecommendation stored = jobRecommendationPrecomputeService.getRecommendations(userId)
+                .orElseThrow(() -> new RuntimeException("Job recommendations unavailable"));
         List<UserSkill> userSkills = userSkillRepository.findByUserId(userId);
+        List<String> skillNames = userSkills.stream()
+                .map(userSkill -> userSkill.getSkill().getName())
+                .collect(Collectors.toList());
 
-        // Get jobs from multiple sources
-        List<JobPosting> recommendedJobs = new ArrayList<>();
-        
-        // Get jobs from database (cached/scraped jobs)
-        recommendedJobs.addAll(getJobsFromDatabase(userSkills, request));
-        
-        // Get fresh jobs from external APIs
-        recommendedJobs.addAll(getJobsFromExternalAPIs(userSkills, request));
+        // Stored jobs in rank order, minus those closed since or outside the request's filters
+        Map<UUID, JobPosting> jobsById = stored.getJobIds().isEmpty() ? Map.of()
+                : jobPostingRepository.findAllWithSkillsByIdIn(stored.getJobIds()).stream()
+                        .collect(Collectors.toMap(JobPosting::getId, job -> job));
+        GeoPoint radiusCenter = request.getRadiusKm() != null
+                ? locationGazetteer.resolve(request.getLocation()).orElse(null)
+                : null;
+        List<JobPosting> eligibleJobs = stored.getJobIds().stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .filter(job -> matchesRequest(job, request, radiusCenter))
+                .collect(Collectors.toList());
+
+        // The stored list was ranked against the user's own location, so a radius around another place
+        // also draws on the postings there that share a skill with the user
+        Set<String> userSkillKeys = skillNames.stream().map(JobDimensions::skillKey).collect(Collectors.toSet());
+        List<JobPosting> nearbyJobs = radiusCenter == null ? List.of()
+                : jobGeoService.findActiveJobsWithinRadius(radiusCenter, request.getRadiusKm()).stream()
+                        .filter(job -> !jobsById.containsKey(job.getId()))
+                        .filter(job -> userSkillKeys.isEmpty() || job.getRequiredSkills().stream()
+                                .map(JobDimensions::skillKey)
+                                .anyMatch(userSkillKeys::contains))
+                        .filter(job -> matchesRequest(job, request, radiusCenter))
+                        .collect(Collectors.toList());
+
+        // Fresh jobs from external APIs; they are not stored, so they join the re-scored head directly
+        List<JobPosting> externalJobs = getJobsFromExternalAPIs(request).stream()
+                .filter(job -> matchesRequest(job, request, radiusCenter))
+                .collect(Collectors.toList());
 
-        // Score and rank jobs
-        List<JobPosting> rankedJobs = rankJobsByCompatibility(recommendedJobs, userSkills, user);
+        // Re-score the head against the requested location
+        String location = request.getLocation() != null ? request.getLocation() : user.getLocation();
+        JobCompatibilityScorer.UserProfile profile = jobCompatibilityScorer.profile(userId, location, skillNames);
 
-        // Generate AI insights
-        String aiInsights = generateAIJobInsights(user, rankedJobs, userSkills);
+        // Keyed by instance, since external jobs have no id
+        Map<JobPosting, Double> scores = new IdentityHashMap<>();
+        List<JobPosting> head = new ArrayList<>(eligibleJobs.subList(0, Math.min(recommendationRerankHead, eligibleJobs.size())));
+        head.addAll(nearbyJobs);
+        head.addAll(externalJobs);
+        head.forEach(job -> scores.put(job, jobCompatibilityScorer.score(jobCompatibilityScorer.candidate(job), profile)));
+        head.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+
+        int limit = request.getLimit() != null && request.getLimit() > 0 ? request.getLimit() : 20;
+        List<JobPosting> recommendedJobs = head.stream().limit(limit).collect(Collectors.toList());
+        Map<String, Double> compatibilityScores = new LinkedHashMap<>();
+        recommendedJobs.forEach(job -> compatibilityScores.put(
+                job.getId() != null ? job.getId().toString() : job.getUrl(), scores.get(job)));
 
         // Build response
         JobRecommendationResponse response = new JobRecommendationResponse();
-        response.setRecommendedJobs(rankedJobs.stream().limit(20).collect(Collectors.toList()));
-        response.setTotalJobs(rankedJobs.size());
-        response.setAiInsights(aiInsights);
-        response.setSkillGaps(identifySkillGaps(rankedJobs, userSkills));
+        response.setRecommendedJobs(recommendedJobs);
+        response.setTotalJobs(eligibleJobs.size() + nearbyJobs.size() + externalJobs.size());
+        response.setCompatibilityScores(compatibilityScores);
+        response.setAiInsights(generateAIJobInsights(user, recommendedJobs, userSkills));
+        response.setSkillGaps(stored.getSkillGaps());
         response.setMarketInsights(getMarketInsights(request.getLocation(), request.getJobTitle()));
 
         return response;
     }
 
+    /**
+     * A job posting for its detail page. Counts the view and includes views not flushed yet.
+     */
+    public Optional<JobPosting> getJobPosting(UUID jobId) {
+        Optional<JobPosting> job = jobPostingRepository.findAllWithSkillsByIdIn(List.of(jobId)).stream().findFirst();
+        job.ifPresent(posting -> {
+            viewCounterService.recordJobView(jobId);
+            // view_count is not updatable through the entity, so this only affects the response
+            posting.setViewCount(viewCounterService.getJobViewCount(jobId, posting.getViewCount()));
+        });
+        return job;
+    }
+
+    /**
+     * Active postings most similar to a posting by title, skills, level and industry, best first;
+     * empty when the posting does not exist. Answered from the in-memory similarity index; a posting
+     * not indexed yet is embedded on the fly.
+     */
+    public Optional<List<JobPosting>> findSimilarJobs(UUID jobId, int limit) {
+        List<SimilarityService.Match> matches = similarityService.nearest(SimilarityService.Space.JOBS, jobId, limit);
+        if (matches.isEmpty()) {
+            Optional<JobPosting> job = jobPostingRepository.findAllWithSkillsByIdIn(List.of(jobId)).stream().findFirst();
+            if (job.isEmpty()) {
+                return Optional.empty();
+            }
+            matches = similarityService.nearest(SimilarityService.Space.JOBS, SimilarityService.jobText(job.get()), limit + 1).stream()
+                    .filter(match -> !match.id().equals(jobId))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        List<UUID> ids = matches.stream().map(SimilarityService.Match::id).collect(Collectors.toList());
+        Map<UUID, JobPosting> jobsById = ids.isEmpty() ? Map.of()
+                : jobPostingRepository.findAllWithSkillsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(JobPosting::getId, job -> job));
+        return Optional.of(ids.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .filter(job -> job.getStatus() == JobPosting.JobStatus.ACTIVE)
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Analyze skill demand in the job market
      */
@@ -112,24 +270,16 @@ public class JobMarketIntegrationService {
         Map<String, Double> averageSalaries = new HashMap<>();
         Map<String, Double> skillGrowthRates = new HashMap<>();
 
-        // Analyze each skill
-        for (String skill : skills) {
-            // Count job postings requiring this skill
-            int demandCount = jobPostingRepository.countJobsRequiringSkill(skill, location, industry);
-            skillDemandCounts.put(skill, demandCount);
-
-            // Calculate average salary for this skill
-            Double avgSalary = jobPostingRepository.getAverageSalaryForSkill(skill, location, industry);
-            averageSalaries.put(skill, avgSalary != null ? avgSalary : 0.0);
-
-            // Calculate growth rate (compare with 6 months ago)
-            int pastDemand = jobPostingRepository.countJobsRequiringSkillInPeriod(
-                    skill, location, industry, LocalDateTime.now().minusMonths(6), LocalDateTime.now().minusMonths(3));
-            int currentDemand = jobPostingRepository.countJobsRequiringSkillInPeriod(
-                    skill, location, industry, LocalDateTime.now().minusMonths(3), LocalDateTime.now());
-            
-            double growthRate = pastDemand > 0 ? ((double) (currentDemand - pastDemand) / pastDemand) * 100 : 0;
-            skillGrowthRates.put(skill, growthRate);
+        // All requested skills come from one range scan over the daily demand counters
+        Map<String, SkillDemandService.SkillWindow> windows =
+                skillDemandService.getDemandWindows(skills, location, industry, skillDemandWindowDays);
+
+        for (SkillDemandService.SkillWindow window : windows.values()) {
+            skillDemandCounts.put(window.skill(), (int) window.totalPostings());
+            averageSalaries.put(window.skill(), window.averageSalary() != null ? window.averageSalary() : 0.0);
+
+            // Growth rate of the recent half of the window over the earlier half
+            skillGrowthRates.put(window.skill(), window.growthRate());
         }
 
         analysis.setSkillDemandCounts(skillDemandCounts);
@@ -157,73 +307,97 @@ public class JobMarketIntegrationService {
     }
 
     /**
-     * Get job market insights for a specific location and role
+     * Get job market insights for a specific location and role.
+     * Served from the precomputed market insight cube with a single indexed read.
      */
     public JobMarketInsights getMarketInsights(String location, String jobTitle) {
         logger.info("Getting market insights for {} in {}", jobTitle, location);
 
+        String roleKey = JobDimensions.roleKey(jobTitle);
+        String locationKey = JobDimensions.queryLocationKey(location);
+        MarketInsightCube cell = marketInsightAggregationService.getCell(roleKey, locationKey);
+
         JobMarketInsights insights = new JobMarketInsights();
         insights.setLocation(location);
         insights.setJobTitle(jobTitle);
         insights.setAnalysisDate(LocalDateTime.now());
 
-        // Job availability metrics
-        int totalJobs = jobPostingRepository.countJobsByLocationAndTitle(location, jobTitle);
-        int recentJobs = jobPostingRepository.countRecentJobsByLocationAndTitle(
-                location, jobTitle, LocalDateTime.now().minusDays(30));
-        
+        int totalJobs = cell.getTotalJobPostings();
         insights.setTotalJobPostings(totalJobs);
-        insights.setRecentJobPostings(recentJobs);
+        insights.setRecentJobPostings(cell.getRecentJobPostings());
+        insights.setAverageSalary(cell.getAverageSalary() != null ? cell.getAverageSalary() : 0.0);
+        insights.setMedianSalary(cell.getMedianSalary() != null ? cell.getMedianSalary() : 0.0);
+        insights.setTopHiringCompanies(cell.getTopHiringCompanies());
+        insights.setTopRequiredSkills(cell.getTopRequiredSkills());
+        insights.setExperienceLevelDistribution(cell.getExperienceLevelDistribution());
+        insights.setJobTypeDistribution(cell.getJobTypeDistribution());
+        insights.setRemoteJobCount(cell.getRemoteJobCount());
+        insights.setRemoteWorkPercentage(totalJobs > 0 ? (double) cell.getRemoteJobCount() / totalJobs * 100 : 0);
+
+        // Freshness metadata
+        insights.setPeriodStart(cell.getWeekStart());
+        insights.setDataAsOf(cell.getComputedAt());
+        insights.setStale(marketInsightAggregationService.isStale(cell));
+
+        return insights;
+    }
 
-        // Salary insights
-        Double averageSalary = jobPostingRepository.getAverageSalaryByLocationAndTitle(location, jobTitle);
-        Double medianSalary = jobPostingRepository.getMedianSalaryByLocationAndTitle(location, jobTitle);
-        insights.setAverageSalary(averageSalary != null ? averageSalary : 0.0);
-        insights.setMedianSalary(medianSalary != null ? medianSalary : 0.0);
+    /**
+     * Get salary percentile bands for a skill, optionally narrowed by location and industry.
+     * Defaults to the trailing twelve months.
+     */
+    public SalaryBands getSalaryBands(String skill, String location, String industry, YearMonth fromMonth, YearMonth toMonth) {
+        YearMonth to = toMonth != null ? toMonth : YearMonth.now();
+        YearMonth from = fromMonth != null ? fromMonth : to.minusMonths(11);
+        return salaryInsightService.getSalaryBands(skill, location, industry, from, to);
+    }
 
-        // Top companies hiring
-        List<String> topCompanies = jobPostingRepository.getTopHiringCompanies(location, jobTitle, 10);
-        insights.setTopHiringCompanies(topCompanies);
+    /**
+     * Ingest job postings from a source, updating existing postings by external ID. An update takes only
+     * the scraped content; status, featuring and counters stay as the lifecycle sweep and curation left them.
+     * Derived market views are refreshed from the published event once the transaction commits.
+     */
+    @Transactional
+    public List<JobPosting> ingestJobPostings(List<JobPosting> postings) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobPosting> saved = new ArrayList<>(postings.size());
+        List<JobPosting> created = new ArrayList<>();
+
+        for (JobPosting scraped : postings) {
+            JobPosting existing = scraped.getExternalId() != null
+                    ? jobPostingRepository.findByExternalIdAndSource(scraped.getExternalId(), scraped.getSource())
+                    : null;
+            JobPosting posting = scraped;
+            if (existing != null) {
+                copyScrapedFields(scraped, existing);
+                posting = existing;
+            }
+            posting.setLastScrapedAt(now);
+            jobGeoService.locate(posting);
 
-        // Required skills analysis
-        Map<String, Integer> skillFrequency = jobPostingRepository.getSkillFrequencyForRole(jobTitle, location);
-        List<String> topRequiredSkills = skillFrequency.entrySet().stream()
-                .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
-                .map(Map.Entry::getKey)
-                .limit(15)
-                .collect(Collectors.toList());
-        insights.setTopRequiredSkills(topRequiredSkills);
-
-        // Experience level distribution
-        List<Object[]> experienceData = jobPostingRepository.getExperienceLevelDistribution(jobTitle, location);
-        Map<String, Integer> experienceLevels = experienceData.stream()
-                .collect(Collectors.toMap(
-                    row -> (String) row[0],
-                    row -> ((Number) row[1]).intValue()
-                ));
-        insights.setExperienceLevelDistribution(experienceLevels);
-
-        // Job type distribution (full-time, contract, etc.)
-        List<Object[]> jobTypeData = jobPostingRepository.getJobTypeDistribution(jobTitle, location);
-        Map<String, Integer> jobTypes = jobTypeData.stream()
-                .collect(Collectors.toMap(
-                    row -> (String) row[0],
-                    row -> ((Number) row[1]).intValue()
-                ));
-        insights.setJobTypeDistribution(jobTypes);
-
-        // Remote work availability
-        int remoteJobs = jobPostingRepository.countRemoteJobsByTitle(jobTitle);
-        double remotePercentage = totalJobs > 0 ? (double) remoteJobs / totalJobs * 100 : 0;
-        insights.setRemoteWorkPercentage(remotePercentage);
+            JobPosting savedPosting = jobPostingRepository.save(posting);
+            saved.add(savedPosting);
+            if (existing == null) {
+                created.add(savedPosting);
+            }
+        }
 
-        return insights;
+        logger.info("Ingested {} job postings ({} new)", saved.size(), created.size());
+        eventPublisher.publishEvent(new JobPostingsIngestedEvent(saved, created));
+        return saved;
     }
 
     /**
-     * Sync jobs from external APIs
+     * Sync jobs from external APIs on one instance at a time. Each batch goes through
+     * {@link #ingestJobPostings}, which feeds alerts, recommendations and the market views.
      */
+    @Scheduled(cron = "${app.job-apis.sync-cron:0 0 */6 * * *}")
     public void syncJobsFromExternalAPIs() {
+        String owner = UUID.randomUUID().toString();
+        if (!cacheService.tryLock(SYNC_LOCK_KEY, owner, Duration.ofMinutes(30))) {
+            logger.debug("Job sync already running elsewhere, skipping");
+            return;
+        }
         logger.info("Syncing jobs from external APIs");
 
         try {
@@ -240,6 +414,8 @@ public class JobMarketIntegrationService {
             
         } catch (Exception e) {
             logger.error("Error syncing jobs from external APIs", e);
+        } finally {
+            cacheService.releaseLock(SYNC_LOCK_KEY, owner);
         }
     }
 
@@ -249,68 +425,77 @@ public class JobMarketIntegrationService {
     public void trackJobApplication(UUID userId, UUID jobId, String applicationStatus) {
         logger.info("Tracking job application for user {} and job {}", userId, jobId);
 
-        // Create job application tracking record
-        // This would be implemented with a JobApplication entity
-        // For now, just log the event
-        logger.info("User {} applied to job {} with status {}", userId, jobId, applicationStatus);
+        ApplicationStage stage;
+        try {
+            stage = ApplicationStage.valueOf(applicationStatus.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new RuntimeException("Unknown application status: " + applicationStatus);
+        }
+        jobApplicationTrackingService.trackApplication(userId, jobId, stage);
     }
 
     /**
-     * Get career path suggestions based on current role and market trends
+     * Get career path suggestions based on current role and market trends.
+     * Served from the in-memory career graph built from posting skill sets.
      */
     public List<String> getCareerPathSuggestions(UUID userId, String currentRole) {
-        User user = userRepository.findById(userId)
+        userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<UserSkill> userSkills = userSkillRepository.findByUserId(userId);
+        Set<String> userSkillKeys = userSkillRepository.findSkillNamesByUserIdIn(List.of(userId)).stream()
+                .map(row -> JobDimensions.skillKey((String) row[1]))
+                .collect(Collectors.toSet());
 
         // Analyze market trends and suggest career progressions
         List<String> suggestions = new ArrayList<>();
 
-        // Get similar roles with higher salaries
-        List<String> higherPayingRoles = jobPostingRepository.getHigherPayingRoles(currentRole);
-        suggestions.addAll(higherPayingRoles.stream()
-                .limit(3)
-                .map(role -> "Consider transitioning to " + role + " for better compensation")
-                .collect(Collectors.toList()));
+        // Reachable roles that pay more or are growing, with the best path to each
+        careerGraphService.suggestTransitions(currentRole, userSkillKeys, 3, 3).stream()
+                .map(this::describeTransition)
+                .forEach(suggestions::add);
 
         // Get trending roles that match user's skills
-        List<Object[]> trendingRoleData = jobPostingRepository.getTrendingRolesForSkills(
-                userSkills.stream().map(skill -> skill.getSkill().getName()).collect(Collectors.toList()),
-                LocalDateTime.now().minusMonths(3));
-        List<String> trendingRoles = trendingRoleData.stream()
-                .map(row -> (String) row[0])
-                .collect(Collectors.toList());
-        suggestions.addAll(trendingRoles.stream()
-                .limit(3)
-                .map(role -> "Explore opportunities in " + role + " - it's trending in your skill area")
-                .collect(Collectors.toList()));
+        careerGraphService.getTrendingRolesForSkills(userSkillKeys, 3).stream()
+                .map(role -> "Explore opportunities in " + role.title() + " - it's trending in your skill area")
+                .forEach(suggestions::add);
 
         // Suggest skill development based on job market
-        List<String> inDemandSkills = getInDemandSkillsForRole(currentRole);
-        suggestions.addAll(inDemandSkills.stream()
+        careerGraphService.getTopSkillsForRole(currentRole).stream()
+                .filter(skill -> !userSkillKeys.contains(skill))
                 .limit(2)
                 .map(skill -> "Consider learning " + skill + " to increase job opportunities")
-                .collect(Collectors.toList()));
+                .forEach(suggestions::add);
 
         return suggestions;
     }
 
-    private List<JobPosting> getJobsFromDatabase(List<UserSkill> userSkills, JobRecommendationRequest request) {
-        List<String> skillNames = userSkills.stream()
-                .map(skill -> skill.getSkill().getName())
-                .collect(Collectors.toList());
-
-        return jobPostingRepository.findJobsBySkillsAndLocation(
-                skillNames, request.getLocation(), request.getRemoteOnly());
+    private String describeTransition(RoleGraph.Transition transition) {
+        List<RoleGraph.RoleNode> path = transition.path();
+        StringBuilder description = new StringBuilder("Consider transitioning to ")
+                .append(path.get(path.size() - 1).title());
+        if (path.size() > 2) {
+            description.append(" via ").append(path.subList(1, path.size() - 1).stream()
+                    .map(RoleGraph.RoleNode::title)
+                    .collect(Collectors.joining(" and ")));
+        }
+        if (transition.salaryDelta() != null && transition.salaryDelta() > 0) {
+            description.append(String.format(" for about $%,.0f more in median salary", transition.salaryDelta()));
+        }
+        if (transition.demandGrowth() > 0) {
+            description.append(String.format(" (demand up %.0f%%)", transition.demandGrowth() * 100));
+        }
+        if (!transition.skillsToLearn().isEmpty()) {
+            description.append(" - key skills to learn: ").append(String.join(", ", transition.skillsToLearn()));
+        }
+        return description.toString();
     }
 
-    private List<JobPosting> getJobsFromExternalAPIs(List<UserSkill> userSkills, JobRecommendationRequest request) {
+    private List<JobPosting> getJobsFromExternalAPIs(JobRecommendationRequest request) {
         List<JobPosting> jobs = new ArrayList<>();
         
         try {
             // Get jobs from Indeed API
-            jobs.addAll(fetchJobsFromIndeed(request));
+            jobs.addAll(fetchJobsFromIndeed(request.getJobTitle(), request.getLocation()));
             
             // Get jobs from other APIs
             // Implementation would depend on specific API integrations
@@ -322,15 +507,19 @@ public class JobMarketIntegrationService {
         return jobs;
     }
 
-    private List<JobPosting> fetchJobsFromIndeed(JobRecommendationRequest request) {
+    private List<JobPosting> fetchJobsFromIndeed(String jobTitle, String location) {
         List<JobPosting> jobs = new ArrayList<>();
+        if (indeedApiKey == null || indeedApiKey.isBlank()) {
+            // Not configured; skip the round trip that could only fail
+            return jobs;
+        }
         
         try {
             // Build Indeed API request
             String url = "https://api.indeed.com/ads/apisearch?" +
                     "publisher=" + indeedApiKey +
-                    "&q=" + request.getJobTitle() +
-                    "&l=" + request.getLocation() +
+                    "&q=" + jobTitle +
+                    "&l=" + (location != null ? location : "") +
                     "&format=json&limit=25";
 
             HttpHeaders headers = new HttpHeaders();
@@ -361,6 +550,7 @@ public class JobMarketIntegrationService {
         job.setLocation((String) result.get("formattedLocation"));
         job.setDescription((String) result.get("snippet"));
         job.setUrl((String) result.get("url"));
+        job.setExternalId((String) result.get("jobkey")); // Re-syncs update the posting instead of duplicating it
         job.setSource("Indeed");
         job.setPostedDate(LocalDateTime.now()); // Indeed doesn't provide exact date
         job.setIsActive(true);
@@ -368,133 +558,97 @@ public class JobMarketIntegrationService {
         return job;
     }
 
-    private void syncJobsFromIndeed() {
-        // Implementation for syncing jobs from Indeed
-        logger.info("Syncing jobs from Indeed API");
-    }
-
-    private void syncJobsFromLinkedIn() {
-        // Implementation for syncing jobs from LinkedIn
-        logger.info("Syncing jobs from LinkedIn API");
-    }
-
-    private void syncJobsFromGitHub() {
-        // Implementation for syncing jobs from GitHub Jobs
-        logger.info("Syncing jobs from GitHub Jobs API");
-    }
-
-    private List<JobPosting> rankJobsByCompatibility(List<JobPosting> jobs, List<UserSkill> userSkills, User user) {
-        Map<String, Double> jobScores = new HashMap<>();
-        
-        for (JobPosting job : jobs) {
-            double score = calculateJobCompatibilityScore(job, userSkills, user);
-            jobScores.put(job.getId().toString(), score);
+    private String generateAIJobInsights(User user, List<JobPosting> jobs, List<UserSkill> userSkills) {
+        try {
+            return openAIService.generateJobMarketInsights(user, jobs, userSkills);
+        } catch (Exception e) {
+            logger.warn("Failed to generate AI job insights", e);
+            return "Based on your skills and preferences, we found " + jobs.size() + 
+                   " relevant job opportunities. Focus on roles that match your strongest skills.";
         }
-        
-        return jobs.stream()
-                .sorted((a, b) -> Double.compare(
-                        jobScores.getOrDefault(b.getId().toString(), 0.0),
-                        jobScores.getOrDefault(a.getId().toString(), 0.0)))
-                .collect(Collectors.toList());
-    }
-
-    private double calculateJobCompatibilityScore(JobPosting job, List<UserSkill> userSkills, User user) {
-        double score = 0.0;
-        
-        // Skill match score (60% weight)
-        double skillScore = calculateSkillMatchScore(job, userSkills);
-        score += skillScore * 0.6;
-        
-        // Location preference (15% weight)
-        double locationScore = calculateLocationScore(job, user);
-        score += locationScore * 0.15;
-        
-        // Salary expectation (15% weight)
-        double salaryScore = calculateSalaryScore(job, user);
-        score += salaryScore * 0.15;
-        
-        // Company reputation (10% weight)
-        double companyScore = calculateCompanyScore(job);
-        score += companyScore * 0.1;
-        
-        return score;
     }
 
-    private double calculateSkillMatchScore(JobPosting job, List<UserSkill> userSkills) {
-        if (job.getRequiredSkills() == null || job.getRequiredSkills().isEmpty()) {
-            return 0.5; // Default score if no skills specified
+    private static void copyScrapedFields(JobPosting from, JobPosting to) {
+        to.setTitle(from.getTitle());
+        to.setCompany(from.getCompany());
+        to.setLocation(from.getLocation());
+        to.setIsRemote(from.getIsRemote());
+        to.setJobType(from.getJobType());
+        to.setDescription(from.getDescription());
+        to.setRequirements(from.getRequirements());
+        to.setExperienceLevel(from.getExperienceLevel());
+        to.setMinSalary(from.getMinSalary());
+        to.setMaxSalary(from.getMaxSalary());
+        to.setSalaryMin(from.getSalaryMin());
+        to.setSalaryMax(from.getSalaryMax());
+        to.setSalaryCurrency(from.getSalaryCurrency());
+        to.setSalaryPeriod(from.getSalaryPeriod());
+        to.setPostedDate(from.getPostedDate());
+        to.setApplicationDeadline(from.getApplicationDeadline());
+        to.setExternalUrl(from.getExternalUrl());
+        to.setUrl(from.getUrl());
+        to.setCompanyLogoUrl(from.getCompanyLogoUrl());
+        to.setCompanySize(from.getCompanySize());
+        to.setIndustry(from.getIndustry());
+        // Update the managed collection in place rather than swapping it out
+        if (to.getRequiredSkills() == null) {
+            to.setRequiredSkills(new ArrayList<>());
+        }
+        to.getRequiredSkills().clear();
+        if (from.getRequiredSkills() != null) {
+            to.getRequiredSkills().addAll(from.getRequiredSkills());
         }
-        
-        List<String> requiredSkills = job.getRequiredSkills();
-        List<String> userSkillNames = userSkills.stream()
-                .map(skill -> skill.getSkill().getName().toLowerCase())
-                .collect(Collectors.toList());
-        
-        long matchingSkills = requiredSkills.stream()
-                .filter(skill -> userSkillNames.contains(skill.toLowerCase().trim()))
-                .count();
-        
-        return (double) matchingSkills / requiredSkills.size();
     }
 
-    private double calculateLocationScore(JobPosting job, User user) {
-        // Simplified location scoring - in real implementation would use geolocation
-        if (job.getLocation() != null && user.getLocation() != null) {
-            return job.getLocation().toLowerCase().contains(user.getLocation().toLowerCase()) ? 1.0 : 0.5;
+    private boolean matchesRequest(JobPosting job, JobRecommendationRequest request, GeoPoint radiusCenter) {
+        if (job.getStatus() != JobPosting.JobStatus.ACTIVE) {
+            return false;
+        }
+        boolean remote = Boolean.TRUE.equals(job.getIsRemote()) || JobDimensions.REMOTE.equals(job.getLocationKey());
+        if (Boolean.TRUE.equals(request.getRemoteOnly()) && !remote) {
+            return false;
+        }
+        if (radiusCenter != null && !remote && (job.getLatitude() == null || job.getLongitude() == null
+                || radiusCenter.distanceKm(new GeoPoint(job.getLatitude(), job.getLongitude())) > request.getRadiusKm())) {
+            return false;
         }
-        return 0.5;
-    }
 
-    private double calculateSalaryScore(JobPosting job, User user) {
-        // Simplified salary scoring - would use user's salary expectations
-        return job.getSalaryMin() != null && job.getSalaryMin() > 0 ? 0.8 : 0.5;
-    }
+        Double salary = JobDimensions.annualSalaryMidpoint(job);
+        if (request.getMinSalary() != null && (salary == null || salary < request.getMinSalary())) {
+            return false;
+        }
+        if (request.getMaxSalary() != null && (salary == null || salary > request.getMaxSalary())) {
+            return false;
+        }
 
-    private double calculateCompanyScore(JobPosting job) {
-        // Simplified company scoring - would integrate with company rating APIs
-        return 0.7; // Default score
+        return (request.getJobType() == null || request.getJobType().equalsIgnoreCase(job.getJobType()))
+                && (request.getExperienceLevel() == null || request.getExperienceLevel().equalsIgnoreCase(job.getExperienceLevel()))
+                && (request.getIndustry() == null || request.getIndustry().equalsIgnoreCase(job.getIndustry()));
     }
 
-    private String generateAIJobInsights(User user, List<JobPosting> jobs, List<UserSkill> userSkills) {
-        try {
-            return openAIService.generateJobMarketInsights(user, jobs, userSkills);
-        } catch (Exception e) {
-            logger.warn("Failed to generate AI job insights", e);
-            return "Based on your skills and preferences, we found " + jobs.size() + 
-                   " relevant job opportunities. Focus on roles that match your strongest skills.";
+    private void syncJobsFromIndeed() {
+        if (indeedApiKey == null || indeedApiKey.isBlank()) {
+            return;
         }
-    }
+        logger.info("Syncing jobs from Indeed API");
 
-    private List<String> identifySkillGaps(List<JobPosting> jobs, List<UserSkill> userSkills) {
-        Map<String, Integer> requiredSkillFrequency = new HashMap<>();
-        Set<String> userSkillNames = userSkills.stream()
-                .map(skill -> skill.getSkill().getName().toLowerCase())
-                .collect(Collectors.toSet());
-        
-        // Count frequency of required skills in job postings
-        for (JobPosting job : jobs) {
-            if (job.getRequiredSkills() != null) {
-                job.getRequiredSkills().stream()
-                        .map(String::trim)
-                        .map(String::toLowerCase)
-                        .forEach(skill -> requiredSkillFrequency.merge(skill, 1, Integer::sum));
+        // One transaction per query, so events for a batch go out once it is committed
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (String query : syncQueries) {
+            List<JobPosting> jobs = fetchJobsFromIndeed(query, null);
+            if (!jobs.isEmpty()) {
+                transaction.executeWithoutResult(status -> ingestJobPostings(jobs));
             }
         }
-        
-        // Find skills that are frequently required but user doesn't have
-        return requiredSkillFrequency.entrySet().stream()
-                .filter(entry -> entry.getValue() >= 3) // Required in at least 3 jobs
-                .filter(entry -> !userSkillNames.contains(entry.getKey()))
-                .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
-                .map(Map.Entry::getKey)
-                .limit(10)
-                .collect(Collectors.toList());
     }
 
-    private List<String> getInDemandSkillsForRole(String role) {
-        List<Object[]> skillData = jobPostingRepository.getTopSkillsForRole(role, 10);
-        return skillData.stream()
-                .map(row -> (String) row[0])
-                .collect(Collectors.toList());
+    private void syncJobsFromLinkedIn() {
+        // Implementation for syncing jobs from LinkedIn
+        logger.info("Syncing jobs from LinkedIn API");
+    }
+
+    private void syncJobsFromGitHub() {
+        // Implementation for syncing jobs from GitHub Jobs
+        logger.info("Syncing jobs from GitHub Jobs API");
     }
 }
@@ -6,9 +6,11 @@ import com.careeros.dto.mentorship.MentorProfileRequest;
 import com.careeros.entity.*;
 import com.careeros.repository.*;
 import com.careeros.service.ai.OpenAIService;
+import com.careeros.service.similarity.SimilarityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +51,12 @@ public class MentorshipMatchingService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private SimilarityService similarityService;
+
+    @Value("${app.similarity.match-threshold:0.5}")
+    private double skillMatchThreshold;
+
     /**
      * Create or update mentor profile
      */
@@ -295,13 +304,23 @@ public class MentorshipMatchingService {
                 .map(skill -> skill.getSkill().getName())
                 .collect(Collectors.toList());
 
-        // Find mentors with expertise in these areas
-        List<MentorProfile> mentors = mentorProfileRepository.findMentorsWithExpertiseIn(improvementAreas);
+        // Find mentors with expertise in these areas, plus mentors whose expertise is semantically close
+        Map<UUID, MentorProfile> candidates = new LinkedHashMap<>();
+        mentorProfileRepository.findMentorsWithExpertiseIn(improvementAreas).forEach(mentor -> candidates.put(mentor.getId(), mentor));
+        List<UUID> similarMentorIds = similarityService.nearest(SimilarityService.Space.MENTORS, String.join(" ", improvementAreas), limit * 3).stream()
+                .map(SimilarityService.Match::id)
+                .filter(id -> !candidates.containsKey(id))
+                .collect(Collectors.toList());
+        mentorProfileRepository.findAllById(similarMentorIds).forEach(mentor -> candidates.put(mentor.getId(), mentor));
         
-        // Score and sort mentors
-        return mentors.stream()
+        // Score once, then sort mentors
+        Map<UUID, Double> scores = new HashMap<>();
+        candidates.values().stream()
                 .filter(MentorProfile::getIsAvailable)
-                .sorted((a, b) -> Double.compare(calculateMentorScore(b, userSkills), calculateMentorScore(a, userSkills)))
+                .forEach(mentor -> scores.put(mentor.getId(), calculateMentorScore(mentor, userSkills)));
+        return candidates.values().stream()
+                .filter(mentor -> scores.containsKey(mentor.getId()))
+                .sorted((a, b) -> Double.compare(scores.get(b.getId()), scores.get(a.getId())))
                 .limit(limit)
                 .collect(Collectors.toList());
     }
@@ -340,16 +359,12 @@ public class MentorshipMatchingService {
     private double calculateSkillCompatibility(List<UserSkill> menteeSkills, List<String> mentorExpertise) {
         if (mentorExpertise == null || mentorExpertise.isEmpty()) return 0.0;
         
-        List<String> expertiseAreas = mentorExpertise;
-        
-        long matchingSkills = menteeSkills.stream()
-                .map(skill -> skill.getSkill().getName().toLowerCase())
-                .filter(skillName -> expertiseAreas.stream()
-                        .anyMatch(expertise -> expertise.toLowerCase().contains(skillName) || 
-                                             skillName.contains(expertise.toLowerCase())))
-                .count();
+        // A mentee skill counts as covered when some expertise area is semantically close to it
+        List<String> skillNames = menteeSkills.stream()
+                .map(skill -> skill.getSkill().getName())
+                .collect(Collectors.toList());
         
-        return menteeSkills.isEmpty() ? 0.0 : (double) matchingSkills / menteeSkills.size();
+        return similarityService.coverage(skillNames, mentorExpertise, skillMatchThreshold);
     }
 
     private double calculateExperienceMatch(List<UserSkill> menteeSkills, 
@@ -434,11 +449,15 @@ public class MentorshipMatchingService {
 
     private void enhanceMatchesWithAI(List<MentorshipMatchResponse> matches, User mentee, 
                                      MentorshipMatchRequest request) {
-        // Use AI to provide personalized match explanations and suggestions
+        // Use AI to provide personalized match explanations and suggestions.
+        // Requested together so the explanations are generated in as few LLM calls as possible.
+        List<CompletableFuture<String>> explanations = new ArrayList<>();
         for (MentorshipMatchResponse match : matches) {
+            explanations.add(openAIService.generateMentorshipMatchExplanationAsync(mentee, match, request));
+        }
+        for (int i = 0; i < matches.size(); i++) {
             try {
-                String aiExplanation = openAIService.generateMentorshipMatchExplanation(mentee, match, request);
-                match.setAiExplanation(aiExplanation);
+                matches.get(i).setAiExplanation(explanations.get(i).join());
             } catch (Exception e) {
                 logger.warn("Failed to generate AI explanation for mentor match", e);
             }
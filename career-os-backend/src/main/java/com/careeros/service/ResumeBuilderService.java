@@ -2,29 +2,38 @@ package com.careeros.service;
 
 import com.careeros.dto.ai.ResumeAnalysisRequest;
 import com.careeros.dto.ai.ResumeAnalysisResponse;
-import com.careeros.entity.Resume;
-import com.careeros.entity.User;
+import com.careeros.entity.*;
+import com.careeros.repository.JobPostingRepository;
 import com.careeros.repository.ResumeRepository;
+import com.careeros.service.render.RenderCache;
+import com.careeros.service.render.ResumeRenderer;
+import com.careeros.service.render.ResumeTemplate;
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobStorage;
 import com.careeros.service.ai.OpenAIService;
-// import com.itextpdf.html2pdf.HtmlConverter; // Would be imported with iText dependency
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
+import com.careeros.service.ats.AtsKeywordService;
+import com.careeros.service.ats.BulkAtsScoringService;
+import com.careeros.service.ats.JobMatch;
+import com.careeros.service.ats.KeywordReport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,27 +52,53 @@ public class ResumeBuilderService {
     @Autowired
     private OpenAIService openAIService;
 
-    @Value("${storage.local.upload-dir:./uploads}")
-    private String uploadDir;
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private AtsKeywordService atsKeywordService;
+
+    @Autowired
+    private BulkAtsScoringService bulkAtsScoringService;
+
+    @Autowired
+    private ResumeRenderer resumeRenderer;
+
+    @Autowired
+    private RenderCache renderCache;
+
+    @Autowired
+    private BlobStorage blobStorage;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     /**
      * Generate PDF resume from resume entity
      */
     public byte[] generatePdfResume(Resume resume, String templateName) {
+        return readFile(pdfFile(resume, templateName));
+    }
+
+    /**
+     * A user's resume as a stored PDF file, from the render cache when its content is unchanged.
+     * Nothing is streamed here: callers copy the file once the transaction and the renderer are released.
+     */
+    public BlobInfo renderPdfResume(UUID userId, UUID resumeId, String templateName) {
+        Resume resume = getUserResume(userId, resumeId);
+        return pdfFile(resume, templateName != null ? templateName : resume.getTemplateName());
+    }
+
+    private BlobInfo pdfFile(Resume resume, String templateName) {
         try {
-            String htmlContent = generateHtmlResume(resume, templateName);
-            
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            // In production, use HtmlConverter.convertToPdf(htmlContent, baos) with iText dependency
-            logger.warn("PDF generation not available - iText dependency needed");
-            
-            // Save PDF file path
-            String fileName = "resume_" + resume.getId() + "_" + System.currentTimeMillis() + ".pdf";
-            String filePath = saveResumeFile(baos.toByteArray(), fileName);
-            resume.setPdfFilePath(filePath);
-            resumeRepository.save(resume);
-            
-            return baos.toByteArray();
+            ResumeTemplate template = resumeRenderer.template(templateName);
+            String key = renderCache.key(resume, "pdf", template.fingerprint());
+            BlobInfo file = resumeFile(resume, key, "pdf", stream -> resumeRenderer.renderPdf(resume, template.name(), stream));
+            if (!file.key().equals(resume.getPdfFilePath())) {
+                resume.setPdfFilePath(file.key());
+                resumeRepository.save(resume);
+            }
+            return file;
         } catch (Exception e) {
             logger.error("Error generating PDF resume for resume ID: {}", resume.getId(), e);
             throw new RuntimeException("Failed to generate PDF resume", e);
@@ -74,9 +109,104 @@ public class ResumeBuilderService {
      * Generate DOCX resume from resume entity
      */
     public byte[] generateDocxResume(Resume resume) {
+        return readFile(docxFile(resume));
+    }
+
+    /**
+     * A user's resume as a stored DOCX file, from the render cache when its content is unchanged
+     */
+    public BlobInfo renderDocxResume(UUID userId, UUID resumeId) {
+        return docxFile(getUserResume(userId, resumeId));
+    }
+
+    private BlobInfo docxFile(Resume resume) {
         try {
-            XWPFDocument document = new XWPFDocument();
-            
+            String key = renderCache.key(resume, "docx", "default");
+            BlobInfo file = resumeFile(resume, key, "docx", stream -> renderDocx(resume, stream));
+            if (!file.key().equals(resume.getDocxFilePath())) {
+                resume.setDocxFilePath(file.key());
+                resumeRepository.save(resume);
+            }
+            return file;
+        } catch (Exception e) {
+            logger.error("Error generating DOCX resume for resume ID: {}", resume.getId(), e);
+            throw new RuntimeException("Failed to generate DOCX resume", e);
+        }
+    }
+
+    /**
+     * Ids of all of a user's resumes
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> getUserResumeIds(UUID userId) {
+        return resumeRepository.findByUserId(userId).stream().map(Resume::getId).toList();
+    }
+
+    /**
+     * Write a user's resume and its sections as JSON; the stream is left open
+     */
+    @Transactional(readOnly = true)
+    public void writeJsonResume(UUID userId, UUID resumeId, OutputStream out) {
+        Resume resume = getUserResume(userId, resumeId);
+        try {
+            objectMapper.writerWithDefaultPrettyPrinter()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(out, resumeData(resume));
+        } catch (IOException e) {
+            logger.error("Error writing JSON resume for resume ID: {}", resumeId, e);
+            throw new RuntimeException("Failed to write JSON resume", e);
+        }
+    }
+
+    private Map<String, Object> resumeData(Resume resume) {
+        Map<String, Object> data = fields("id", resume.getId(), "title", resume.getTitle(), "status", resume.getStatus(),
+                "templateName", resume.getTemplateName(), "fullName", resume.getFullName(), "email", resume.getEmail(),
+                "phone", resume.getPhone(), "address", resume.getAddress(), "city", resume.getCity(), "state", resume.getState(),
+                "zipCode", resume.getZipCode(), "country", resume.getCountry(), "linkedinUrl", resume.getLinkedinUrl(),
+                "githubUrl", resume.getGithubUrl(), "portfolioUrl", resume.getPortfolioUrl(),
+                "professionalSummary", resume.getProfessionalSummary(), "atsScore", resume.getAtsScore());
+        data.put("workExperiences", ordered(resume.getWorkExperiences(), WorkExperience::getDisplayOrder, exp -> fields(
+                "jobTitle", exp.getJobTitle(), "companyName", exp.getCompanyName(), "location", exp.getLocation(),
+                "startDate", exp.getStartDate(), "endDate", exp.getEndDate(), "isCurrent", exp.getIsCurrent(),
+                "description", exp.getDescription(), "achievements", exp.getAchievements(), "technologies", exp.getTechnologies())));
+        data.put("educations", ordered(resume.getEducations(), Education::getDisplayOrder, edu -> fields(
+                "degree", edu.getDegree(), "fieldOfStudy", edu.getFieldOfStudy(), "institutionName", edu.getInstitutionName(),
+                "location", edu.getLocation(), "startDate", edu.getStartDate(), "endDate", edu.getEndDate(),
+                "isCurrent", edu.getIsCurrent(), "gpa", edu.getGpa(), "maxGpa", edu.getMaxGpa(), "honors", edu.getHonors(),
+                "description", edu.getDescription(), "relevantCoursework", edu.getRelevantCoursework())));
+        data.put("skills", ordered(resume.getSkills(), ResumeSkill::getDisplayOrder, skill -> fields(
+                "skillName", skill.getSkillName(), "category", skill.getCategory(), "proficiencyLevel", skill.getProficiencyLevel(),
+                "yearsOfExperience", skill.getYearsOfExperience(), "isFeatured", skill.getIsFeatured())));
+        data.put("projects", ordered(resume.getProjects(), Project::getDisplayOrder, project -> fields(
+                "name", project.getName(), "description", project.getDescription(), "startDate", project.getStartDate(),
+                "endDate", project.getEndDate(), "isOngoing", project.getIsOngoing(), "projectUrl", project.getProjectUrl(),
+                "githubUrl", project.getGithubUrl(), "demoUrl", project.getDemoUrl(), "technologies", project.getTechnologies(),
+                "highlights", project.getHighlights())));
+        data.put("certifications", ordered(resume.getCertifications(), Certification::getDisplayOrder, cert -> fields(
+                "name", cert.getName(), "issuingOrganization", cert.getIssuingOrganization(), "issueDate", cert.getIssueDate(),
+                "expirationDate", cert.getExpirationDate(), "neverExpires", cert.getNeverExpires(),
+                "credentialId", cert.getCredentialId(), "credentialUrl", cert.getCredentialUrl(), "description", cert.getDescription())));
+        return data;
+    }
+
+    private static Map<String, Object> fields(Object... namesAndValues) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            fields.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return fields;
+    }
+
+    private static <T> List<Map<String, Object>> ordered(Collection<T> items, Function<T, Integer> displayOrder,
+                                                         Function<T, Map<String, Object>> describe) {
+        return items.stream()
+                .sorted(Comparator.comparing(displayOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(describe)
+                .toList();
+    }
+
+    private void renderDocx(Resume resume, OutputStream out) throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
             // Add header with personal information
             addPersonalInfo(document, resume);
             
@@ -100,20 +230,7 @@ public class ResumeBuilderService {
             // Add certifications
             addCertifications(document, resume);
             
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            document.write(baos);
-            document.close();
-            
-            // Save DOCX file path
-            String fileName = "resume_" + resume.getId() + "_" + System.currentTimeMillis() + ".docx";
-            String filePath = saveResumeFile(baos.toByteArray(), fileName);
-            resume.setDocxFilePath(filePath);
-            resumeRepository.save(resume);
-            
-            return baos.toByteArray();
-        } catch (Exception e) {
-            logger.error("Error generating DOCX resume for resume ID: {}", resume.getId(), e);
-            throw new RuntimeException("Failed to generate DOCX resume", e);
+            document.write(out);
         }
     }
 
@@ -156,7 +273,7 @@ public class ResumeBuilderService {
             score += calculateStructureScore(resume);
             
             // Keyword matching score (40 points)
-            score += calculateKeywordScore(resumeContent, jobDescription);
+            score += calculateKeywordScore(resume, resumeContent, jobDescription);
             
             // Formatting score (20 points)
             score += calculateFormattingScore(resume);
@@ -175,121 +292,39 @@ public class ResumeBuilderService {
      * Get keyword suggestions for resume optimization
      */
     public Set<String> getKeywordSuggestions(String jobDescription, String targetRole) {
-        Set<String> keywords = new HashSet<>();
-        
-        if (jobDescription != null && !jobDescription.isEmpty()) {
-            keywords.addAll(extractKeywordsFromText(jobDescription));
-        }
+        Set<String> keywords = new LinkedHashSet<>(atsKeywordService.jobKeywords(jobDescription));
         
         // Add role-specific keywords
-        keywords.addAll(getRoleSpecificKeywords(targetRole));
+        keywords.addAll(atsKeywordService.roleKeywords(targetRole));
         
         return keywords;
     }
 
-    private String generateHtmlResume(Resume resume, String templateName) {
-        // Load template
-        String template = loadResumeTemplate(templateName);
-        
-        // Replace placeholders with actual data
-        template = template.replace("{{fullName}}", resume.getFullName() != null ? resume.getFullName() : "");
-        template = template.replace("{{email}}", resume.getEmail() != null ? resume.getEmail() : "");
-        template = template.replace("{{phone}}", resume.getPhone() != null ? resume.getPhone() : "");
-        template = template.replace("{{address}}", buildFullAddress(resume));
-        template = template.replace("{{linkedinUrl}}", resume.getLinkedinUrl() != null ? resume.getLinkedinUrl() : "");
-        template = template.replace("{{githubUrl}}", resume.getGithubUrl() != null ? resume.getGithubUrl() : "");
-        template = template.replace("{{portfolioUrl}}", resume.getPortfolioUrl() != null ? resume.getPortfolioUrl() : "");
-        template = template.replace("{{professionalSummary}}", resume.getProfessionalSummary() != null ? resume.getProfessionalSummary() : "");
-        
-        // Add work experience
-        template = template.replace("{{workExperience}}", buildWorkExperienceHtml(resume));
-        
-        // Add education
-        template = template.replace("{{education}}", buildEducationHtml(resume));
-        
-        // Add skills
-        template = template.replace("{{skills}}", buildSkillsHtml(resume));
-        
-        // Add projects
-        template = template.replace("{{projects}}", buildProjectsHtml(resume));
-        
-        // Add certifications
-        template = template.replace("{{certifications}}", buildCertificationsHtml(resume));
-        
-        return template;
+    /**
+     * Matched and missing keywords of a resume for a job description and target role, with where they appear
+     */
+    @Transactional(readOnly = true)
+    public KeywordReport analyzeKeywords(UUID userId, UUID resumeId, String jobDescription, String targetRole) {
+        Resume resume = getUserResume(userId, resumeId);
+        return atsKeywordService.analyze(extractResumeContent(resume), jobDescription, targetRole);
     }
 
-    private String loadResumeTemplate(String templateName) {
-        try {
-            // Default modern template
-            return """
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <meta charset="UTF-8">
-                    <title>{{fullName}} - Resume</title>
-                    <style>
-                        body { font-family: 'Arial', sans-serif; margin: 0; padding: 20px; color: #333; }
-                        .header { text-align: center; border-bottom: 2px solid #2c3e50; padding-bottom: 20px; margin-bottom: 30px; }
-                        .name { font-size: 28px; font-weight: bold; color: #2c3e50; margin-bottom: 10px; }
-                        .contact { font-size: 14px; color: #7f8c8d; }
-                        .section { margin-bottom: 30px; }
-                        .section-title { font-size: 18px; font-weight: bold; color: #2c3e50; border-bottom: 1px solid #bdc3c7; padding-bottom: 5px; margin-bottom: 15px; }
-                        .job-title { font-weight: bold; color: #34495e; }
-                        .company { font-style: italic; color: #7f8c8d; }
-                        .date { float: right; color: #95a5a6; }
-                        .description { margin-top: 10px; line-height: 1.6; }
-                        .skills { display: flex; flex-wrap: wrap; gap: 10px; }
-                        .skill { background: #ecf0f1; padding: 5px 10px; border-radius: 3px; font-size: 14px; }
-                        ul { margin: 10px 0; padding-left: 20px; }
-                        li { margin-bottom: 5px; }
-                    </style>
-                </head>
-                <body>
-                    <div class="header">
-                        <div class="name">{{fullName}}</div>
-                        <div class="contact">
-                            {{email}} | {{phone}} | {{address}}<br>
-                            {{linkedinUrl}} | {{githubUrl}} | {{portfolioUrl}}
-                        </div>
-                    </div>
-                    
-                    <div class="section">
-                        <div class="section-title">PROFESSIONAL SUMMARY</div>
-                        <p>{{professionalSummary}}</p>
-                    </div>
-                    
-                    <div class="section">
-                        <div class="section-title">WORK EXPERIENCE</div>
-                        {{workExperience}}
-                    </div>
-                    
-                    <div class="section">
-                        <div class="section-title">EDUCATION</div>
-                        {{education}}
-                    </div>
-                    
-                    <div class="section">
-                        <div class="section-title">SKILLS</div>
-                        {{skills}}
-                    </div>
-                    
-                    <div class="section">
-                        <div class="section-title">PROJECTS</div>
-                        {{projects}}
-                    </div>
-                    
-                    <div class="section">
-                        <div class="section-title">CERTIFICATIONS</div>
-                        {{certifications}}
-                    </div>
-                </body>
-                </html>
-                """;
-        } catch (Exception e) {
-            logger.error("Error loading resume template: {}", templateName, e);
-            throw new RuntimeException("Failed to load resume template", e);
-        }
+    /**
+     * Rank job postings by the ATS score of a resume against each, with the keywords each posting
+     * expects that the resume lacks. The resume is tokenized once for the whole batch.
+     */
+    @Transactional(readOnly = true)
+    public List<JobMatch> rankJobMatches(UUID userId, UUID resumeId, Collection<UUID> jobPostingIds, int limit) {
+        Resume resume = getUserResume(userId, resumeId);
+        List<JobPosting> postings = jobPostingRepository.findAllWithSkillsByIdIn(jobPostingIds);
+
+        // Everything but the keyword score is independent of the job
+        int baseScore = calculateStructureScore(resume) + calculateFormattingScore(resume) + calculateContentScore(resume);
+        List<JobMatch> ranked = bulkAtsScoringService.rank(
+                atsKeywordService.index(extractResumeContent(resume)), skillTerms(resume), baseScore, postings);
+
+        logger.info("Ranked {} job postings for resume {}", ranked.size(), resumeId);
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
     }
 
     private void addPersonalInfo(XWPFDocument document, Resume resume) {
@@ -419,138 +454,60 @@ public class ResumeBuilderService {
         }
     }
 
-    private String buildFullAddress(Resume resume) {
-        StringBuilder address = new StringBuilder();
-        if (resume.getCity() != null) address.append(resume.getCity());
-        if (resume.getState() != null) address.append(", ").append(resume.getState());
-        if (resume.getCountry() != null) address.append(", ").append(resume.getCountry());
-        return address.toString();
+    private Resume getUserResume(UUID userId, UUID resumeId) {
+        Resume resume = resumeRepository.findById(resumeId)
+                .orElseThrow(() -> new RuntimeException("Resume not found"));
+        if (!resume.getUser().getId().equals(userId)) {
+            throw new RuntimeException("Resume not found");
+        }
+        return resume;
     }
 
-    private String buildWorkExperienceHtml(Resume resume) {
-        StringBuilder html = new StringBuilder();
-        
-        resume.getWorkExperiences().stream()
-                .sorted((a, b) -> b.getStartDate().compareTo(a.getStartDate()))
-                .forEach(exp -> {
-                    html.append("<div style='margin-bottom: 20px;'>");
-                    html.append("<div class='job-title'>").append(exp.getJobTitle()).append("</div>");
-                    html.append("<div class='company'>").append(exp.getCompanyName());
-                    html.append("<span class='date'>").append(exp.getStartDate()).append(" - ");
-                    html.append(exp.getEndDate() != null ? exp.getEndDate() : "Present").append("</span></div>");
-                    
-                    if (exp.getDescription() != null) {
-                        html.append("<div class='description'>").append(exp.getDescription()).append("</div>");
-                    }
-                    
-                    if (!exp.getAchievements().isEmpty()) {
-                        html.append("<ul>");
-                        exp.getAchievements().forEach(achievement -> 
-                            html.append("<li>").append(achievement).append("</li>"));
-                        html.append("</ul>");
-                    }
-                    
-                    html.append("</div>");
-                });
-        
-        return html.toString();
-    }
+    /**
+     * The cached file for a key, or a fresh render of it. The render goes to a staging file that is
+     * moved into the cache once complete, so the renderer is released before anyone reads the result
+     * and a failed render leaves nothing behind.
+     */
+    private BlobInfo resumeFile(Resume resume, String key, String format, ResumeWriter writer) {
+        Optional<BlobInfo> cached = renderCache.get(resume.getId(), key, format);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-    private String buildEducationHtml(Resume resume) {
-        StringBuilder html = new StringBuilder();
-        
-        resume.getEducations().forEach(edu -> {
-            html.append("<div style='margin-bottom: 15px;'>");
-            html.append("<div class='job-title'>").append(edu.getDegree());
-            if (edu.getFieldOfStudy() != null) {
-                html.append(" in ").append(edu.getFieldOfStudy());
-            }
-            html.append("</div>");
-            html.append("<div class='company'>").append(edu.getInstitutionName());
-            if (edu.getEndDate() != null) {
-                html.append("<span class='date'>").append(edu.getEndDate()).append("</span>");
-            }
-            html.append("</div>");
-            
-            if (edu.getGpa() != null) {
-                html.append("<div>GPA: ").append(edu.getGpa()).append("</div>");
+        Path tempFile = null;
+        try {
+            tempFile = renderCache.newTempFile();
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writer.write(file);
             }
-            
-            html.append("</div>");
-        });
-        
-        return html.toString();
-    }
-
-    private String buildSkillsHtml(Resume resume) {
-        StringBuilder html = new StringBuilder("<div class='skills'>");
-        
-        resume.getSkills().stream()
-                .sorted((a, b) -> Boolean.compare(b.getIsFeatured(), a.getIsFeatured()))
-                .forEach(skill -> {
-                    html.append("<span class='skill'>").append(skill.getSkillName()).append("</span>");
-                });
-        
-        html.append("</div>");
-        return html.toString();
+            BlobInfo stored = renderCache.put(resume.getId(), key, format, tempFile);
+            tempFile = null;
+            return stored;
+        } catch (IOException e) {
+            logger.error("Error writing {} file for resume ID: {}", format, resume.getId(), e);
+            throw new RuntimeException("Failed to write resume file", e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
     }
 
-    private String buildProjectsHtml(Resume resume) {
-        StringBuilder html = new StringBuilder();
-        
-        resume.getProjects().forEach(project -> {
-            html.append("<div style='margin-bottom: 20px;'>");
-            html.append("<div class='job-title'>").append(project.getName()).append("</div>");
-            
-            if (project.getDescription() != null) {
-                html.append("<div class='description'>").append(project.getDescription()).append("</div>");
-            }
-            
-            if (!project.getTechnologies().isEmpty()) {
-                html.append("<div><strong>Technologies:</strong> ");
-                html.append(String.join(", ", project.getTechnologies()));
-                html.append("</div>");
-            }
-            
-            html.append("</div>");
-        });
-        
-        return html.toString();
+    private byte[] readFile(BlobInfo file) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream((int) file.size());
+        try {
+            blobStorage.copyTo(file.key(), 0, file.size(), baos);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read resume file", e);
+        }
+        return baos.toByteArray();
     }
 
-    private String buildCertificationsHtml(Resume resume) {
-        StringBuilder html = new StringBuilder();
-        
-        resume.getCertifications().forEach(cert -> {
-            html.append("<div style='margin-bottom: 15px;'>");
-            html.append("<div class='job-title'>").append(cert.getName()).append("</div>");
-            
-            if (cert.getIssuingOrganization() != null) {
-                html.append("<div class='company'>").append(cert.getIssuingOrganization());
-                if (cert.getIssueDate() != null) {
-                    html.append("<span class='date'>").append(cert.getIssueDate()).append("</span>");
-                }
-                html.append("</div>");
+    private void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete temporary file {}", file, e);
             }
-            
-            html.append("</div>");
-        });
-        
-        return html.toString();
-    }
-
-    private String saveResumeFile(byte[] content, String fileName) {
-        try {
-            Path uploadPath = Paths.get(uploadDir, "resumes");
-            Files.createDirectories(uploadPath);
-            
-            Path filePath = uploadPath.resolve(fileName);
-            Files.write(filePath, content);
-            
-            return filePath.toString();
-        } catch (IOException e) {
-            logger.error("Error saving resume file: {}", fileName, e);
-            throw new RuntimeException("Failed to save resume file", e);
         }
     }
 
@@ -628,23 +585,22 @@ public class ResumeBuilderService {
         return score;
     }
 
-    private int calculateKeywordScore(String resumeContent, String jobDescription) {
+    private int calculateKeywordScore(Resume resume, String resumeContent, String jobDescription) {
         if (jobDescription == null || jobDescription.isEmpty()) {
             return 20; // Default score if no job description provided
         }
         
-        Set<String> jobKeywords = extractKeywordsFromText(jobDescription);
-        Set<String> resumeKeywords = extractKeywordsFromText(resumeContent);
-        
-        int matches = 0;
-        for (String keyword : jobKeywords) {
-            if (resumeKeywords.contains(keyword.toLowerCase())) {
-                matches++;
-            }
-        }
-        
-        double matchPercentage = jobKeywords.isEmpty() ? 0 : (double) matches / jobKeywords.size();
-        return (int) (matchPercentage * 40);
+        KeywordReport report = atsKeywordService.analyze(resumeContent, jobDescription, null);
+        return atsKeywordService.keywordScore(report, skillTerms(resume));
+    }
+
+    private Set<String> skillTerms(Resume resume) {
+        Set<String> terms = new HashSet<>();
+        resume.getSkills().forEach(skill -> terms.add(skill.getSkillName()));
+        resume.getWorkExperiences().forEach(exp -> terms.addAll(exp.getTechnologies()));
+        resume.getProjects().forEach(project -> terms.addAll(project.getTechnologies()));
+        terms.remove(null);
+        return terms;
     }
 
     private int calculateFormattingScore(Resume resume) {
@@ -672,60 +628,13 @@ public class ResumeBuilderService {
         return score;
     }
 
-    private Set<String> extractKeywordsFromText(String text) {
-        Set<String> keywords = new HashSet<>();
-        
-        if (text == null || text.isEmpty()) {
-            return keywords;
-        }
-        
-        // Simple keyword extraction - in production, use more sophisticated NLP
-        String[] words = text.toLowerCase()
-                .replaceAll("[^a-zA-Z0-9\\s+#.-]", "")
-                .split("\\s+");
-        
-        for (String word : words) {
-            if (word.length() > 2 && !isStopWord(word)) {
-                keywords.add(word);
-            }
-        }
-        
-        return keywords;
-    }
-
-    private Set<String> getRoleSpecificKeywords(String role) {
-        Set<String> keywords = new HashSet<>();
-        
-        if (role == null) return keywords;
-        
-        String roleLower = role.toLowerCase();
-        
-        if (roleLower.contains("developer") || roleLower.contains("engineer")) {
-            keywords.addAll(Arrays.asList("programming", "coding", "development", "software", 
-                    "algorithms", "debugging", "testing", "git", "agile", "scrum"));
-        }
-        
-        if (roleLower.contains("data")) {
-            keywords.addAll(Arrays.asList("python", "sql", "analytics", "machine learning", 
-                    "statistics", "visualization", "pandas", "numpy"));
-        }
-        
-        if (roleLower.contains("manager")) {
-            keywords.addAll(Arrays.asList("leadership", "management", "team", "project", 
-                    "planning", "strategy", "communication", "stakeholder"));
-        }
-        
-        return keywords;
-    }
-
-    private boolean isStopWord(String word) {
-        Set<String> stopWords = Set.of("the", "and", "or", "but", "in", "on", "at", "to", "for", 
-                "of", "with", "by", "is", "are", "was", "were", "be", "been", "have", "has", "had");
-        return stopWords.contains(word.toLowerCase());
-    }
-
     private boolean isValidEmail(String email) {
         Pattern pattern = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
         return pattern.matcher(email).matches();
     }
+
+    @FunctionalInterface
+    private interface ResumeWriter {
+        void write(OutputStream out) throws IOException;
+    }
 }
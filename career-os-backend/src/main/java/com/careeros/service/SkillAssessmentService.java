@@ -10,7 +10,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -37,6 +40,9 @@ public class SkillAssessmentService {
     @Autowired
     private CertificateService certificateService;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Create a new skill assessment
      */
@@ -81,41 +87,55 @@ public class SkillAssessmentService {
     }
 
     /**
-     * Submit assessment responses
+     * Submit assessment responses.
+     * Answers are scored and saved in one transaction and the result is recorded in a second one;
+     * the AI feedback in between is awaited with no transaction open, so no connection is held for it.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AssessmentResultResponse submitAssessment(AssessmentSubmissionRequest request) {
         logger.info("Processing assessment submission for assessment {}", request.getAssessmentId());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
 
-        SkillAssessment assessment = assessmentRepository.findById(request.getAssessmentId())
-                .orElseThrow(() -> new RuntimeException("Assessment not found"));
+        // Process responses
+        String evaluationPrompt = transaction.execute(status -> {
+            SkillAssessment assessment = assessmentRepository.findById(request.getAssessmentId())
+                    .orElseThrow(() -> new RuntimeException("Assessment not found"));
 
-        if (!assessment.getUser().getId().equals(request.getUserId())) {
-            throw new RuntimeException("Unauthorized access to assessment");
-        }
+            if (!assessment.getUser().getId().equals(request.getUserId())) {
+                throw new RuntimeException("Unauthorized access to assessment");
+            }
 
-        if (assessment.getStatus() != SkillAssessment.AssessmentStatus.IN_PROGRESS) {
-            throw new RuntimeException("Assessment is not in progress");
-        }
+            if (assessment.getStatus() != SkillAssessment.AssessmentStatus.IN_PROGRESS) {
+                throw new RuntimeException("Assessment is not in progress");
+            }
 
-        // Process responses
-        processAssessmentResponses(assessment, request.getResponses());
+            processAssessmentResponses(assessment, request.getResponses());
+            return buildEvaluationPrompt(assessment);
+        });
 
-        // Calculate score and generate evaluation
-        AssessmentResultResponse result = evaluateAssessment(assessment);
+        String aiEvaluation = generateAIEvaluation(evaluationPrompt);
 
-        // Update assessment status
-        assessment.setStatus(SkillAssessment.AssessmentStatus.COMPLETED);
-        assessment.setCompletedAt(LocalDateTime.now());
-        assessment.setTimeSpentMinutes(request.getTimeSpentMinutes());
-        
-        assessmentRepository.save(assessment);
+        return transaction.execute(status -> {
+            SkillAssessment assessment = assessmentRepository.findById(request.getAssessmentId())
+                    .orElseThrow(() -> new RuntimeException("Assessment not found"));
 
-        // Issue certificate if score is high enough
-        if (result.getScorePercentage() >= 80) {
-            issueCertificate(assessment);
-        }
+            // Calculate score and apply evaluation
+            AssessmentResultResponse result = evaluateAssessment(assessment, aiEvaluation);
 
-        return result;
+            // Update assessment status
+            assessment.setStatus(SkillAssessment.AssessmentStatus.COMPLETED);
+            assessment.setCompletedAt(LocalDateTime.now());
+            assessment.setTimeSpentMinutes(request.getTimeSpentMinutes());
+
+            assessmentRepository.save(assessment);
+
+            // Issue certificate if score is high enough
+            if (result.getScorePercentage() >= 80) {
+                issueCertificate(assessment);
+            }
+
+            return result;
+        });
     }
 
     /**
@@ -394,19 +414,18 @@ public class SkillAssessmentService {
         }
     }
 
-    private AssessmentResultResponse evaluateAssessment(SkillAssessment assessment) {
+    /**
+     * Apply the AI evaluation, or the basic one when there is none
+     */
+    private AssessmentResultResponse evaluateAssessment(SkillAssessment assessment, String aiEvaluation) {
         AssessmentResultResponse result = buildAssessmentResult(assessment);
 
-        // Generate AI-powered evaluation and feedback
-        try {
-            String aiEvaluation = generateAIEvaluation(assessment);
+        if (aiEvaluation != null) {
             assessment.setAiEvaluation(aiEvaluation);
             
             // Extract strengths, weaknesses, and recommendations from AI evaluation
             extractFeedbackFromAI(assessment, aiEvaluation);
-            
-        } catch (Exception e) {
-            logger.error("Error generating AI evaluation", e);
+        } else {
             // Fallback to basic evaluation
             generateBasicEvaluation(assessment);
         }
@@ -432,7 +451,20 @@ public class SkillAssessmentService {
         return result;
     }
 
-    private String generateAIEvaluation(SkillAssessment assessment) {
+    /**
+     * AI-powered evaluation and feedback, or null when it could not be generated
+     */
+    private String generateAIEvaluation(String prompt) {
+        try {
+            // Batched with other assessments finishing at the same time
+            return openAIService.generateAssessmentFeedback(prompt).join();
+        } catch (Exception e) {
+            logger.error("Error generating AI evaluation", e);
+            return null;
+        }
+    }
+
+    private String buildEvaluationPrompt(SkillAssessment assessment) {
         // Create a prompt for AI evaluation
         StringBuilder prompt = new StringBuilder();
         prompt.append("Evaluate this skill assessment result:\n");
@@ -448,19 +480,38 @@ public class SkillAssessmentService {
             prompt.append("Correct: ").append(response.getIsCorrect()).append("\n");
         }
         
-        prompt.append("\nProvide detailed feedback including strengths, areas for improvement, and specific recommendations for skill development.");
+        prompt.append("\nProvide feedback as exactly three lines:\n");
+        prompt.append("Strengths: <comma-separated strengths>\n");
+        prompt.append("Weaknesses: <comma-separated areas for improvement>\n");
+        prompt.append("Recommendations: <comma-separated recommendations for skill development>");
 
-        // Use OpenAI service to generate evaluation (simplified)
-        return "AI-generated evaluation based on assessment performance"; // Placeholder
+        return prompt.toString();
     }
 
     private void extractFeedbackFromAI(SkillAssessment assessment, String aiEvaluation) {
-        // Parse AI evaluation to extract structured feedback
-        // This would involve more sophisticated text processing
-        
-        assessment.setStrengths("Strong foundational knowledge, Good problem-solving approach");
-        assessment.setWeaknesses("Need more practice with advanced concepts, Time management");
-        assessment.setRecommendations("Focus on advanced topics, Practice coding challenges, Review fundamentals");
+        // Parse the "Label: a, b, c" lines requested in the prompt
+        String strengths = extractFeedbackLine(aiEvaluation, "Strengths");
+        String weaknesses = extractFeedbackLine(aiEvaluation, "Weaknesses");
+        String recommendations = extractFeedbackLine(aiEvaluation, "Recommendations");
+        if (strengths == null && weaknesses == null && recommendations == null) {
+            generateBasicEvaluation(assessment);
+            return;
+        }
+
+        assessment.setStrengths(strengths);
+        assessment.setWeaknesses(weaknesses);
+        assessment.setRecommendations(recommendations);
+    }
+
+    private String extractFeedbackLine(String aiEvaluation, String label) {
+        for (String line : aiEvaluation.split("\\R")) {
+            String trimmed = line.trim().replaceFirst("^[-*#\\s]+", "");
+            if (trimmed.regionMatches(true, 0, label + ":", 0, label.length() + 1)) {
+                String value = trimmed.substring(label.length() + 1).trim();
+                return value.isEmpty() ? null : value;
+            }
+        }
+        return null;
     }
 
     private void generateBasicEvaluation(SkillAssessment assessment) {
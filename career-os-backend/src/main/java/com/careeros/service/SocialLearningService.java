@@ -42,6 +42,9 @@ public class SocialLearningService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ViewCounterService viewCounterService;
+
     /**
      * Create a new study group
      */
@@ -313,8 +316,23 @@ public class SocialLearningService {
         membershipRepository.findByStudyGroupAndUser(group, user)
                 .orElseThrow(() -> new RuntimeException("User is not a member of this group"));
 
-        return postRepository.findByStudyGroupAndStatusOrderByCreatedAtDesc(
+        Page<GroupPost> posts = postRepository.findByStudyGroupAndStatusOrderByCreatedAtDesc(
                 group, com.careeros.repository.GroupPostRepository.PostStatus.ACTIVE, pageable);
+
+        // Include views still buffered in memory; views_count is not updatable through the entity
+        posts.forEach(post -> post.setViewsCount(viewCounterService.getPostViewCount(post.getId(), post.getViewsCount())));
+        return posts;
+    }
+
+    /**
+     * Record a view of a post. Buffered and flushed in batches by ViewCounterService.
+     */
+    @Transactional(readOnly = true)
+    public void recordPostView(UUID postId, UUID userId, Integer viewDurationSeconds, String userAgent, String ipAddress) {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found");
+        }
+        viewCounterService.recordPostView(postId, userId, viewDurationSeconds, userAgent, ipAddress);
     }
 
     /**
@@ -0,0 +1,223 @@
+package com.careeros.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffered view counters for job postings and group posts.
+ * Page views increment per-row in-memory counters; a scheduled flush takes each delta out atomically
+ * (remove returns exactly what was counted, later views start a new delta) and writes them in one
+ * batched statement per table, so popular rows are not updated once per view.
+ * Reads add this instance's pending delta to the persisted count.
+ */
+@Service
+public class ViewCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCounterService.class);
+
+    private static final String FLUSH_JOB_VIEWS_SQL =
+            "UPDATE job_postings jp SET view_count = COALESCE(jp.view_count, 0) + d.delta " +
+            "FROM unnest(?::uuid[], ?::bigint[]) AS d(id, delta) WHERE jp.id = d.id";
+
+    private static final String FLUSH_POST_VIEWS_SQL =
+            "UPDATE group_posts gp SET views_count = gp.views_count + d.delta " +
+            "FROM unnest(?::uuid[], ?::bigint[]) AS d(id, delta) WHERE gp.id = d.id";
+
+    private static final String INSERT_POST_VIEW_SQL =
+            "INSERT INTO post_views (id, post_id, user_id, viewed_at, view_duration_seconds, user_agent, ip_address) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.view-counters.max-pending-post-views:100000}")
+    private int maxPendingPostViews;
+
+    private final ViewCounters jobViews = new ViewCounters("job_postings", FLUSH_JOB_VIEWS_SQL);
+    private final ViewCounters postViews = new ViewCounters("group_posts", FLUSH_POST_VIEWS_SQL);
+
+    private final ConcurrentLinkedQueue<PendingPostView> postViewLog = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger postViewLogSize = new AtomicInteger();
+
+    private Counter flushedViews;
+    private Counter droppedPostViews;
+
+    /**
+     * Pending deltas of one table, plus the batch currently being written so reads never dip mid-flush
+     */
+    private static class ViewCounters {
+        final String table;
+        final String flushSql;
+        final ConcurrentHashMap<UUID, Long> pending = new ConcurrentHashMap<>();
+        volatile Map<UUID, Long> inFlight = Map.of();
+
+        ViewCounters(String table, String flushSql) {
+            this.table = table;
+            this.flushSql = flushSql;
+        }
+
+        void increment(UUID id) {
+            pending.merge(id, 1L, Long::sum);
+        }
+
+        long unflushed(UUID id) {
+            return pending.getOrDefault(id, 0L) + inFlight.getOrDefault(id, 0L);
+        }
+    }
+
+    private record PendingPostView(UUID postId, UUID userId, LocalDateTime viewedAt, Integer viewDurationSeconds,
+                                   String userAgent, String ipAddress) {}
+
+    @PostConstruct
+    void registerMetrics() {
+        flushedViews = Counter.builder("views.flushed")
+                .description("View increments written to the database")
+                .register(meterRegistry);
+        droppedPostViews = Counter.builder("views.post_view_log.dropped")
+                .description("Post view rows dropped because the pending log was full")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("views.pending.keys", List.of(Tag.of("table", jobViews.table)), jobViews.pending);
+        meterRegistry.gaugeMapSize("views.pending.keys", List.of(Tag.of("table", postViews.table)), postViews.pending);
+        meterRegistry.gauge("views.post_view_log.pending", postViewLogSize);
+    }
+
+    /**
+     * Count a view of a job posting
+     */
+    public void recordJobView(UUID jobId) {
+        jobViews.increment(jobId);
+    }
+
+    /**
+     * Count a view of a group post and log who viewed it
+     */
+    public void recordPostView(UUID postId, UUID userId, Integer viewDurationSeconds, String userAgent, String ipAddress) {
+        postViews.increment(postId);
+
+        if (postViewLogSize.incrementAndGet() > maxPendingPostViews) {
+            postViewLogSize.decrementAndGet();
+            droppedPostViews.increment();
+            return;
+        }
+        postViewLog.add(new PendingPostView(postId, userId, LocalDateTime.now(), viewDurationSeconds, userAgent, ipAddress));
+    }
+
+    /**
+     * Persisted view count plus views not yet flushed by this instance
+     */
+    public int getJobViewCount(UUID jobId, Integer persistedCount) {
+        return (persistedCount != null ? persistedCount : 0) + (int) jobViews.unflushed(jobId);
+    }
+
+    /**
+     * Persisted view count plus views not yet flushed by this instance
+     */
+    public int getPostViewCount(UUID postId, Integer persistedCount) {
+        return (persistedCount != null ? persistedCount : 0) + (int) postViews.unflushed(postId);
+    }
+
+    /**
+     * Write pending deltas and post view rows
+     */
+    @Scheduled(fixedDelayString = "${app.view-counters.flush-interval-ms:5000}")
+    public void flush() {
+        flushCounters(jobViews);
+        flushCounters(postViews);
+        flushPostViewLog();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void flushCounters(ViewCounters counters) {
+        ConcurrentHashMap<UUID, Long> pending = counters.pending;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Publish the batch as in flight first; each delta is added to it before it leaves pending
+        Map<UUID, Long> batch = new ConcurrentHashMap<>();
+        counters.inFlight = batch;
+        for (UUID id : pending.keySet()) {
+            pending.computeIfPresent(id, (key, delta) -> {
+                batch.put(key, delta);
+                return null;
+            });
+        }
+        if (batch.isEmpty()) {
+            counters.inFlight = Map.of();
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>(batch.keySet());
+        List<Long> deltas = ids.stream().map(batch::get).toList();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(counters.flushSql);
+                Array idArray = connection.createArrayOf("uuid", ids.toArray());
+                Array deltaArray = connection.createArrayOf("bigint", deltas.toArray());
+                statement.setArray(1, idArray);
+                statement.setArray(2, deltaArray);
+                return statement;
+            });
+            flushedViews.increment(deltas.stream().mapToLong(Long::longValue).sum());
+        } catch (Exception e) {
+            // Put the deltas back so the next flush retries them
+            batch.forEach((id, delta) -> pending.merge(id, delta, Long::sum));
+            logger.error("Failed to flush view counts for {} rows of {}", ids.size(), counters.table, e);
+        } finally {
+            counters.inFlight = Map.of();
+        }
+    }
+
+    private void flushPostViewLog() {
+        List<PendingPostView> batch = new ArrayList<>();
+        PendingPostView view;
+        while ((view = postViewLog.poll()) != null) {
+            batch.add(view);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        postViewLogSize.addAndGet(-batch.size());
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_POST_VIEW_SQL, batch, 500, (statement, pendingView) -> {
+                statement.setObject(1, UUID.randomUUID());
+                statement.setObject(2, pendingView.postId());
+                statement.setObject(3, pendingView.userId());
+                statement.setTimestamp(4, Timestamp.valueOf(pendingView.viewedAt()));
+                statement.setObject(5, pendingView.viewDurationSeconds());
+                statement.setString(6, pendingView.userAgent());
+                statement.setString(7, pendingView.ipAddress());
+            });
+        } catch (Exception e) {
+            // View rows are analytics only; counts were already buffered separately
+            logger.error("Failed to write {} post view rows", batch.size(), e);
+        }
+    }
+}
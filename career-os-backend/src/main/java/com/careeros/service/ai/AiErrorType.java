@@ -0,0 +1,84 @@
+package com.careeros.service.ai;
+
+import com.theokanning.openai.OpenAiHttpException;
+import retrofit2.HttpException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Why an AI call failed, used as the error tag on AI metrics
+ */
+public enum AiErrorType {
+    TIMEOUT,
+    QUEUE_FULL,
+    RATE_LIMITED,
+    AUTHENTICATION,
+    INVALID_REQUEST,
+    UPSTREAM_ERROR,
+    NETWORK,
+    MALFORMED_RESPONSE,
+    CANCELLED,
+    UNKNOWN;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Classify a failure, looking through the wrappers added by futures and the single-flight layer
+     */
+    public static AiErrorType classify(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof OpenAiHttpException http) {
+            return fromStatus(http.statusCode);
+        }
+        if (cause instanceof HttpException http) {
+            return fromStatus(http.code());
+        }
+        if (cause instanceof MalformedCompletionException) {
+            return MALFORMED_RESPONSE;
+        }
+        if (cause instanceof TimeoutException || cause instanceof InterruptedIOException) {
+            return TIMEOUT;
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return QUEUE_FULL;
+        }
+        if (cause instanceof CancellationException) {
+            return CANCELLED;
+        }
+        if (cause instanceof IOException) {
+            return NETWORK;
+        }
+        return UNKNOWN;
+    }
+
+    private static AiErrorType fromStatus(int status) {
+        if (status == 429) {
+            return RATE_LIMITED;
+        }
+        if (status == 401 || status == 403) {
+            return AUTHENTICATION;
+        }
+        if (status == 408) {
+            return TIMEOUT;
+        }
+        return status >= 500 ? UPSTREAM_ERROR : INVALID_REQUEST;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause
+                && (cause instanceof CompletionException || cause instanceof ExecutionException
+                        || cause.getClass() == RuntimeException.class)) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,137 @@
+package com.careeros.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics for the AI path, all tagged by use case:
+ * <ul>
+ *   <li>ai.request.duration - feature-level latency from request to parsed result or fallback</li>
+ *   <li>ai.upstream.duration - latency of each provider call, by model and outcome</li>
+ *   <li>ai.tokens - prompt and completion tokens per provider call (streamed usage is estimated)</li>
+ *   <li>ai.cost - estimated spend in USD from the configured per-1k token prices</li>
+ *   <li>ai.errors - failed provider calls and unusable completions, by {@link AiErrorType}</li>
+ *   <li>ai.fallbacks - responses served from a fallback instead of the model, by {@link AiErrorType}</li>
+ * </ul>
+ * Cache hits are counted by {@link PromptCache} as ai.prompt.cache.requests. Latency and token meters
+ * publish histograms so percentiles can be aggregated across instances in Prometheus.
+ */
+@Component
+public class AiMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${ai.openai.pricing.prompt-per-1k-tokens:0.01}")
+    private double promptPricePer1k;
+
+    @Value("${ai.openai.pricing.completion-per-1k-tokens:0.03}")
+    private double completionPricePer1k;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Feature-level call answered by the model (or the prompt cache)
+     */
+    public void recordSuccess(Timer.Sample sample, AiUseCase useCase) {
+        sample.stop(requestTimer(useCase, "success"));
+    }
+
+    /**
+     * Feature-level call answered with a fallback because the model call or its parsing failed
+     */
+    public void recordFallback(Timer.Sample sample, AiUseCase useCase, Throwable cause) {
+        sample.stop(requestTimer(useCase, "fallback"));
+        AiErrorType type = AiErrorType.classify(cause);
+        Counter.builder("ai.fallbacks")
+                .description("AI responses served from a fallback instead of the model")
+                .tag("use_case", useCase.key())
+                .tag("reason", type.tag())
+                .register(meterRegistry)
+                .increment();
+        if (type == AiErrorType.MALFORMED_RESPONSE) {
+            recordError(useCase, type);
+        }
+    }
+
+    /**
+     * One provider call, successful or not
+     */
+    public void recordUpstream(AiUseCase useCase, String model, long nanos, Throwable error) {
+        Timer.builder("ai.upstream.duration")
+                .description("Latency of provider calls")
+                .tag("use_case", useCase.key())
+                .tag("model", model)
+                .tag("outcome", error == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(2))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (error != null) {
+            recordError(useCase, AiErrorType.classify(error));
+        }
+    }
+
+    /**
+     * A request refused before reaching the provider
+     */
+    public void recordRejected(AiUseCase useCase, Throwable error) {
+        recordError(useCase, AiErrorType.classify(error));
+    }
+
+    /**
+     * Token usage of one provider call, and its estimated cost
+     */
+    public void recordUsage(AiUseCase useCase, String model, long promptTokens, long completionTokens) {
+        tokenSummary(useCase, model, "prompt").record(promptTokens);
+        tokenSummary(useCase, model, "completion").record(completionTokens);
+        Counter.builder("ai.cost")
+                .description("Estimated provider spend")
+                .baseUnit("usd")
+                .tag("use_case", useCase.key())
+                .tag("model", model)
+                .register(meterRegistry)
+                .increment(promptTokens / 1000.0 * promptPricePer1k + completionTokens / 1000.0 * completionPricePer1k);
+    }
+
+    private void recordError(AiUseCase useCase, AiErrorType type) {
+        Counter.builder("ai.errors")
+                .description("Failed provider calls and unusable completions")
+                .tag("use_case", useCase.key())
+                .tag("type", type.tag())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer requestTimer(AiUseCase useCase, String outcome) {
+        return Timer.builder("ai.request.duration")
+                .description("Latency of AI features, from request to parsed result or fallback")
+                .tag("use_case", useCase.key())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(2))
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary tokenSummary(AiUseCase useCase, String model, String type) {
+        return DistributionSummary.builder("ai.tokens")
+                .description("Tokens per provider call")
+                .baseUnit("tokens")
+                .tag("use_case", useCase.key())
+                .tag("model", model)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(32_000.0)
+                .register(meterRegistry);
+    }
+}
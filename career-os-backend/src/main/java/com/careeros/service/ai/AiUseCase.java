@@ -0,0 +1,33 @@
+package com.careeros.service.ai;
+
+import java.time.Duration;
+
+/**
+ * LLM use cases, each with its own response cache TTL
+ */
+public enum AiUseCase {
+    SKILL_RECOMMENDATIONS("skill-recommendations", Duration.ofHours(24)),
+    RESUME_ANALYSIS("resume-analysis", Duration.ofDays(7)),
+    JOB_MARKET_INSIGHTS("job-market-insights", Duration.ofHours(6)),
+    MENTORSHIP_EXPLANATION("mentorship-explanation", Duration.ofDays(7)),
+    ASSESSMENT_FEEDBACK("assessment-feedback", Duration.ofDays(7));
+
+    private final String key;
+    private final Duration defaultTtl;
+
+    AiUseCase(String key, Duration defaultTtl) {
+        this.key = key;
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Configuration and metric tag name, e.g. "resume-analysis"
+     */
+    public String key() {
+        return key;
+    }
+
+    public Duration defaultTtl() {
+        return defaultTtl;
+    }
+}
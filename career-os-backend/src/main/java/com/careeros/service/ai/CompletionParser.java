@@ -0,0 +1,308 @@
+package com.careeros.service.ai;
+
+import com.careeros.dto.ai.ResumeAnalysisResponse;
+import com.careeros.dto.ai.SkillRecommendationResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.*;
+
+/**
+ * Schema-bound parser mapping model completions straight into the AI response DTOs with Jackson's
+ * streaming token API, without an intermediate tree. Prose or code fences around the JSON object are
+ * ignored, unknown fields are skipped, enum-like values are normalized to the prompt's vocabulary and
+ * numbers are clamped to their documented ranges. A completion with no JSON object, a value of the
+ * wrong shape or a missing required field is rejected with a {@link MalformedCompletionException}.
+ */
+public final class CompletionParser {
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS) // Models emit raw newlines inside strings
+            .build();
+
+    private static final Set<String> PRIORITIES = Set.of("HIGH", "MEDIUM", "LOW");
+    private static final Set<String> DIFFICULTIES = Set.of("BEGINNER", "INTERMEDIATE", "ADVANCED");
+    private static final Set<String> RESUME_CATEGORIES = Set.of("FORMATTING", "CONTENT", "KEYWORDS", "STRUCTURE");
+
+    private static final int MAX_OBJECT_CANDIDATES = 3;
+
+    private interface FieldReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private CompletionParser() {
+    }
+
+    public static SkillRecommendationResponse parseSkillRecommendations(String completion) {
+        return parseObject(completion, parser -> {
+            SkillRecommendationResponse response = new SkillRecommendationResponse();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "recommendations" -> response.setRecommendations(readList(parser, field, CompletionParser::readSkillRecommendation));
+                    case "learningPath" -> response.setLearningPath(readText(parser, field));
+                    case "careerImpact" -> response.setCareerImpact(readText(parser, field));
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (response.getRecommendations() == null || response.getRecommendations().isEmpty()) {
+                throw new MalformedCompletionException("AI response has no skill recommendations");
+            }
+            return response;
+        });
+    }
+
+    public static ResumeAnalysisResponse parseResumeAnalysis(String completion) {
+        return parseObject(completion, parser -> {
+            ResumeAnalysisResponse response = new ResumeAnalysisResponse();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "atsScore" -> response.setAtsScore(clamp(readInteger(parser, field), 0, 100));
+                    case "overallFeedback" -> response.setOverallFeedback(readText(parser, field));
+                    case "strengths" -> response.setStrengths(readList(parser, field, p -> readText(p, field)));
+                    case "weaknesses" -> response.setWeaknesses(readList(parser, field, p -> readText(p, field)));
+                    case "keywordAnalysis" -> response.setKeywordAnalysis(readKeywordAnalysis(parser));
+                    case "sections" -> response.setSections(readSections(parser));
+                    case "recommendations" -> response.setRecommendations(readList(parser, field, CompletionParser::readResumeRecommendation));
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (response.getAtsScore() == null) {
+                throw new MalformedCompletionException("AI response has no ATS score");
+            }
+            if (response.getStrengths() == null) response.setStrengths(new ArrayList<>());
+            if (response.getWeaknesses() == null) response.setWeaknesses(new ArrayList<>());
+            if (response.getRecommendations() == null) response.setRecommendations(new ArrayList<>());
+            return response;
+        });
+    }
+
+    /**
+     * Runs the reader from the first '{' of the completion, retrying from the next few braces if
+     * leading prose itself contained one, and reports the first failure. Anything after the root
+     * object is never read.
+     */
+    private static <T> T parseObject(String completion, FieldReader<T> reader) {
+        if (completion == null) {
+            throw new MalformedCompletionException("Empty AI response");
+        }
+
+        MalformedCompletionException failure = null;
+        int start = completion.indexOf('{');
+        for (int attempt = 0; start >= 0 && attempt < MAX_OBJECT_CANDIDATES; attempt++) {
+            StringReader source = new StringReader(completion);
+            try (JsonParser parser = JSON.createParser(source)) {
+                source.skip(start);
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    return reader.read(parser);
+                }
+            } catch (IOException e) {
+                failure = failure != null ? failure : new MalformedCompletionException("Malformed JSON in AI response", e);
+            } catch (MalformedCompletionException e) {
+                failure = failure != null ? failure : e;
+            } catch (RuntimeException e) {
+                failure = failure != null ? failure : new MalformedCompletionException("Invalid AI response: " + e.getMessage(), e);
+            }
+            start = completion.indexOf('{', start + 1);
+        }
+        throw failure != null ? failure : new MalformedCompletionException("No JSON object in AI response");
+    }
+
+    private static SkillRecommendationResponse.SkillRecommendation readSkillRecommendation(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT, "recommendations[]");
+        SkillRecommendationResponse.SkillRecommendation recommendation = new SkillRecommendationResponse.SkillRecommendation();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "skillName" -> recommendation.setSkillName(readText(parser, field));
+                case "category" -> recommendation.setCategory(constant(readText(parser, field)));
+                case "priority" -> recommendation.setPriority(oneOf(readText(parser, field), PRIORITIES));
+                case "reason" -> recommendation.setReason(readText(parser, field));
+                case "timeToLearn" -> recommendation.setTimeToLearn(readText(parser, field));
+                case "difficulty" -> recommendation.setDifficulty(oneOf(readText(parser, field), DIFFICULTIES));
+                case "marketDemand" -> recommendation.setMarketDemand(clamp(readDouble(parser, field), 0.0, 1.0));
+                case "salaryImpact" -> recommendation.setSalaryImpact(readDouble(parser, field));
+                default -> parser.skipChildren();
+            }
+        }
+        return recommendation.getSkillName() == null || recommendation.getSkillName().isBlank() ? null : recommendation;
+    }
+
+    private static ResumeAnalysisResponse.Recommendation readResumeRecommendation(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT, "recommendations[]");
+        ResumeAnalysisResponse.Recommendation recommendation = new ResumeAnalysisResponse.Recommendation();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "category" -> recommendation.setCategory(oneOf(readText(parser, field), RESUME_CATEGORIES));
+                case "priority" -> recommendation.setPriority(oneOf(readText(parser, field), PRIORITIES));
+                case "suggestion" -> recommendation.setSuggestion(readText(parser, field));
+                case "impact" -> recommendation.setImpact(readText(parser, field));
+                case "expectedScoreIncrease" -> recommendation.setExpectedScoreIncrease(readInteger(parser, field));
+                default -> parser.skipChildren();
+            }
+        }
+        return recommendation.getSuggestion() == null || recommendation.getSuggestion().isBlank() ? null : recommendation;
+    }
+
+    private static ResumeAnalysisResponse.KeywordAnalysis readKeywordAnalysis(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_OBJECT, "keywordAnalysis");
+        ResumeAnalysisResponse.KeywordAnalysis analysis = new ResumeAnalysisResponse.KeywordAnalysis();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "foundKeywords" -> analysis.setFoundKeywords(readList(parser, field, p -> readText(p, field)));
+                case "missingKeywords" -> analysis.setMissingKeywords(readList(parser, field, p -> readText(p, field)));
+                case "keywordDensity" -> analysis.setKeywordDensity(readDouble(parser, field));
+                case "keywordMatches" -> analysis.setKeywordMatches(readInteger(parser, field));
+                case "totalKeywords" -> analysis.setTotalKeywords(readInteger(parser, field));
+                default -> parser.skipChildren();
+            }
+        }
+        return analysis;
+    }
+
+    private static Map<String, ResumeAnalysisResponse.SectionAnalysis> readSections(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_OBJECT, "sections");
+        Map<String, ResumeAnalysisResponse.SectionAnalysis> sections = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            expect(parser, JsonToken.START_OBJECT, "sections." + name);
+            ResumeAnalysisResponse.SectionAnalysis section = new ResumeAnalysisResponse.SectionAnalysis();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "score" -> section.setScore(clamp(readInteger(parser, field), 0, 10));
+                    case "feedback" -> section.setFeedback(readText(parser, field));
+                    case "suggestions" -> section.setSuggestions(readList(parser, field, p -> readText(p, field)));
+                    case "present" -> section.setPresent(readBoolean(parser, field));
+                    default -> parser.skipChildren();
+                }
+            }
+            sections.put(name, section);
+        }
+        return sections;
+    }
+
+    /**
+     * Array of items; null items (dropped by the item reader) are left out
+     */
+    private static <T> List<T> readList(JsonParser parser, String field, FieldReader<T> itemReader) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_ARRAY, field);
+        List<T> items = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T item = itemReader.read(parser);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private static String readText(JsonParser parser, String field) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new MalformedCompletionException("Expected text for " + field + " in AI response, got " + token);
+        }
+        return parser.getText();
+    }
+
+    private static Integer readInteger(JsonParser parser, String field) throws IOException {
+        Double value = readDouble(parser, field);
+        return value != null ? (int) Math.round(value) : null;
+    }
+
+    private static Double readDouble(JsonParser parser, String field) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            // Models sometimes quote numbers or add a unit, e.g. "85" or "12.5%"
+            String text = parser.getText().trim();
+            int end = 0;
+            while (end < text.length() && (Character.isDigit(text.charAt(end)) || text.charAt(end) == '.' || end == 0 && text.charAt(end) == '-')) {
+                end++;
+            }
+            try {
+                return end > 0 ? Double.parseDouble(text.substring(0, end)) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw new MalformedCompletionException("Expected a number for " + field + " in AI response, got " + token);
+    }
+
+    private static Boolean readBoolean(JsonParser parser, String field) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return Boolean.parseBoolean(parser.getText().trim());
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw new MalformedCompletionException("Expected a boolean for " + field + " in AI response, got " + token);
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected, String field) {
+        if (parser.currentToken() != expected) {
+            throw new MalformedCompletionException("Expected " + expected + " for " + field + " in AI response, got " + parser.currentToken());
+        }
+    }
+
+    /**
+     * Upper-case constant form, e.g. "Web development" -> "WEB_DEVELOPMENT"
+     */
+    private static String constant(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_');
+    }
+
+    private static String oneOf(String value, Set<String> allowed) {
+        String normalized = constant(value);
+        return normalized != null && allowed.contains(normalized) ? normalized : null;
+    }
+
+    private static Integer clamp(Integer value, int min, int max) {
+        return value == null ? null : Math.max(min, Math.min(max, value));
+    }
+
+    private static Double clamp(Double value, double min, double max) {
+        return value == null ? null : Math.max(min, Math.min(max, value));
+    }
+}
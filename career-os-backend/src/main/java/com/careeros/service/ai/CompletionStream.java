@@ -0,0 +1,105 @@
+package com.careeros.service.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays one streamed completion to a client as server-sent events:
+ * "token" for each content delta, "section" for each top-level JSON field once complete,
+ * then "result" with the parsed response or "error". Time to the first event is timed
+ * separately from the whole stream.
+ */
+public class CompletionStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompletionStream.class);
+
+    private final SseEmitter emitter;
+    private final AiUseCase useCase;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final JsonSectionScanner scanner = new JsonSectionScanner();
+    private final long startedAt = System.nanoTime();
+    private boolean firstEventSent;
+
+    public CompletionStream(SseEmitter emitter, AiUseCase useCase, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.emitter = emitter;
+        this.useCase = useCase;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Send a content delta and any sections it completed. Throws if the client has gone away,
+     * which aborts the upstream stream.
+     */
+    public synchronized void delta(String text) {
+        send("token", text);
+        for (JsonSectionScanner.Section section : scanner.feed(text)) {
+            send("section", Map.of("name", section.name(), "value", parseSection(section.json())));
+        }
+    }
+
+    public synchronized void complete(Object result) {
+        try {
+            send("result", result);
+            emitter.complete();
+            recordDuration("success");
+        } catch (RuntimeException e) {
+            recordDuration("disconnected");
+        }
+    }
+
+    public synchronized void fail(Throwable error) {
+        logger.warn("AI stream for {} failed: {}", useCase.key(), error.getMessage());
+        try {
+            send("error", Map.of("message", "AI service temporarily unavailable. Please try again later."));
+            emitter.complete();
+        } catch (RuntimeException e) {
+            // Client already gone
+        }
+        recordDuration("error");
+    }
+
+    private void send(String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException e) {
+            throw new IllegalStateException("Client disconnected", e);
+        }
+        if (!firstEventSent) {
+            firstEventSent = true;
+            Timer.builder("ai.stream.first.event")
+                    .description("Time from request to the first streamed event")
+                    .tag("use_case", useCase.key())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Object parseSection(String json) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            return node != null ? node : json;
+        } catch (IOException e) {
+            return json;
+        }
+    }
+
+    private void recordDuration(String outcome) {
+        Timer.builder("ai.stream.duration")
+                .description("Time from request to the end of the stream")
+                .tag("use_case", useCase.key())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
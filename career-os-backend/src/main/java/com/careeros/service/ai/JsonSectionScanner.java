@@ -0,0 +1,110 @@
+package com.careeros.service.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental scanner over a streamed JSON object that reports each top-level field as soon as its
+ * value is complete, so structured sections can be shown before the whole completion arrives.
+ * Text before the opening brace (a model's preamble or code fence) is skipped.
+ */
+public class JsonSectionScanner {
+
+    public record Section(String name, String json) {}
+
+    private final StringBuilder buffer = new StringBuilder();
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean finished;
+    private int valueStart = -1;
+    private String currentKey;
+    private int keyStart = -1;
+
+    /**
+     * Consume the next chunk and return the top-level fields it completed, in order
+     */
+    public List<Section> feed(String chunk) {
+        List<Section> completed = new ArrayList<>();
+        for (int i = 0; i < chunk.length() && !finished; i++) {
+            char c = chunk.charAt(i);
+            if (depth == 0) {
+                if (c == '{') {
+                    depth = 1;
+                    buffer.setLength(0);
+                    buffer.append(c);
+                }
+                continue;
+            }
+            int position = buffer.length();
+            buffer.append(c);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                    if (depth == 1 && keyStart >= 0 && currentKey == null) {
+                        currentKey = buffer.substring(keyStart + 1, position);
+                        keyStart = -1;
+                    }
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    if (depth == 1 && currentKey == null && valueStart < 0) {
+                        keyStart = position;
+                    } else {
+                        startValue(position);
+                    }
+                }
+                case ':' -> {
+                    if (depth == 1 && currentKey != null) {
+                        valueStart = -2; // Value starts at the next non-blank character
+                    }
+                }
+                case '{', '[' -> {
+                    startValue(position);
+                    depth++;
+                }
+                case '}', ']' -> {
+                    depth--;
+                    if (depth == 0) {
+                        emit(completed, position);
+                        finished = true;
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        emit(completed, position);
+                    }
+                }
+                default -> {
+                    if (!Character.isWhitespace(c)) {
+                        startValue(position);
+                    }
+                }
+            }
+        }
+        return completed;
+    }
+
+    private void startValue(int position) {
+        if (depth == 1 && valueStart == -2) {
+            valueStart = position;
+        }
+    }
+
+    private void emit(List<Section> completed, int end) {
+        if (currentKey != null && valueStart >= 0) {
+            completed.add(new Section(currentKey, buffer.substring(valueStart, end).trim()));
+        }
+        currentKey = null;
+        valueStart = -1;
+    }
+}
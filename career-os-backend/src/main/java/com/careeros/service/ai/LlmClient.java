@@ -0,0 +1,310 @@
+package com.careeros.service.ai;
+
+import com.theokanning.openai.client.OpenAiApi;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import retrofit2.Retrofit;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous client for chat completions. Requests wait in a bounded queue, are admitted by
+ * request and token buckets sized to the provider's RPM/TPM quotas, and run on virtual threads
+ * behind a bulkhead that caps concurrent upstream calls. Servlet threads never block on the provider;
+ * a request that cannot start before its deadline fails with a {@link TimeoutException}, and a full
+ * queue rejects immediately with a {@link RejectedExecutionException}. Streamed completions share the
+ * same admission path and relay each content delta to the caller as it arrives.
+ */
+@Component
+public class LlmClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmClient.class);
+
+    private static final int CHARS_PER_TOKEN = 4;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AiMetrics aiMetrics;
+
+    @Value("${ai.openai.api-key}")
+    private String apiKey;
+
+    @Value("${ai.openai.base-url:https://api.openai.com/}")
+    private String baseUrl;
+
+    @Value("${ai.openai.http-timeout:30s}")
+    private Duration httpTimeout;
+
+    @Value("${ai.openai.client.max-in-flight:32}")
+    private int maxInFlight;
+
+    @Value("${ai.openai.client.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${ai.openai.client.requests-per-minute:500}")
+    private long requestsPerMinute;
+
+    @Value("${ai.openai.client.tokens-per-minute:150000}")
+    private long tokensPerMinute;
+
+    private record Pending(AiUseCase useCase, ChatCompletionRequest request, int estimatedTokens, long deadline,
+                           long enqueuedAt, Consumer<String> onDelta, CompletableFuture<String> result) {}
+
+    private OpenAiService openAiService;
+    private BlockingQueue<Pending> queue;
+    private Semaphore bulkhead;
+    private TokenBucket requestBucket;
+    private TokenBucket tokenBucket;
+    private ExecutorService executor;
+    private Thread dispatcher;
+    private volatile boolean running = true;
+
+    private Timer queueWait;
+    private Timer upstreamLatency;
+    private Counter rejectedQueueFull;
+    private Counter expired;
+    private Counter failures;
+
+    @PostConstruct
+    void init() {
+        Retrofit retrofit = OpenAiService.defaultRetrofit(
+                        OpenAiService.defaultClient(apiKey, httpTimeout), OpenAiService.defaultObjectMapper())
+                .newBuilder()
+                .baseUrl(baseUrl)
+                .build();
+        openAiService = new OpenAiService(retrofit.create(OpenAiApi.class));
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        bulkhead = new Semaphore(maxInFlight);
+        requestBucket = new TokenBucket(requestsPerMinute);
+        tokenBucket = new TokenBucket(tokensPerMinute);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        Gauge.builder("llm.client.queue.size", queue, BlockingQueue::size)
+                .description("Completion requests waiting for admission")
+                .register(meterRegistry);
+        Gauge.builder("llm.client.in.flight", bulkhead, permits -> maxInFlight - permits.availablePermits())
+                .description("Completion requests currently sent upstream")
+                .register(meterRegistry);
+        Gauge.builder("llm.client.tokens.available", tokenBucket, TokenBucket::available)
+                .description("Tokens left in the per-minute token bucket")
+                .register(meterRegistry);
+        queueWait = Timer.builder("llm.client.queue.wait")
+                .description("Time from submission until a request is sent upstream")
+                .register(meterRegistry);
+        upstreamLatency = Timer.builder("llm.client.upstream")
+                .description("Latency of upstream completion calls")
+                .register(meterRegistry);
+        rejectedQueueFull = rejectionCounter("queue_full");
+        expired = rejectionCounter("deadline");
+        failures = Counter.builder("llm.client.failures")
+                .description("Upstream completion calls that failed")
+                .register(meterRegistry);
+
+        dispatcher = new Thread(this::dispatchLoop, "llm-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        executor.shutdownNow();
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(new RejectedExecutionException("LLM client shutting down"));
+        }
+    }
+
+    /**
+     * Queue a completion. The future fails if the request cannot be sent before the deadline;
+     * cancelling it drops a queued request or interrupts a running one.
+     */
+    public CompletableFuture<String> complete(AiUseCase useCase, ChatCompletionRequest request, Duration deadline) {
+        return submit(useCase, request, deadline, null);
+    }
+
+    /**
+     * Queue a streamed completion. Each content delta goes to onDelta on the calling virtual thread;
+     * the future completes with the full content once the stream ends. An exception thrown by onDelta
+     * aborts the stream.
+     */
+    public CompletableFuture<String> stream(AiUseCase useCase, ChatCompletionRequest request, Duration deadline,
+                                            Consumer<String> onDelta) {
+        return submit(useCase, request, deadline, onDelta);
+    }
+
+    private CompletableFuture<String> submit(AiUseCase useCase, ChatCompletionRequest request, Duration deadline,
+                                             Consumer<String> onDelta) {
+        long now = System.nanoTime();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Pending pending = new Pending(useCase, request, estimateTokens(request), now + deadline.toNanos(), now, onDelta, result);
+        if (!queue.offer(pending)) {
+            rejectedQueueFull.increment();
+            RejectedExecutionException rejection = new RejectedExecutionException("LLM request queue is full");
+            aiMetrics.recordRejected(useCase, rejection);
+            result.completeExceptionally(rejection);
+        }
+        return result;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            Pending pending;
+            try {
+                pending = queue.take();
+                dispatch(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("LLM dispatcher error", e);
+            }
+        }
+    }
+
+    /**
+     * Waits for rate limit and bulkhead capacity, then starts the call. Requests are admitted in
+     * arrival order, so the head of the queue holds back the rest while it waits for quota.
+     */
+    private void dispatch(Pending pending) throws InterruptedException {
+        while (true) {
+            if (pending.result().isDone()) {
+                return; // Cancelled while queued
+            }
+            long remaining = pending.deadline() - System.nanoTime();
+            long wait = Math.max(requestBucket.nanosUntilAvailable(1),
+                    tokenBucket.nanosUntilAvailable(pending.estimatedTokens()));
+            if (wait > remaining) {
+                expire(pending);
+                return;
+            }
+            if (wait == 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+
+        if (!bulkhead.tryAcquire(Math.max(0, pending.deadline() - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            expire(pending);
+            return;
+        }
+        requestBucket.take(1);
+        tokenBucket.take(pending.estimatedTokens());
+        queueWait.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+
+        // Whoever claims the call releases the permit: the task once it starts, or the cancel hook when
+        // the result is cancelled before the task runs (a cancelled task never runs, so never releases)
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<?> call = executor.submit(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            long started = System.nanoTime();
+            try {
+                String content = pending.onDelta() != null ? callStreaming(pending) : call(pending);
+                recordUpstream(pending, started, null);
+                pending.result().complete(content);
+            } catch (Exception e) {
+                failures.increment();
+                recordUpstream(pending, started, e);
+                pending.result().completeExceptionally(e);
+            } finally {
+                bulkhead.release();
+            }
+        });
+        pending.result().whenComplete((content, error) -> {
+            if (pending.result().isCancelled()) {
+                call.cancel(true);
+                if (claimed.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            }
+        });
+    }
+
+    private String call(Pending pending) {
+        ChatCompletionResult completion = openAiService.createChatCompletion(pending.request());
+        if (completion.getUsage() != null) {
+            tokenBucket.adjust(completion.getUsage().getTotalTokens() - pending.estimatedTokens());
+            aiMetrics.recordUsage(pending.useCase(), pending.request().getModel(),
+                    completion.getUsage().getPromptTokens(), completion.getUsage().getCompletionTokens());
+        }
+        return completion.getChoices().get(0).getMessage().getContent();
+    }
+
+    /**
+     * Blocks the virtual thread on the event stream; streamed chunks carry no usage, so the estimate stands
+     * for rate limiting and usage is recorded from text length
+     */
+    private String callStreaming(Pending pending) {
+        StringBuilder content = new StringBuilder();
+        openAiService.streamChatCompletion(pending.request()).blockingForEach(chunk -> {
+            if (chunk.getChoices() == null || chunk.getChoices().isEmpty()) {
+                return;
+            }
+            ChatMessage delta = chunk.getChoices().get(0).getMessage();
+            if (delta != null && delta.getContent() != null && !delta.getContent().isEmpty()) {
+                content.append(delta.getContent());
+                pending.onDelta().accept(delta.getContent());
+            }
+        });
+        aiMetrics.recordUsage(pending.useCase(), pending.request().getModel(),
+                promptChars(pending.request()) / CHARS_PER_TOKEN, content.length() / CHARS_PER_TOKEN);
+        return content.toString();
+    }
+
+    private void expire(Pending pending) {
+        expired.increment();
+        TimeoutException timeout = new TimeoutException("LLM request could not start before its deadline");
+        aiMetrics.recordRejected(pending.useCase(), timeout);
+        pending.result().completeExceptionally(timeout);
+    }
+
+    private void recordUpstream(Pending pending, long started, Throwable error) {
+        long elapsed = System.nanoTime() - started;
+        upstreamLatency.record(elapsed, TimeUnit.NANOSECONDS);
+        aiMetrics.recordUpstream(pending.useCase(), pending.request().getModel(), elapsed, error);
+    }
+
+    /**
+     * Prompt tokens estimated from message length, plus the completion budget
+     */
+    private static int estimateTokens(ChatCompletionRequest request) {
+        int completionBudget = request.getMaxTokens() != null ? request.getMaxTokens() : 0;
+        return promptChars(request) / CHARS_PER_TOKEN + completionBudget;
+    }
+
+    private static int promptChars(ChatCompletionRequest request) {
+        return request.getMessages().stream()
+                .map(ChatMessage::getContent)
+                .mapToInt(content -> content != null ? content.length() : 0)
+                .sum();
+    }
+
+    private Counter rejectionCounter(String reason) {
+        return Counter.builder("llm.client.rejected")
+                .description("Completion requests refused before reaching the provider")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.careeros.service.ai;
+
+/**
+ * A completion that does not contain the JSON the prompt asked for
+ */
+public class MalformedCompletionException extends RuntimeException {
+
+    public MalformedCompletionException(String message) {
+        super(message);
+    }
+
+    public MalformedCompletionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,96 @@
+package com.careeros.service.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Groups items submitted close together into batches handled by one call. A batch is flushed when it
+ * reaches the size limit or when the window since its first item elapses, whichever comes first.
+ * The handler returns one result per item, in submission order.
+ */
+public class MicroBatcher<T, R> {
+
+    private record Entry<T, R>(T item, CompletableFuture<R> result) {}
+
+    private final int maxBatchSize;
+    private final Duration window;
+    private final ScheduledExecutorService scheduler;
+    private final Function<List<T>, CompletableFuture<List<R>>> handler;
+
+    private List<Entry<T, R>> pending = new ArrayList<>(); // Guarded by this
+    private ScheduledFuture<?> scheduledFlush; // Guarded by this
+
+    public MicroBatcher(int maxBatchSize, Duration window, ScheduledExecutorService scheduler,
+                        Function<List<T>, CompletableFuture<List<R>>> handler) {
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.scheduler = scheduler;
+        this.handler = handler;
+    }
+
+    public CompletableFuture<R> submit(T item) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        List<Entry<T, R>> full = null;
+        synchronized (this) {
+            pending.add(new Entry<>(item, result));
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    private void flush() {
+        List<Entry<T, R>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    private List<Entry<T, R>> drain() {
+        List<Entry<T, R>> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Entry<T, R>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<List<R>> results;
+        try {
+            results = handler.apply(batch.stream().map(Entry::item).toList());
+        } catch (RuntimeException e) {
+            results = CompletableFuture.failedFuture(e);
+        }
+
+        results.whenComplete((values, error) -> {
+            for (int i = 0; i < batch.size(); i++) {
+                if (error != null) {
+                    batch.get(i).result().completeExceptionally(error);
+                } else if (values == null || i >= values.size()) {
+                    batch.get(i).result().completeExceptionally(new IllegalStateException("Batch returned no result for item"));
+                } else {
+                    batch.get(i).result().complete(values.get(i));
+                }
+            }
+        });
+    }
+}
@@ -4,32 +4,49 @@ import com.careeros.dto.ai.ResumeAnalysisRequest;
 import com.careeros.dto.ai.ResumeAnalysisResponse;
 import com.careeros.dto.ai.SkillRecommendationRequest;
 import com.careeros.dto.ai.SkillRecommendationResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
-import com.theokanning.openai.completion.chat.ChatCompletionResult;
 import com.theokanning.openai.completion.chat.ChatMessage;
-import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * OpenAI service for AI-powered features
- * Handles skill recommendations and resume analysis
+ * Handles skill recommendations and resume analysis. Completions go through {@link PromptCache}, and
+ * identical prompts already in flight share one upstream call through {@link LlmClient}. Short
+ * generation tasks can be micro-batched into one multi-item prompt with {@link #generateBatched}.
  */
 @Service
 public class OpenAIService {
 
     private static final Logger logger = LoggerFactory.getLogger(OpenAIService.class);
 
-    @Value("${ai.openai.api-key}")
-    private String openAiApiKey;
+    private static final String SYSTEM_MESSAGE =
+            "You are a professional career development AI assistant with expertise in skill development and resume optimization.";
+
+    private static final Pattern JSON_ARRAY = Pattern.compile("\\[.*]", Pattern.DOTALL);
 
     @Value("${ai.openai.model:gpt-4-turbo-preview}")
     private String model;
@@ -40,26 +57,101 @@ public class OpenAIService {
     @Value("${ai.openai.temperature:0.7}")
     private Double temperature;
 
-    private OpenAiService openAiService;
+    @Value("${ai.openai.request-timeout:45s}")
+    private Duration requestTimeout;
+
+    @Value("${ai.openai.stream-timeout:120s}")
+    private Duration streamTimeout;
+
+    @Value("${ai.openai.batching.max-batch-size:8}")
+    private int maxBatchSize;
+
+    @Value("${ai.openai.batching.window:50ms}")
+    private Duration batchWindow;
+
+    @Value("${ai.openai.batching.max-tokens-per-item:300}")
+    private int maxTokensPerItem;
+
+    @Autowired
+    private PromptCache promptCache;
+
+    @Autowired
+    private LlmClient llmClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AiMetrics aiMetrics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private SingleFlight<String, String> inFlightCompletions;
+
+    private ScheduledExecutorService batchScheduler;
+    private final Map<AiUseCase, MicroBatcher<BatchTask, String>> batchers = new EnumMap<>(AiUseCase.class);
+
+    /**
+     * A batched prompt and the System.nanoTime() at which its caller stops waiting for it
+     */
+    private record BatchTask(String prompt, long deadline) {
+        Duration remaining() {
+            return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        }
+    }
 
-    private OpenAiService getOpenAiService() {
-        if (openAiService == null) {
-            openAiService = new OpenAiService(openAiApiKey, Duration.ofSeconds(30));
+    @PostConstruct
+    void init() {
+        inFlightCompletions = new SingleFlight<>("openai-completions", meterRegistry);
+        batchScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "llm-batch-window");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (AiUseCase useCase : AiUseCase.values()) {
+            batchers.put(useCase, new MicroBatcher<>(maxBatchSize, batchWindow, batchScheduler,
+                    tasks -> completeBatch(useCase, tasks)));
         }
-        return openAiService;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchScheduler.shutdownNow();
+    }
+
+    /**
+     * Short generation task that may share one LLM call with other tasks of the same use case submitted
+     * within the batching window. Each task is cached on its own prompt, like a single call.
+     */
+    public CompletableFuture<String> generateBatched(AiUseCase useCase, String prompt) {
+        String key = PromptCache.key(model, temperature, maxTokens, SYSTEM_MESSAGE, prompt);
+        String cached = promptCache.getIfPresent(useCase, key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long start = System.nanoTime();
+        return batchers.get(useCase).submit(new BatchTask(prompt, start + requestTimeout.toNanos())).thenApply(response -> {
+            promptCache.put(useCase, key, response, System.nanoTime() - start);
+            return response;
+        });
     }
 
     /**
      * Generate skill recommendations based on user profile and career goals
      */
-    @Cacheable(value = "skillRecommendations", key = "#request.userId + '_' + #request.careerGoal")
     public SkillRecommendationResponse getSkillRecommendations(SkillRecommendationRequest request) {
+        Timer.Sample sample = aiMetrics.start();
         try {
             String prompt = buildSkillRecommendationPrompt(request);
-            String response = callOpenAI(prompt);
-            return parseSkillRecommendationResponse(response);
+            SkillRecommendationResponse recommendations = callOpenAI(AiUseCase.SKILL_RECOMMENDATIONS, prompt,
+                    this::parseSkillRecommendationResponse);
+            aiMetrics.recordSuccess(sample, AiUseCase.SKILL_RECOMMENDATIONS);
+            return recommendations;
         } catch (Exception e) {
             logger.error("Error generating skill recommendations", e);
+            aiMetrics.recordFallback(sample, AiUseCase.SKILL_RECOMMENDATIONS, e);
             return createFallbackSkillRecommendations(request);
         }
     }
@@ -68,16 +160,36 @@ public class OpenAIService {
      * Analyze resume for ATS compliance and provide improvement suggestions
      */
     public ResumeAnalysisResponse analyzeResume(ResumeAnalysisRequest request) {
+        Timer.Sample sample = aiMetrics.start();
         try {
             String prompt = buildResumeAnalysisPrompt(request);
-            String response = callOpenAI(prompt);
-            return parseResumeAnalysisResponse(response);
+            ResumeAnalysisResponse analysis = callOpenAI(AiUseCase.RESUME_ANALYSIS, prompt,
+                    this::parseResumeAnalysisResponse);
+            aiMetrics.recordSuccess(sample, AiUseCase.RESUME_ANALYSIS);
+            return analysis;
         } catch (Exception e) {
             logger.error("Error analyzing resume", e);
+            aiMetrics.recordFallback(sample, AiUseCase.RESUME_ANALYSIS, e);
             return createFallbackResumeAnalysis(request);
         }
     }
 
+    /**
+     * Streamed variant of {@link #getSkillRecommendations}: relays tokens and completed sections over SSE
+     */
+    public SseEmitter streamSkillRecommendations(SkillRecommendationRequest request) {
+        return streamOpenAI(AiUseCase.SKILL_RECOMMENDATIONS, buildSkillRecommendationPrompt(request),
+                this::parseSkillRecommendationResponse);
+    }
+
+    /**
+     * Streamed variant of {@link #analyzeResume}: relays tokens and completed sections over SSE
+     */
+    public SseEmitter streamResumeAnalysis(ResumeAnalysisRequest request) {
+        return streamOpenAI(AiUseCase.RESUME_ANALYSIS, buildResumeAnalysisPrompt(request),
+                this::parseResumeAnalysisResponse);
+    }
+
     private String buildSkillRecommendationPrompt(SkillRecommendationRequest request) {
         StringBuilder prompt = new StringBuilder();
         prompt.append("You are a career development AI assistant. Based on the following user profile, ");
@@ -97,6 +209,10 @@ public class OpenAIService {
             prompt.append("- Interests: ").append(String.join(", ", request.getInterests())).append("\n");
         }
 
+        if (request.getAdditionalContext() != null && !request.getAdditionalContext().isEmpty()) {
+            prompt.append("\n").append(request.getAdditionalContext()).append("\n");
+        }
+
         prompt.append("\nPlease provide recommendations in the following JSON format:\n");
         prompt.append("{\n");
         prompt.append("  \"recommendations\": [\n");
@@ -159,154 +275,174 @@ public class OpenAIService {
         return prompt.toString();
     }
 
-    private String callOpenAI(String prompt) {
-        ChatMessage systemMessage = new ChatMessage("system", 
-            "You are a professional career development AI assistant with expertise in skill development and resume optimization.");
+    /**
+     * Completion for a prompt, served from the prompt cache when an identical prompt was answered before.
+     * On a miss, concurrent callers with the same prompt wait on a single upstream request.
+     */
+    private <T> T callOpenAI(AiUseCase useCase, String prompt, Function<String, T> parser) {
+        String key = PromptCache.key(model, temperature, maxTokens, SYSTEM_MESSAGE, prompt);
+        return promptCache.get(useCase, key,
+                () -> inFlightCompletions.execute(key, () -> createChatCompletion(useCase, prompt), requestTimeout),
+                parser);
+    }
+
+    /**
+     * Streams a completion to an SSE emitter. A cached response is sent whole; otherwise the upstream
+     * stream runs on the LLM client's virtual threads and the servlet thread is released at once.
+     * The upstream call is cancelled if the client disconnects.
+     */
+    private <T> SseEmitter streamOpenAI(AiUseCase useCase, String prompt, Function<String, T> parser) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        CompletionStream stream = new CompletionStream(emitter, useCase, objectMapper, meterRegistry);
+        String key = PromptCache.key(model, temperature, maxTokens, SYSTEM_MESSAGE, prompt);
+
+        String cached = promptCache.getIfPresent(useCase, key);
+        if (cached != null) {
+            try {
+                stream.delta(cached);
+                stream.complete(parser.apply(cached));
+            } catch (RuntimeException e) {
+                stream.fail(e);
+            }
+            return emitter;
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<String> completion = llmClient.stream(useCase, buildChatCompletionRequest(prompt), requestTimeout, stream::delta);
+        completion.whenComplete((response, error) -> {
+            if (error != null) {
+                stream.fail(error);
+                return;
+            }
+            T result;
+            try {
+                result = parser.apply(response);
+            } catch (RuntimeException e) {
+                // Not cached, so the next request asks the model again
+                stream.fail(e);
+                return;
+            }
+            promptCache.put(useCase, key, response, System.nanoTime() - start);
+            stream.complete(result);
+        });
+        emitter.onCompletion(() -> completion.cancel(true));
+        emitter.onTimeout(() -> completion.cancel(true));
+        emitter.onError(e -> completion.cancel(true));
+        return emitter;
+    }
+
+    private CompletableFuture<String> createChatCompletion(AiUseCase useCase, String prompt) {
+        return llmClient.complete(useCase, buildChatCompletionRequest(prompt, maxTokens), requestTimeout);
+    }
+
+    private ChatCompletionRequest buildChatCompletionRequest(String prompt) {
+        return buildChatCompletionRequest(prompt, maxTokens);
+    }
+
+    private ChatCompletionRequest buildChatCompletionRequest(String prompt, int completionTokens) {
+        ChatMessage systemMessage = new ChatMessage("system", SYSTEM_MESSAGE);
         ChatMessage userMessage = new ChatMessage("user", prompt);
 
-        ChatCompletionRequest chatCompletionRequest = ChatCompletionRequest.builder()
+        return ChatCompletionRequest.builder()
                 .model(model)
                 .messages(Arrays.asList(systemMessage, userMessage))
-                .maxTokens(maxTokens)
+                .maxTokens(completionTokens)
                 .temperature(temperature)
                 .build();
-
-        ChatCompletionResult result = getOpenAiService().createChatCompletion(chatCompletionRequest);
-        return result.getChoices().get(0).getMessage().getContent();
     }
 
-    private SkillRecommendationResponse parseSkillRecommendationResponse(String response) {
-        try {
-            // Extract JSON from response
-            String jsonStr = extractJsonFromResponse(response);
-            
-            // Parse the response (simplified parsing - in production, use Jackson ObjectMapper)
-            SkillRecommendationResponse skillResponse = new SkillRecommendationResponse();
-            
-            // This is a simplified parser - implement proper JSON parsing
-            skillResponse.setRecommendations(parseSkillRecommendations(jsonStr));
-            skillResponse.setLearningPath(extractLearningPath(jsonStr));
-            skillResponse.setCareerImpact(extractCareerImpact(jsonStr));
-            
-            return skillResponse;
-        } catch (Exception e) {
-            logger.error("Error parsing skill recommendation response", e);
-            throw new RuntimeException("Failed to parse AI response", e);
+    /**
+     * One call for a batch of tasks, answered as a JSON array of {id, output}. Tasks missing from the
+     * answer, or all of them if it cannot be parsed, fall back to individual calls. Every call gets only
+     * what is left of its callers' deadline, so a fallback is never sent for a caller that has given up.
+     */
+    private CompletableFuture<List<String>> completeBatch(AiUseCase useCase, List<BatchTask> tasks) {
+        DistributionSummary.builder("ai.batch.size")
+                .description("Tasks per batched LLM call")
+                .tag("use_case", useCase.key())
+                .register(meterRegistry)
+                .record(tasks.size());
+        if (tasks.size() == 1) {
+            BatchTask task = tasks.get(0);
+            return llmClient.complete(useCase, buildChatCompletionRequest(task.prompt()), task.remaining()).thenApply(List::of);
         }
-    }
 
-    private ResumeAnalysisResponse parseResumeAnalysisResponse(String response) {
-        try {
-            // Extract JSON from response
-            String jsonStr = extractJsonFromResponse(response);
-            
-            // Parse the response (simplified parsing - in production, use Jackson ObjectMapper)
-            ResumeAnalysisResponse analysisResponse = new ResumeAnalysisResponse();
-            
-            // Extract ATS score
-            Pattern scorePattern = Pattern.compile("\"atsScore\"\\s*:\\s*(\\d+)");
-            Matcher scoreMatcher = scorePattern.matcher(jsonStr);
-            if (scoreMatcher.find()) {
-                analysisResponse.setAtsScore(Integer.parseInt(scoreMatcher.group(1)));
-            }
-            
-            // Extract overall feedback
-            analysisResponse.setOverallFeedback(extractStringValue(jsonStr, "overallFeedback"));
-            
-            // Extract strengths and weaknesses
-            analysisResponse.setStrengths(extractArrayValues(jsonStr, "strengths"));
-            analysisResponse.setWeaknesses(extractArrayValues(jsonStr, "weaknesses"));
-            
-            // Extract recommendations
-            analysisResponse.setRecommendations(parseRecommendations(jsonStr));
-            
-            return analysisResponse;
-        } catch (Exception e) {
-            logger.error("Error parsing resume analysis response", e);
-            throw new RuntimeException("Failed to parse AI response", e);
-        }
+        List<String> prompts = tasks.stream().map(BatchTask::prompt).toList();
+        // The oldest task has the least time left
+        Duration batchDeadline = tasks.stream().map(BatchTask::remaining).min(Comparator.naturalOrder()).orElse(requestTimeout);
+        int completionTokens = maxTokensPerItem * prompts.size();
+        return llmClient.complete(useCase, buildChatCompletionRequest(buildBatchPrompt(prompts), completionTokens), batchDeadline)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        logger.warn("Batched {} call failed, retrying {} tasks individually: {}",
+                                useCase.key(), prompts.size(), error.getMessage());
+                        return Map.<Integer, String>of();
+                    }
+                    return parseBatchResponse(response, prompts.size());
+                })
+                .thenCompose(outputs -> {
+                    batchItemCounter(useCase, "batched").increment(outputs.size());
+                    batchItemCounter(useCase, "fallback").increment(prompts.size() - outputs.size());
+
+                    List<CompletableFuture<String>> results = new ArrayList<>(prompts.size());
+                    for (int i = 0; i < prompts.size(); i++) {
+                        String output = outputs.get(i);
+                        results.add(output != null ? CompletableFuture.completedFuture(output)
+                                : llmClient.complete(useCase, buildChatCompletionRequest(prompts.get(i)), tasks.get(i).remaining()));
+                    }
+                    return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                            .thenApply(done -> results.stream().map(CompletableFuture::join).toList());
+                });
     }
 
-    private String extractJsonFromResponse(String response) {
-        // Find JSON content between { and }
-        int start = response.indexOf('{');
-        int end = response.lastIndexOf('}');
-        if (start != -1 && end != -1 && end > start) {
-            return response.substring(start, end + 1);
+    private String buildBatchPrompt(List<String> prompts) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("Complete each of the following ").append(prompts.size()).append(" tasks independently.\n");
+        prompt.append("Reply with only a JSON array containing one object per task, in the form ");
+        prompt.append("[{\"id\": 1, \"output\": \"...\"}], where output is the plain-text answer to that task.\n\n");
+        for (int i = 0; i < prompts.size(); i++) {
+            prompt.append("Task ").append(i + 1).append(":\n").append(prompts.get(i).trim()).append("\n\n");
         }
-        return response;
+        return prompt.toString();
     }
 
-    private List<SkillRecommendationResponse.SkillRecommendation> parseSkillRecommendations(String jsonStr) {
-        List<SkillRecommendationResponse.SkillRecommendation> recommendations = new ArrayList<>();
-        
-        // Simplified parsing - implement proper JSON parsing in production
-        Pattern pattern = Pattern.compile("\"skillName\"\\s*:\\s*\"([^\"]+)\"");
-        Matcher matcher = pattern.matcher(jsonStr);
-        
-        while (matcher.find()) {
-            SkillRecommendationResponse.SkillRecommendation recommendation = 
-                new SkillRecommendationResponse.SkillRecommendation();
-            recommendation.setSkillName(matcher.group(1));
-            recommendation.setPriority("HIGH"); // Default values
-            recommendation.setCategory("PROGRAMMING_LANGUAGES");
-            recommendation.setReason("AI-recommended skill for career advancement");
-            recommendations.add(recommendation);
+    /**
+     * Outputs by task index; tasks with a missing, blank or unparseable answer are left out
+     */
+    private Map<Integer, String> parseBatchResponse(String response, int size) {
+        Map<Integer, String> outputs = new HashMap<>();
+        Matcher matcher = JSON_ARRAY.matcher(response != null ? response : "");
+        if (!matcher.find()) {
+            return outputs;
         }
-        
-        return recommendations;
-    }
-
-    private String extractStringValue(String jsonStr, String key) {
-        Pattern pattern = Pattern.compile("\"" + key + "\"\\s*:\\s*\"([^\"]+)\"");
-        Matcher matcher = pattern.matcher(jsonStr);
-        return matcher.find() ? matcher.group(1) : "";
-    }
-
-    private List<String> extractArrayValues(String jsonStr, String key) {
-        List<String> values = new ArrayList<>();
-        Pattern pattern = Pattern.compile("\"" + key + "\"\\s*:\\s*\\[([^\\]]+)\\]");
-        Matcher matcher = pattern.matcher(jsonStr);
-        
-        if (matcher.find()) {
-            String arrayContent = matcher.group(1);
-            Pattern valuePattern = Pattern.compile("\"([^\"]+)\"");
-            Matcher valueMatcher = valuePattern.matcher(arrayContent);
-            
-            while (valueMatcher.find()) {
-                values.add(valueMatcher.group(1));
+        try {
+            for (JsonNode item : objectMapper.readTree(matcher.group())) {
+                int id = item.path("id").asInt(0);
+                String output = item.path("output").asText("");
+                if (id >= 1 && id <= size && !output.isBlank()) {
+                    outputs.put(id - 1, output.trim());
+                }
             }
+        } catch (Exception e) {
+            logger.warn("Could not parse batched LLM response: {}", e.getMessage());
         }
-        
-        return values;
+        return outputs;
     }
 
-    private String extractLearningPath(String jsonStr) {
-        return extractStringValue(jsonStr, "learningPath");
+    private Counter batchItemCounter(AiUseCase useCase, String mode) {
+        return Counter.builder("ai.batch.items")
+                .description("Batched tasks answered by the batch call or by an individual fallback call")
+                .tag("use_case", useCase.key())
+                .tag("mode", mode)
+                .register(meterRegistry);
     }
 
-    private String extractCareerImpact(String jsonStr) {
-        return extractStringValue(jsonStr, "careerImpact");
+    private SkillRecommendationResponse parseSkillRecommendationResponse(String response) {
+        return CompletionParser.parseSkillRecommendations(response);
     }
 
-    private List<ResumeAnalysisResponse.Recommendation> parseRecommendations(String jsonStr) {
-        List<ResumeAnalysisResponse.Recommendation> recommendations = new ArrayList<>();
-        
-        // Simplified parsing - implement proper JSON parsing in production
-        Pattern pattern = Pattern.compile("\"suggestion\"\\s*:\\s*\"([^\"]+)\"");
-        Matcher matcher = pattern.matcher(jsonStr);
-        
-        while (matcher.find()) {
-            ResumeAnalysisResponse.Recommendation recommendation = 
-                new ResumeAnalysisResponse.Recommendation();
-            recommendation.setSuggestion(matcher.group(1));
-            recommendation.setPriority("MEDIUM"); // Default values
-            recommendation.setCategory("CONTENT");
-            recommendation.setImpact("Moderate improvement expected");
-            recommendations.add(recommendation);
-        }
-        
-        return recommendations;
+    private ResumeAnalysisResponse parseResumeAnalysisResponse(String response) {
+        return CompletionParser.parseResumeAnalysis(response);
     }
 
     private SkillRecommendationResponse createFallbackSkillRecommendations(SkillRecommendationRequest request) {
@@ -358,18 +494,52 @@ public class OpenAIService {
      */
     public String generateJobMarketInsights(com.careeros.entity.User user, java.util.List<com.careeros.entity.JobPosting> jobs, java.util.List<com.careeros.entity.UserSkill> userSkills) {
         logger.info("Generating job market insights for user {}", user.getId());
-        
-        // In production, this would make API calls to OpenAI/Claude
-        return "Based on your skills and current market trends, here are key insights about job opportunities...";
+
+        Timer.Sample sample = aiMetrics.start();
+        try {
+            // Sorted so the same skills and postings always produce the same prompt
+            String skills = userSkills.stream()
+                    .map(userSkill -> userSkill.getSkill().getName())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            String postings = jobs.stream()
+                    .limit(20)
+                    .map(job -> "- " + job.getTitle() + " at " + job.getCompany()
+                            + (job.getLocation() != null ? " (" + job.getLocation() + ")" : ""))
+                    .sorted()
+                    .collect(Collectors.joining("\n"));
+
+            String prompt = "Summarize the job market for a candidate with these skills: " +
+                    (skills.isEmpty() ? "none listed" : skills) + ".\n\n" +
+                    "Current matching postings:\n" + postings + "\n\n" +
+                    "Give 3-5 short insights on demand, skills to strengthen and roles to target.";
+            String insights = generateBatched(AiUseCase.JOB_MARKET_INSIGHTS, prompt)
+                    .get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            aiMetrics.recordSuccess(sample, AiUseCase.JOB_MARKET_INSIGHTS);
+            return insights;
+        } catch (Exception e) {
+            logger.error("Error generating job market insights", e);
+            aiMetrics.recordFallback(sample, AiUseCase.JOB_MARKET_INSIGHTS, e);
+            return "Based on your skills and current market trends, here are key insights about job opportunities...";
+        }
     }
 
     /**
      * Generate mentorship match explanation
      */
     public String generateMentorshipMatchExplanation(com.careeros.entity.User mentee, com.careeros.dto.mentorship.MentorshipMatchResponse matchResponse, com.careeros.dto.mentorship.MentorshipMatchRequest request) {
+        return generateMentorshipMatchExplanationAsync(mentee, matchResponse, request).join();
+    }
+
+    /**
+     * Mentorship match explanation, batched with other explanations requested at the same time.
+     * Completes with a templated explanation if generation fails.
+     */
+    public CompletableFuture<String> generateMentorshipMatchExplanationAsync(com.careeros.entity.User mentee, com.careeros.dto.mentorship.MentorshipMatchResponse matchResponse, com.careeros.dto.mentorship.MentorshipMatchRequest request) {
         logger.info("Generating mentorship match explanation for mentee {} and mentor {}", 
                    mentee.getId(), matchResponse.getMentorId());
         
+        Timer.Sample sample = aiMetrics.start();
         try {
             String prompt = String.format(
                 "Explain why %s would be a good mentor match for %s based on compatibility score %.2f, " +
@@ -382,9 +552,7 @@ public class OpenAIService {
                 request.getGoals() != null ? String.join(", ", request.getGoals()) : "General mentorship",
                 matchResponse.getMatchReasons() != null ? String.join(", ", matchResponse.getMatchReasons()) : "Compatibility"
             );
-            
-            // In production, use actual OpenAI API call
-            return String.format(
+            String fallback = String.format(
                 "%s is an excellent mentor match for you with a %.0f%% compatibility score. " +
                 "Their expertise in %s aligns perfectly with your goals. " +
                 "This mentorship could significantly accelerate your professional growth.",
@@ -393,10 +561,43 @@ public class OpenAIService {
                 matchResponse.getMentorStrengths().isEmpty() ? "various areas" : 
                 String.join(" and ", matchResponse.getMentorStrengths().subList(0, Math.min(2, matchResponse.getMentorStrengths().size())))
             );
-            
+
+            return generateBatched(AiUseCase.MENTORSHIP_EXPLANATION, prompt)
+                    .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .handle((explanation, error) -> {
+                        if (error != null) {
+                            logger.error("Error generating mentorship match explanation", error);
+                            aiMetrics.recordFallback(sample, AiUseCase.MENTORSHIP_EXPLANATION, error);
+                            return fallback;
+                        }
+                        if (explanation == null || explanation.isBlank()) {
+                            aiMetrics.recordFallback(sample, AiUseCase.MENTORSHIP_EXPLANATION,
+                                    new MalformedCompletionException("Empty mentorship explanation"));
+                            return fallback;
+                        }
+                        aiMetrics.recordSuccess(sample, AiUseCase.MENTORSHIP_EXPLANATION);
+                        return explanation.trim();
+                    });
         } catch (Exception e) {
             logger.error("Error generating mentorship match explanation", e);
-            return "This mentor appears to be a great match based on your profile and goals.";
+            aiMetrics.recordFallback(sample, AiUseCase.MENTORSHIP_EXPLANATION, e);
+            return CompletableFuture.completedFuture("This mentor appears to be a great match based on your profile and goals.");
         }
     }
+
+    /**
+     * Feedback on a completed skill assessment, batched with other assessments evaluated at the same time
+     */
+    public CompletableFuture<String> generateAssessmentFeedback(String prompt) {
+        Timer.Sample sample = aiMetrics.start();
+        return generateBatched(AiUseCase.ASSESSMENT_FEEDBACK, prompt)
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((feedback, error) -> {
+                    if (error != null) {
+                        aiMetrics.recordFallback(sample, AiUseCase.ASSESSMENT_FEEDBACK, error); // Caller falls back to a basic evaluation
+                    } else {
+                        aiMetrics.recordSuccess(sample, AiUseCase.ASSESSMENT_FEEDBACK);
+                    }
+                });
+    }
 }
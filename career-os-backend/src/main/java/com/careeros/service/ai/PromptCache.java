@@ -0,0 +1,250 @@
+package com.careeros.service.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of LLM responses keyed by a hash of the normalized prompt and generation settings.
+ * L1 is a local Caffeine cache bounded by total response size; L2 is Redis, shared across instances.
+ * Entries expire after a per use case TTL. Cache failures never fail the LLM call.
+ */
+@Component
+public class PromptCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PromptCache.class);
+
+    private static final String KEY_PREFIX = "ai:prompt:";
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${ai.openai.prompt-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.openai.prompt-cache.l1-max-chars:20000000}")
+    private long l1MaxChars;
+
+    @Value("${ai.openai.prompt-cache.l1-max-ttl:1h}")
+    private Duration l1MaxTtl;
+
+    private Cache<String, CachedResponse> l1;
+
+    private final Map<AiUseCase, Duration> ttls = new EnumMap<>(AiUseCase.class);
+    private final Map<AiUseCase, UseCaseMetrics> metrics = new EnumMap<>(AiUseCase.class);
+
+    private record CachedResponse(String text, AiUseCase useCase) {}
+
+    private static class UseCaseMetrics {
+        Counter l1Hits;
+        Counter l2Hits;
+        Counter misses;
+        Timer load;
+        Counter savedSeconds;
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong lookups = new AtomicLong();
+    }
+
+    @PostConstruct
+    void init() {
+        l1 = Caffeine.newBuilder()
+                .maximumWeight(l1MaxChars)
+                .weigher((String key, CachedResponse value) -> value.text().length())
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return l1Ttl(value.useCase()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return l1Ttl(value.useCase()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "ai-prompt-l1");
+
+        for (AiUseCase useCase : AiUseCase.values()) {
+            ttls.put(useCase, environment.getProperty("ai.openai.prompt-cache.ttl." + useCase.key(), Duration.class, useCase.defaultTtl()));
+
+            UseCaseMetrics useCaseMetrics = new UseCaseMetrics();
+            useCaseMetrics.l1Hits = requestCounter(useCase, "l1_hit");
+            useCaseMetrics.l2Hits = requestCounter(useCase, "l2_hit");
+            useCaseMetrics.misses = requestCounter(useCase, "miss");
+            useCaseMetrics.load = Timer.builder("ai.prompt.cache.load")
+                    .description("LLM latency of prompt cache misses")
+                    .tag("use_case", useCase.key())
+                    .register(meterRegistry);
+            useCaseMetrics.savedSeconds = Counter.builder("ai.prompt.cache.saved.seconds")
+                    .description("LLM latency avoided by prompt cache hits, estimated from the mean miss latency")
+                    .tag("use_case", useCase.key())
+                    .register(meterRegistry);
+            Gauge.builder("ai.prompt.cache.hit.ratio", useCaseMetrics,
+                            m -> m.lookups.get() == 0 ? 0 : (double) m.hits.get() / m.lookups.get())
+                    .description("Share of prompt lookups served from L1 or L2")
+                    .tag("use_case", useCase.key())
+                    .register(meterRegistry);
+            metrics.put(useCase, useCaseMetrics);
+        }
+    }
+
+    /**
+     * Cache key for a prompt: whitespace-normalized prompt plus every setting that changes the completion
+     */
+    public static String key(String model, double temperature, int maxTokens, String systemMessage, String prompt) {
+        String material = model + '\n' + temperature + '\n' + maxTokens + '\n' + normalize(systemMessage) + '\n' + normalize(prompt);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Parsed cached response for the key, or the parsed loader's response. A loaded response is
+     * cached in both tiers only once it parses, so a malformed completion is asked for again.
+     */
+    public <T> T get(AiUseCase useCase, String key, Supplier<String> loader, Function<String, T> parser) {
+        if (!enabled) {
+            return parser.apply(loader.get());
+        }
+
+        String cached = getIfPresent(useCase, key);
+        if (cached != null) {
+            return parser.apply(cached);
+        }
+
+        long start = System.nanoTime();
+        String response = loader.get();
+        T result = parser.apply(response);
+        put(useCase, key, response, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Cached response for the key from either tier, or null. Callers that load on null report the
+     * result through {@link #put}.
+     */
+    public String getIfPresent(AiUseCase useCase, String key) {
+        if (!enabled) {
+            return null;
+        }
+
+        UseCaseMetrics useCaseMetrics = metrics.get(useCase);
+        useCaseMetrics.lookups.incrementAndGet();
+
+        CachedResponse local = l1.getIfPresent(key);
+        if (local != null) {
+            recordHit(useCaseMetrics, useCaseMetrics.l1Hits);
+            return local.text();
+        }
+
+        String shared = readL2(redisKey(useCase, key));
+        if (shared != null) {
+            l1.put(key, new CachedResponse(shared, useCase));
+            recordHit(useCaseMetrics, useCaseMetrics.l2Hits);
+            return shared;
+        }
+        return null;
+    }
+
+    /**
+     * Record a miss that took loadNanos to answer and cache the response in both tiers
+     */
+    public void put(AiUseCase useCase, String key, String response, long loadNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        UseCaseMetrics useCaseMetrics = metrics.get(useCase);
+        useCaseMetrics.misses.increment();
+        useCaseMetrics.load.record(loadNanos, TimeUnit.NANOSECONDS);
+        if (response != null && !response.isBlank()) {
+            l1.put(key, new CachedResponse(response, useCase));
+            writeL2(redisKey(useCase, key), response, ttls.get(useCase));
+        }
+    }
+
+    private static String redisKey(AiUseCase useCase, String key) {
+        return KEY_PREFIX + useCase.key() + ":" + key;
+    }
+
+    private void recordHit(UseCaseMetrics useCaseMetrics, Counter tierHits) {
+        tierHits.increment();
+        useCaseMetrics.hits.incrementAndGet();
+        useCaseMetrics.savedSeconds.increment(useCaseMetrics.load.mean(TimeUnit.SECONDS));
+    }
+
+    private String readL2(String redisKey) {
+        try {
+            Object value = redisTemplate.opsForValue().get(redisKey);
+            return value instanceof String text ? text : null;
+        } catch (Exception e) {
+            logger.warn("Prompt cache read from Redis failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(String redisKey, String response, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(redisKey, response, ttl);
+        } catch (Exception e) {
+            logger.warn("Prompt cache write to Redis failed: {}", e.getMessage());
+        }
+    }
+
+    private Duration l1Ttl(AiUseCase useCase) {
+        Duration ttl = ttls.getOrDefault(useCase, useCase.defaultTtl());
+        return ttl.compareTo(l1MaxTtl) < 0 ? ttl : l1MaxTtl;
+    }
+
+    private Counter requestCounter(AiUseCase useCase, String result) {
+        return Counter.builder("ai.prompt.cache.requests")
+                .description("Prompt cache lookups by outcome")
+                .tag("use_case", useCase.key())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.replace("\r\n", "\n").replaceAll("[ \\t]+", " ").replaceAll("\\n{3,}", "\n\n").trim();
+    }
+}
@@ -0,0 +1,147 @@
+package com.careeros.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key into one execution whose result every caller shares.
+ * The first caller for a key becomes the leader and starts the asynchronous call; callers arriving
+ * while it runs wait on the same future. Each caller waits up to its own timeout. The shared call is
+ * cancelled only once every caller waiting on it has timed out or been interrupted.
+ */
+public class SingleFlight<K, V> {
+
+    private static final class Flight<V> {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        volatile CompletableFuture<V> upstream;
+        int waiters = 1; // Guarded by this
+        boolean abandoned; // Guarded by this
+
+        synchronized boolean join() {
+            if (abandoned) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        /**
+         * Drops one waiter and reports whether it was the last one on an unfinished call
+         */
+        synchronized boolean leave() {
+            waiters--;
+            if (waiters == 0 && !result.isDone()) {
+                abandoned = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+    private final Counter cancelled;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = requestCounter(meterRegistry, name, "leader");
+        this.coalesced = requestCounter(meterRegistry, name, "coalesced");
+        this.timeouts = Counter.builder("singleflight.timeouts")
+                .description("Callers that stopped waiting before the shared call finished")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.cancelled = Counter.builder("singleflight.cancelled")
+                .description("Shared calls cancelled because every caller stopped waiting")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("singleflight.in.flight", inFlight, ConcurrentHashMap::size)
+                .description("Distinct calls currently running")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Result of the call for the key, shared with any concurrent callers using the same key
+     */
+    public V execute(K key, Supplier<CompletableFuture<V>> call, Duration timeout) {
+        boolean[] leader = {false};
+        Flight<V> flight = inFlight.compute(key, (k, existing) -> {
+            if (existing != null && existing.join()) {
+                return existing;
+            }
+            leader[0] = true;
+            return new Flight<>();
+        });
+
+        if (leader[0]) {
+            leaders.increment();
+            CompletableFuture<V> upstream;
+            try {
+                upstream = call.get();
+            } catch (RuntimeException e) {
+                upstream = CompletableFuture.failedFuture(e);
+            }
+            flight.upstream = upstream;
+            upstream.whenComplete((value, error) -> {
+                inFlight.remove(key, flight);
+                if (error != null) {
+                    flight.result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error);
+                } else {
+                    flight.result.complete(value);
+                }
+            });
+        } else {
+            coalesced.increment();
+        }
+
+        try {
+            V value = flight.result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            flight.leave();
+            return value;
+        } catch (ExecutionException e) {
+            flight.leave();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (CancellationException e) {
+            flight.leave();
+            throw new RuntimeException("Request was cancelled", e);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            abandon(key, flight);
+            throw new RuntimeException("Request timed out after " + timeout.toMillis() + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(key, flight);
+            throw new RuntimeException("Interrupted while waiting for request", e);
+        }
+    }
+
+    private void abandon(K key, Flight<V> flight) {
+        if (flight.leave()) {
+            inFlight.remove(key, flight);
+            flight.result.cancel(false);
+            if (flight.upstream != null) {
+                flight.upstream.cancel(true);
+            }
+            cancelled.increment();
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String name, String role) {
+        return Counter.builder("singleflight.requests")
+                .description("Calls by whether they started the shared call or joined one in flight")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
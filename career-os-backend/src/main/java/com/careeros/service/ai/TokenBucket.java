@@ -0,0 +1,54 @@
+package com.careeros.service.ai;
+
+/**
+ * Token bucket refilled continuously at a per-minute rate, matching how LLM providers state quotas.
+ * The balance may go negative when actual usage exceeds an estimate; later requests then wait it out.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long perMinute) {
+        this.capacity = perMinute;
+        this.refillPerNano = perMinute / 60_000_000_000.0;
+        this.tokens = perMinute;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Nanoseconds until the amount is available, 0 if it is available now.
+     * Amounts above the capacity only wait for a full bucket.
+     */
+    public synchronized long nanosUntilAvailable(double amount) {
+        refill();
+        double needed = Math.min(amount, capacity);
+        return tokens >= needed ? 0 : (long) Math.ceil((needed - tokens) / refillPerNano);
+    }
+
+    public synchronized void take(double amount) {
+        refill();
+        tokens -= amount;
+    }
+
+    /**
+     * Return unused tokens (negative delta) or charge extra ones (positive delta) after the fact
+     */
+    public synchronized void adjust(double delta) {
+        refill();
+        tokens = Math.min(capacity, tokens - delta);
+    }
+
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
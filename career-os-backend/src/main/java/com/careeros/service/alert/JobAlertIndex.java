@@ -0,0 +1,320 @@
+package com.careeros.service.alert;
+
+import com.careeros.service.geo.GeoPoint;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Percolator-style reverse index of job alert subscriptions (user skill profiles and saved searches).
+ * Instead of running every user's query against a new posting, the posting's skills are looked up
+ * in skill -> subscription posting lists and hits are counted per subscription in one pass.
+ * <p>
+ * Subscriptions live in an immutable snapshot of primitive arrays indexed by ordinal (about 100 bytes
+ * per subscription plus 4 bytes per skill), swapped atomically on rebuild. Changes between rebuilds
+ * go to a small overlay that shadows the user's snapshot entries.
+ */
+public class JobAlertIndex {
+
+    /**
+     * One standing query. Profile subscriptions have no searchId and match on skill overlap with the
+     * posting; saved searches match on coverage of their own skills, or on keywords alone.
+     */
+    public record Subscription(UUID userId, UUID searchId, Collection<String> skills, List<String> keywords,
+                               GeoPoint location, Double radiusKm, boolean remoteOnly, Double minSalary) {}
+
+    /**
+     * What the index needs to know about a posting
+     */
+    public record Posting(Set<String> skills, Set<String> titleTokens, GeoPoint location, boolean remote, Double annualSalary) {}
+
+    public record Match(UUID userId, UUID searchId, double score) {}
+
+    private static final byte FLAG_SAVED_SEARCH = 1;
+    private static final byte FLAG_REMOTE_ONLY = 2;
+
+    private volatile Snapshot snapshot = new Builder().build();
+
+    // Users changed since the snapshot was built -> their current subscriptions
+    private final ConcurrentHashMap<UUID, Overlay> overlay = new ConcurrentHashMap<>();
+
+    private record Overlay(List<Subscription> subscriptions, long updatedAtNanos) {}
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        short[] hits = new short[0];
+        int[] touched = new int[0];
+
+        void ensure(int size) {
+            if (hits.length < size) {
+                hits = new short[size];
+                touched = new int[size];
+            }
+        }
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Replace the whole index. Overlay entries older than the build start are dropped,
+     * since the new snapshot already reflects them.
+     */
+    public void replace(Builder builder, long buildStartedNanos) {
+        snapshot = builder.build();
+        overlay.values().removeIf(entry -> entry.updatedAtNanos() < buildStartedNanos);
+    }
+
+    /**
+     * Shadow a user's snapshot subscriptions with their current ones
+     */
+    public void updateUser(UUID userId, List<Subscription> subscriptions) {
+        overlay.put(userId, new Overlay(List.copyOf(subscriptions), System.nanoTime()));
+    }
+
+    /**
+     * Subscriptions interested in the posting with a score of at least threshold, best match per user
+     */
+    public List<Match> match(Posting posting, double threshold) {
+        Snapshot current = snapshot;
+        Map<UUID, Match> best = new HashMap<>();
+        boolean hasOverlay = !overlay.isEmpty();
+
+        Scratch scratch = SCRATCH.get();
+        scratch.ensure(current.size);
+        short[] hits = scratch.hits;
+        int[] touched = scratch.touched;
+        int touchedCount = 0;
+
+        // Skill posting lists: count how many of the posting's skills each subscription has
+        for (String skill : posting.skills()) {
+            int[] ordinals = current.skillPostings.get(skill);
+            if (ordinals == null) {
+                continue;
+            }
+            for (int ordinal : ordinals) {
+                if (hits[ordinal]++ == 0) {
+                    touched[touchedCount++] = ordinal;
+                }
+            }
+        }
+
+        int postingSkills = posting.skills().size();
+        for (int i = 0; i < touchedCount; i++) {
+            int ordinal = touched[i];
+            int hitCount = hits[ordinal];
+            hits[ordinal] = 0;
+
+            boolean savedSearch = (current.flags[ordinal] & FLAG_SAVED_SEARCH) != 0;
+            double score = savedSearch
+                    ? (double) hitCount / current.skillCount[ordinal]
+                    : (double) hitCount / postingSkills;
+            if (score >= threshold && current.accepts(ordinal, posting)) {
+                offer(best, current, ordinal, score, hasOverlay);
+            }
+        }
+
+        // Keyword-only saved searches, looked up by their first keyword
+        for (String token : posting.titleTokens()) {
+            int[] ordinals = current.keywordPostings.get(token);
+            if (ordinals == null) {
+                continue;
+            }
+            for (int ordinal : ordinals) {
+                if (current.accepts(ordinal, posting)) {
+                    offer(best, current, ordinal, 1.0, hasOverlay);
+                }
+            }
+        }
+
+        if (hasOverlay) {
+            for (Overlay entry : overlay.values()) {
+                for (Subscription subscription : entry.subscriptions()) {
+                    double score = score(subscription, posting);
+                    if (score >= threshold && accepts(subscription, posting)) {
+                        best.merge(subscription.userId(), new Match(subscription.userId(), subscription.searchId(), score),
+                                (a, b) -> a.score() >= b.score() ? a : b);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(best.values());
+    }
+
+    private void offer(Map<UUID, Match> best, Snapshot current, int ordinal, double score, boolean hasOverlay) {
+        UUID userId = new UUID(current.userMsb[ordinal], current.userLsb[ordinal]);
+        if (hasOverlay && overlay.containsKey(userId)) {
+            return; // Superseded by the overlay
+        }
+        best.merge(userId, new Match(userId, current.searchIds[ordinal], score),
+                (a, b) -> a.score() >= b.score() ? a : b);
+    }
+
+    private static double score(Subscription subscription, Posting posting) {
+        if (subscription.skills().isEmpty()) {
+            return subscription.searchId() != null && !subscription.keywords().isEmpty() ? 1.0 : 0.0;
+        }
+        long hits = subscription.skills().stream().filter(posting.skills()::contains).count();
+        int denominator = subscription.searchId() != null ? subscription.skills().size() : posting.skills().size();
+        return denominator == 0 ? 0 : (double) hits / denominator;
+    }
+
+    private static boolean accepts(Subscription subscription, Posting posting) {
+        return accepts(posting, subscription.remoteOnly(), subscription.location(),
+                subscription.radiusKm() != null ? subscription.radiusKm() : Double.NaN,
+                subscription.minSalary() != null ? subscription.minSalary() : Double.NaN,
+                subscription.keywords());
+    }
+
+    private static boolean accepts(Posting posting, boolean remoteOnly, GeoPoint location, double radiusKm,
+                                   double minSalary, List<String> keywords) {
+        if (remoteOnly && !posting.remote()) {
+            return false;
+        }
+        if (!posting.remote() && location != null && !Double.isNaN(radiusKm) && posting.location() != null
+                && location.distanceKm(posting.location()) > radiusKm) {
+            return false;
+        }
+        if (!Double.isNaN(minSalary) && posting.annualSalary() != null && posting.annualSalary() < minSalary) {
+            return false;
+        }
+        return keywords == null || posting.titleTokens().containsAll(keywords);
+    }
+
+    /**
+     * Immutable columnar snapshot
+     */
+    private static final class Snapshot {
+        final int size;
+        final long[] userMsb;
+        final long[] userLsb;
+        final UUID[] searchIds;
+        final short[] skillCount;
+        final byte[] flags;
+        final float[] latitude;
+        final float[] longitude;
+        final float[] radiusKm;
+        final float[] minSalary;
+        final Map<Integer, List<String>> keywords;
+        final Map<String, int[]> skillPostings;
+        final Map<String, int[]> keywordPostings;
+
+        Snapshot(Builder builder) {
+            size = builder.size;
+            userMsb = Arrays.copyOf(builder.userMsb, size);
+            userLsb = Arrays.copyOf(builder.userLsb, size);
+            searchIds = Arrays.copyOf(builder.searchIds, size);
+            skillCount = Arrays.copyOf(builder.skillCount, size);
+            flags = Arrays.copyOf(builder.flags, size);
+            latitude = Arrays.copyOf(builder.latitude, size);
+            longitude = Arrays.copyOf(builder.longitude, size);
+            radiusKm = Arrays.copyOf(builder.radiusKm, size);
+            minSalary = Arrays.copyOf(builder.minSalary, size);
+            keywords = Map.copyOf(builder.keywords);
+            skillPostings = freeze(builder.skillPostings);
+            keywordPostings = freeze(builder.keywordPostings);
+        }
+
+        boolean accepts(int ordinal, Posting posting) {
+            GeoPoint location = Float.isNaN(latitude[ordinal]) ? null : new GeoPoint(latitude[ordinal], longitude[ordinal]);
+            return JobAlertIndex.accepts(posting, (flags[ordinal] & FLAG_REMOTE_ONLY) != 0, location,
+                    radiusKm[ordinal], minSalary[ordinal], keywords.get(ordinal));
+        }
+
+        private static Map<String, int[]> freeze(Map<String, IntList> lists) {
+            Map<String, int[]> frozen = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, list) -> frozen.put(key, list.toArray()));
+            return frozen;
+        }
+    }
+
+    /**
+     * Accumulates subscriptions for a new snapshot. Not thread-safe.
+     */
+    public static final class Builder {
+        private int size;
+        private long[] userMsb = new long[1024];
+        private long[] userLsb = new long[1024];
+        private UUID[] searchIds = new UUID[1024];
+        private short[] skillCount = new short[1024];
+        private byte[] flags = new byte[1024];
+        private float[] latitude = new float[1024];
+        private float[] longitude = new float[1024];
+        private float[] radiusKm = new float[1024];
+        private float[] minSalary = new float[1024];
+        private final Map<Integer, List<String>> keywords = new HashMap<>();
+        private final Map<String, IntList> skillPostings = new HashMap<>();
+        private final Map<String, IntList> keywordPostings = new HashMap<>();
+
+        public Builder add(Subscription subscription) {
+            boolean keywordOnly = subscription.skills().isEmpty();
+            if (keywordOnly && (subscription.searchId() == null || subscription.keywords().isEmpty())) {
+                return this; // Nothing to match on
+            }
+
+            ensureCapacity(size + 1);
+            int ordinal = size++;
+            userMsb[ordinal] = subscription.userId().getMostSignificantBits();
+            userLsb[ordinal] = subscription.userId().getLeastSignificantBits();
+            searchIds[ordinal] = subscription.searchId();
+            skillCount[ordinal] = (short) Math.min(subscription.skills().size(), Short.MAX_VALUE);
+            flags[ordinal] = (byte) ((subscription.searchId() != null ? FLAG_SAVED_SEARCH : 0)
+                    | (subscription.remoteOnly() ? FLAG_REMOTE_ONLY : 0));
+            latitude[ordinal] = subscription.location() != null ? (float) subscription.location().latitude() : Float.NaN;
+            longitude[ordinal] = subscription.location() != null ? (float) subscription.location().longitude() : Float.NaN;
+            radiusKm[ordinal] = subscription.radiusKm() != null ? subscription.radiusKm().floatValue() : Float.NaN;
+            minSalary[ordinal] = subscription.minSalary() != null ? subscription.minSalary().floatValue() : Float.NaN;
+            if (!subscription.keywords().isEmpty()) {
+                keywords.put(ordinal, List.copyOf(subscription.keywords()));
+            }
+
+            if (keywordOnly) {
+                keywordPostings.computeIfAbsent(subscription.keywords().get(0), k -> new IntList()).add(ordinal);
+            } else {
+                for (String skill : subscription.skills()) {
+                    skillPostings.computeIfAbsent(skill, k -> new IntList()).add(ordinal);
+                }
+            }
+            return this;
+        }
+
+        Snapshot build() {
+            return new Snapshot(this);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= userMsb.length) {
+                return;
+            }
+            int newLength = Math.max(capacity, userMsb.length * 2);
+            userMsb = Arrays.copyOf(userMsb, newLength);
+            userLsb = Arrays.copyOf(userLsb, newLength);
+            searchIds = Arrays.copyOf(searchIds, newLength);
+            skillCount = Arrays.copyOf(skillCount, newLength);
+            flags = Arrays.copyOf(flags, newLength);
+            latitude = Arrays.copyOf(latitude, newLength);
+            longitude = Arrays.copyOf(longitude, newLength);
+            radiusKm = Arrays.copyOf(radiusKm, newLength);
+            minSalary = Arrays.copyOf(minSalary, newLength);
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
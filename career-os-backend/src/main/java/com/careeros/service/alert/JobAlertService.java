@@ -0,0 +1,380 @@
+package com.careeros.service.alert;
+
+import com.careeros.dto.job.SavedJobSearchRequest;
+import com.careeros.entity.JobAlertDigestItem;
+import com.careeros.entity.JobPosting;
+import com.careeros.entity.SavedJobSearch;
+import com.careeros.entity.User;
+import com.careeros.repository.JobAlertDigestItemRepository;
+import com.careeros.repository.SavedJobSearchRepository;
+import com.careeros.repository.UserRepository;
+import com.careeros.repository.UserSkillRepository;
+import com.careeros.service.CacheService;
+import com.careeros.service.NotificationService;
+import com.careeros.service.geo.GeoPoint;
+import com.careeros.service.geo.LocationGazetteer;
+import com.careeros.service.market.JobDimensions;
+import com.careeros.service.market.JobPostingsIngestedEvent;
+import com.careeros.service.recommendation.UserSkillsChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Job alerts: matches each newly ingested posting against all users' skill profiles and saved searches
+ * through the {@link JobAlertIndex}, queues matches, and sends them as per-user digests.
+ */
+@Service
+public class JobAlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobAlertService.class);
+
+    private static final String DIGEST_LOCK_KEY = "lock:job-alert-digest";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private static final String ENQUEUE_SQL =
+            "INSERT INTO job_alert_digest_items (id, user_id, job_posting_id, saved_search_id, score, created_at, updated_at, version) " +
+            "SELECT gen_random_uuid(), m.user_id, ?, m.search_id, m.score, now(), now(), 0 " +
+            "FROM unnest(?::uuid[], ?::uuid[], ?::float8[]) AS m(user_id, search_id, score) " +
+            "ON CONFLICT (user_id, job_posting_id) DO NOTHING";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private SavedJobSearchRepository savedJobSearchRepository;
+
+    @Autowired
+    private JobAlertDigestItemRepository digestItemRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private LocationGazetteer locationGazetteer;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.job-alerts.score-threshold:0.6}")
+    private double scoreThreshold;
+
+    @Value("${app.job-alerts.profile-radius-km:80}")
+    private double profileRadiusKm;
+
+    @Value("${app.job-alerts.build-chunk-size:5000}")
+    private int buildChunkSize;
+
+    @Value("${app.job-alerts.digest-retention-days:30}")
+    private int digestRetentionDays;
+
+    private final JobAlertIndex index = new JobAlertIndex();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Timer matchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        matchTimer = Timer.builder("job.alerts.match")
+                .description("Time to match one posting against all alert subscriptions")
+                .register(meterRegistry);
+        meterRegistry.gauge("job.alerts.index.subscriptions", index, JobAlertIndex::size);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuild the reverse index from all active users' skills and saved searches
+     */
+    @Scheduled(fixedDelayString = "${app.job-alerts.rebuild-interval-ms:900000}", initialDelayString = "${app.job-alerts.rebuild-interval-ms:900000}")
+    public void rebuildIndex() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            JobAlertIndex.Builder builder = new JobAlertIndex.Builder();
+            UUID afterId = MIN_UUID;
+            int users = 0;
+
+            while (true) {
+                List<Object[]> page = userRepository.findActiveUserLocationsAfter(afterId, PageRequest.of(0, buildChunkSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                Map<UUID, String> locations = new LinkedHashMap<>();
+                page.forEach(row -> locations.put((UUID) row[0], (String) row[1]));
+
+                subscriptionsFor(locations).forEach(builder::add);
+                users += page.size();
+                afterId = (UUID) page.get(page.size() - 1)[0];
+            }
+
+            index.replace(builder, started);
+            logger.info("Rebuilt job alert index: {} users, {} subscriptions in {} ms",
+                    users, index.size(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception e) {
+            logger.error("Failed to rebuild job alert index", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Apply a user's current skills and saved searches to the index without waiting for a rebuild
+     */
+    public void refreshUser(UUID userId) {
+        userRepository.findById(userId).ifPresent(user -> {
+            List<JobAlertIndex.Subscription> subscriptions = user.isActive()
+                    ? subscriptionsFor(Map.of(userId, Objects.toString(user.getLocation(), "")))
+                    : List.of();
+            index.updateUser(userId, subscriptions);
+        });
+    }
+
+    /**
+     * Re-apply a user's skill profile once their skill changes commit, so postings ingested before the
+     * next rebuild are matched against the new skills
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSkillsChanged(UserSkillsChangedEvent event) {
+        refreshUser(event.getUserId());
+    }
+
+    /**
+     * Match newly ingested postings and queue alerts for interested users
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostingsIngested(JobPostingsIngestedEvent event) {
+        for (JobPosting job : event.getNewPostings()) {
+            if (job.getStatus() != JobPosting.JobStatus.ACTIVE) {
+                continue;
+            }
+            try {
+                List<JobAlertIndex.Match> matches = matchTimer.record(() -> index.match(toPosting(job), scoreThreshold));
+                enqueue(job.getId(), matches);
+            } catch (Exception e) {
+                logger.error("Failed to match job alerts for posting {}", job.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * Users whose skill profile or saved searches match the posting with at least minScore
+     */
+    public Set<UUID> findInterestedUsers(JobPosting job, double minScore) {
+        return index.match(toPosting(job), minScore).stream()
+                .map(JobAlertIndex.Match::userId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Send one digest per user with pending matches
+     */
+    @Scheduled(cron = "${app.job-alerts.digest-cron:0 0 8 * * *}")
+    public void sendDigests() {
+        String owner = UUID.randomUUID().toString();
+        if (!cacheService.tryLock(DIGEST_LOCK_KEY, owner, Duration.ofHours(1))) {
+            return;
+        }
+        try {
+            UUID afterId = MIN_UUID;
+            int sent = 0;
+            while (true) {
+                List<UUID> userIds = digestItemRepository.findUserIdsWithPendingItemsAfter(afterId, PageRequest.of(0, 500));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                for (UUID userId : userIds) {
+                    if (sendDigest(userId)) {
+                        sent++;
+                    }
+                }
+                afterId = userIds.get(userIds.size() - 1);
+            }
+
+            digestItemRepository.deleteSentBefore(LocalDateTime.now().minusDays(digestRetentionDays));
+            logger.info("Sent {} job alert digests", sent);
+        } finally {
+            cacheService.releaseLock(DIGEST_LOCK_KEY, owner);
+        }
+    }
+
+    private boolean sendDigest(UUID userId) {
+        try {
+            List<JobAlertDigestItem> items = digestItemRepository.findPendingByUserId(userId);
+            if (items.isEmpty()) {
+                return false;
+            }
+            Optional<User> user = userRepository.findById(userId);
+            if (user.isPresent() && user.get().isActive()) {
+                notificationService.sendJobRecommendationNotification(user.get(), items.size());
+            }
+            // Only what this digest covered; items matched meanwhile go out with the next one
+            digestItemRepository.markSent(items.stream().map(JobAlertDigestItem::getId).collect(Collectors.toList()),
+                    LocalDateTime.now());
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to send job alert digest to user {}", userId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Get a user's saved searches
+     */
+    public List<SavedJobSearch> getSavedSearches(UUID userId) {
+        return savedJobSearchRepository.findByUserId(userId);
+    }
+
+    /**
+     * Save a search for alerts
+     */
+    @Transactional
+    public SavedJobSearch createSavedSearch(UUID userId, SavedJobSearchRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new RuntimeException("Saved search name is required");
+        }
+
+        SavedJobSearch search = new SavedJobSearch();
+        search.setUser(user);
+        search.setName(request.getName());
+        search.setKeywords(request.getKeywords());
+        search.setSkills(request.getSkills() != null ? new ArrayList<>(request.getSkills()) : new ArrayList<>());
+        search.setLocation(request.getLocation());
+        search.setRadiusKm(request.getRadiusKm());
+        search.setRemoteOnly(Boolean.TRUE.equals(request.getRemoteOnly()));
+        search.setMinSalary(request.getMinSalary());
+        SavedJobSearch saved = savedJobSearchRepository.save(search);
+        refreshUser(userId);
+        return saved;
+    }
+
+    /**
+     * Delete a saved search
+     */
+    @Transactional
+    public void deleteSavedSearch(UUID userId, UUID searchId) {
+        SavedJobSearch search = savedJobSearchRepository.findById(searchId)
+                .orElseThrow(() -> new RuntimeException("Saved search not found"));
+        if (!search.getUser().getId().equals(userId)) {
+            throw new RuntimeException("Saved search not found");
+        }
+        savedJobSearchRepository.delete(search);
+        refreshUser(userId);
+    }
+
+    private List<JobAlertIndex.Subscription> subscriptionsFor(Map<UUID, String> userLocations) {
+        Map<UUID, Set<String>> skillsByUser = new HashMap<>();
+        for (Object[] row : userSkillRepository.findSkillNamesByUserIdIn(userLocations.keySet())) {
+            skillsByUser.computeIfAbsent((UUID) row[0], k -> new HashSet<>()).add(JobDimensions.skillKey((String) row[1]));
+        }
+
+        List<JobAlertIndex.Subscription> subscriptions = new ArrayList<>();
+        userLocations.forEach((userId, location) -> {
+            Set<String> skills = skillsByUser.get(userId);
+            if (skills != null) {
+                GeoPoint point = locationGazetteer.resolve(location).orElse(null);
+                subscriptions.add(new JobAlertIndex.Subscription(userId, null, skills, List.of(),
+                        point, point != null ? profileRadiusKm : null, false, null));
+            }
+        });
+
+        for (SavedJobSearch search : savedJobSearchRepository.findAlertingByUserIdIn(userLocations.keySet())) {
+            List<String> skills = search.getSkills() == null ? List.of() : search.getSkills().stream()
+                    .map(JobDimensions::skillKey)
+                    .filter(skill -> !skill.isEmpty())
+                    .distinct()
+                    .collect(Collectors.toList());
+            GeoPoint point = locationGazetteer.resolve(search.getLocation()).orElse(null);
+            subscriptions.add(new JobAlertIndex.Subscription(search.getUser().getId(), search.getId(), skills,
+                    titleTokens(search.getKeywords()).stream().toList(), point, point != null ? search.getRadiusKm() : null,
+                    Boolean.TRUE.equals(search.getRemoteOnly()), search.getMinSalary()));
+        }
+        return subscriptions;
+    }
+
+    private JobAlertIndex.Posting toPosting(JobPosting job) {
+        Set<String> skills = job.getRequiredSkills() == null ? Set.of() : job.getRequiredSkills().stream()
+                .map(JobDimensions::skillKey)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toSet());
+        GeoPoint location = job.getLatitude() != null && job.getLongitude() != null
+                ? new GeoPoint(job.getLatitude(), job.getLongitude())
+                : null;
+        boolean remote = Boolean.TRUE.equals(job.getIsRemote()) || JobDimensions.REMOTE.equals(job.getLocationKey());
+        return new JobAlertIndex.Posting(skills, titleTokens(job.getTitle()), location, remote,
+                JobDimensions.annualSalaryMidpoint(job));
+    }
+
+    private static Set<String> titleTokens(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^a-z0-9+#]+"))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void enqueue(UUID jobId, List<JobAlertIndex.Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        Object[] userIds = matches.stream().map(JobAlertIndex.Match::userId).toArray();
+        Object[] searchIds = matches.stream().map(JobAlertIndex.Match::searchId).toArray();
+        Object[] scores = matches.stream().map(JobAlertIndex.Match::score).toArray();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ENQUEUE_SQL);
+            Array userArray = connection.createArrayOf("uuid", userIds);
+            Array searchArray = connection.createArrayOf("uuid", searchIds);
+            Array scoreArray = connection.createArrayOf("float8", scores);
+            statement.setObject(1, jobId);
+            statement.setArray(2, userArray);
+            statement.setArray(3, searchArray);
+            statement.setArray(4, scoreArray);
+            return statement;
+        });
+        logger.debug("Queued {} job alerts for posting {}", matches.size(), jobId);
+    }
+}
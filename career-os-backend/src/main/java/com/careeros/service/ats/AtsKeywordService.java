@@ -0,0 +1,194 @@
+package com.careeros.service.ats;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.service.similarity.SimilarityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keyword side of ATS scoring: which keywords a job description and a target role call for, and which
+ * of them a resume contains. Matching runs on {@link KeywordAutomaton}, so a resume is scanned once
+ * for all keywords, phrases ("machine learning") and synonyms ("k8s") included.
+ */
+@Service
+public class AtsKeywordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AtsKeywordService.class);
+
+    private static final Set<String> STOP_WORDS = Set.of("the", "and", "or", "but", "in", "on", "at", "to", "for",
+            "of", "with", "by", "is", "are", "was", "were", "be", "been", "have", "has", "had", "you", "our", "will",
+            "who", "this", "that", "from", "your", "can", "all", "not", "its", "their", "they", "we", "an", "as");
+
+    private static final Map<String, List<String>> ROLE_KEYWORDS = Map.of(
+            "developer", List.of("programming", "coding", "development", "software", "algorithms", "debugging",
+                    "testing", "git", "agile", "scrum"),
+            "engineer", List.of("programming", "coding", "development", "software", "algorithms", "debugging",
+                    "testing", "git", "agile", "scrum"),
+            "data", List.of("python", "sql", "analytics", "machine learning", "statistics", "visualization",
+                    "pandas", "numpy"),
+            "manager", List.of("leadership", "management", "team", "project", "planning", "strategy",
+                    "communication", "stakeholder"));
+
+    // Alternative spellings a resume may use for a keyword
+    private static final Map<String, List<String>> SYNONYMS = Map.ofEntries(
+            Map.entry("javascript", List.of("js", "ecmascript")),
+            Map.entry("typescript", List.of("ts")),
+            Map.entry("kubernetes", List.of("k8s")),
+            Map.entry("postgresql", List.of("postgres", "psql")),
+            Map.entry("machine learning", List.of("ml")),
+            Map.entry("artificial intelligence", List.of("ai")),
+            Map.entry("golang", List.of("go")),
+            Map.entry("aws", List.of("amazon web services")),
+            Map.entry("gcp", List.of("google cloud", "google cloud platform")),
+            Map.entry("node.js", List.of("nodejs", "node")),
+            Map.entry("react", List.of("reactjs", "react.js")),
+            Map.entry("ci/cd", List.of("continuous integration", "continuous delivery", "continuous deployment")),
+            Map.entry("leadership", List.of("led", "lead")),
+            Map.entry("management", List.of("managed", "manage")));
+
+    // Multi-term keywords worth recognizing in job descriptions, beyond single words
+    private static final List<String> KNOWN_PHRASES = List.of("machine learning", "deep learning", "data science",
+            "data analysis", "data engineering", "artificial intelligence", "natural language processing",
+            "computer vision", "spring boot", "react native", "rest api", "ci/cd", "unit testing", "test automation",
+            "system design", "distributed systems", "microservices architecture", "cloud computing", "google cloud",
+            "project management", "product management", "stakeholder management", "agile methodologies",
+            "problem solving", "version control", "object oriented programming", "user experience", "ruby on rails",
+            "sql server", "power bi");
+
+    // Points of the ATS score that come from keyword coverage
+    private static final int KEYWORD_POINTS = 40;
+
+    @Autowired
+    private SimilarityService similarityService;
+
+    @Value("${app.similarity.match-threshold:0.5}")
+    private double keywordMatchThreshold;
+
+    private final KeywordAutomaton phraseAutomaton = KeywordAutomaton.compile(KNOWN_PHRASES, SYNONYMS);
+
+    /**
+     * Keywords expected of a target role, from the role dictionaries its title mentions
+     */
+    public List<String> roleKeywords(String role) {
+        if (role == null) {
+            return List.of();
+        }
+        String roleLower = role.toLowerCase(Locale.ROOT);
+        return ROLE_KEYWORDS.entrySet().stream()
+                .filter(entry -> roleLower.contains(entry.getKey()))
+                .sorted(Map.Entry.comparingByKey())
+                .flatMap(entry -> entry.getValue().stream())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Keywords of a job description: known phrases it contains, then its distinct significant words
+     */
+    public List<String> jobKeywords(String jobDescription) {
+        if (jobDescription == null || jobDescription.isBlank()) {
+            return List.of();
+        }
+        KeywordReport phrases = phraseAutomaton.scan(jobDescription);
+        Set<String> keywords = new LinkedHashSet<>(phrases.matched());
+        // Words inside a recognized phrase are covered by it ("machine" and "learning" by "machine learning")
+        BitSet phraseChars = new BitSet(jobDescription.length());
+        phrases.occurrences().forEach(occurrence -> phraseChars.set(occurrence.start(), occurrence.end()));
+
+        // One surface form per stem, so "APIs" and "API" count once
+        Map<String, String> words = new LinkedHashMap<>();
+        KeywordTokenizer.tokenize(jobDescription, (buffer, length, alphabetic, start, end) -> {
+            String word = new String(buffer, 0, length);
+            if (length > 2 && !phraseChars.get(start) && !STOP_WORDS.contains(word) && !isNumber(word)) {
+                String stem = alphabetic ? new String(buffer, 0, KeywordStemmer.stem(buffer, length)) : word;
+                words.putIfAbsent(stem, word);
+            }
+        });
+        keywords.addAll(words.values());
+        return new ArrayList<>(keywords);
+    }
+
+    /**
+     * Keywords of a job posting: its required skills, then the keywords of its description and requirements
+     */
+    public List<String> postingKeywords(JobPosting posting) {
+        Set<String> keywords = new LinkedHashSet<>();
+        if (posting.getRequiredSkills() != null) {
+            posting.getRequiredSkills().stream()
+                    .filter(Objects::nonNull)
+                    .map(skill -> skill.toLowerCase(Locale.ROOT))
+                    .forEach(keywords::add);
+        }
+        keywords.addAll(jobKeywords(Stream.of(posting.getDescription(), posting.getRequirements())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("\n"))));
+        return new ArrayList<>(keywords);
+    }
+
+    /**
+     * Index of a resume's text for matching against many {@link KeywordProfile}s
+     */
+    public ResumeTermIndex index(String resumeText) {
+        return ResumeTermIndex.of(resumeText);
+    }
+
+    /**
+     * Pre-tokenized form of a set of keywords, with the known synonyms of each
+     */
+    public KeywordProfile profile(Collection<String> keywords) {
+        return KeywordProfile.of(keywords, SYNONYMS);
+    }
+
+    /**
+     * Keyword part of the ATS score: keywords found in the text, plus missing ones close to one of the
+     * resume's listed skills or technologies ("spring" for "spring framework") through the similarity index
+     */
+    public int keywordScore(KeywordReport report, Collection<String> skillTerms) {
+        int total = report.matched().size() + report.missing().size();
+        if (total == 0) {
+            return 0;
+        }
+        double covered = report.matched().size();
+        if (!report.missing().isEmpty() && !skillTerms.isEmpty()) {
+            covered += similarityService.coverage(report.missing(), skillTerms, keywordMatchThreshold)
+                    * report.missing().size();
+        }
+        return (int) (covered / total * KEYWORD_POINTS);
+    }
+
+    /**
+     * Automaton for a set of keywords, with the known synonyms of each
+     */
+    public KeywordAutomaton compile(Collection<String> keywords) {
+        return KeywordAutomaton.compile(keywords, SYNONYMS);
+    }
+
+    /**
+     * Match a resume against the keywords of a job description and target role
+     */
+    public KeywordReport analyze(String resumeText, String jobDescription, String targetRole) {
+        List<String> keywords = Stream.concat(jobKeywords(jobDescription).stream(), roleKeywords(targetRole).stream())
+                .distinct()
+                .collect(Collectors.toList());
+        KeywordReport report = compile(keywords).scan(resumeText != null ? resumeText : "");
+        logger.debug("Keyword analysis: {} of {} keywords matched", report.matched().size(),
+                report.matched().size() + report.missing().size());
+        return report;
+    }
+
+    private static boolean isNumber(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isDigit(word.charAt(i)) && word.charAt(i) != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+package com.careeros.service.ats;
+
+import com.careeros.entity.JobPosting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Scores one resume against many job postings at once.
+ * The resume is indexed once by the caller ({@link ResumeTermIndex}); each posting's keywords are
+ * extracted and tokenized once into a {@link KeywordProfile} and cached by posting id and version, so a
+ * repeat ranking only does hash lookups. Postings are scored in parallel on a dedicated fork-join pool,
+ * which keeps large batches off the common pool used by parallel streams elsewhere.
+ */
+@Service
+public class BulkAtsScoringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkAtsScoringService.class);
+
+    private record PostingKey(UUID id, Long version) {}
+
+    @Autowired
+    private AtsKeywordService atsKeywordService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.ats.bulk.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.ats.bulk.profile-cache-size:20000}")
+    private long profileCacheSize;
+
+    private ForkJoinPool pool;
+
+    private Cache<PostingKey, KeywordProfile> profiles;
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        profiles = Caffeine.newBuilder()
+                .maximumSize(profileCacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "ats-posting-profiles");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Score the resume against every posting, best fit first. baseScore is the part of the ATS score that
+     * does not depend on the job (structure, formatting, content); skillTerms feed the similarity
+     * fallback for missing keywords. Postings must have their required skills loaded.
+     */
+    public List<JobMatch> rank(ResumeTermIndex resume, Collection<String> skillTerms, int baseScore, List<JobPosting> postings) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return pool.submit(() -> postings.parallelStream()
+                    .map(posting -> score(resume, skillTerms, baseScore, posting))
+                    .sorted(Comparator.comparingInt(JobMatch::atsScore)
+                            .thenComparingDouble(JobMatch::keywordCoverage).reversed())
+                    .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while scoring job postings", e);
+        } catch (ExecutionException e) {
+            logger.error("Bulk ATS scoring of {} postings failed", postings.size(), e.getCause());
+            throw new RuntimeException("Failed to score job postings", e.getCause());
+        } finally {
+            sample.stop(Timer.builder("ats.bulk.duration")
+                    .description("Time to score a resume against a batch of job postings")
+                    .register(meterRegistry));
+            meterRegistry.summary("ats.bulk.postings").record(postings.size());
+        }
+    }
+
+    private JobMatch score(ResumeTermIndex resume, Collection<String> skillTerms, int baseScore, JobPosting posting) {
+        KeywordProfile profile = profiles.get(new PostingKey(posting.getId(), posting.getVersion()),
+                key -> atsKeywordService.profile(atsKeywordService.postingKeywords(posting)));
+        KeywordReport report = profile.match(resume);
+        int keywordScore = atsKeywordService.keywordScore(report, skillTerms);
+        return new JobMatch(posting.getId(), posting.getTitle(), posting.getCompany(),
+                Math.min(100, Math.max(0, baseScore + keywordScore)), keywordScore, report.coverage(),
+                report.matched(), report.missing());
+    }
+}
@@ -0,0 +1,10 @@
+package com.careeros.service.ats;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ATS fit of a resume for one job posting, with the posting's keywords the resume lacks
+ */
+public record JobMatch(UUID jobPostingId, String title, String company, int atsScore, int keywordScore,
+                       double keywordCoverage, List<String> matchedKeywords, List<String> missingKeywords) {}
@@ -0,0 +1,245 @@
+package com.careeros.service.ats;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton over terms rather than characters, matching every keyword and synonym in a
+ * single pass over the text however many keywords there are.
+ * Keywords are tokenized and stemmed the same way as the scanned text, so "REST APIs" matches the
+ * keyword "rest api" and a keyword never matches inside a longer word ("go" in "google"). Synonyms are
+ * extra phrases reported as their keyword ("k8s" as "kubernetes"). Compiled once and immutable, so one
+ * instance can be shared by concurrent scans.
+ */
+public final class KeywordAutomaton {
+
+    // Enough to show where keywords appear without letting a pathological text blow up the report
+    private static final int MAX_OCCURRENCES = 500;
+
+    private final List<String> keywords;
+    private final TermDictionary terms;
+    // (state << 32 | term id) -> next state
+    private final LongIntMap transitions;
+    private final int[] failure;
+    // Nearest state on the failure chain that completes a keyword, or -1
+    private final int[] outputLink;
+    private final int[][] outputs;
+    private final int[] depth;
+    private final int maxDepth;
+
+    private KeywordAutomaton(List<String> keywords, TermDictionary terms, LongIntMap transitions, int[] failure,
+                             int[] outputLink, int[][] outputs, int[] depth) {
+        this.keywords = keywords;
+        this.terms = terms;
+        this.transitions = transitions;
+        this.failure = failure;
+        this.outputLink = outputLink;
+        this.outputs = outputs;
+        this.depth = depth;
+        this.maxDepth = Math.max(1, Arrays.stream(depth).max().orElse(1));
+    }
+
+    public static KeywordAutomaton compile(Collection<String> keywords) {
+        return compile(keywords, Map.of());
+    }
+
+    /**
+     * Build the automaton; synonyms maps a keyword to alternative phrases that count as that keyword.
+     * Keywords that are blank or repeat an earlier keyword once normalized are dropped.
+     */
+    public static KeywordAutomaton compile(Collection<String> keywords, Map<String, ? extends Collection<String>> synonyms) {
+        TermDictionary terms = new TermDictionary();
+        Builder builder = new Builder();
+        List<String> accepted = new ArrayList<>();
+
+        for (String keyword : keywords) {
+            int[] path = terms(keyword, terms);
+            if (path.length == 0 || builder.hasOutput(path)) {
+                continue;
+            }
+            int index = accepted.size();
+            accepted.add(keyword);
+            builder.insert(path, index);
+            Collection<String> alternatives = synonyms.get(keyword);
+            for (String synonym : alternatives != null ? alternatives : List.<String>of()) {
+                int[] synonymPath = terms(synonym, terms);
+                if (synonymPath.length > 0) {
+                    builder.insert(synonymPath, index);
+                }
+            }
+        }
+        return builder.build(List.copyOf(accepted), terms);
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    /**
+     * Find every keyword in the text
+     */
+    public KeywordReport scan(CharSequence text) {
+        Scan scan = new Scan();
+        KeywordTokenizer.tokenize(text, scan);
+
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            if (!scan.matched[i]) {
+                missing.add(keywords.get(i));
+            }
+        }
+        return KeywordReport.of(scan.matchedInOrder, missing, scan.occurrences);
+    }
+
+    private int next(int state, int term) {
+        if (term < 0) {
+            // A term no keyword contains ends every partial match
+            return 0;
+        }
+        while (true) {
+            int target = transitions.get(((long) state << 32) | term);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failure[state];
+        }
+    }
+
+    private final class Scan implements KeywordTokenizer.TermSink {
+
+        private final boolean[] matched = new boolean[keywords.size()];
+        private final List<String> matchedInOrder = new ArrayList<>();
+        private final List<KeywordReport.Occurrence> occurrences = new ArrayList<>();
+        // Start offsets of the last maxDepth terms, to place the start of multi-term matches
+        private final int[] recentStarts = new int[maxDepth];
+        private int state;
+        private int position;
+
+        @Override
+        public void term(char[] buffer, int length, boolean alphabetic, int start, int end) {
+            if (alphabetic) {
+                length = KeywordStemmer.stem(buffer, length);
+            }
+            state = next(state, terms.lookup(buffer, length));
+            recentStarts[position % maxDepth] = start;
+
+            for (int hit = outputs[state].length > 0 ? state : outputLink[state]; hit > 0; hit = outputLink[hit]) {
+                int matchStart = recentStarts[(position - depth[hit] + 1) % maxDepth];
+                for (int keyword : outputs[hit]) {
+                    if (!matched[keyword]) {
+                        matched[keyword] = true;
+                        matchedInOrder.add(keywords.get(keyword));
+                    }
+                    if (occurrences.size() < MAX_OCCURRENCES) {
+                        occurrences.add(new KeywordReport.Occurrence(keywords.get(keyword), matchStart, end));
+                    }
+                }
+            }
+            position++;
+        }
+    }
+
+    private static int[] terms(String phrase, TermDictionary terms) {
+        if (phrase == null) {
+            return new int[0];
+        }
+        List<Integer> ids = new ArrayList<>();
+        KeywordTokenizer.tokenize(phrase, (buffer, length, alphabetic, start, end) ->
+                ids.add(terms.add(buffer, alphabetic ? KeywordStemmer.stem(buffer, length) : length)));
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Trie of keyword paths, turned into the automaton by adding failure links breadth-first
+     */
+    private static final class Builder {
+
+        private final LongIntMap transitions = new LongIntMap(256);
+        private final List<int[]> children = new ArrayList<>();
+        private final List<int[]> outputs = new ArrayList<>();
+        private final List<Integer> depth = new ArrayList<>();
+
+        Builder() {
+            addState(0);
+        }
+
+        boolean hasOutput(int[] path) {
+            int state = 0;
+            for (int term : path) {
+                state = transitions.get(((long) state << 32) | term);
+                if (state < 0) {
+                    return false;
+                }
+            }
+            return outputs.get(state).length > 0;
+        }
+
+        void insert(int[] path, int keyword) {
+            int state = 0;
+            for (int term : path) {
+                long key = ((long) state << 32) | term;
+                int next = transitions.get(key);
+                if (next < 0) {
+                    next = addState(depth.get(state) + 1);
+                    transitions.put(key, next);
+                    children.set(state, append(children.get(state), term));
+                }
+                state = next;
+            }
+            if (Arrays.stream(outputs.get(state)).noneMatch(existing -> existing == keyword)) {
+                outputs.set(state, append(outputs.get(state), keyword));
+            }
+        }
+
+        KeywordAutomaton build(List<String> keywords, TermDictionary terms) {
+            int states = depth.size();
+            int[] failure = new int[states];
+            int[] outputLink = new int[states];
+            outputLink[0] = -1;
+
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(0);
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int term : children.get(state)) {
+                    int child = transitions.get(((long) state << 32) | term);
+                    int fallback = 0;
+                    if (state != 0) {
+                        int candidate = failure[state];
+                        while (true) {
+                            int target = transitions.get(((long) candidate << 32) | term);
+                            if (target >= 0) {
+                                fallback = target;
+                                break;
+                            }
+                            if (candidate == 0) {
+                                break;
+                            }
+                            candidate = failure[candidate];
+                        }
+                    }
+                    failure[child] = fallback;
+                    outputLink[child] = outputs.get(fallback).length > 0 ? fallback : outputLink[fallback];
+                    queue.add(child);
+                }
+            }
+            return new KeywordAutomaton(keywords, terms, transitions, failure, outputLink,
+                    outputs.toArray(int[][]::new), depth.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        private int addState(int stateDepth) {
+            children.add(new int[0]);
+            outputs.add(new int[0]);
+            depth.add(stateDepth);
+            return depth.size() - 1;
+        }
+
+        private static int[] append(int[] values, int value) {
+            int[] extended = Arrays.copyOf(values, values.length + 1);
+            extended[values.length] = value;
+            return extended;
+        }
+    }
+}
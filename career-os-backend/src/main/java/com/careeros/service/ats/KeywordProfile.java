@@ -0,0 +1,72 @@
+package com.careeros.service.ats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The keywords of a job posting, tokenized once into the normalized forms (the keyword and its
+ * synonyms) that {@link ResumeTermIndex} stores. Matching a profile against an index is a few hash
+ * lookups per keyword, with no text processing, which is what makes scoring one resume against
+ * hundreds of postings cheap. Immutable, so profiles can be cached and shared.
+ */
+public final class KeywordProfile {
+
+    private final List<String> keywords;
+    private final String[][] forms;
+
+    private KeywordProfile(List<String> keywords, String[][] forms) {
+        this.keywords = keywords;
+        this.forms = forms;
+    }
+
+    /**
+     * Keywords that are blank or repeat an earlier keyword once normalized are dropped
+     */
+    static KeywordProfile of(Collection<String> keywords, Map<String, ? extends Collection<String>> synonyms) {
+        List<String> accepted = new ArrayList<>();
+        List<String[]> acceptedForms = new ArrayList<>();
+        Set<String> seen = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            String normalized = ResumeTermIndex.normalize(keyword);
+            if (normalized.isEmpty() || !seen.add(normalized)) {
+                continue;
+            }
+            Set<String> keywordForms = new LinkedHashSet<>();
+            keywordForms.add(normalized);
+            Collection<String> alternatives = synonyms.get(keyword);
+            if (alternatives != null) {
+                alternatives.stream().map(ResumeTermIndex::normalize).filter(form -> !form.isEmpty()).forEach(keywordForms::add);
+            }
+            accepted.add(keyword);
+            acceptedForms.add(keywordForms.toArray(String[]::new));
+        }
+        return new KeywordProfile(List.copyOf(accepted), acceptedForms.toArray(String[][]::new));
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    /**
+     * Matched and missing keywords in keyword order; an index carries no positions, so occurrences is empty
+     */
+    public KeywordReport match(ResumeTermIndex index) {
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            boolean found = false;
+            for (String form : forms[i]) {
+                if (index.contains(form)) {
+                    found = true;
+                    break;
+                }
+            }
+            (found ? matched : missing).add(keywords.get(i));
+        }
+        return KeywordReport.of(matched, missing, List.of());
+    }
+}
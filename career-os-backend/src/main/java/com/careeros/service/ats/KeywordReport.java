@@ -0,0 +1,18 @@
+package com.careeros.service.ats;
+
+import java.util.List;
+
+/**
+ * Outcome of scanning a text for a set of keywords.
+ * matched is in order of first appearance, missing in keyword order, and occurrences carry the
+ * character range of each hit in the scanned text.
+ */
+public record KeywordReport(List<String> matched, List<String> missing, List<Occurrence> occurrences, double coverage) {
+
+    public record Occurrence(String keyword, int start, int end) {}
+
+    static KeywordReport of(List<String> matched, List<String> missing, List<Occurrence> occurrences) {
+        int total = matched.size() + missing.size();
+        return new KeywordReport(matched, missing, occurrences, total == 0 ? 0.0 : (double) matched.size() / total);
+    }
+}
@@ -0,0 +1,64 @@
+package com.careeros.service.ats;
+
+/**
+ * Light suffix stripping for alphabetic terms, so "APIs", "testing" and "tested" meet "API" and "test".
+ * Deliberately weaker than a full Porter stemmer: keywords and resume text go through the same rules,
+ * so the stems only need to be consistent, not real words.
+ */
+final class KeywordStemmer {
+
+    private KeywordStemmer() {
+    }
+
+    /**
+     * Stem the term in place and return its new length
+     */
+    static int stem(char[] term, int length) {
+        if (length > 4 && endsWith(term, length, "ies")) {
+            term[length - 3] = 'y';
+            length -= 2;
+        } else if (length > 4 && endsWith(term, length, "es") && sibilant(term, length - 2)) {
+            length -= 2;
+        } else if (length > 3 && term[length - 1] == 's' && "su".indexOf(term[length - 2]) < 0
+                && (term[length - 2] != 'i' || length == 4)) {
+            // Keeps "analysis" and "status" whole but still reads "APIs" as "api"
+            length -= 1;
+        }
+
+        if (length > 5 && endsWith(term, length, "ing")) {
+            length = undouble(term, length - 3);
+        } else if (length > 4 && endsWith(term, length, "ed")) {
+            length = undouble(term, length - 2);
+        }
+
+        // "code", "coded" and "coding" all end as "cod"
+        if (length > 3 && term[length - 1] == 'e') {
+            length -= 1;
+        }
+        return length;
+    }
+
+    private static boolean endsWith(char[] term, int length, String suffix) {
+        int offset = length - suffix.length();
+        for (int i = 0; i < suffix.length(); i++) {
+            if (term[offset + i] != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sibilant(char[] term, int length) {
+        char last = term[length - 1];
+        return last == 's' || last == 'x' || last == 'z'
+                || (last == 'h' && (term[length - 2] == 'c' || term[length - 2] == 's'));
+    }
+
+    private static int undouble(char[] term, int length) {
+        // "programming" -> "programm" -> "program"
+        if (length > 2 && term[length - 1] == term[length - 2] && "aeiouslz".indexOf(term[length - 1]) < 0) {
+            return length - 1;
+        }
+        return length;
+    }
+}
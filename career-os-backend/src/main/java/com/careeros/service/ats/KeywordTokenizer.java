@@ -0,0 +1,60 @@
+package com.careeros.service.ats;
+
+/**
+ * Splits text into lowercase terms in one pass over its characters, reusing a single buffer.
+ * Letters, digits and a trailing + or # form terms ("c++", "c#"); a dot between letters or digits
+ * stays inside a term ("node.js", "asp.net", ".net"); anything else separates terms, so "front-end"
+ * and "ci/cd" read as two terms each.
+ */
+final class KeywordTokenizer {
+
+    /**
+     * Receives each term; the buffer is reused for the next term, so copy what must be kept
+     */
+    interface TermSink {
+        void term(char[] buffer, int length, boolean alphabetic, int start, int end);
+    }
+
+    private KeywordTokenizer() {
+    }
+
+    static void tokenize(CharSequence text, TermSink sink) {
+        char[] buffer = new char[32];
+        int length = 0;
+        int start = -1;
+        boolean alphabetic = true;
+        int textLength = text.length();
+
+        for (int i = 0; i <= textLength; i++) {
+            char c = i < textLength ? text.charAt(i) : ' ';
+            boolean partOfTerm;
+            if (Character.isLetterOrDigit(c)) {
+                partOfTerm = true;
+                alphabetic &= Character.isLetter(c);
+            } else if (c == '+' || c == '#') {
+                partOfTerm = length > 0;
+                alphabetic = false;
+            } else if (c == '.') {
+                boolean nextIsWordChar = i + 1 < textLength && Character.isLetterOrDigit(text.charAt(i + 1));
+                partOfTerm = nextIsWordChar && (length == 0 || Character.isLetterOrDigit(buffer[length - 1]));
+                alphabetic &= !partOfTerm;
+            } else {
+                partOfTerm = false;
+            }
+
+            if (partOfTerm) {
+                if (length == 0) {
+                    start = i;
+                }
+                if (length == buffer.length) {
+                    buffer = java.util.Arrays.copyOf(buffer, length * 2);
+                }
+                buffer[length++] = Character.toLowerCase(c);
+            } else if (length > 0) {
+                sink.term(buffer, length, alphabetic, start, i);
+                length = 0;
+                alphabetic = true;
+            }
+        }
+    }
+}
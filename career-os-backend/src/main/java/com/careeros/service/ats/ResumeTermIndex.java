@@ -0,0 +1,60 @@
+package com.careeros.service.ats;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Every run of up to {@link #MAX_PHRASE_TERMS} consecutive normalized terms of a resume, so checking a
+ * keyword or phrase is one hash lookup. Built once per resume and read-only afterwards, so one index
+ * can be matched against many postings in parallel; see {@link KeywordProfile#match}.
+ */
+public final class ResumeTermIndex {
+
+    static final int MAX_PHRASE_TERMS = 5;
+
+    private final Set<String> sequences;
+
+    private ResumeTermIndex(Set<String> sequences) {
+        this.sequences = sequences;
+    }
+
+    public static ResumeTermIndex of(CharSequence text) {
+        Set<String> sequences = new HashSet<>();
+        String[] recent = new String[MAX_PHRASE_TERMS];
+        int[] count = {0};
+        KeywordTokenizer.tokenize(text != null ? text : "", (buffer, length, alphabetic, start, end) -> {
+            String term = new String(buffer, 0, alphabetic ? KeywordStemmer.stem(buffer, length) : length);
+            recent[count[0]++ % MAX_PHRASE_TERMS] = term;
+            // Each run ending at this term, from the term alone up to MAX_PHRASE_TERMS back
+            StringBuilder run = new StringBuilder(term);
+            sequences.add(term);
+            for (int back = 1; back < Math.min(count[0], MAX_PHRASE_TERMS); back++) {
+                run.insert(0, ' ').insert(0, recent[(count[0] - 1 - back) % MAX_PHRASE_TERMS]);
+                sequences.add(run.toString());
+            }
+        });
+        return new ResumeTermIndex(sequences);
+    }
+
+    public int size() {
+        return sequences.size();
+    }
+
+    boolean contains(String normalizedPhrase) {
+        return sequences.contains(normalizedPhrase);
+    }
+
+    /**
+     * A phrase in the form the index stores it: normalized terms separated by single spaces
+     */
+    static String normalize(String phrase) {
+        StringBuilder normalized = new StringBuilder();
+        KeywordTokenizer.tokenize(phrase != null ? phrase : "", (buffer, length, alphabetic, start, end) -> {
+            if (normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            normalized.append(buffer, 0, alphabetic ? KeywordStemmer.stem(buffer, length) : length);
+        });
+        return normalized.toString();
+    }
+}
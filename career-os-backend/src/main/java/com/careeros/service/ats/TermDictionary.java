@@ -0,0 +1,65 @@
+package com.careeros.service.ats;
+
+import java.util.Arrays;
+
+/**
+ * Character trie from terms to dense ids. Lookups walk the trie straight from the tokenizer's
+ * buffer, so scanning text never creates a String per term.
+ */
+final class TermDictionary {
+
+    private final LongIntMap children = new LongIntMap(256);
+    private int[] termIds = new int[64];
+    private int nodes = 1;
+    private int terms;
+
+    TermDictionary() {
+        Arrays.fill(termIds, -1);
+    }
+
+    int size() {
+        return terms;
+    }
+
+    /**
+     * Id of the term, or -1 when it is not in the dictionary
+     */
+    int lookup(char[] term, int length) {
+        int node = 0;
+        for (int i = 0; i < length; i++) {
+            node = children.get(key(node, term[i]));
+            if (node < 0) {
+                return -1;
+            }
+        }
+        return termIds[node];
+    }
+
+    /**
+     * Id of the term, adding it first when new
+     */
+    int add(char[] term, int length) {
+        int node = 0;
+        for (int i = 0; i < length; i++) {
+            long key = key(node, term[i]);
+            int child = children.get(key);
+            if (child < 0) {
+                child = nodes++;
+                if (child == termIds.length) {
+                    termIds = Arrays.copyOf(termIds, child * 2);
+                    Arrays.fill(termIds, child, termIds.length, -1);
+                }
+                children.put(key, child);
+            }
+            node = child;
+        }
+        if (termIds[node] < 0) {
+            termIds[node] = terms++;
+        }
+        return termIds[node];
+    }
+
+    private static long key(int node, char c) {
+        return ((long) node << 16) | c;
+    }
+}
@@ -0,0 +1,145 @@
+package com.careeros.service.career;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.service.market.JobDimensions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and serves the in-memory {@link RoleGraph} of career transitions.
+ * The graph is rebuilt offline from active postings; queries never touch the database.
+ * Demand trends count every posting by posted date, including ones the lifecycle sweeper has since
+ * expired, since only counting active postings would make every role look like it is growing.
+ */
+@Service
+public class CareerGraphService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CareerGraphService.class);
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Value("${app.career-graph.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.career-graph.trend-days:90}")
+    private int trendDays;
+
+    @Value("${app.career-graph.min-postings:5}")
+    private int minPostings;
+
+    @Value("${app.career-graph.max-neighbors:15}")
+    private int maxNeighbors;
+
+    @Value("${app.career-graph.min-overlap:0.2}")
+    private double minOverlap;
+
+    private volatile RoleGraph graph = RoleGraph.empty();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the role graph from all active postings
+     */
+    @Scheduled(cron = "${app.career-graph.cron:0 0 4 * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime recentSince = now.minusDays(trendDays);
+            LocalDateTime priorSince = recentSince.minusDays(trendDays);
+
+            RoleGraph.Builder builder = new RoleGraph.Builder();
+            UUID afterId = MIN_UUID;
+            while (true) {
+                List<UUID> ids = jobPostingRepository.findActiveJobIdsAfter(afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                for (JobPosting job : jobPostingRepository.findAllWithSkillsByIdIn(ids)) {
+                    String roleKey = job.getRoleKey() != null ? job.getRoleKey() : JobDimensions.roleKey(job.getTitle());
+                    if (JobDimensions.UNKNOWN_ROLE.equals(roleKey)) {
+                        continue;
+                    }
+                    builder.add(roleKey, job.getTitle(), skillKeys(job), JobDimensions.annualSalaryMidpoint(job));
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+            for (Object[] row : jobPostingRepository.countPostedByRoleKey(recentSince, now)) {
+                builder.recentPostings((String) row[0], ((Number) row[1]).intValue());
+            }
+            for (Object[] row : jobPostingRepository.countPostedByRoleKey(priorSince, recentSince)) {
+                builder.priorPostings((String) row[0], ((Number) row[1]).intValue());
+            }
+
+            graph = builder.build(minPostings, maxNeighbors, minOverlap);
+            logger.info("Rebuilt career graph: {} roles, {} transitions in {} ms",
+                    graph.size(), graph.edgeCount(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception e) {
+            logger.error("Failed to rebuild career graph", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Best career transitions from a role for a user with the given skills
+     */
+    public List<RoleGraph.Transition> suggestTransitions(String currentRole, Set<String> userSkillKeys, int maxHops, int limit) {
+        return graph.suggestTransitions(JobDimensions.roleKey(currentRole), userSkillKeys, maxHops, limit);
+    }
+
+    /**
+     * Growing roles that fit the user's skills
+     */
+    public List<RoleGraph.RoleNode> getTrendingRolesForSkills(Set<String> userSkillKeys, int limit) {
+        return graph.trendingRolesForSkills(userSkillKeys, limit);
+    }
+
+    /**
+     * Most required skills of a role, empty if the role is not in the graph
+     */
+    public List<String> getTopSkillsForRole(String role) {
+        return graph.role(JobDimensions.roleKey(role)).map(RoleGraph.RoleNode::topSkills).orElse(List.of());
+    }
+
+    private static Set<String> skillKeys(JobPosting job) {
+        if (job.getRequiredSkills() == null) {
+            return Set.of();
+        }
+        return job.getRequiredSkills().stream()
+                .filter(Objects::nonNull)
+                .map(JobDimensions::skillKey)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
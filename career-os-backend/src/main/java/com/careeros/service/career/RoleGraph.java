@@ -0,0 +1,328 @@
+package com.careeros.service.career;
+
+import com.careeros.service.market.SalarySketch;
+
+import java.util.*;
+
+/**
+ * Immutable in-memory graph of career transitions between roles, built from posting skill sets.
+ * Nodes are normalized roles with their skill profile, median salary and demand growth.
+ * Each role links to the roles whose skill profiles overlap most with its own; edges carry the
+ * skill overlap, the salary delta and the target's demand trend. Suggestions are a best-first
+ * traversal from the user's role, so a query touches a few hundred edges at most.
+ */
+public final class RoleGraph {
+
+    private static final int PROFILE_SKILLS = 30;
+    private static final double HOP_PENALTY = 0.1;
+    // Fewer postings across both windows than this say nothing about a trend
+    private static final int MIN_TREND_POSTINGS = 10;
+    // Added to both window counts, so growth from a handful of postings stays modest
+    private static final int GROWTH_SMOOTHING = 10;
+
+    public record RoleNode(String roleKey, String title, int postings, Double medianSalary,
+                           double demandGrowth, List<String> topSkills) {}
+
+    public record Edge(int to, double skillOverlap, double salaryDelta, double demandTrend) {}
+
+    public record Transition(List<RoleNode> path, double pathCost, Double salaryDelta, double demandGrowth,
+                             List<String> skillsToLearn) {}
+
+    private final RoleNode[] nodes;
+    private final Edge[][] edges;
+    private final List<Map<String, Double>> skillWeights; // Share of a role's postings requiring each skill
+    private final double[] norms;
+    private final Map<String, Integer> ordinals;
+
+    private RoleGraph(RoleNode[] nodes, Edge[][] edges, List<Map<String, Double>> skillWeights, double[] norms) {
+        this.nodes = nodes;
+        this.edges = edges;
+        this.skillWeights = skillWeights;
+        this.norms = norms;
+        this.ordinals = new HashMap<>();
+        for (int i = 0; i < nodes.length; i++) {
+            ordinals.put(nodes[i].roleKey(), i);
+        }
+    }
+
+    public static RoleGraph empty() {
+        return new RoleGraph(new RoleNode[0], new Edge[0][], List.of(), new double[0]);
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public int edgeCount() {
+        return Arrays.stream(edges).mapToInt(e -> e.length).sum();
+    }
+
+    public Optional<RoleNode> role(String roleKey) {
+        Integer ordinal = ordinals.get(roleKey);
+        return ordinal != null ? Optional.of(nodes[ordinal]) : Optional.empty();
+    }
+
+    /**
+     * Best transitions from a role, one path per destination, ranked by salary gain and demand growth
+     * discounted by path cost. Falls back to the role closest to the user's skills when the role is unknown.
+     */
+    public List<Transition> suggestTransitions(String roleKey, Set<String> userSkills, int maxHops, int limit) {
+        Integer ordinal = ordinals.get(roleKey);
+        int start = ordinal != null ? ordinal : closestRole(userSkills);
+        if (start < 0) {
+            return List.of();
+        }
+
+        double[] cost = new double[nodes.length];
+        int[] hops = new int[nodes.length];
+        int[] previous = new int[nodes.length];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        Arrays.fill(previous, -1);
+        cost[start] = 0;
+
+        // Dijkstra over (1 - overlap) edge costs, not expanding past maxHops
+        PriorityQueue<double[]> queue = new PriorityQueue<>(Comparator.comparingDouble(entry -> entry[1]));
+        queue.add(new double[]{start, 0});
+        boolean[] settled = new boolean[nodes.length];
+        List<Integer> reached = new ArrayList<>();
+
+        while (!queue.isEmpty()) {
+            int current = (int) queue.poll()[0];
+            if (settled[current]) {
+                continue;
+            }
+            settled[current] = true;
+            if (current != start) {
+                reached.add(current);
+            }
+            if (hops[current] >= maxHops) {
+                continue;
+            }
+            for (Edge edge : edges[current]) {
+                double next = cost[current] + (1 - edge.skillOverlap()) + HOP_PENALTY;
+                if (!settled[edge.to()] && next < cost[edge.to()]) {
+                    cost[edge.to()] = next;
+                    hops[edge.to()] = hops[current] + 1;
+                    previous[edge.to()] = current;
+                    queue.add(new double[]{edge.to(), next});
+                }
+            }
+        }
+
+        RoleNode origin = nodes[start];
+        List<double[]> ranked = new ArrayList<>();
+        for (int destination : reached) {
+            RoleNode target = nodes[destination];
+            double salaryGain = relativeGain(origin.medianSalary(), target.medianSalary());
+            if (salaryGain <= 0 && target.demandGrowth() <= 0) {
+                continue; // Neither pays more nor is growing
+            }
+            double utility = 0.6 * clamp(salaryGain) + 0.4 * clamp(target.demandGrowth()) - 0.5 * cost[destination];
+            ranked.add(new double[]{destination, utility});
+        }
+        ranked.sort((a, b) -> Double.compare(b[1], a[1]));
+
+        List<Transition> transitions = new ArrayList<>();
+        for (double[] entry : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            int destination = (int) entry[0];
+            LinkedList<RoleNode> path = new LinkedList<>();
+            for (int at = destination; at != -1; at = previous[at]) {
+                path.addFirst(nodes[at]);
+            }
+
+            RoleNode target = nodes[destination];
+            Double salaryDelta = origin.medianSalary() != null && target.medianSalary() != null
+                    ? target.medianSalary() - origin.medianSalary()
+                    : null;
+            List<String> skillsToLearn = target.topSkills().stream()
+                    .filter(skill -> !userSkills.contains(skill))
+                    .limit(3)
+                    .toList();
+            transitions.add(new Transition(List.copyOf(path), cost[destination], salaryDelta,
+                    target.demandGrowth(), skillsToLearn));
+        }
+        return transitions;
+    }
+
+    /**
+     * Growing roles ranked by demand growth weighted by how well they fit the user's skills
+     */
+    public List<RoleNode> trendingRolesForSkills(Set<String> userSkills, int limit) {
+        List<double[]> ranked = new ArrayList<>();
+        for (int i = 0; i < nodes.length; i++) {
+            double fit = skillFit(i, userSkills);
+            if (fit > 0 && nodes[i].demandGrowth() > 0) {
+                ranked.add(new double[]{i, fit * clamp(nodes[i].demandGrowth())});
+            }
+        }
+        ranked.sort((a, b) -> Double.compare(b[1], a[1]));
+        return ranked.stream().limit(limit).map(entry -> nodes[(int) entry[0]]).toList();
+    }
+
+    private int closestRole(Set<String> userSkills) {
+        int best = -1;
+        double bestFit = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            double fit = skillFit(i, userSkills);
+            if (fit > bestFit) {
+                best = i;
+                bestFit = fit;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Cosine similarity between a role's skill profile and a user's (unweighted) skill set
+     */
+    private double skillFit(int ordinal, Set<String> userSkills) {
+        if (userSkills.isEmpty() || norms[ordinal] == 0) {
+            return 0;
+        }
+        double dot = 0;
+        for (String skill : userSkills) {
+            dot += skillWeights.get(ordinal).getOrDefault(skill, 0.0);
+        }
+        return dot / (norms[ordinal] * Math.sqrt(userSkills.size()));
+    }
+
+    private static double relativeGain(Double from, Double to) {
+        if (from == null || to == null || from <= 0) {
+            return 0;
+        }
+        return (to - from) / from;
+    }
+
+    /**
+     * Smoothed relative change from the prior to the recent window; 0 when there are too few postings
+     */
+    private static double demandGrowth(int recent, int prior) {
+        if (recent + prior < MIN_TREND_POSTINGS) {
+            return 0.0;
+        }
+        return (double) (recent + GROWTH_SMOOTHING) / (prior + GROWTH_SMOOTHING) - 1;
+    }
+
+    private static double clamp(double value) {
+        return Math.max(-1, Math.min(1, value));
+    }
+
+    /**
+     * Accumulates per-role statistics from postings, then links roles by skill profile similarity
+     */
+    public static class Builder {
+
+        private static class RoleStats {
+            int postings;
+            final Map<String, Integer> titles = new HashMap<>();
+            final Map<String, Integer> skills = new HashMap<>();
+            final SalarySketch salaries = new SalarySketch();
+        }
+
+        private final Map<String, RoleStats> roles = new HashMap<>();
+        private final Map<String, Integer> recentPostings = new HashMap<>();
+        private final Map<String, Integer> priorPostings = new HashMap<>();
+
+        /**
+         * Count one active posting towards the role's profile
+         */
+        public Builder add(String roleKey, String title, Collection<String> skills, Double annualSalary) {
+            RoleStats stats = roles.computeIfAbsent(roleKey, key -> new RoleStats());
+            stats.postings++;
+            if (title != null) {
+                stats.titles.merge(title.trim(), 1, Integer::sum);
+            }
+            new HashSet<>(skills).forEach(skill -> stats.skills.merge(skill, 1, Integer::sum));
+            if (annualSalary != null) {
+                stats.salaries.add(annualSalary);
+            }
+            return this;
+        }
+
+        /**
+         * Postings of a role, active or not, in the recent half of the trend window
+         */
+        public Builder recentPostings(String roleKey, int count) {
+            recentPostings.merge(roleKey, count, Integer::sum);
+            return this;
+        }
+
+        /**
+         * Postings of a role, active or not, in the half of the trend window before the recent one
+         */
+        public Builder priorPostings(String roleKey, int count) {
+            priorPostings.merge(roleKey, count, Integer::sum);
+            return this;
+        }
+
+        public RoleGraph build(int minPostings, int maxNeighbors, double minOverlap) {
+            List<String> keys = roles.entrySet().stream()
+                    .filter(entry -> entry.getValue().postings >= minPostings)
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .toList();
+
+            RoleNode[] nodes = new RoleNode[keys.size()];
+            List<Map<String, Double>> weights = new ArrayList<>(keys.size());
+            double[] norms = new double[keys.size()];
+            Map<String, List<double[]>> bySkill = new HashMap<>(); // skill -> [ordinal, weight]
+
+            for (int i = 0; i < keys.size(); i++) {
+                RoleStats stats = roles.get(keys.get(i));
+                Map<String, Double> profile = new LinkedHashMap<>();
+                stats.skills.entrySet().stream()
+                        .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
+                        .limit(PROFILE_SKILLS)
+                        .forEach(entry -> profile.put(entry.getKey(), (double) entry.getValue() / stats.postings));
+
+                double norm = Math.sqrt(profile.values().stream().mapToDouble(w -> w * w).sum());
+                for (Map.Entry<String, Double> entry : profile.entrySet()) {
+                    bySkill.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(new double[]{i, entry.getValue()});
+                }
+
+                String title = stats.titles.entrySet().stream()
+                        .max(Map.Entry.comparingByValue())
+                        .map(Map.Entry::getKey)
+                        .orElse(keys.get(i));
+                int recent = recentPostings.getOrDefault(keys.get(i), 0);
+                int prior = priorPostings.getOrDefault(keys.get(i), 0);
+                double growth = demandGrowth(recent, prior);
+                nodes[i] = new RoleNode(keys.get(i), title, stats.postings,
+                        stats.salaries.isEmpty() ? null : stats.salaries.quantile(0.5), growth,
+                        List.copyOf(profile.keySet()));
+                weights.add(profile);
+                norms[i] = norm;
+            }
+
+            // Cosine similarity through the skill -> roles lists, so only roles sharing a skill are compared
+            Edge[][] edges = new Edge[nodes.length][];
+            double[] dot = new double[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                Arrays.fill(dot, 0);
+                for (Map.Entry<String, Double> entry : weights.get(i).entrySet()) {
+                    for (double[] other : bySkill.get(entry.getKey())) {
+                        dot[(int) other[0]] += entry.getValue() * other[1];
+                    }
+                }
+
+                List<Edge> neighbors = new ArrayList<>();
+                for (int j = 0; j < nodes.length; j++) {
+                    if (j == i || dot[j] == 0) {
+                        continue;
+                    }
+                    double overlap = dot[j] / (norms[i] * norms[j]);
+                    if (overlap >= minOverlap) {
+                        double salaryDelta = nodes[i].medianSalary() != null && nodes[j].medianSalary() != null
+                                ? nodes[j].medianSalary() - nodes[i].medianSalary()
+                                : 0;
+                        neighbors.add(new Edge(j, overlap, salaryDelta, nodes[j].demandGrowth()));
+                    }
+                }
+                neighbors.sort((a, b) -> Double.compare(b.skillOverlap(), a.skillOverlap()));
+                edges[i] = neighbors.subList(0, Math.min(maxNeighbors, neighbors.size())).toArray(new Edge[0]);
+            }
+
+            return new RoleGraph(nodes, edges, weights, norms);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.careeros.service.export;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.UUID;
+
+/**
+ * Status of a document export job, as stored in Redis and returned to the client.
+ * Times are epoch milliseconds.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    private UUID id;
+    private UUID userId;
+    private Status status = Status.QUEUED;
+    private int totalFiles;
+    private int completedFiles;
+    private long fileSize;
+    private String fileKey;
+    private String downloadUrl;
+    private String error;
+    private long createdAt;
+    private long finishedAt;
+
+    // Constructors
+    public ExportJob() {}
+
+    public ExportJob(UUID id, UUID userId, int totalFiles) {
+        this.id = id;
+        this.userId = userId;
+        this.totalFiles = totalFiles;
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    public int getProgress() {
+        return totalFiles == 0 ? 0 : completedFiles * 100 / totalFiles;
+    }
+
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public int getTotalFiles() { return totalFiles; }
+    public void setTotalFiles(int totalFiles) { this.totalFiles = totalFiles; }
+
+    public int getCompletedFiles() { return completedFiles; }
+    public void setCompletedFiles(int completedFiles) { this.completedFiles = completedFiles; }
+
+    public long getFileSize() { return fileSize; }
+    public void setFileSize(long fileSize) { this.fileSize = fileSize; }
+
+    public String getFileKey() { return fileKey; }
+    public void setFileKey(String fileKey) { this.fileKey = fileKey; }
+
+    public String getDownloadUrl() { return downloadUrl; }
+    public void setDownloadUrl(String downloadUrl) { this.downloadUrl = downloadUrl; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public long getCreatedAt() { return createdAt; }
+    public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
+
+    public long getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(long finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -0,0 +1,379 @@
+package com.careeros.service.export;
+
+import com.careeros.exception.TooManyRequestsException;
+import com.careeros.service.CacheService;
+import com.careeros.service.ResumeBuilderService;
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Background export of all of a user's resumes (PDF, DOCX and JSON) into one ZIP file.
+ * Jobs run on a small fixed pool of workers behind a bounded queue; when the queue is full new jobs are
+ * refused with 429 rather than piling up renders that would compete with interactive downloads for the
+ * PDF converters. Job status lives in Redis, so any instance can answer a poll, and the ZIP is stored
+ * in {@link BlobStorage} until it expires. Each user may have one export queued or running at a time, so
+ * one user cannot fill the queue.
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private static final String KEY_PREFIX = "export:job:";
+
+    private static final String USER_LOCK_PREFIX = "export:user:";
+
+    private static final int FILES_PER_RESUME = 3;
+
+    @Autowired
+    private ResumeBuilderService resumeBuilderService;
+
+    @Autowired
+    private BlobStorage blobStorage;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.export.workers:2}")
+    private int workers;
+
+    @Value("${app.export.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${app.export.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${app.export.user-lock-ttl:1h}")
+    private Duration userLockTtl;
+
+    @Value("${app.export.prefix:exports}")
+    private String prefix;
+
+    @Value("${app.export.events.poll-interval:1s}")
+    private Duration pollInterval;
+
+    @Value("${app.export.events.timeout:10m}")
+    private Duration eventsTimeout;
+
+    private ThreadPoolExecutor executor;
+
+    private ScheduledExecutorService eventPoller;
+
+    private Counter rejected;
+
+    private Counter rejectedPerUser;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "export-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        eventPoller = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "export-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("export.jobs.queued", executor, e -> e.getQueue().size())
+                .description("Export jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("export.jobs.running", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Export jobs being rendered")
+                .register(meterRegistry);
+        rejected = Counter.builder("export.jobs.rejected")
+                .description("Export jobs refused because the queue was full")
+                .register(meterRegistry);
+        rejectedPerUser = Counter.builder("export.jobs.rejected.per-user")
+                .description("Export jobs refused because the user already had one queued or running")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        eventPoller.shutdownNow();
+        // Queued jobs are lost with the instance; their status expires from Redis
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue an export of all of the user's resumes. Throws {@link TooManyRequestsException} when the user
+     * already has an export queued or running, or when the queue is full.
+     */
+    public ExportJob submit(UUID userId) {
+        List<UUID> resumeIds = resumeBuilderService.getUserResumeIds(userId);
+        if (resumeIds.isEmpty()) {
+            throw new IllegalArgumentException("There are no resumes to export");
+        }
+
+        ExportJob job = new ExportJob(UUID.randomUUID(), userId, resumeIds.size() * FILES_PER_RESUME);
+        // Held until the job finishes; the TTL frees it if the job is lost with its instance
+        String userLock = USER_LOCK_PREFIX + userId;
+        if (!cacheService.tryLock(userLock, job.getId().toString(), userLockTtl)) {
+            rejectedPerUser.increment();
+            throw new TooManyRequestsException("An export is already in progress, please wait for it to finish", Duration.ofSeconds(30));
+        }
+        try {
+            save(job);
+            executor.execute(() -> run(job, resumeIds));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            redisTemplate.delete(KEY_PREFIX + job.getId());
+            cacheService.releaseLock(userLock, job.getId().toString());
+            throw new TooManyRequestsException("Too many exports in progress, please try again shortly", Duration.ofSeconds(30));
+        } catch (RuntimeException e) {
+            cacheService.releaseLock(userLock, job.getId().toString());
+            throw e;
+        }
+        logger.info("Queued export {} of {} resumes for user: {}", job.getId(), resumeIds.size(), userId);
+        return job;
+    }
+
+    /**
+     * Status of one of the user's export jobs; empty when unknown, expired or someone else's
+     */
+    public Optional<ExportJob> get(UUID userId, UUID jobId) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+        if (value instanceof ExportJob job && job.getUserId().equals(userId)) {
+            return Optional.of(job);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The ZIP file of one of the user's completed export jobs
+     */
+    public Optional<BlobInfo> getFile(UUID userId, UUID jobId) throws IOException {
+        Optional<ExportJob> job = get(userId, jobId);
+        if (job.isEmpty() || job.get().getStatus() != ExportJob.Status.COMPLETED) {
+            return Optional.empty();
+        }
+        return blobStorage.stat(job.get().getFileKey());
+    }
+
+    /**
+     * Server-sent events for a job: "progress" whenever more files are done, then "completed" or
+     * "failed" with the final status, after which the stream closes. Status is read from Redis, so the
+     * job may be running on another instance.
+     */
+    public SseEmitter events(ExportJob job) {
+        SseEmitter emitter = new SseEmitter(eventsTimeout.toMillis());
+        ProgressStream stream = new ProgressStream(emitter, job.getUserId(), job.getId());
+        stream.future = eventPoller.scheduleWithFixedDelay(stream, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        emitter.onCompletion(stream::cancel);
+        emitter.onTimeout(stream::cancel);
+        emitter.onError(error -> stream.cancel());
+        return emitter;
+    }
+
+    /**
+     * Delete export files older than the job TTL; their status has already expired from Redis
+     */
+    @Scheduled(cron = "${app.export.cleanup-cron:0 15 * * * *}")
+    public void deleteExpiredFiles() {
+        Instant cutoff = Instant.now().minus(ttl);
+        try {
+            for (BlobInfo blob : blobStorage.list(prefix + "/")) {
+                if (blob.lastModified().isBefore(cutoff)) {
+                    blobStorage.delete(blob.key());
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not clean up expired exports under {}", prefix, e);
+        }
+    }
+
+    private void run(ExportJob job, List<UUID> resumeIds) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        UUID userId = job.getUserId();
+        job.setStatus(ExportJob.Status.RUNNING);
+        save(job);
+
+        Path zipFile = null;
+        try {
+            zipFile = blobStorage.newStagingFile();
+            try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipFile)))) {
+                // The renderers write into the current entry and must not close the archive
+                OutputStream entry = StreamUtils.nonClosing(zip);
+                for (UUID resumeId : resumeIds) {
+                    zip.putNextEntry(new ZipEntry(resumeId + "/resume.pdf"));
+                    copyFile(() -> resumeBuilderService.renderPdfResume(userId, resumeId, null), entry);
+                    completeFile(zip, job);
+
+                    zip.putNextEntry(new ZipEntry(resumeId + "/resume.docx"));
+                    copyFile(() -> resumeBuilderService.renderDocxResume(userId, resumeId), entry);
+                    completeFile(zip, job);
+
+                    zip.putNextEntry(new ZipEntry(resumeId + "/resume.json"));
+                    resumeBuilderService.writeJsonResume(userId, resumeId, entry);
+                    completeFile(zip, job);
+                }
+            }
+
+            BlobInfo blob = blobStorage.move(zipFile, prefix + "/" + userId + "/" + job.getId() + ".zip");
+            zipFile = null;
+            job.setFileKey(blob.key());
+            job.setFileSize(blob.size());
+            job.setDownloadUrl("/api/v1/exports/" + job.getId() + "/download");
+            finish(job, ExportJob.Status.COMPLETED, sample);
+            logger.info("Export {} for user {} completed: {} files, {} bytes", job.getId(), userId, job.getTotalFiles(), blob.size());
+        } catch (Exception e) {
+            logger.error("Export {} for user {} failed", job.getId(), userId, e);
+            job.setError("Export failed. Please try again later.");
+            finish(job, ExportJob.Status.FAILED, sample);
+        } finally {
+            deleteQuietly(zipFile);
+            cacheService.releaseLock(USER_LOCK_PREFIX + userId, job.getId().toString());
+        }
+    }
+
+    /**
+     * Copy a rendered file into the archive after its render transaction has ended
+     */
+    private void copyFile(Supplier<BlobInfo> render, OutputStream out) throws IOException {
+        BlobInfo file = render.get();
+        try {
+            blobStorage.copyTo(file.key(), 0, file.size(), out);
+        } catch (NoSuchFileException e) {
+            // Expired from the render cache since the lookup; render it again
+            file = render.get();
+            blobStorage.copyTo(file.key(), 0, file.size(), out);
+        }
+    }
+
+    private void completeFile(ZipOutputStream zip, ExportJob job) throws IOException {
+        zip.closeEntry();
+        job.setCompletedFiles(job.getCompletedFiles() + 1);
+        save(job);
+    }
+
+    private void finish(ExportJob job, ExportJob.Status status, Timer.Sample sample) {
+        job.setStatus(status);
+        job.setFinishedAt(System.currentTimeMillis());
+        save(job);
+        sample.stop(Timer.builder("export.job.duration")
+                .description("Time to run an export job, excluding time queued")
+                .tag("outcome", status.name().toLowerCase())
+                .register(meterRegistry));
+    }
+
+    private void save(ExportJob job) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + job.getId(), job, ttl);
+        } catch (RuntimeException e) {
+            if (job.getStatus() == ExportJob.Status.QUEUED) {
+                // Without a status record the client could never find the job
+                throw e;
+            }
+            logger.warn("Could not update status of export {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete temporary file {}", file, e);
+            }
+        }
+    }
+
+    private class ProgressStream implements Runnable {
+
+        private final SseEmitter emitter;
+        private final UUID userId;
+        private final UUID jobId;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean done;
+        private int sentFiles = -1;
+
+        ProgressStream(SseEmitter emitter, UUID userId, UUID jobId) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void run() {
+            if (done) {
+                // Finished on the first run, before the future was set
+                cancel();
+                return;
+            }
+            try {
+                Optional<ExportJob> job = get(userId, jobId);
+                if (job.isEmpty()) {
+                    // Expired while the client was listening
+                    emitter.complete();
+                    cancel();
+                    return;
+                }
+                ExportJob status = job.get();
+                if (status.getStatus().isFinished()) {
+                    emitter.send(SseEmitter.event().name(status.getStatus().name().toLowerCase()).data(status));
+                    emitter.complete();
+                    cancel();
+                } else if (status.getCompletedFiles() != sentFiles) {
+                    sentFiles = status.getCompletedFiles();
+                    emitter.send(SseEmitter.event().name("progress").data(status));
+                }
+            } catch (IOException | RuntimeException e) {
+                // Client gone or Redis unavailable; the client can fall back to polling
+                emitter.completeWithError(e);
+                cancel();
+            }
+        }
+
+        void cancel() {
+            done = true;
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
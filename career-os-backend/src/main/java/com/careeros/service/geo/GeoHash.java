@@ -0,0 +1,96 @@
+package com.careeros.service.geo;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Geohash encoding and radius cell covering.
+ * A geohash prefix names a lat/lon grid cell, so "all cells within r km" becomes
+ * an equality lookup on an indexed prefix column.
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    /** Precision stored on job postings (~1.2km x 0.6km cells) */
+    public static final int STORED_PRECISION = 6;
+
+    private GeoHash() {}
+
+    public static String encode(GeoPoint point, int precision) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (point.longitude() >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (point.latitude() >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Coarsest useful prefix length for a radius query: small cells for short radii, capped at 3
+     * so wide searches stay a bounded IN list
+     */
+    public static int coverPrecision(double radiusKm) {
+        return radiusKm <= 100 ? 4 : 3;
+    }
+
+    /**
+     * Geohash cells at the given precision that together cover the circle around center.
+     * Walks the bounding box at half-cell steps so no cell the circle touches is skipped.
+     */
+    public static Set<String> cover(GeoPoint center, double radiusKm, int precision) {
+        double latDelta = radiusKm / 111.32;
+        double cosLat = Math.max(0.01, Math.cos(Math.toRadians(center.latitude())));
+        double lonDelta = Math.min(180, radiusKm / (111.32 * cosLat));
+
+        double minLat = Math.max(-90, center.latitude() - latDelta);
+        double maxLat = Math.min(90, center.latitude() + latDelta);
+        double minLon = center.longitude() - lonDelta;
+        double maxLon = center.longitude() + lonDelta;
+
+        // Cell size in degrees at this precision
+        int bits = precision * 5;
+        double cellLat = 180.0 / Math.pow(2, bits / 2);
+        double cellLon = 360.0 / Math.pow(2, (bits + 1) / 2);
+
+        Set<String> cells = new TreeSet<>();
+        for (double lat = minLat; lat <= maxLat + cellLat / 2; lat += cellLat / 2) {
+            double clampedLat = Math.min(lat, maxLat);
+            for (double lon = minLon; lon <= maxLon + cellLon / 2; lon += cellLon / 2) {
+                double clampedLon = Math.min(lon, maxLon);
+                double wrappedLon = ((clampedLon + 540) % 360) - 180;
+                cells.add(encode(new GeoPoint(clampedLat, wrappedLon), precision));
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,138 @@
+package com.careeros.service.geo;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.service.market.JobDimensions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Geospatial job search and location scoring.
+ * Postings carry gazetteer coordinates and a geohash cell; radius queries look up the covering
+ * cells through the geohash prefix index and then filter by exact distance.
+ */
+@Service
+public class JobGeoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobGeoService.class);
+
+    @Autowired
+    private LocationGazetteer locationGazetteer;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Value("${app.geo.score-half-life-km:50}")
+    private double scoreHalfLifeKm;
+
+    @Value("${app.market-insights.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Set a posting's coordinates and geohash from its location, clearing them if it cannot be resolved
+     */
+    public void locate(JobPosting job) {
+        Optional<GeoPoint> point = locationGazetteer.resolve(job.getLocation());
+        job.setLatitude(point.map(GeoPoint::latitude).orElse(null));
+        job.setLongitude(point.map(GeoPoint::longitude).orElse(null));
+        job.setGeohash(point.map(p -> GeoHash.encode(p, GeoHash.STORED_PRECISION)).orElse(null));
+    }
+
+    /**
+     * Active jobs within radiusKm of a location, nearest first. Empty if the location is unknown.
+     */
+    public List<JobPosting> findActiveJobsWithinRadius(String location, double radiusKm) {
+        return locationGazetteer.resolve(location)
+                .map(center -> findActiveJobsWithinRadius(center, radiusKm))
+                .orElse(List.of());
+    }
+
+    public List<JobPosting> findActiveJobsWithinRadius(GeoPoint center, double radiusKm) {
+        int precision = GeoHash.coverPrecision(radiusKm);
+        Set<String> cells = GeoHash.cover(center, radiusKm, precision);
+        List<UUID> ids = precision == 4
+                ? jobPostingRepository.findActiveIdsInGeohashCells4(cells)
+                : jobPostingRepository.findActiveIdsInGeohashCells3(cells);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Cells over-cover the circle; trim to the exact radius
+        Map<JobPosting, Double> distances = new IdentityHashMap<>();
+        for (JobPosting job : jobPostingRepository.findAllWithSkillsByIdIn(ids)) {
+            double distance = center.distanceKm(new GeoPoint(job.getLatitude(), job.getLongitude()));
+            if (distance <= radiusKm) {
+                distances.put(job, distance);
+            }
+        }
+
+        List<JobPosting> jobs = new ArrayList<>(distances.keySet());
+        jobs.sort(Comparator.comparingDouble(distances::get));
+        return jobs;
+    }
+
+    /**
+     * Location fit between 0 and 1. Remote jobs fit everyone; otherwise the score halves every
+     * scoreHalfLifeKm of distance. Falls back to location key equality when either side is unknown.
+     */
+    public double locationScore(JobPosting job, String userLocation) {
+        boolean remote = Boolean.TRUE.equals(job.getIsRemote()) || JobDimensions.REMOTE.equals(job.getLocationKey());
+        if (remote) {
+            return 1.0;
+        }
+        if (userLocation == null || userLocation.isBlank() || job.getLocation() == null) {
+            return 0.5;
+        }
+
+        GeoPoint jobPoint = job.getLatitude() != null && job.getLongitude() != null
+                ? new GeoPoint(job.getLatitude(), job.getLongitude())
+                : locationGazetteer.resolve(job.getLocation()).orElse(null);
+        return locationScore(false, jobPoint, JobDimensions.locationKey(job.getLocation()),
+                locationGazetteer.resolve(userLocation).orElse(null), JobDimensions.locationKey(userLocation));
+    }
+
+    /**
+     * Location fit from already resolved points and location keys, for scoring many jobs against one user
+     */
+    public double locationScore(boolean remote, GeoPoint jobPoint, String jobLocationKey,
+                                GeoPoint userPoint, String userLocationKey) {
+        if (remote) {
+            return 1.0;
+        }
+        if (jobPoint != null && userPoint != null) {
+            return Math.pow(0.5, userPoint.distanceKm(jobPoint) / scoreHalfLifeKm);
+        }
+        if (jobLocationKey == null || userLocationKey == null) {
+            return 0.5;
+        }
+        return jobLocationKey.equals(userLocationKey) ? 1.0 : 0.5;
+    }
+
+    /**
+     * Resolve coordinates for postings stored before geocoding existed
+     */
+    public void backfillCoordinates() {
+        UUID afterId = new UUID(0L, 0L);
+        int located = 0;
+        while (true) {
+            List<UUID> ids = jobPostingRepository.findUngeocodedJobIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<JobPosting> jobs = jobPostingRepository.findAllById(ids);
+            jobs.forEach(this::locate);
+            located += (int) jobs.stream().filter(job -> job.getGeohash() != null).count();
+            jobPostingRepository.saveAll(jobs);
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        logger.info("Backfilled coordinates for {} job postings", located);
+    }
+}
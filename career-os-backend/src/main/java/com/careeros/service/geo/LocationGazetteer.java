@@ -0,0 +1,112 @@
+package com.careeros.service.geo;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Offline gazetteer resolving free-text locations like "Austin, TX" to coordinates.
+ * Loaded once from a bundled CSV; lookups are in-memory map reads with no network calls.
+ */
+@Component
+public class LocationGazetteer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationGazetteer.class);
+
+    private static final Map<String, String> ALIASES = Map.of(
+            "nyc", "new york",
+            "new york city", "new york",
+            "sf", "san francisco",
+            "bay area", "san francisco",
+            "silicon valley", "san jose",
+            "la", "los angeles",
+            "dc", "washington",
+            "washington dc", "washington");
+
+    private static final Map<String, String> COUNTRY_ALIASES = Map.of(
+            "usa", "us",
+            "united states", "us",
+            "uk", "gb",
+            "united kingdom", "gb",
+            "england", "gb",
+            "canada", "ca",
+            "india", "in",
+            "germany", "de");
+
+    @Value("${app.geo.gazetteer:classpath:geo/cities.csv}")
+    private Resource gazetteerResource;
+
+    // Normalized city name -> places with that name, most populous first
+    private final Map<String, List<Place>> placesByName = new HashMap<>();
+
+    private record Place(String name, String region, String country, GeoPoint point, long population) {}
+
+    @PostConstruct
+    void load() throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(gazetteerResource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                Place place = new Place(fields[0], normalize(fields[1]), normalize(fields[2]),
+                        new GeoPoint(Double.parseDouble(fields[3]), Double.parseDouble(fields[4])),
+                        Long.parseLong(fields[5]));
+                placesByName.computeIfAbsent(normalize(fields[0]), k -> new ArrayList<>()).add(place);
+            }
+        }
+        placesByName.values().forEach(places -> places.sort(Comparator.comparingLong(Place::population).reversed()));
+        logger.info("Loaded gazetteer with {} place names", placesByName.size());
+    }
+
+    /**
+     * Resolve a location string to coordinates. The first comma segment is the city; later segments
+     * (region or country codes) disambiguate, otherwise the most populous match wins.
+     * Returns empty for remote, blank or unknown locations.
+     */
+    public Optional<GeoPoint> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+
+        String[] segments = location.split("[,/|]");
+        String city = normalize(segments[0].replaceAll("\\(.*?\\)", ""));
+        city = ALIASES.getOrDefault(city, city);
+        if (city.isEmpty() || city.contains("remote")) {
+            return Optional.empty();
+        }
+
+        List<Place> places = placesByName.get(city);
+        if (places == null) {
+            return Optional.empty();
+        }
+
+        for (int i = 1; i < segments.length; i++) {
+            String qualifier = normalize(segments[i]);
+            qualifier = COUNTRY_ALIASES.getOrDefault(qualifier, qualifier);
+            for (Place place : places) {
+                if (qualifier.equals(place.region()) || qualifier.equals(place.country())) {
+                    return Optional.of(place.point());
+                }
+            }
+        }
+        return Optional.of(places.get(0).point());
+    }
+
+    private static String normalize(String value) {
+        String ascii = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return ascii.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+}
@@ -0,0 +1,146 @@
+package com.careeros.service.market;
+
+import com.careeros.entity.JobPosting;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Normalized role and location dimensions for job postings.
+ * Free-text titles and locations are reduced to stable keys so market aggregates
+ * can be looked up by equality instead of LIKE scans.
+ */
+public final class JobDimensions {
+
+    /** Location key used for the all-locations rollup of a role */
+    public static final String ALL_LOCATIONS = "*";
+
+    /** Location key for postings that do not name a location */
+    public static final String ANYWHERE = "anywhere";
+
+    public static final String REMOTE = "remote";
+
+    public static final String UNKNOWN_ROLE = "unknown";
+
+    public static final String UNKNOWN_INDUSTRY = "unknown";
+
+    private static final Set<String> SENIORITY_TOKENS = Set.of(
+            "senior", "sr", "junior", "jr", "lead", "principal", "staff", "intern", "internship",
+            "entry", "level", "mid", "associate", "i", "ii", "iii", "iv", "v");
+
+    private static final Map<String, String> ROLE_ABBREVIATIONS = Map.of(
+            "swe", "software engineer",
+            "sde", "software engineer",
+            "dev", "developer",
+            "eng", "engineer",
+            "engr", "engineer",
+            "mgr", "manager",
+            "pm", "product manager",
+            "ml", "machine learning",
+            "qa", "quality assurance");
+
+    private JobDimensions() {}
+
+    /**
+     * Normalize a job title into a role key, e.g. "Sr. Java Developer (Remote)" -> "java developer"
+     */
+    public static String roleKey(String title) {
+        if (title == null || title.isBlank()) {
+            return UNKNOWN_ROLE;
+        }
+
+        String cleaned = title.toLowerCase(Locale.ROOT)
+                .replaceAll("\\(.*?\\)", " ")
+                .replaceAll("[^a-z0-9+#]+", " ")
+                .trim();
+
+        StringBuilder key = new StringBuilder();
+        for (String token : cleaned.split("\\s+")) {
+            if (token.isEmpty() || SENIORITY_TOKENS.contains(token)) {
+                continue;
+            }
+            if (key.length() > 0) {
+                key.append(' ');
+            }
+            key.append(ROLE_ABBREVIATIONS.getOrDefault(token, token));
+        }
+
+        return key.length() == 0 ? UNKNOWN_ROLE : key.toString();
+    }
+
+    /**
+     * Normalize a location into a location key, e.g. "San Francisco, CA, USA" -> "san francisco".
+     * Blank input maps to {@link #ANYWHERE}, remote postings map to {@link #REMOTE}.
+     */
+    public static String locationKey(String location) {
+        if (location == null || location.isBlank()) {
+            return ANYWHERE;
+        }
+
+        String lower = location.toLowerCase(Locale.ROOT);
+        if (lower.contains(REMOTE)) {
+            return REMOTE;
+        }
+
+        int comma = lower.indexOf(',');
+        String city = comma >= 0 ? lower.substring(0, comma) : lower;
+        String key = city.replaceAll("[^a-z0-9]+", " ").trim();
+        return key.isEmpty() ? ANYWHERE : key;
+    }
+
+    /**
+     * Location key for a lookup request: no location means the all-locations rollup
+     */
+    public static String queryLocationKey(String location) {
+        String key = locationKey(location);
+        return ANYWHERE.equals(key) ? ALL_LOCATIONS : key;
+    }
+
+    /**
+     * Start (Monday) of the ISO week containing the given date
+     */
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Normalize a skill name for counting, e.g. " Spring Boot" -> "spring boot"
+     */
+    public static String skillKey(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalize an industry name, blank input maps to {@link #UNKNOWN_INDUSTRY}
+     */
+    public static String industryKey(String industry) {
+        return industry == null || industry.isBlank() ? UNKNOWN_INDUSTRY : industry.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Salary range midpoint of a posting, annualized from its salary period; null when the range is unknown
+     */
+    public static Double annualSalaryMidpoint(JobPosting job) {
+        Double min = job.getSalaryMin();
+        Double max = job.getSalaryMax();
+        if (min == null && max == null) {
+            return null;
+        }
+
+        double midpoint = min != null && max != null ? (min + max) / 2 : (min != null ? min : max);
+        if (midpoint <= 0) {
+            return null;
+        }
+
+        String period = job.getSalaryPeriod() == null ? "YEARLY" : job.getSalaryPeriod().toUpperCase(Locale.ROOT);
+        return switch (period) {
+            case "HOURLY" -> midpoint * 2080;
+            case "MONTHLY" -> midpoint * 12;
+            default -> midpoint;
+        };
+    }
+}
@@ -0,0 +1,230 @@
+package com.careeros.service.market;
+
+import com.careeros.entity.JobPosting.JobStatus;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.service.CacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled job posting lifecycle sweep:
+ * expires postings past their deadline, retires postings their source no longer lists,
+ * and archives postings that have been closed for a long time.
+ * Works in keyset-paginated chunks of IDs with one set-based UPDATE per chunk, pausing between
+ * chunks so it never competes with interactive traffic. Only one instance in the cluster runs at a time.
+ * The sweep runs on its own thread, so its pauses never hold up the other scheduled tasks.
+ */
+@Service
+public class JobLifecycleSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLifecycleSweeper.class);
+
+    private static final String LOCK_KEY = "lock:job-lifecycle-sweeper";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private enum Phase { EXPIRE, RETIRE_UNSEEN, ARCHIVE }
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.job-lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.job-lifecycle.unseen-after-days:30}")
+    private int unseenAfterDays;
+
+    @Value("${app.job-lifecycle.archive-after-days:180}")
+    private int archiveAfterDays;
+
+    @Value("${app.job-lifecycle.min-pause-ms:100}")
+    private long minPauseMs;
+
+    @Value("${app.job-lifecycle.duty-cycle:0.5}")
+    private double dutyCycle;
+
+    @Value("${app.job-lifecycle.lock-ttl-minutes:10}")
+    private long lockTtlMinutes;
+
+    private final ExecutorService sweepExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "job-lifecycle-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final AtomicLong lastRunProcessed = new AtomicLong();
+    private final AtomicLong lastRunCompletedEpochSeconds = new AtomicLong();
+    private final AtomicLong currentRunProcessed = new AtomicLong();
+
+    private Timer chunkTimer(Phase phase) {
+        return Timer.builder("job.lifecycle.sweep.chunk")
+                .description("Time to select and update one chunk of postings")
+                .tag("phase", phase.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private Counter updatedCounter(Phase phase) {
+        return Counter.builder("job.lifecycle.sweep.updated")
+                .description("Postings moved to a new status by the lifecycle sweeper")
+                .tag("phase", phase.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        meterRegistry.gauge("job.lifecycle.sweep.current.processed", currentRunProcessed);
+        meterRegistry.gauge("job.lifecycle.sweep.last.processed", lastRunProcessed);
+        meterRegistry.gauge("job.lifecycle.sweep.last.completed", lastRunCompletedEpochSeconds);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupts a sweep between chunks; it releases its lock on the way out
+        sweepExecutor.shutdownNow();
+    }
+
+    /**
+     * Hand a sweep to the sweeper thread unless one is still running on this instance
+     */
+    @Scheduled(cron = "${app.job-lifecycle.cron:0 15 * * * *}")
+    public void scheduleSweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            logger.debug("Previous job lifecycle sweep still running, skipping");
+            return;
+        }
+        sweepExecutor.execute(() -> {
+            try {
+                sweep();
+            } finally {
+                sweeping.set(false);
+            }
+        });
+    }
+
+    /**
+     * Run all sweep phases if no other instance is sweeping
+     */
+    public void sweep() {
+        String owner = UUID.randomUUID().toString();
+        Duration lockTtl = Duration.ofMinutes(lockTtlMinutes);
+        if (!cacheService.tryLock(LOCK_KEY, owner, lockTtl)) {
+            logger.debug("Job lifecycle sweep already running elsewhere, skipping");
+            return;
+        }
+
+        long started = System.nanoTime();
+        currentRunProcessed.set(0);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long processed = 0;
+
+            processed += sweepPhase(Phase.EXPIRE, owner, lockTtl,
+                    afterId -> jobPostingRepository.findExpiredJobIdsAfter(now, afterId, PageRequest.of(0, chunkSize)),
+                    Set.of(JobStatus.ACTIVE), JobStatus.EXPIRED);
+
+            LocalDateTime unseenCutoff = now.minusDays(unseenAfterDays);
+            processed += sweepPhase(Phase.RETIRE_UNSEEN, owner, lockTtl,
+                    afterId -> jobPostingRepository.findUnseenJobIdsAfter(unseenCutoff, afterId, PageRequest.of(0, chunkSize)),
+                    Set.of(JobStatus.ACTIVE), JobStatus.REMOVED);
+
+            LocalDateTime archiveCutoff = now.minusDays(archiveAfterDays);
+            processed += sweepPhase(Phase.ARCHIVE, owner, lockTtl,
+                    afterId -> jobPostingRepository.findClosedJobIdsAfter(archiveCutoff, afterId, PageRequest.of(0, chunkSize)),
+                    Set.of(JobStatus.EXPIRED, JobStatus.FILLED, JobStatus.REMOVED), JobStatus.ARCHIVED);
+
+            lastRunProcessed.set(processed);
+            lastRunCompletedEpochSeconds.set(System.currentTimeMillis() / 1000);
+            logger.info("Job lifecycle sweep updated {} postings in {} ms",
+                    processed, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Job lifecycle sweep interrupted");
+        } catch (LockLostException e) {
+            logger.warn("Job lifecycle sweep lost its lock, stopping");
+        } finally {
+            cacheService.releaseLock(LOCK_KEY, owner);
+        }
+    }
+
+    private long sweepPhase(Phase phase, String owner, Duration lockTtl, ChunkSelector selector,
+                            Set<JobStatus> fromStatuses, JobStatus toStatus) throws InterruptedException {
+        Timer timer = chunkTimer(phase);
+        Counter counter = updatedCounter(phase);
+        UUID afterId = MIN_UUID;
+        long updated = 0;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            List<UUID> ids = selector.nextChunk(afterId);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int count = jobPostingRepository.updateStatusByIdIn(ids, fromStatuses, toStatus, LocalDateTime.now());
+            long elapsedNanos = System.nanoTime() - chunkStart;
+            timer.record(Duration.ofNanos(elapsedNanos));
+            counter.increment(count);
+            updated += count;
+            currentRunProcessed.addAndGet(count);
+            afterId = ids.get(ids.size() - 1);
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            if (!cacheService.extendLock(LOCK_KEY, owner, lockTtl)) {
+                throw new LockLostException();
+            }
+            throttle(elapsedNanos);
+        }
+
+        if (updated > 0) {
+            logger.info("Job lifecycle sweep phase {} moved {} postings to {}", phase, updated, toStatus);
+        }
+        return updated;
+    }
+
+    /**
+     * Sleep so the sweeper is busy at most dutyCycle of the time, and at least minPauseMs between chunks
+     */
+    private void throttle(long elapsedNanos) throws InterruptedException {
+        long elapsedMs = Duration.ofNanos(elapsedNanos).toMillis();
+        long pauseMs = Math.max(minPauseMs, (long) (elapsedMs * (1 - dutyCycle) / dutyCycle));
+        Thread.sleep(pauseMs);
+    }
+
+    @FunctionalInterface
+    private interface ChunkSelector {
+        List<UUID> nextChunk(UUID afterId);
+    }
+
+    private static class LockLostException extends RuntimeException {
+    }
+}
@@ -0,0 +1,34 @@
+package com.careeros.service.market;
+
+import com.careeros.entity.JobPosting;
+
+import java.util.List;
+
+/**
+ * Published after newly ingested or updated job postings have been committed.
+ * Market aggregates and other derived views listen to this to update incrementally.
+ */
+public class JobPostingsIngestedEvent {
+
+    private final List<JobPosting> postings;
+    private final List<JobPosting> newPostings;
+
+    public JobPostingsIngestedEvent(List<JobPosting> postings, List<JobPosting> newPostings) {
+        this.postings = List.copyOf(postings);
+        this.newPostings = List.copyOf(newPostings);
+    }
+
+    /**
+     * All postings touched by the ingestion, new and updated
+     */
+    public List<JobPosting> getPostings() {
+        return postings;
+    }
+
+    /**
+     * Postings seen for the first time; additive aggregates should only count these
+     */
+    public List<JobPosting> getNewPostings() {
+        return newPostings;
+    }
+}
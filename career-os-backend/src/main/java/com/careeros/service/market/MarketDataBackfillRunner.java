@@ -0,0 +1,98 @@
+package com.careeros.service.market;
+
+import com.careeros.service.CacheService;
+import com.careeros.service.geo.JobGeoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs the one-time backfills of the derived market data once after startup, on one instance.
+ * Postings stored before the derived columns and tables existed would otherwise be missing from
+ * role lookups, radius search, salary bands, skill demand and the insight cube until they are
+ * next ingested. Each step is recorded in data_backfills once it completes, so it runs once
+ * per database; a step that fails is retried on the next start.
+ */
+@Component
+public class MarketDataBackfillRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MarketDataBackfillRunner.class);
+
+    private static final String LOCK_KEY = "lock:market-data-backfill";
+
+    @Autowired
+    private MarketInsightAggregationService marketInsightAggregationService;
+
+    @Autowired
+    private SalaryInsightService salaryInsightService;
+
+    @Autowired
+    private SkillDemandService skillDemandService;
+
+    @Autowired
+    private JobGeoService jobGeoService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.market-backfill.lock-ttl:2h}")
+    private Duration lockTtl;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void runPendingBackfills() {
+        // In order: keys and coordinates first, since the rebuilds read them
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("job-posting-dimensions", marketInsightAggregationService::backfillDimensions);
+        steps.put("job-posting-coordinates", jobGeoService::backfillCoordinates);
+        steps.put("salary-sketches", salaryInsightService::rebuildAll);
+        steps.put("skill-demand", skillDemandService::rebuildAll);
+        steps.put("market-insight-cube", marketInsightAggregationService::rebuildAll);
+
+        if (steps.keySet().stream().allMatch(this::isCompleted)) {
+            return;
+        }
+
+        String owner = UUID.randomUUID().toString();
+        if (!cacheService.tryLock(LOCK_KEY, owner, lockTtl)) {
+            logger.info("Market data backfill running on another instance, skipping");
+            return;
+        }
+        try {
+            for (Map.Entry<String, Runnable> step : steps.entrySet()) {
+                if (isCompleted(step.getKey())) {
+                    continue;
+                }
+                logger.info("Running market data backfill {}", step.getKey());
+                step.getValue().run();
+                jdbcTemplate.update("INSERT INTO data_backfills (name, completed_at) VALUES (?, ?) ON CONFLICT (name) DO NOTHING",
+                        step.getKey(), Timestamp.valueOf(LocalDateTime.now()));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Market data backfill failed, it resumes on the next start", e);
+        } finally {
+            cacheService.releaseLock(LOCK_KEY, owner);
+        }
+    }
+
+    private boolean isCompleted(String name) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM data_backfills WHERE name = ?", Integer.class, name);
+        return count != null && count > 0;
+    }
+}
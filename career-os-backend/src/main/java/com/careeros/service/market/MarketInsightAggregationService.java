@@ -0,0 +1,300 @@
+package com.careeros.service.market;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.entity.MarketInsightCube;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.repository.MarketInsightCubeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the market insight cube: one precomputed row per (role, location, week).
+ * A nightly job rebuilds the current week from all active postings, and ingested postings
+ * mark their cells dirty so they are recomputed incrementally within a minute.
+ */
+@Service
+public class MarketInsightAggregationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MarketInsightAggregationService.class);
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private MarketInsightCubeRepository marketInsightCubeRepository;
+
+    @Value("${app.market-insights.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.market-insights.retention-weeks:26}")
+    private int retentionWeeks;
+
+    @Value("${app.market-insights.stale-after-hours:26}")
+    private long staleAfterHours;
+
+    private final Set<CellKey> dirtyCells = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Derive role and location keys of postings stored before the columns existed
+     */
+    public void backfillDimensions() {
+        UUID afterId = MIN_UUID;
+        int updated = 0;
+        while (true) {
+            List<UUID> ids = jobPostingRepository.findJobIdsWithoutRoleKeyAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<JobPosting> jobs = jobPostingRepository.findAllById(ids);
+            jobs.forEach(JobPosting::deriveDimensions);
+            jobPostingRepository.saveAll(jobs);
+            updated += jobs.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        logger.info("Backfilled role and location keys for {} job postings", updated);
+    }
+
+    /**
+     * Rebuild every cell of the current week from active postings
+     */
+    @Scheduled(cron = "${app.market-insights.rebuild-cron:0 0 3 * * *}")
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate weekStart = JobDimensions.weekStart(now.toLocalDate());
+        LocalDateTime recentSince = now.minusDays(30);
+
+        Map<CellKey, CellAccumulator> accumulators = new HashMap<>();
+        UUID afterId = MIN_UUID;
+        int scanned = 0;
+
+        while (true) {
+            List<UUID> ids = jobPostingRepository.findActiveJobIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            for (JobPosting job : jobPostingRepository.findAllWithSkillsByIdIn(ids)) {
+                String roleKey = roleKeyOf(job);
+                accumulators.computeIfAbsent(new CellKey(roleKey, locationKeyOf(job)), k -> new CellAccumulator())
+                        .add(job, recentSince);
+                accumulators.computeIfAbsent(new CellKey(roleKey, JobDimensions.ALL_LOCATIONS), k -> new CellAccumulator())
+                        .add(job, recentSince);
+            }
+
+            scanned += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        Map<CellKey, MarketInsightCube> existing = marketInsightCubeRepository.findByWeekStart(weekStart).stream()
+                .collect(Collectors.toMap(c -> new CellKey(c.getRoleKey(), c.getLocationKey()), c -> c, (a, b) -> a));
+
+        List<MarketInsightCube> cells = new ArrayList<>(accumulators.size());
+        accumulators.forEach((key, accumulator) -> {
+            MarketInsightCube cell = existing.remove(key);
+            if (cell == null) {
+                cell = newCell(key, weekStart);
+            }
+            accumulator.applyTo(cell, now);
+            cells.add(cell);
+        });
+
+        marketInsightCubeRepository.saveAll(cells);
+        // Cells whose postings all expired since the last run
+        marketInsightCubeRepository.deleteAll(existing.values());
+        marketInsightCubeRepository.deleteByWeekStartBefore(weekStart.minusWeeks(retentionWeeks));
+
+        logger.info("Rebuilt market insight cube: {} postings, {} cells in {} ms",
+                scanned, cells.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Mark the cells touched by newly ingested postings for recomputation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostingsIngested(JobPostingsIngestedEvent event) {
+        for (JobPosting job : event.getPostings()) {
+            String roleKey = roleKeyOf(job);
+            dirtyCells.add(new CellKey(roleKey, locationKeyOf(job)));
+            dirtyCells.add(new CellKey(roleKey, JobDimensions.ALL_LOCATIONS));
+        }
+    }
+
+    /**
+     * Recompute cells marked dirty since the last pass
+     */
+    @Scheduled(fixedDelayString = "${app.market-insights.incremental-delay-ms:60000}")
+    public void refreshDirtyCells() {
+        if (dirtyCells.isEmpty()) {
+            return;
+        }
+
+        List<CellKey> batch = new ArrayList<>(dirtyCells);
+        batch.forEach(dirtyCells::remove);
+
+        for (CellKey key : batch) {
+            try {
+                recomputeCell(key.roleKey(), key.locationKey());
+            } catch (Exception e) {
+                logger.warn("Failed to refresh market insight cell {}/{}", key.roleKey(), key.locationKey(), e);
+                dirtyCells.add(key);
+            }
+        }
+
+        logger.debug("Refreshed {} market insight cells", batch.size());
+    }
+
+    /**
+     * Latest cell for a role and location, computing it on demand when it does not exist yet
+     */
+    public MarketInsightCube getCell(String roleKey, String locationKey) {
+        return marketInsightCubeRepository.findFirstByRoleKeyAndLocationKeyOrderByWeekStartDesc(roleKey, locationKey)
+                .orElseGet(() -> recomputeCell(roleKey, locationKey));
+    }
+
+    /**
+     * Whether a cell is older than the nightly rebuild interval allows
+     */
+    public boolean isStale(MarketInsightCube cell) {
+        return cell.getComputedAt() == null
+                || cell.getComputedAt().isBefore(LocalDateTime.now().minusHours(staleAfterHours));
+    }
+
+    /**
+     * Recompute a single cell of the current week from its postings
+     */
+    public MarketInsightCube recomputeCell(String roleKey, String locationKey) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate weekStart = JobDimensions.weekStart(now.toLocalDate());
+
+        List<JobPosting> jobs = JobDimensions.ALL_LOCATIONS.equals(locationKey)
+                ? jobPostingRepository.findActiveByRoleKey(roleKey)
+                : jobPostingRepository.findActiveByRoleKeyAndLocationKey(roleKey, locationKey);
+
+        CellAccumulator accumulator = new CellAccumulator();
+        LocalDateTime recentSince = now.minusDays(30);
+        jobs.forEach(job -> accumulator.add(job, recentSince));
+
+        MarketInsightCube cell = marketInsightCubeRepository
+                .findByRoleKeyAndLocationKeyAndWeekStart(roleKey, locationKey, weekStart)
+                .orElseGet(() -> newCell(new CellKey(roleKey, locationKey), weekStart));
+        accumulator.applyTo(cell, now);
+
+        try {
+            return marketInsightCubeRepository.save(cell);
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the cell concurrently; theirs is just as fresh
+            return marketInsightCubeRepository.findByRoleKeyAndLocationKeyAndWeekStart(roleKey, locationKey, weekStart)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private MarketInsightCube newCell(CellKey key, LocalDate weekStart) {
+        MarketInsightCube cell = new MarketInsightCube();
+        cell.setRoleKey(key.roleKey());
+        cell.setLocationKey(key.locationKey());
+        cell.setWeekStart(weekStart);
+        return cell;
+    }
+
+    private String roleKeyOf(JobPosting job) {
+        return job.getRoleKey() != null ? job.getRoleKey() : JobDimensions.roleKey(job.getTitle());
+    }
+
+    private String locationKeyOf(JobPosting job) {
+        return job.getLocationKey() != null ? job.getLocationKey() : JobDimensions.locationKey(job.getLocation());
+    }
+
+    private record CellKey(String roleKey, String locationKey) {}
+
+    /**
+     * Running aggregates for one cell
+     */
+    private static class CellAccumulator {
+        private int total;
+        private int recent;
+        private int remote;
+        private final List<Double> salaries = new ArrayList<>();
+        private final Map<String, Integer> companies = new HashMap<>();
+        private final Map<String, Integer> skills = new HashMap<>();
+        private final Map<String, Integer> experienceLevels = new HashMap<>();
+        private final Map<String, Integer> jobTypes = new HashMap<>();
+
+        void add(JobPosting job, LocalDateTime recentSince) {
+            total++;
+            if (job.getPostedDate() != null && !job.getPostedDate().isBefore(recentSince)) {
+                recent++;
+            }
+            if (Boolean.TRUE.equals(job.getIsRemote())) {
+                remote++;
+            }
+            if (job.getMinSalary() != null && job.getMaxSalary() != null) {
+                salaries.add((job.getMinSalary() + job.getMaxSalary()) / 2);
+            }
+            if (job.getCompany() != null) {
+                companies.merge(job.getCompany(), 1, Integer::sum);
+            }
+            if (job.getRequiredSkills() != null) {
+                job.getRequiredSkills().stream()
+                        .filter(Objects::nonNull)
+                        .map(String::trim)
+                        .filter(skill -> !skill.isEmpty())
+                        .forEach(skill -> skills.merge(skill, 1, Integer::sum));
+            }
+            if (job.getExperienceLevel() != null) {
+                experienceLevels.merge(job.getExperienceLevel(), 1, Integer::sum);
+            }
+            if (job.getJobType() != null) {
+                jobTypes.merge(job.getJobType(), 1, Integer::sum);
+            }
+        }
+
+        void applyTo(MarketInsightCube cell, LocalDateTime computedAt) {
+            cell.setTotalJobPostings(total);
+            cell.setRecentJobPostings(recent);
+            cell.setRemoteJobCount(remote);
+            cell.setAverageSalary(salaries.isEmpty() ? null
+                    : salaries.stream().mapToDouble(Double::doubleValue).average().orElse(0.0));
+            cell.setMedianSalary(median(salaries));
+            cell.setTopHiringCompanies(topKeys(companies, 10));
+            cell.setTopRequiredSkills(topKeys(skills, 15));
+            cell.setExperienceLevelDistribution(new HashMap<>(experienceLevels));
+            cell.setJobTypeDistribution(new HashMap<>(jobTypes));
+            cell.setComputedAt(computedAt);
+        }
+
+        private static Double median(List<Double> values) {
+            if (values.isEmpty()) {
+                return null;
+            }
+            double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            int mid = sorted.length / 2;
+            return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+        }
+
+        private static List<String> topKeys(Map<String, Integer> counts, int limit) {
+            return counts.entrySet().stream()
+                    .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        }
+    }
+}
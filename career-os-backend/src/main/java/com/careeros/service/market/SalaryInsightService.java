@@ -0,0 +1,202 @@
+package com.careeros.service.market;
+
+import com.careeros.dto.job.SalaryBands;
+import com.careeros.entity.JobPosting;
+import com.careeros.entity.SalarySketchCell;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.repository.SalarySketchCellRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Salary percentile bands backed by mergeable quantile sketches.
+ * Each ingested posting adds its annualized salary midpoint to one sketch per
+ * (skill, location, industry, month); queries merge the matching sketches.
+ */
+@Service
+public class SalaryInsightService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaryInsightService.class);
+
+    @Autowired
+    private SalarySketchCellRepository salarySketchCellRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.salary-sketches.compression:100}")
+    private double compression;
+
+    @Value("${app.market-insights.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Fold salaries of newly ingested postings into their sketches
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostingsIngested(JobPostingsIngestedEvent event) {
+        try {
+            recordPostings(event.getNewPostings());
+        } catch (Exception e) {
+            logger.error("Failed to update salary sketches for {} postings", event.getNewPostings().size(), e);
+        }
+    }
+
+    /**
+     * Add postings to the salary sketches, one locked read-merge-write per touched cell
+     */
+    public void recordPostings(List<JobPosting> postings) {
+        // Pre-aggregate the batch so each cell is written once; sorted keys keep lock order stable
+        SortedMap<CellKey, SalarySketch> deltas = new TreeMap<>();
+
+        for (JobPosting job : postings) {
+            Double salary = JobDimensions.annualSalaryMidpoint(job);
+            if (salary == null || job.getRequiredSkills() == null) {
+                continue;
+            }
+
+            String locationKey = job.getLocationKey() != null ? job.getLocationKey() : JobDimensions.locationKey(job.getLocation());
+            String industry = JobDimensions.industryKey(job.getIndustry());
+            LocalDateTime posted = job.getPostedDate() != null ? job.getPostedDate() : LocalDateTime.now();
+            LocalDate month = YearMonth.from(posted).atDay(1);
+
+            job.getRequiredSkills().stream()
+                    .map(JobDimensions::skillKey)
+                    .filter(skill -> !skill.isEmpty())
+                    .distinct()
+                    .forEach(skill -> deltas
+                            .computeIfAbsent(new CellKey(skill, locationKey, industry, month), k -> new SalarySketch(compression))
+                            .add(salary));
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> deltas.forEach(this::mergeIntoCell));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent writer created one of the cells first; it now exists and can be locked
+            transaction.executeWithoutResult(status -> deltas.forEach(this::mergeIntoCell));
+        }
+
+        logger.debug("Updated {} salary sketch cells from {} postings", deltas.size(), postings.size());
+    }
+
+    /**
+     * Rebuild all sketches from the active postings, e.g. after first deployment.
+     * Sketches are additive, so existing cells are dropped first.
+     */
+    public void rebuildAll() {
+        salarySketchCellRepository.deleteAllInBatch();
+
+        UUID afterId = new UUID(0L, 0L);
+        int scanned = 0;
+        while (true) {
+            List<UUID> ids = jobPostingRepository.findActiveJobIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            recordPostings(jobPostingRepository.findAllWithSkillsByIdIn(ids));
+            scanned += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        logger.info("Rebuilt salary sketches from {} postings", scanned);
+    }
+
+    /**
+     * Salary percentiles for a slice of the market. Null or blank dimensions match any value,
+     * so e.g. a skill-only query merges sketches across all locations and industries.
+     */
+    public SalaryBands getSalaryBands(String skill, String location, String industry, YearMonth fromMonth, YearMonth toMonth) {
+        String skillKey = skill == null || skill.isBlank() ? null : JobDimensions.skillKey(skill);
+        String locationKey = location == null || location.isBlank() ? null : JobDimensions.locationKey(location);
+        String industryKey = industry == null || industry.isBlank() ? null : JobDimensions.industryKey(industry);
+
+        List<SalarySketchCell> cells = salarySketchCellRepository.findCells(
+                skillKey, locationKey, industryKey, fromMonth.atDay(1), toMonth.atDay(1));
+
+        SalarySketch merged = new SalarySketch(compression);
+        for (SalarySketchCell cell : cells) {
+            merged.merge(SalarySketch.fromBytes(cell.getSketch()));
+        }
+
+        SalaryBands bands = new SalaryBands();
+        bands.setSkill(skill);
+        bands.setLocation(location);
+        bands.setIndustry(industry);
+        bands.setFromMonth(fromMonth);
+        bands.setToMonth(toMonth);
+        bands.setSampleCount(merged.count());
+
+        if (!merged.isEmpty()) {
+            bands.setAverageSalary(merged.mean());
+            bands.setP25(merged.quantile(0.25));
+            bands.setP50(merged.quantile(0.50));
+            bands.setP75(merged.quantile(0.75));
+            bands.setP90(merged.quantile(0.90));
+            bands.setMinSalary(merged.min());
+            bands.setMaxSalary(merged.max());
+        }
+
+        return bands;
+    }
+
+    private void mergeIntoCell(CellKey key, SalarySketch delta) {
+        SalarySketchCell cell = salarySketchCellRepository
+                .findForUpdate(key.skill(), key.locationKey(), key.industry(), key.month())
+                .orElseGet(() -> {
+                    SalarySketchCell created = new SalarySketchCell();
+                    created.setSkill(key.skill());
+                    created.setLocationKey(key.locationKey());
+                    created.setIndustry(key.industry());
+                    created.setMonth(key.month());
+                    return created;
+                });
+
+        SalarySketch sketch = cell.getSketch() != null
+                ? SalarySketch.fromBytes(cell.getSketch())
+                : new SalarySketch(compression);
+        sketch.merge(delta);
+
+        cell.setSketch(sketch.toBytes());
+        cell.setSampleCount(sketch.count());
+        salarySketchCellRepository.saveAndFlush(cell);
+    }
+
+    private record CellKey(String skill, String locationKey, String industry, LocalDate month)
+            implements Comparable<CellKey> {
+
+        private static final Comparator<CellKey> ORDER = Comparator.comparing(CellKey::skill)
+                .thenComparing(CellKey::locationKey)
+                .thenComparing(CellKey::industry)
+                .thenComparing(CellKey::month);
+
+        @Override
+        public int compareTo(CellKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
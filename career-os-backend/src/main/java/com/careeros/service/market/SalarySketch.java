@@ -0,0 +1,254 @@
+package com.careeros.service.market;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch (merging t-digest) for salary distributions.
+ * Keeps at most a few hundred centroids regardless of sample count, is accurate at the tails,
+ * and two sketches over disjoint samples merge into a sketch of the union.
+ * Not thread-safe.
+ */
+public class SalarySketch {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final double compression;
+
+    // Merged centroids, sorted by mean
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+
+    // Unmerged incoming points
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int bufferCount;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public SalarySketch() {
+        this(100);
+    }
+
+    public SalarySketch(double compression) {
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression * 2) + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new double[capacity * 5];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, double weight) {
+        if (Double.isNaN(value) || weight <= 0) {
+            return;
+        }
+        if (bufferCount == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Fold another sketch into this one
+     */
+    public void merge(SalarySketch other) {
+        other.compress();
+        for (int i = 0; i < other.centroidCount; i++) {
+            if (bufferCount == bufferMeans.length) {
+                compress();
+            }
+            bufferMeans[bufferCount] = other.means[i];
+            bufferWeights[bufferCount] = other.weights[i];
+            bufferCount++;
+        }
+        totalWeight += other.totalWeight;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    public boolean isEmpty() {
+        return totalWeight == 0;
+    }
+
+    public double min() {
+        return isEmpty() ? Double.NaN : min;
+    }
+
+    public double max() {
+        return isEmpty() ? Double.NaN : max;
+    }
+
+    /**
+     * Mean of all added values; exact, since centroid means are weighted averages
+     */
+    public double mean() {
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = 0; i < centroidCount; i++) {
+            sum += means[i] * weights[i];
+        }
+        return sum / totalWeight;
+    }
+
+    /**
+     * Estimate the value at quantile q (0..1)
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+
+        double target = q * totalWeight;
+        double firstHalf = weights[0] / 2;
+        if (target <= firstHalf) {
+            return weights[0] <= 1 ? means[0] : min + (means[0] - min) * (target / firstHalf);
+        }
+
+        double cumulative = firstHalf;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2;
+            if (cumulative + gap >= target) {
+                double fraction = (target - cumulative) / gap;
+                return means[i] + fraction * (means[i + 1] - means[i]);
+            }
+            cumulative += gap;
+        }
+
+        int last = centroidCount - 1;
+        double lastHalf = weights[last] / 2;
+        if (weights[last] <= 1 || lastHalf == 0) {
+            return means[last];
+        }
+        double fraction = Math.min(1.0, (target - cumulative) / lastHalf);
+        return means[last] + fraction * (max - means[last]);
+    }
+
+    /**
+     * Merge buffered points into the centroid list
+     */
+    private void compress() {
+        if (bufferCount == 0) {
+            return;
+        }
+
+        int n = centroidCount + bufferCount;
+        double[] allMeans = new double[n];
+        double[] allWeights = new double[n];
+        System.arraycopy(means, 0, allMeans, 0, centroidCount);
+        System.arraycopy(weights, 0, allWeights, 0, centroidCount);
+        System.arraycopy(bufferMeans, 0, allMeans, centroidCount, bufferCount);
+        System.arraycopy(bufferWeights, 0, allWeights, centroidCount, bufferCount);
+        bufferCount = 0;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        double[] newMeans = new double[n];
+        double[] newWeights = new double[n];
+        int count = 0;
+
+        double currentMean = allMeans[order[0]];
+        double currentWeight = allWeights[order[0]];
+        double weightSoFar = 0;
+
+        for (int k = 1; k < n; k++) {
+            int i = order[k];
+            double proposed = currentWeight + allWeights[i];
+            double q0 = weightSoFar / totalWeight;
+            double q2 = (weightSoFar + proposed) / totalWeight;
+            double limit = totalWeight * 4 * Math.min(q0 * (1 - q0), q2 * (1 - q2)) / compression;
+
+            if (proposed <= limit) {
+                currentMean += (allMeans[i] - currentMean) * allWeights[i] / proposed;
+                currentWeight = proposed;
+            } else {
+                newMeans[count] = currentMean;
+                newWeights[count] = currentWeight;
+                count++;
+                weightSoFar += currentWeight;
+                currentMean = allMeans[i];
+                currentWeight = allWeights[i];
+            }
+        }
+        newMeans[count] = currentMean;
+        newWeights[count] = currentWeight;
+        count++;
+
+        means = Arrays.copyOf(newMeans, Math.max(count, means.length));
+        weights = Arrays.copyOf(newWeights, Math.max(count, weights.length));
+        centroidCount = count;
+    }
+
+    /**
+     * Compact binary form for storage
+     */
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 * 3 + 4 + centroidCount * 16);
+        buffer.put(FORMAT_VERSION);
+        buffer.putDouble(compression);
+        buffer.putDouble(min);
+        buffer.putDouble(max);
+        buffer.putInt(centroidCount);
+        for (int i = 0; i < centroidCount; i++) {
+            buffer.putDouble(means[i]);
+            buffer.putDouble(weights[i]);
+        }
+        return buffer.array();
+    }
+
+    public static SalarySketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported salary sketch format: " + version);
+        }
+
+        SalarySketch sketch = new SalarySketch(buffer.getDouble());
+        double storedMin = buffer.getDouble();
+        double storedMax = buffer.getDouble();
+        int count = buffer.getInt();
+
+        sketch.means = new double[Math.max(count, sketch.means.length)];
+        sketch.weights = new double[Math.max(count, sketch.weights.length)];
+        for (int i = 0; i < count; i++) {
+            sketch.means[i] = buffer.getDouble();
+            sketch.weights[i] = buffer.getDouble();
+            sketch.totalWeight += sketch.weights[i];
+        }
+        sketch.centroidCount = count;
+        sketch.min = storedMin;
+        sketch.max = storedMax;
+        return sketch;
+    }
+}
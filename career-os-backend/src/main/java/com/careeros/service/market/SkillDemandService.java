@@ -0,0 +1,197 @@
+package com.careeros.service.market;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.repository.SkillDemandDailyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Skill demand time series backed by the skill_demand_daily counter table.
+ * Ingestion increments one counter row per (skill, location, industry, day);
+ * demand, growth and salary for any set of skills come from one windowed range scan.
+ */
+@Service
+public class SkillDemandService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillDemandService.class);
+
+    @Autowired
+    private SkillDemandDailyRepository skillDemandDailyRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.market-insights.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Demand of one skill over a window split into an earlier and a recent half
+     */
+    public record SkillWindow(String skill, long previousPostings, long recentPostings, Double averageSalary) {
+
+        public long totalPostings() {
+            return previousPostings + recentPostings;
+        }
+
+        /**
+         * Percentage change of the recent half over the earlier half, 0 without a baseline
+         */
+        public double growthRate() {
+            return previousPostings > 0 ? ((double) (recentPostings - previousPostings) / previousPostings) * 100 : 0;
+        }
+    }
+
+    /**
+     * Count newly ingested postings into the daily counters
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostingsIngested(JobPostingsIngestedEvent event) {
+        try {
+            recordPostings(event.getNewPostings());
+        } catch (Exception e) {
+            logger.error("Failed to update skill demand counters for {} postings", event.getNewPostings().size(), e);
+        }
+    }
+
+    /**
+     * Add postings to the daily counters, one upsert per touched (skill, location, industry, day)
+     */
+    public void recordPostings(List<JobPosting> postings) {
+        // Sorted keys keep the row lock order stable across concurrent batches
+        SortedMap<CounterKey, long[]> counts = new TreeMap<>();
+        Map<CounterKey, Double> salarySums = new HashMap<>();
+
+        for (JobPosting job : postings) {
+            if (job.getRequiredSkills() == null || job.getRequiredSkills().isEmpty()) {
+                continue;
+            }
+
+            String locationKey = job.getLocationKey() != null ? job.getLocationKey() : JobDimensions.locationKey(job.getLocation());
+            String industry = JobDimensions.industryKey(job.getIndustry());
+            LocalDate day = job.getPostedDate() != null ? job.getPostedDate().toLocalDate() : LocalDate.now();
+            Double salary = JobDimensions.annualSalaryMidpoint(job);
+
+            job.getRequiredSkills().stream()
+                    .map(JobDimensions::skillKey)
+                    .filter(skill -> !skill.isEmpty())
+                    .distinct()
+                    .forEach(skill -> {
+                        CounterKey key = new CounterKey(skill, locationKey, industry, day);
+                        long[] cell = counts.computeIfAbsent(key, k -> new long[2]); // [postings, salaries]
+                        cell[0]++;
+                        if (salary != null) {
+                            cell[1]++;
+                            salarySums.merge(key, salary, Double::sum);
+                        }
+                    });
+        }
+
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> counts.forEach((key, cell) ->
+                skillDemandDailyRepository.increment(key.skill(), key.locationKey(), key.industry(), key.day(),
+                        cell[0], salarySums.getOrDefault(key, 0.0), cell[1])));
+
+        logger.debug("Updated {} skill demand counters from {} postings", counts.size(), postings.size());
+    }
+
+    /**
+     * Rebuild the counters from the active postings, e.g. after first deployment.
+     * Counters are additive, so existing rows are dropped first.
+     */
+    public void rebuildAll() {
+        skillDemandDailyRepository.deleteAllInBatch();
+
+        UUID afterId = new UUID(0L, 0L);
+        int scanned = 0;
+        while (true) {
+            List<UUID> ids = jobPostingRepository.findActiveJobIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            recordPostings(jobPostingRepository.findAllWithSkillsByIdIn(ids));
+            scanned += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        logger.info("Rebuilt skill demand counters from {} postings", scanned);
+    }
+
+    /**
+     * Demand windows for the given skills over the trailing windowDays, keyed by the skill names as passed in.
+     * Null or blank location and industry match any value.
+     */
+    public Map<String, SkillWindow> getDemandWindows(Collection<String> skills, String location, String industry, int windowDays) {
+        Map<String, String> skillKeys = new LinkedHashMap<>();
+        for (String skill : skills) {
+            skillKeys.put(skill, JobDimensions.skillKey(skill));
+        }
+        if (skillKeys.isEmpty()) {
+            return Map.of();
+        }
+
+        String locationKey = location == null || location.isBlank() ? null : JobDimensions.locationKey(location);
+        String industryKey = industry == null || industry.isBlank() ? null : JobDimensions.industryKey(industry);
+        LocalDate today = LocalDate.now();
+        LocalDate fromDay = today.minusDays(windowDays);
+        LocalDate splitDay = today.minusDays(windowDays / 2);
+
+        Map<String, Object[]> rows = new HashMap<>();
+        for (Object[] row : skillDemandDailyRepository.sumWindows(
+                new HashSet<>(skillKeys.values()), locationKey, industryKey, fromDay, splitDay)) {
+            rows.put((String) row[0], row);
+        }
+
+        Map<String, SkillWindow> windows = new LinkedHashMap<>();
+        skillKeys.forEach((skill, key) -> {
+            Object[] row = rows.get(key);
+            if (row == null) {
+                windows.put(skill, new SkillWindow(skill, 0, 0, null));
+                return;
+            }
+            long salaryCount = toLong(row[4]);
+            Double averageSalary = salaryCount > 0 ? ((Number) row[3]).doubleValue() / salaryCount : null;
+            windows.put(skill, new SkillWindow(skill, toLong(row[1]), toLong(row[2]), averageSalary));
+        });
+        return windows;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    private record CounterKey(String skill, String locationKey, String industry, LocalDate day)
+            implements Comparable<CounterKey> {
+
+        private static final Comparator<CounterKey> ORDER = Comparator.comparing(CounterKey::skill)
+                .thenComparing(CounterKey::locationKey)
+                .thenComparing(CounterKey::industry)
+                .thenComparing(CounterKey::day);
+
+        @Override
+        public int compareTo(CounterKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.careeros.service.recommendation;
+
+import com.careeros.service.recommendation.JobCompatibilityScorer.Candidate;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable in-memory index of active postings by required skill, built once per recommendation batch.
+ * A user's candidates are the postings sharing at least one skill with them, found through the
+ * per-skill posting lists instead of a database query per user. Safe to share between batch threads.
+ */
+public final class JobCandidateIndex {
+
+    public record Ranked(Candidate candidate, double score) {}
+
+    private final Candidate[] candidates;
+    private final Map<String, int[]> bySkill;
+
+    private JobCandidateIndex(Candidate[] candidates, Map<String, int[]> bySkill) {
+        this.candidates = candidates;
+        this.bySkill = bySkill;
+    }
+
+    public int size() {
+        return candidates.length;
+    }
+
+    /**
+     * The k best scoring postings sharing a skill with the user, best first
+     */
+    public List<Ranked> topK(Set<String> userSkills, ToDoubleFunction<Candidate> scorer, int k) {
+        BitSet seen = new BitSet(candidates.length);
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Ranked::score));
+
+        for (String skill : userSkills) {
+            int[] ordinals = bySkill.get(skill);
+            if (ordinals == null) {
+                continue;
+            }
+            for (int ordinal : ordinals) {
+                if (seen.get(ordinal)) {
+                    continue;
+                }
+                seen.set(ordinal);
+
+                Candidate candidate = candidates[ordinal];
+                double score = scorer.applyAsDouble(candidate);
+                if (heap.size() < k) {
+                    heap.add(new Ranked(candidate, score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new Ranked(candidate, score));
+                }
+            }
+        }
+
+        List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparingDouble(Ranked::score).reversed());
+        return ranked;
+    }
+
+    public static class Builder {
+        private final List<Candidate> candidates = new ArrayList<>();
+
+        public Builder add(Candidate candidate) {
+            candidates.add(candidate);
+            return this;
+        }
+
+        public JobCandidateIndex build() {
+            Map<String, List<Integer>> lists = new HashMap<>();
+            for (int ordinal = 0; ordinal < candidates.size(); ordinal++) {
+                for (String skill : candidates.get(ordinal).skills()) {
+                    lists.computeIfAbsent(skill, key -> new ArrayList<>()).add(ordinal);
+                }
+            }
+
+            Map<String, int[]> bySkill = new HashMap<>(lists.size() * 2);
+            lists.forEach((skill, ordinals) -> bySkill.put(skill, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+            return new JobCandidateIndex(candidates.toArray(new Candidate[0]), bySkill);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.careeros.service.recommendation;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.service.geo.GeoPoint;
+import com.careeros.service.geo.JobGeoService;
+import com.careeros.service.geo.LocationGazetteer;
+import com.careeros.service.market.JobDimensions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Job-to-user compatibility scoring shared by the nightly recommendation batch and interactive re-ranking.
+ * Works on compact candidates so the batch can score against an in-memory posting index.
+ */
+@Component
+public class JobCompatibilityScorer {
+
+    @Autowired
+    private JobGeoService jobGeoService;
+
+    @Autowired
+    private LocationGazetteer locationGazetteer;
+
+    /**
+     * The parts of a posting that scoring and skill gap counting look at
+     */
+    public record Candidate(UUID jobId, Set<String> skills, GeoPoint point, boolean remote,
+                            String locationKey, Double salaryMin) {}
+
+    /**
+     * A user's normalized skills and resolved location
+     */
+    public record UserProfile(UUID userId, Set<String> skills, GeoPoint point, String locationKey) {}
+
+    public Candidate candidate(JobPosting job) {
+        Set<String> skills = job.getRequiredSkills() == null ? Set.of() : job.getRequiredSkills().stream()
+                .map(JobDimensions::skillKey)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        GeoPoint point = job.getLatitude() != null && job.getLongitude() != null
+                ? new GeoPoint(job.getLatitude(), job.getLongitude())
+                : null;
+        boolean remote = Boolean.TRUE.equals(job.getIsRemote()) || JobDimensions.REMOTE.equals(job.getLocationKey());
+        String locationKey = job.getLocation() != null ? JobDimensions.locationKey(job.getLocation()) : null;
+        return new Candidate(job.getId(), skills, point, remote, locationKey, job.getSalaryMin());
+    }
+
+    public UserProfile profile(UUID userId, String location, Collection<String> skillNames) {
+        Set<String> skills = skillNames.stream()
+                .map(JobDimensions::skillKey)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toSet());
+        boolean hasLocation = location != null && !location.isBlank();
+        GeoPoint point = hasLocation ? locationGazetteer.resolve(location).orElse(null) : null;
+        return new UserProfile(userId, skills, point, hasLocation ? JobDimensions.locationKey(location) : null);
+    }
+
+    /**
+     * Weighted compatibility between 0 and 1: skills 60%, location 15%, salary 15%, company 10%
+     */
+    public double score(Candidate job, UserProfile user) {
+        double score = 0.0;
+        score += skillMatchScore(job, user) * 0.6;
+        score += jobGeoService.locationScore(job.remote(), job.point(), job.locationKey(),
+                user.point(), user.locationKey()) * 0.15;
+        score += salaryScore(job) * 0.15;
+        score += companyScore(job) * 0.1;
+        return score;
+    }
+
+    /**
+     * Skills required by at least minJobs of the jobs that the user does not have, most frequent first
+     */
+    public List<String> skillGaps(Collection<Candidate> jobs, Set<String> userSkills, int minJobs, int limit) {
+        Map<String, Integer> requiredSkillFrequency = new HashMap<>();
+        for (Candidate job : jobs) {
+            job.skills().forEach(skill -> requiredSkillFrequency.merge(skill, 1, Integer::sum));
+        }
+
+        return requiredSkillFrequency.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minJobs)
+                .filter(entry -> !userSkills.contains(entry.getKey()))
+                .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
+                .map(Map.Entry::getKey)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private double skillMatchScore(Candidate job, UserProfile user) {
+        if (job.skills().isEmpty()) {
+            return 0.5; // Default score if no skills specified
+        }
+        long matchingSkills = job.skills().stream().filter(user.skills()::contains).count();
+        return (double) matchingSkills / job.skills().size();
+    }
+
+    private double salaryScore(Candidate job) {
+        // Simplified salary scoring - would use user's salary expectations
+        return job.salaryMin() != null && job.salaryMin() > 0 ? 0.8 : 0.5;
+    }
+
+    private double companyScore(Candidate job) {
+        // Simplified company scoring - would integrate with company rating APIs
+        return 0.7; // Default score
+    }
+}
@@ -0,0 +1,369 @@
+package com.careeros.service.recommendation;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.entity.User;
+import com.careeros.entity.UserJobRecommendation;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.repository.UserJobRecommendationRepository;
+import com.careeros.repository.UserRepository;
+import com.careeros.repository.UserSkillRepository;
+import com.careeros.service.CacheService;
+import com.careeros.service.alert.JobAlertService;
+import com.careeros.service.market.JobPostingsIngestedEvent;
+import com.careeros.service.recommendation.JobCandidateIndex.Ranked;
+import com.careeros.service.recommendation.JobCompatibilityScorer.Candidate;
+import com.careeros.service.recommendation.JobCompatibilityScorer.UserProfile;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputed job recommendations.
+ * A nightly batch ranks every active user's top jobs against an in-memory skill index of active postings,
+ * processing keyset pages of users in parallel, and stores the ranked job IDs and skill gaps per user.
+ * Skill changes recompute one user; new postings are merged into the stored lists of the users they match.
+ */
+@Service
+public class JobRecommendationPrecomputeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRecommendationPrecomputeService.class);
+
+    private static final String LOCK_KEY = "lock:job-recommendations";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private static final int SKILL_GAP_MIN_JOBS = 3;
+    private static final int SKILL_GAP_LIMIT = 10;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_job_recommendations (id, user_id, job_ids, scores, skill_gaps, computed_at, created_at, updated_at, version) " +
+            "VALUES (gen_random_uuid(), ?, ?::jsonb, ?::jsonb, ?::jsonb, ?, now(), now(), 0) " +
+            "ON CONFLICT (user_id) DO UPDATE SET job_ids = EXCLUDED.job_ids, scores = EXCLUDED.scores, " +
+            "skill_gaps = EXCLUDED.skill_gaps, computed_at = EXCLUDED.computed_at, updated_at = now(), " +
+            "version = user_job_recommendations.version + 1";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private UserJobRecommendationRepository recommendationRepository;
+
+    @Autowired
+    private JobCompatibilityScorer scorer;
+
+    @Autowired
+    private JobAlertService jobAlertService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.recommendations.top-k:100}")
+    private int topK;
+
+    @Value("${app.recommendations.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.recommendations.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.recommendations.new-posting-min-skill-match:0.3}")
+    private double newPostingMinSkillMatch;
+
+    @Value("${app.recommendations.lock-ttl-minutes:30}")
+    private long lockTtlMinutes;
+
+    private final ConcurrentHashMap<UUID, Boolean> pendingRefreshes = new ConcurrentHashMap<>(); // User -> rerun requested
+
+    private record Computed(UUID userId, List<Ranked> ranked, List<String> skillGaps) {}
+
+    /**
+     * Recompute and store recommendations for all active users
+     */
+    @Scheduled(cron = "${app.recommendations.cron:0 30 2 * * *}")
+    public void precomputeAll() {
+        String owner = UUID.randomUUID().toString();
+        Duration lockTtl = Duration.ofMinutes(lockTtlMinutes);
+        if (!cacheService.tryLock(LOCK_KEY, owner, lockTtl)) {
+            logger.debug("Job recommendation batch already running elsewhere, skipping");
+            return;
+        }
+
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        AtomicInteger users = new AtomicInteger();
+        try {
+            JobCandidateIndex index = buildIndex();
+            logger.info("Built job candidate index of {} postings", index.size());
+
+            UUID afterId = MIN_UUID;
+            while (true) {
+                List<Object[]> page = userRepository.findActiveUserLocationsAfter(afterId, PageRequest.of(0, chunkSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = (UUID) page.get(page.size() - 1)[0];
+
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        users.addAndGet(precomputePage(index, page));
+                    } catch (Exception e) {
+                        logger.error("Failed to precompute recommendations for a page of {} users", page.size(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                if (!cacheService.extendLock(LOCK_KEY, owner, lockTtl)) {
+                    logger.warn("Job recommendation batch lost its lock, stopping");
+                    break;
+                }
+            }
+
+            executor.shutdown();
+            executor.awaitTermination(lockTtlMinutes, TimeUnit.MINUTES);
+            logger.info("Precomputed job recommendations for {} users in {} ms",
+                    users.get(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Job recommendation batch interrupted");
+        } finally {
+            executor.shutdownNow();
+            cacheService.releaseLock(LOCK_KEY, owner);
+        }
+    }
+
+    /**
+     * Recompute and store one user's recommendations from the database
+     */
+    public Optional<UserJobRecommendation> refreshUser(UUID userId) {
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty()) {
+            return Optional.empty();
+        }
+
+        UserProfile profile = profiles(Map.of(userId, Objects.toString(user.get().getLocation(), ""))).get(0);
+        JobCandidateIndex.Builder builder = new JobCandidateIndex.Builder();
+        if (!profile.skills().isEmpty()) {
+            List<UUID> ids = jobPostingRepository.findActiveJobIdsBySkillKeys(profile.skills());
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                jobPostingRepository.findAllWithSkillsByIdIn(chunk).forEach(job -> builder.add(scorer.candidate(job)));
+            }
+        }
+
+        store(List.of(compute(builder.build(), profile)));
+        return recommendationRepository.findByUserId(userId);
+    }
+
+    /**
+     * Stored recommendations of a user, computed on first use
+     */
+    public Optional<UserJobRecommendation> getRecommendations(UUID userId) {
+        Optional<UserJobRecommendation> stored = recommendationRepository.findByUserId(userId);
+        return stored.isPresent() ? stored : refreshUser(userId);
+    }
+
+    /**
+     * Recompute a user's recommendations once their skill changes commit.
+     * Changes arriving while a refresh runs fold into one more pass instead of a refresh each.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSkillsChanged(UserSkillsChangedEvent event) {
+        UUID userId = event.getUserId();
+        boolean[] start = {false};
+        pendingRefreshes.compute(userId, (id, rerun) -> {
+            if (rerun == null) {
+                start[0] = true;
+                return Boolean.FALSE;
+            }
+            return Boolean.TRUE;
+        });
+        if (!start[0]) {
+            return;
+        }
+
+        do {
+            pendingRefreshes.put(userId, Boolean.FALSE);
+            try {
+                refreshUser(userId);
+            } catch (Exception e) {
+                logger.error("Failed to refresh job recommendations for user {}", userId, e);
+            }
+        } while (!pendingRefreshes.remove(userId, Boolean.FALSE));
+    }
+
+    /**
+     * Merge newly ingested postings into the stored lists of users whose profiles they match
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostingsIngested(JobPostingsIngestedEvent event) {
+        Map<UUID, List<Candidate>> candidatesByUser = new HashMap<>();
+        for (JobPosting job : event.getNewPostings()) {
+            if (job.getStatus() != JobPosting.JobStatus.ACTIVE) {
+                continue;
+            }
+            Candidate candidate = scorer.candidate(job);
+            for (UUID userId : jobAlertService.findInterestedUsers(job, newPostingMinSkillMatch)) {
+                candidatesByUser.computeIfAbsent(userId, key -> new ArrayList<>()).add(candidate);
+            }
+        }
+
+        List<UUID> userIds = new ArrayList<>(candidatesByUser.keySet());
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<UUID> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            try {
+                mergeNewPostings(chunk, candidatesByUser);
+            } catch (Exception e) {
+                logger.error("Failed to merge new postings into recommendations of {} users", chunk.size(), e);
+            }
+        }
+    }
+
+    private void mergeNewPostings(List<UUID> userIds, Map<UUID, List<Candidate>> candidatesByUser) {
+        List<UserJobRecommendation> rows = recommendationRepository.findByUserIdIn(userIds);
+        if (rows.isEmpty()) {
+            return; // Users without stored lists get theirs on first request or in the nightly batch
+        }
+
+        Map<UUID, String> locations = new HashMap<>();
+        userRepository.findAllById(rows.stream().map(UserJobRecommendation::getUserId).toList())
+                .forEach(user -> locations.put(user.getId(), Objects.toString(user.getLocation(), "")));
+        Map<UUID, UserProfile> profiles = profiles(locations).stream()
+                .collect(Collectors.toMap(UserProfile::userId, profile -> profile));
+
+        List<UserJobRecommendation> changed = new ArrayList<>();
+        for (UserJobRecommendation row : rows) {
+            UserProfile profile = profiles.get(row.getUserId());
+            if (profile != null && merge(row, candidatesByUser.get(row.getUserId()), profile)) {
+                changed.add(row);
+            }
+        }
+        recommendationRepository.saveAll(changed);
+    }
+
+    private boolean merge(UserJobRecommendation row, List<Candidate> candidates, UserProfile profile) {
+        List<UUID> jobIds = new ArrayList<>(row.getJobIds());
+        List<Double> scores = new ArrayList<>(row.getScores());
+        boolean changed = false;
+
+        for (Candidate candidate : candidates) {
+            double score = scorer.score(candidate, profile);
+            if (jobIds.contains(candidate.jobId()) || (jobIds.size() >= topK && score <= scores.get(scores.size() - 1))) {
+                continue;
+            }
+            int position = 0;
+            while (position < scores.size() && scores.get(position) >= score) {
+                position++;
+            }
+            jobIds.add(position, candidate.jobId());
+            scores.add(position, score);
+            if (jobIds.size() > topK) {
+                jobIds.remove(jobIds.size() - 1);
+                scores.remove(scores.size() - 1);
+            }
+            changed = true;
+        }
+
+        if (changed) {
+            row.setJobIds(jobIds);
+            row.setScores(scores);
+        }
+        return changed;
+    }
+
+    private JobCandidateIndex buildIndex() {
+        JobCandidateIndex.Builder builder = new JobCandidateIndex.Builder();
+        UUID afterId = MIN_UUID;
+        while (true) {
+            List<UUID> ids = jobPostingRepository.findActiveJobIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            jobPostingRepository.findAllWithSkillsByIdIn(ids).forEach(job -> builder.add(scorer.candidate(job)));
+            afterId = ids.get(ids.size() - 1);
+        }
+        return builder.build();
+    }
+
+    private int precomputePage(JobCandidateIndex index, List<Object[]> page) {
+        Map<UUID, String> locations = new LinkedHashMap<>();
+        page.forEach(row -> locations.put((UUID) row[0], (String) row[1]));
+
+        List<Computed> computed = profiles(locations).stream()
+                .map(profile -> compute(index, profile))
+                .toList();
+        store(computed);
+        return computed.size();
+    }
+
+    private List<UserProfile> profiles(Map<UUID, String> userLocations) {
+        Map<UUID, List<String>> skillsByUser = new HashMap<>();
+        for (Object[] row : userSkillRepository.findSkillNamesByUserIdIn(userLocations.keySet())) {
+            skillsByUser.computeIfAbsent((UUID) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        List<UserProfile> profiles = new ArrayList<>(userLocations.size());
+        userLocations.forEach((userId, location) ->
+                profiles.add(scorer.profile(userId, location, skillsByUser.getOrDefault(userId, List.of()))));
+        return profiles;
+    }
+
+    private Computed compute(JobCandidateIndex index, UserProfile profile) {
+        List<Ranked> ranked = index.topK(profile.skills(), candidate -> scorer.score(candidate, profile), topK);
+        List<String> skillGaps = scorer.skillGaps(ranked.stream().map(Ranked::candidate).toList(),
+                profile.skills(), SKILL_GAP_MIN_JOBS, SKILL_GAP_LIMIT);
+        return new Computed(profile.userId(), ranked, skillGaps);
+    }
+
+    private void store(List<Computed> computed) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, computed, 500, (statement, result) -> {
+            statement.setObject(1, result.userId());
+            statement.setString(2, toJson(result.ranked().stream().map(ranked -> ranked.candidate().jobId()).toList()));
+            statement.setString(3, toJson(result.ranked().stream().map(Ranked::score).toList()));
+            statement.setString(4, toJson(result.skillGaps()));
+            statement.setTimestamp(5, now);
+        });
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize job recommendations", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.careeros.service.recommendation;
+
+import com.careeros.entity.UserSkill;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener turning UserSkill writes into {@link UserSkillsChangedEvent}s,
+ * whatever code path made the change
+ */
+@Component
+public class UserSkillChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(UserSkill userSkill) {
+        if (userSkill.getUser() != null) {
+            eventPublisher.publishEvent(new UserSkillsChangedEvent(userSkill.getUser().getId()));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.careeros.service.recommendation;
+
+import java.util.UUID;
+
+/**
+ * Published when a user's skills are added, changed or removed
+ */
+public class UserSkillsChangedEvent {
+
+    private final UUID userId;
+
+    public UserSkillsChangedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,212 @@
+package com.careeros.service.render;
+
+import com.careeros.entity.Resume;
+import com.careeros.service.storage.BlobInfo;
+import com.careeros.service.storage.BlobStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Content-addressed cache of rendered resume files (PDF, DOCX).
+ * The key hashes everything that goes into a render: the resume and its sections, the format, and the
+ * template source. An edit therefore always yields a new key, and a repeat download of unchanged
+ * content is served from {@link BlobStorage} without rendering. The storage is the index, so every
+ * instance sees the files the others rendered; there is no local state to diverge. A hit refreshes the
+ * file's last-modified time, so a sweep can delete the least recently used files beyond max-size and any
+ * unused for the TTL. Section changes also drop the resume's files right away (via
+ * {@link ResumeContentChangedEvent}); files made stale by edits to the resume row itself are never hit
+ * again and age out.
+ */
+@Component
+public class RenderCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RenderCache.class);
+
+    // Bump when rendering code changes in a way that should invalidate existing files
+    private static final int RENDER_VERSION = 1;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BlobStorage blobStorage;
+
+    @Value("${app.resume.render-cache.prefix:render-cache}")
+    private String prefix;
+
+    @Value("${app.resume.render-cache.max-size:512MB}")
+    private DataSize maxSize;
+
+    @Value("${app.resume.render-cache.ttl:7d}")
+    private Duration ttl;
+
+    @Value("${app.resume.render-cache.touch-interval:1h}")
+    private Duration touchInterval;
+
+    /**
+     * Content address of a render of the resume in a format; variant identifies the template or layout
+     */
+    public String key(Resume resume, String format, String variant) {
+        StringBuilder content = new StringBuilder(4096);
+        append(content, RENDER_VERSION, format, variant);
+        append(content, resume.getFullName(), resume.getEmail(), resume.getPhone(), resume.getAddress(), resume.getCity(),
+                resume.getState(), resume.getZipCode(), resume.getCountry(), resume.getLinkedinUrl(), resume.getGithubUrl(),
+                resume.getPortfolioUrl(), resume.getProfessionalSummary());
+        section(content, resume.getWorkExperiences(), exp -> parts(exp.getJobTitle(), exp.getCompanyName(), exp.getLocation(),
+                exp.getStartDate(), exp.getEndDate(), exp.getIsCurrent(), exp.getDescription(), sorted(exp.getAchievements()),
+                sorted(exp.getTechnologies()), exp.getDisplayOrder()));
+        section(content, resume.getEducations(), edu -> parts(edu.getDegree(), edu.getFieldOfStudy(), edu.getInstitutionName(),
+                edu.getLocation(), edu.getStartDate(), edu.getEndDate(), edu.getIsCurrent(), edu.getGpa(), edu.getMaxGpa(),
+                edu.getHonors(), edu.getDescription(), edu.getRelevantCoursework(), edu.getDisplayOrder()));
+        section(content, resume.getSkills(), skill -> parts(skill.getSkillName(), skill.getCategory(), skill.getProficiencyLevel(),
+                skill.getYearsOfExperience(), skill.getIsFeatured(), skill.getDisplayOrder()));
+        section(content, resume.getProjects(), project -> parts(project.getName(), project.getDescription(), project.getStartDate(),
+                project.getEndDate(), project.getIsOngoing(), project.getProjectUrl(), project.getGithubUrl(), project.getDemoUrl(),
+                sorted(project.getTechnologies()), sorted(project.getHighlights()), project.getDisplayOrder()));
+        section(content, resume.getCertifications(), cert -> parts(cert.getName(), cert.getIssuingOrganization(), cert.getIssueDate(),
+                cert.getExpirationDate(), cert.getNeverExpires(), cert.getCredentialId(), cert.getCredentialUrl(),
+                cert.getDescription(), cert.getDisplayOrder()));
+        return sha256(content);
+    }
+
+    /**
+     * The cached file of a resume for a key, from whichever instance rendered it, marking it recently used
+     */
+    public Optional<BlobInfo> get(UUID resumeId, String key, String format) {
+        Optional<BlobInfo> blob;
+        try {
+            String fileKey = fileKey(resumeId, key, format);
+            blob = blobStorage.stat(fileKey);
+            // At most once per interval, since a touch rewrites the object on S3
+            if (blob.isPresent() && blob.get().lastModified().isBefore(Instant.now().minus(touchInterval))) {
+                blobStorage.touch(fileKey);
+                blob = blobStorage.stat(fileKey);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not look up cached render {} of resume {}", key, resumeId, e);
+            blob = Optional.empty();
+        }
+        requestCounter(format, blob.isPresent() ? "hit" : "miss").increment();
+        return blob;
+    }
+
+    /**
+     * A file to render into, staged by the blob storage so that {@link #put} is a rename where it can be
+     */
+    public Path newTempFile() throws IOException {
+        return blobStorage.newStagingFile();
+    }
+
+    /**
+     * Move a completed render into the cache; a concurrent render of the same key just replaces it
+     */
+    public BlobInfo put(UUID resumeId, String key, String extension, Path tempFile) throws IOException {
+        return blobStorage.move(tempFile, fileKey(resumeId, key, extension));
+    }
+
+    /**
+     * Drop every cached file of a resume once changes to its sections commit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeContentChanged(ResumeContentChangedEvent event) {
+        try {
+            for (BlobInfo blob : blobStorage.list(prefix + "/" + event.getResumeId() + "_")) {
+                blobStorage.delete(blob.key());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not drop cached renders of resume {}", event.getResumeId(), e);
+        }
+    }
+
+    /**
+     * Delete cached files unused for the TTL, then the least recently used ones until the rest fit in
+     * max-size. Every instance may sweep, since deletes are idempotent; a download that loses its file
+     * to the sweep is re-rendered by the caller.
+     */
+    @Scheduled(cron = "${app.resume.render-cache.cleanup-cron:0 45 * * * *}")
+    public void deleteExpiredFiles() {
+        Instant cutoff = Instant.now().minus(ttl);
+        try {
+            List<BlobInfo> blobs = new ArrayList<>(blobStorage.list(prefix + "/"));
+            blobs.sort(Comparator.comparing(BlobInfo::lastModified).reversed());
+            long keptBytes = 0;
+            for (BlobInfo blob : blobs) {
+                keptBytes += blob.size();
+                if (blob.lastModified().isBefore(cutoff) || keptBytes > maxSize.toBytes()) {
+                    blobStorage.delete(blob.key());
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not clean up expired renders under {}", prefix, e);
+        }
+    }
+
+    private String fileKey(UUID resumeId, String key, String extension) {
+        return prefix + "/" + resumeId + "_" + key + "." + extension;
+    }
+
+    private Counter requestCounter(String format, String result) {
+        return Counter.builder("resume.render.cache.requests")
+                .description("Render cache lookups")
+                .tag("format", format)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static <T> void section(StringBuilder content, Collection<T> items, Function<T, String> describe) {
+        // Sections are unordered sets, so sort the item descriptions for a stable key
+        List<String> described = items.stream().map(describe).sorted().collect(Collectors.toList());
+        append(content, described.size());
+        described.forEach(content::append);
+    }
+
+    private static String parts(Object... values) {
+        StringBuilder part = new StringBuilder();
+        append(part, values);
+        return part.toString();
+    }
+
+    private static void append(StringBuilder content, Object... values) {
+        // Length-prefixed, so no value can be mistaken for a separator
+        for (Object value : values) {
+            if (value == null) {
+                content.append("-;");
+            } else {
+                String text = value.toString();
+                content.append(text.length()).append(':').append(text).append(';');
+            }
+        }
+    }
+
+    private static String sorted(Collection<String> values) {
+        return values != null ? parts(values.stream().sorted().toArray()) : null;
+    }
+
+    private static String sha256(CharSequence content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.careeros.service.render;
+
+import com.careeros.entity.*;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener turning writes to a resume's sections into {@link ResumeContentChangedEvent}s,
+ * whatever code path made the change
+ */
+@Component
+public class ResumeContentChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object section) {
+        Resume resume = switch (section) {
+            case WorkExperience experience -> experience.getResume();
+            case Education education -> education.getResume();
+            case ResumeSkill skill -> skill.getResume();
+            case Project project -> project.getResume();
+            case Certification certification -> certification.getResume();
+            default -> null;
+        };
+        if (resume != null && resume.getId() != null) {
+            eventPublisher.publishEvent(new ResumeContentChangedEvent(resume.getId()));
+        }
+    }
+}
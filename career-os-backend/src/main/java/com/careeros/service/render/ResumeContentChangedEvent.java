@@ -0,0 +1,19 @@
+package com.careeros.service.render;
+
+import java.util.UUID;
+
+/**
+ * Published when a resume's experiences, education, skills, projects or certifications change
+ */
+public class ResumeContentChangedEvent {
+
+    private final UUID resumeId;
+
+    public ResumeContentChangedEvent(UUID resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public UUID getResumeId() {
+        return resumeId;
+    }
+}
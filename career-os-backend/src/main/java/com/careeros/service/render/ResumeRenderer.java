@@ -0,0 +1,297 @@
+package com.careeros.service.render;
+
+import com.careeros.entity.Resume;
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML-to-PDF rendering of resumes.
+ * Templates under templates/resume are compiled into {@link ResumeTemplate}s and font programs are
+ * read once at startup. iText font providers are costly to build and not thread-safe, so a fixed pool
+ * of {@link ConverterProperties}, one per core by default, is built up front and each render borrows
+ * one, giving it back as soon as the PDF is written, before anything reads the output.
+ * Renders are timed as resume.render.duration; rate(resume_render_duration_seconds_count) divided by
+ * system_cpu_count gives throughput per core, and ResumeRendererBenchmark measures it offline.
+ */
+@Component
+public class ResumeRenderer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeRenderer.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.resume.render.templates:classpath*:templates/resume/*.html}")
+    private String templateLocation;
+
+    @Value("${app.resume.render.fonts:classpath*:fonts/*.ttf}")
+    private String fontLocation;
+
+    @Value("${app.resume.render.default-template:modern}")
+    private String defaultTemplate;
+
+    @Value("${app.resume.render.pool-size:0}")
+    private int poolSize;
+
+    @Value("${app.resume.render.acquire-timeout:10s}")
+    private Duration acquireTimeout;
+
+    private Map<String, ResumeTemplate> templates;
+
+    private BlockingQueue<ConverterProperties> converters;
+
+    @PostConstruct
+    void init() throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+        Map<String, ResumeTemplate> compiled = new HashMap<>();
+        for (Resource resource : resolver.getResources(templateLocation)) {
+            String name = Objects.requireNonNull(resource.getFilename()).replaceFirst("\\.html$", "");
+            compiled.put(name, ResumeTemplate.compile(name, resource.getContentAsString(StandardCharsets.UTF_8)));
+        }
+        if (!compiled.containsKey(defaultTemplate)) {
+            throw new IllegalStateException("Default resume template '" + defaultTemplate + "' not found in " + templateLocation);
+        }
+        templates = Map.copyOf(compiled);
+
+        List<byte[]> fonts = new ArrayList<>();
+        for (Resource resource : resolver.getResources(fontLocation)) {
+            fonts.add(resource.getContentAsByteArray());
+        }
+
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        converters = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            converters.add(newConverterProperties(fonts));
+        }
+        Gauge.builder("resume.render.pool.available", converters, Collection::size)
+                .description("Idle PDF converters in the render pool")
+                .register(meterRegistry);
+        logger.info("Resume renderer ready: templates {}, {} custom fonts, {} converters", templates.keySet(), fonts.size(), size);
+    }
+
+    public Set<String> templateNames() {
+        return templates.keySet();
+    }
+
+    /**
+     * The compiled template of that name, or the default one when the name is unknown or null
+     */
+    public ResumeTemplate template(String templateName) {
+        ResumeTemplate template = templateName != null ? templates.get(templateName.toLowerCase(Locale.ROOT)) : null;
+        return template != null ? template : templates.get(defaultTemplate);
+    }
+
+    /**
+     * Render the resume as PDF into the stream, which is flushed but left open
+     */
+    public void renderPdf(Resume resume, String templateName, OutputStream out) {
+        ResumeTemplate template = template(templateName);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        ConverterProperties properties = acquire();
+        try {
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false);
+            HtmlConverter.convertToPdf(renderHtml(resume, template), writer, properties);
+            outcome = "success";
+        } finally {
+            converters.offer(properties);
+            sample.stop(Timer.builder("resume.render.duration")
+                    .description("Time to render a resume to PDF")
+                    .tag("template", template.name())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public String renderHtml(Resume resume, ResumeTemplate template) {
+        Map<String, String> values = new HashMap<>();
+        values.put("fullName", escape(resume.getFullName()));
+        values.put("email", escape(resume.getEmail()));
+        values.put("phone", escape(resume.getPhone()));
+        values.put("address", escape(buildFullAddress(resume)));
+        values.put("linkedinUrl", escape(resume.getLinkedinUrl()));
+        values.put("githubUrl", escape(resume.getGithubUrl()));
+        values.put("portfolioUrl", escape(resume.getPortfolioUrl()));
+        values.put("professionalSummary", escape(resume.getProfessionalSummary()));
+        values.put("workExperience", buildWorkExperienceHtml(resume));
+        values.put("education", buildEducationHtml(resume));
+        values.put("skills", buildSkillsHtml(resume));
+        values.put("projects", buildProjectsHtml(resume));
+        values.put("certifications", buildCertificationsHtml(resume));
+        return template.render(values);
+    }
+
+    private ConverterProperties acquire() {
+        try {
+            ConverterProperties properties = converters.poll(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (properties == null) {
+                throw new RuntimeException("Resume renderer is busy, try again shortly");
+            }
+            return properties;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the resume renderer", e);
+        }
+    }
+
+    private static ConverterProperties newConverterProperties(List<byte[]> fonts) {
+        // Standard PDF fonts plus the ones shipped with html2pdf; scanning system fonts is slow and varies by host
+        DefaultFontProvider fontProvider = new DefaultFontProvider(true, true, false);
+        for (byte[] font : fonts) {
+            fontProvider.addFont(font);
+        }
+        ConverterProperties properties = new ConverterProperties();
+        properties.setFontProvider(fontProvider);
+        return properties;
+    }
+
+    private static String escape(String value) {
+        return value != null ? HtmlUtils.htmlEscape(value) : "";
+    }
+
+    private String buildFullAddress(Resume resume) {
+        StringBuilder address = new StringBuilder();
+        if (resume.getCity() != null) address.append(resume.getCity());
+        if (resume.getState() != null) address.append(", ").append(resume.getState());
+        if (resume.getCountry() != null) address.append(", ").append(resume.getCountry());
+        return address.toString();
+    }
+
+    private String buildWorkExperienceHtml(Resume resume) {
+        StringBuilder html = new StringBuilder();
+
+        resume.getWorkExperiences().stream()
+                .sorted((a, b) -> b.getStartDate().compareTo(a.getStartDate()))
+                .forEach(exp -> {
+                    html.append("<div style='margin-bottom: 20px;'>");
+                    html.append("<div class='job-title'>").append(escape(exp.getJobTitle())).append("</div>");
+                    html.append("<div class='company'>").append(escape(exp.getCompanyName()));
+                    html.append("<span class='date'>").append(exp.getStartDate()).append(" - ");
+                    html.append(exp.getEndDate() != null ? exp.getEndDate() : "Present").append("</span></div>");
+
+                    if (exp.getDescription() != null) {
+                        html.append("<div class='description'>").append(escape(exp.getDescription())).append("</div>");
+                    }
+
+                    if (!exp.getAchievements().isEmpty()) {
+                        html.append("<ul>");
+                        exp.getAchievements().forEach(achievement ->
+                            html.append("<li>").append(escape(achievement)).append("</li>"));
+                        html.append("</ul>");
+                    }
+
+                    html.append("</div>");
+                });
+
+        return html.toString();
+    }
+
+    private String buildEducationHtml(Resume resume) {
+        StringBuilder html = new StringBuilder();
+
+        resume.getEducations().forEach(edu -> {
+            html.append("<div style='margin-bottom: 15px;'>");
+            html.append("<div class='job-title'>").append(escape(edu.getDegree()));
+            if (edu.getFieldOfStudy() != null) {
+                html.append(" in ").append(escape(edu.getFieldOfStudy()));
+            }
+            html.append("</div>");
+            html.append("<div class='company'>").append(escape(edu.getInstitutionName()));
+            if (edu.getEndDate() != null) {
+                html.append("<span class='date'>").append(edu.getEndDate()).append("</span>");
+            }
+            html.append("</div>");
+
+            if (edu.getGpa() != null) {
+                html.append("<div>GPA: ").append(edu.getGpa()).append("</div>");
+            }
+
+            html.append("</div>");
+        });
+
+        return html.toString();
+    }
+
+    private String buildSkillsHtml(Resume resume) {
+        StringBuilder html = new StringBuilder("<div class='skills'>");
+
+        resume.getSkills().stream()
+                .sorted((a, b) -> Boolean.compare(b.getIsFeatured(), a.getIsFeatured()))
+                .forEach(skill -> {
+                    html.append("<span class='skill'>").append(escape(skill.getSkillName())).append("</span>");
+                });
+
+        html.append("</div>");
+        return html.toString();
+    }
+
+    private String buildProjectsHtml(Resume resume) {
+        StringBuilder html = new StringBuilder();
+
+        resume.getProjects().forEach(project -> {
+            html.append("<div style='margin-bottom: 20px;'>");
+            html.append("<div class='job-title'>").append(escape(project.getName())).append("</div>");
+
+            if (project.getDescription() != null) {
+                html.append("<div class='description'>").append(escape(project.getDescription())).append("</div>");
+            }
+
+            if (!project.getTechnologies().isEmpty()) {
+                html.append("<div><strong>Technologies:</strong> ");
+                html.append(escape(String.join(", ", project.getTechnologies())));
+                html.append("</div>");
+            }
+
+            html.append("</div>");
+        });
+
+        return html.toString();
+    }
+
+    private String buildCertificationsHtml(Resume resume) {
+        StringBuilder html = new StringBuilder();
+
+        resume.getCertifications().forEach(cert -> {
+            html.append("<div style='margin-bottom: 15px;'>");
+            html.append("<div class='job-title'>").append(escape(cert.getName())).append("</div>");
+
+            if (cert.getIssuingOrganization() != null) {
+                html.append("<div class='company'>").append(escape(cert.getIssuingOrganization()));
+                if (cert.getIssueDate() != null) {
+                    html.append("<span class='date'>").append(cert.getIssueDate()).append("</span>");
+                }
+                html.append("</div>");
+            }
+
+            html.append("</div>");
+        });
+
+        return html.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.careeros.service.render;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTML resume template split once into literal text and {{placeholder}} slots, so rendering is a
+ * single pass of appends instead of one full-string replace per placeholder. Immutable and thread-safe.
+ */
+public final class ResumeTemplate {
+
+    private final String name;
+    private final String fingerprint;
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private ResumeTemplate(String name, String fingerprint, String[] literals, String[] slots) {
+        this.name = name;
+        this.fingerprint = fingerprint;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parse a template; literals[i] is followed by slots[i], and the last literal by nothing
+     */
+    public static ResumeTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+            if (close < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, open));
+            slots.add(source.substring(open + 2, close).trim());
+            position = close + 2;
+        }
+        return new ResumeTemplate(name, sha256(source), literals.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Hash of the template source, so cached renders are not reused after the template changes
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Fill the slots from the values; slots without a value render empty. Values are inserted as given,
+     * so callers escape them.
+     */
+    public String render(Map<String, String> values) {
+        int valueLength = 0;
+        for (String value : values.values()) {
+            valueLength += value != null ? value.length() : 0;
+        }
+        StringBuilder html = new StringBuilder(literalLength + valueLength + 256);
+        for (int i = 0; i < slots.length; i++) {
+            html.append(literals[i]);
+            String value = values.get(slots[i]);
+            if (value != null) {
+                html.append(value);
+            }
+        }
+        return html.append(literals[literals.length - 1]).toString();
+    }
+
+    private static String sha256(String source) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.careeros.service.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Hierarchical navigable small world graph over the unit vectors of a {@link VectorStore}, for
+ * approximate nearest neighbours by dot product (cosine similarity). Each node links to up to m
+ * neighbours per layer (2m on the bottom layer), picked with the diversity heuristic of the HNSW paper;
+ * a query descends greedily from the top layer and runs a beam search of width ef on the bottom one.
+ * Built once by a single thread, then read-only and safe to query concurrently.
+ */
+public final class HnswIndex {
+
+    public record Neighbor(int ordinal, float score) {}
+
+    private final VectorStore vectors;
+    private final int m;
+    private final int maxBottomLinks;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    // links[node][level] holds the neighbour count followed by the neighbour ordinals
+    private final int[][][] links;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    private HnswIndex(VectorStore vectors, int m, int efConstruction, long seed) {
+        this.vectors = vectors;
+        this.m = m;
+        this.maxBottomLinks = 2 * m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+        this.links = new int[vectors.size()][][];
+    }
+
+    /**
+     * Index every vector in the store
+     */
+    public static HnswIndex build(VectorStore vectors, int m, int efConstruction, long seed) {
+        HnswIndex index = new HnswIndex(vectors, m, efConstruction, seed);
+        for (int ordinal = 0; ordinal < vectors.size(); ordinal++) {
+            index.insert(ordinal);
+        }
+        return index;
+    }
+
+    public int size() {
+        return links.length;
+    }
+
+    /**
+     * The k stored vectors most similar to the query, best first
+     */
+    public List<Neighbor> search(float[] query, int k, int ef) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        int entry = entryPoint;
+        for (int level = maxLevel; level > 0; level--) {
+            entry = greedyClosest(query, entry, level);
+        }
+        NodeHeap results = searchLayer(query, entry, Math.max(ef, k), 0);
+
+        int count = Math.min(k, results.size());
+        int[] nodes = new int[results.size()];
+        float[] scores = new float[results.size()];
+        drainBestFirst(results, nodes, scores);
+        List<Neighbor> neighbors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            neighbors.add(new Neighbor(nodes[i], scores[i]));
+        }
+        return neighbors;
+    }
+
+    private void insert(int node) {
+        int level = randomLevel();
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[(l == 0 ? maxBottomLinks : m) + 1];
+        }
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        float[] query = vectors.get(node);
+        int entry = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            entry = greedyClosest(query, entry, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            NodeHeap found = searchLayer(query, entry, efConstruction, l);
+            int[] candidates = new int[found.size()];
+            float[] scores = new float[found.size()];
+            drainBestFirst(found, candidates, scores);
+            entry = candidates[0];
+
+            int maxLinks = l == 0 ? maxBottomLinks : m;
+            int[] selected = selectNeighbors(candidates, scores, candidates.length, maxLinks);
+            for (int neighbor : selected) {
+                append(node, l, neighbor);
+                link(neighbor, l, node, maxLinks);
+            }
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private int greedyClosest(float[] query, int entry, int level) {
+        int current = entry;
+        float best = vectors.dot(current, query);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                float score = vectors.dot(neighbors[i], query);
+                if (score > best) {
+                    best = score;
+                    current = neighbors[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Beam search on one layer; returns up to ef nodes in a heap with the worst on top
+     */
+    private NodeHeap searchLayer(float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(links.length);
+        visited.set(entry);
+        float entryScore = vectors.dot(entry, query);
+        NodeHeap candidates = new NodeHeap(ef, true);
+        NodeHeap results = new NodeHeap(ef + 1, false);
+        candidates.push(entry, entryScore);
+        results.push(entry, entryScore);
+
+        while (candidates.size() > 0) {
+            int current = candidates.topNode();
+            float currentScore = candidates.topScore();
+            candidates.pop();
+            if (results.size() >= ef && currentScore < results.topScore()) {
+                break;
+            }
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = vectors.dot(neighbor, query);
+                if (results.size() < ef || score > results.topScore()) {
+                    candidates.push(neighbor, score);
+                    results.push(neighbor, score);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Keep a candidate only when it is closer to the base node than to every neighbour already kept,
+     * so links spread in different directions; top up with the closest skipped ones if room is left
+     */
+    private int[] selectNeighbors(int[] candidates, float[] scores, int count, int maxLinks) {
+        int[] selected = new int[Math.min(count, maxLinks)];
+        boolean[] taken = new boolean[count];
+        int size = 0;
+        for (int i = 0; i < count && size < selected.length; i++) {
+            boolean diverse = true;
+            for (int j = 0; j < size && diverse; j++) {
+                diverse = vectors.dot(candidates[i], selected[j]) < scores[i];
+            }
+            if (diverse) {
+                selected[size++] = candidates[i];
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < count && size < selected.length; i++) {
+            if (!taken[i]) {
+                selected[size++] = candidates[i];
+            }
+        }
+        return selected;
+    }
+
+    private void append(int node, int level, int neighbor) {
+        int[] neighbors = links[node][level];
+        neighbors[++neighbors[0]] = neighbor;
+    }
+
+    private void link(int node, int level, int newNeighbor, int maxLinks) {
+        int[] neighbors = links[node][level];
+        if (neighbors[0] < maxLinks) {
+            neighbors[++neighbors[0]] = newNeighbor;
+            return;
+        }
+
+        // Full: re-select among the existing links and the new one
+        int count = neighbors[0] + 1;
+        int[] candidates = Arrays.copyOfRange(neighbors, 1, count + 1);
+        candidates[count - 1] = newNeighbor;
+        float[] scores = new float[count];
+        for (int i = 0; i < count; i++) {
+            scores[i] = vectors.dot(node, candidates[i]);
+        }
+        sortBestFirst(candidates, scores);
+        int[] selected = selectNeighbors(candidates, scores, count, maxLinks);
+        neighbors[0] = selected.length;
+        System.arraycopy(selected, 0, neighbors, 1, selected.length);
+    }
+
+    private static void drainBestFirst(NodeHeap worstFirst, int[] nodes, float[] scores) {
+        for (int i = worstFirst.size() - 1; i >= 0; i--) {
+            nodes[i] = worstFirst.topNode();
+            scores[i] = worstFirst.topScore();
+            worstFirst.pop();
+        }
+    }
+
+    private static void sortBestFirst(int[] nodes, float[] scores) {
+        for (int i = 1; i < nodes.length; i++) {
+            int node = nodes[i];
+            float score = scores[i];
+            int j = i - 1;
+            while (j >= 0 && scores[j] < score) {
+                nodes[j + 1] = nodes[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            nodes[j + 1] = node;
+            scores[j + 1] = score;
+        }
+    }
+
+    /**
+     * Binary heap of (node, score) pairs in parallel arrays, best or worst score on top
+     */
+    private static final class NodeHeap {
+
+        private final boolean bestOnTop;
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+
+        NodeHeap(int capacity, boolean bestOnTop) {
+            this.bestOnTop = bestOnTop;
+            this.nodes = new int[Math.max(capacity, 4)];
+            this.scores = new float[nodes.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int topNode() {
+            return nodes[0];
+        }
+
+        float topScore() {
+            return scores[0];
+        }
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!above(score, scores[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                scores[i] = scores[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            scores[i] = score;
+        }
+
+        void pop() {
+            int lastNode = nodes[--size];
+            float lastScore = scores[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && above(scores[child + 1], scores[child])) {
+                    child++;
+                }
+                if (!above(scores[child], lastScore)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                scores[i] = scores[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            scores[i] = lastScore;
+        }
+
+        private boolean above(float a, float b) {
+            return bestOnTop ? a > b : a < b;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.careeros.service.similarity;
+
+import com.careeros.entity.JobPosting;
+import com.careeros.entity.MentorProfile;
+import com.careeros.entity.Skill;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.repository.MentorProfileRepository;
+import com.careeros.repository.SkillRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process semantic similarity for skills, job postings and mentors.
+ * Texts are embedded with a {@link TextEmbedder} fitted on the whole catalogue, skills included, and
+ * postings and mentors are each kept in their own {@link VectorSpace} for nearest-neighbour queries.
+ * Everything is rebuilt offline on a schedule and swapped in at once; queries never touch the database
+ * or leave the process.
+ */
+@Service
+public class SimilarityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarityService.class);
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    // Longest suffix by which a word may extend its counterpart in a fuzzy match ("postgres" and "postgresql")
+    private static final int MAX_WORD_SUFFIX = 2;
+
+    public enum Space { JOBS, MENTORS }
+
+    public record Match(UUID id, String label, double score) {}
+
+    private record Snapshot(TextEmbedder embedder, Map<Space, VectorSpace> spaces) {}
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private MentorProfileRepository mentorProfileRepository;
+
+    @Value("${app.similarity.dimensions:256}")
+    private int dimensions;
+
+    @Value("${app.similarity.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.similarity.exact-below:2000}")
+    private int exactBelow;
+
+    @Value("${app.similarity.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${app.similarity.hnsw.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${app.similarity.hnsw.ef-search:64}")
+    private int efSearch;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        // Until the first build, plain feature hashing still gives usable text similarity
+        Map<Space, VectorSpace> empty = new EnumMap<>(Space.class);
+        for (Space space : Space.values()) {
+            empty.put(space, VectorSpace.empty(dimensions));
+        }
+        snapshot = new Snapshot(TextEmbedder.unweighted(dimensions), empty);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Re-fit the embedder and rebuild every space from the current catalogue
+     */
+    @Scheduled(cron = "${app.similarity.cron:0 30 4 * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+
+            // Skill names only weight the embedder's features; skills are matched by coverage, not searched
+            List<String> skillTexts = skillRepository.findAll().stream()
+                    .map(SimilarityService::skillText)
+                    .collect(Collectors.toList());
+
+            VectorSpace.Builder jobs = new VectorSpace.Builder();
+            UUID afterId = MIN_UUID;
+            while (true) {
+                List<UUID> ids = jobPostingRepository.findActiveJobIdsAfter(afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                for (JobPosting job : jobPostingRepository.findAllWithSkillsByIdIn(ids)) {
+                    jobs.add(job.getId(), job.getTitle(), jobText(job));
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+
+            VectorSpace.Builder mentors = new VectorSpace.Builder();
+            for (MentorProfile mentor : mentorProfileRepository.findAvailableMentorsWithExpertise()) {
+                mentors.add(mentor.getId(), mentor.getTitle(), mentorText(mentor));
+            }
+
+            TextEmbedder embedder = TextEmbedder.fit(() -> Stream.concat(skillTexts.stream(),
+                            Stream.of(jobs, mentors).flatMap(builder -> builder.texts().stream()))
+                    .iterator(), dimensions);
+            Map<Space, VectorSpace> spaces = new EnumMap<>(Space.class);
+            spaces.put(Space.JOBS, jobs.build(embedder, exactBelow, hnswM, efConstruction));
+            spaces.put(Space.MENTORS, mentors.build(embedder, exactBelow, hnswM, efConstruction));
+
+            snapshot = new Snapshot(embedder, spaces);
+            logger.info("Rebuilt similarity index: {} skills, {} jobs, {} mentors in {} ms",
+                    skillTexts.size(), spaces.get(Space.JOBS).size(), spaces.get(Space.MENTORS).size(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception e) {
+            logger.error("Failed to rebuild similarity index", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Unit vector for a piece of text
+     */
+    public float[] embed(String text) {
+        return snapshot.embedder().embed(text);
+    }
+
+    /**
+     * Cosine similarity of two texts, from 0 (unrelated) to 1
+     */
+    public double similarity(String a, String b) {
+        TextEmbedder embedder = snapshot.embedder();
+        return Math.max(0.0, TextEmbedder.dot(embedder.embed(a), embedder.embed(b)));
+    }
+
+    /**
+     * The k items of a space most similar to the text, best first
+     */
+    public List<Match> nearest(Space space, String text, int k) {
+        Snapshot current = snapshot;
+        float[] query = current.embedder().embed(text);
+        if (TextEmbedder.isZero(query)) {
+            return List.of();
+        }
+        return current.spaces().get(space).nearest(query, k, efSearch, null);
+    }
+
+    /**
+     * The k items of a space most similar to an indexed item, best first and excluding the item itself;
+     * empty when the item is not indexed
+     */
+    public List<Match> nearest(Space space, UUID id, int k) {
+        VectorSpace vectors = snapshot.spaces().get(space);
+        return vectors.vector(id)
+                .map(query -> vectors.nearest(query, k, efSearch, id))
+                .orElse(List.of());
+    }
+
+    /**
+     * Share of the required terms that have a term at least threshold-similar among the offered ones.
+     * Exact matches count without embedding; a similar term must also have the same words up to a short
+     * suffix, since similar spelling alone pairs different skills ("scala" and "scalability", "react"
+     * and "react native").
+     */
+    public double coverage(Collection<String> required, Collection<String> offered, double threshold) {
+        if (required.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> offeredKeys = offered.stream().map(term -> term.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        TextEmbedder embedder = snapshot.embedder();
+        List<String> offeredTerms = null;
+        List<float[]> offeredVectors = null;
+
+        int covered = 0;
+        for (String term : required) {
+            if (offeredKeys.contains(term.toLowerCase(Locale.ROOT))) {
+                covered++;
+                continue;
+            }
+            if (offeredVectors == null) {
+                offeredTerms = new ArrayList<>(offeredKeys);
+                offeredVectors = offeredTerms.stream().map(embedder::embed).collect(Collectors.toList());
+            }
+            float[] vector = embedder.embed(term);
+            for (int i = 0; i < offeredVectors.size(); i++) {
+                if (TextEmbedder.dot(vector, offeredVectors.get(i)) >= threshold && sameWords(term, offeredTerms.get(i))) {
+                    covered++;
+                    break;
+                }
+            }
+        }
+        return (double) covered / required.size();
+    }
+
+    /**
+     * Whether two terms have as many words and each word equals its counterpart or extends it by at most
+     * MAX_WORD_SUFFIX characters. Dots are ignored, so "node.js" and "nodejs" are the same word.
+     */
+    private static boolean sameWords(String a, String b) {
+        String[] wordsA = words(a);
+        String[] wordsB = words(b);
+        if (wordsA.length != wordsB.length) {
+            return false;
+        }
+        for (int i = 0; i < wordsA.length; i++) {
+            boolean aShorter = wordsA[i].length() <= wordsB[i].length();
+            String shorter = aShorter ? wordsA[i] : wordsB[i];
+            String longer = aShorter ? wordsB[i] : wordsA[i];
+            if (!longer.startsWith(shorter) || longer.length() - shorter.length() > MAX_WORD_SUFFIX) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] words(String term) {
+        return Arrays.stream(term.toLowerCase(Locale.ROOT).replace(".", "").split("[^\\p{L}\\p{N}+#]+"))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    public static String jobText(JobPosting job) {
+        return joinText(job.getTitle(), job.getRequiredSkills(), job.getExperienceLevel(), job.getIndustry());
+    }
+
+    private static String skillText(Skill skill) {
+        return joinText(skill.getName(), null, skill.getCategory() != null ? skill.getCategory().name() : null, null);
+    }
+
+    private static String mentorText(MentorProfile mentor) {
+        return joinText(mentor.getTitle(), mentor.getExpertiseAreas(), null, null);
+    }
+
+    private static String joinText(String head, Collection<String> terms, String... extra) {
+        StringJoiner text = new StringJoiner(" ");
+        if (head != null) {
+            text.add(head);
+        }
+        if (terms != null) {
+            terms.stream().filter(Objects::nonNull).forEach(text::add);
+        }
+        for (String value : extra) {
+            if (value != null) {
+                text.add(value);
+            }
+        }
+        return text.toString();
+    }
+}
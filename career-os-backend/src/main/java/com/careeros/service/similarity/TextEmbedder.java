@@ -0,0 +1,159 @@
+package com.careeros.service.similarity;
+
+import java.util.Arrays;
+
+/**
+ * Turns short texts (skill names, titles, expertise lists, keywords) into fixed-size unit vectors
+ * with the hashing trick: each word and each character trigram of a word is hashed to a signed
+ * dimension and weighted by its inverse document frequency in the corpus the embedder was fitted on.
+ * Trigrams make close spellings ("postgres" and "postgresql", "react" and "reactjs") similar
+ * without a vocabulary or a model file. Immutable once fitted.
+ */
+public final class TextEmbedder {
+
+    private static final int IDF_BUCKET_BITS = 18;
+    private static final int IDF_BUCKET_MASK = (1 << IDF_BUCKET_BITS) - 1;
+    private static final int WORD_SEED = 0x9747b28c;
+    private static final int TRIGRAM_SEED = 0x5bd1e995;
+
+    private final int dimensions;
+    private final float[] idf;
+    private final float unseenIdf;
+
+    private TextEmbedder(int dimensions, float[] idf, float unseenIdf) {
+        this.dimensions = dimensions;
+        this.idf = idf;
+        this.unseenIdf = unseenIdf;
+    }
+
+    /**
+     * Embedder weighting every feature equally, for use before any corpus is available
+     */
+    public static TextEmbedder unweighted(int dimensions) {
+        return new TextEmbedder(dimensions, null, 1.0f);
+    }
+
+    /**
+     * Fit feature weights to a corpus of documents
+     */
+    public static TextEmbedder fit(Iterable<String> corpus, int dimensions) {
+        int[] documentFrequency = new int[1 << IDF_BUCKET_BITS];
+        int[] seenIn = new int[1 << IDF_BUCKET_BITS];
+        int documents = 0;
+        for (String text : corpus) {
+            int document = ++documents;
+            forEachFeature(text, hash -> {
+                int bucket = hash & IDF_BUCKET_MASK;
+                if (seenIn[bucket] != document) {
+                    seenIn[bucket] = document;
+                    documentFrequency[bucket]++;
+                }
+            });
+        }
+
+        float[] idf = new float[documentFrequency.length];
+        for (int i = 0; i < idf.length; i++) {
+            idf[i] = (float) (Math.log((documents + 1.0) / (documentFrequency[i] + 1.0)) + 1.0);
+        }
+        return new TextEmbedder(dimensions, idf, (float) (Math.log(documents + 1.0) + 1.0));
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Unit-length vector for the text; all zeros when it has no words
+     */
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        forEachFeature(text, hash -> {
+            float featureIdf = idf != null ? idf[hash & IDF_BUCKET_MASK] : unseenIdf;
+            int mixed = hash * 0x85ebca6b;
+            mixed ^= mixed >>> 13;
+            int dimension = Math.floorMod(mixed, dimensions);
+            vector[dimension] += (mixed & 0x80000000) == 0 ? featureIdf : -featureIdf;
+        });
+        normalize(vector);
+        return vector;
+    }
+
+    public static float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    static boolean isZero(float[] vector) {
+        for (float value : vector) {
+            if (value != 0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1.0 / norm);
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+    private interface FeatureSink {
+        void accept(int hash);
+    }
+
+    /**
+     * Words are runs of letters, digits and the symbols kept in names like "c++", "c#" and "node.js".
+     * Each word contributes itself and the trigrams of the word padded with boundary markers.
+     */
+    private static void forEachFeature(String text, FeatureSink sink) {
+        if (text == null) {
+            return;
+        }
+        char[] word = new char[64];
+        int length = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.') {
+                if (length == word.length) {
+                    word = Arrays.copyOf(word, length * 2);
+                }
+                word[length++] = c;
+                continue;
+            }
+            while (length > 0 && word[length - 1] == '.') {
+                length--; // Sentence punctuation, not part of the word
+            }
+            if (length > 0) {
+                emitWord(word, length, sink);
+            }
+            length = 0;
+        }
+    }
+
+    private static void emitWord(char[] word, int length, FeatureSink sink) {
+        int hash = WORD_SEED;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ word[i]) * 0x01000193;
+        }
+        sink.accept(hash);
+
+        // Trigrams over "^word$"
+        for (int start = -1; start + 3 <= length + 1; start++) {
+            int trigram = TRIGRAM_SEED;
+            for (int i = start; i < start + 3; i++) {
+                char c = i < 0 ? '^' : i >= length ? '$' : word[i];
+                trigram = (trigram ^ c) * 0x01000193;
+            }
+            sink.accept(trigram);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.careeros.service.similarity;
+
+import java.util.*;
+
+/**
+ * Immutable set of embedded items (skills, postings or mentors) with their ids and labels.
+ * Small spaces are scanned exactly; larger ones are searched through an {@link HnswIndex}.
+ */
+final class VectorSpace {
+
+    private final UUID[] ids;
+    private final String[] labels;
+    private final Map<UUID, Integer> ordinals;
+    private final VectorStore vectors;
+    private final HnswIndex index;
+
+    private VectorSpace(UUID[] ids, String[] labels, VectorStore vectors, HnswIndex index) {
+        this.ids = ids;
+        this.labels = labels;
+        this.vectors = vectors;
+        this.index = index;
+        this.ordinals = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            ordinals.put(ids[i], i);
+        }
+    }
+
+    static VectorSpace empty(int dimensions) {
+        return new VectorSpace(new UUID[0], new String[0], new VectorStore(0, dimensions), null);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean isIndexed() {
+        return index != null;
+    }
+
+    Optional<float[]> vector(UUID id) {
+        Integer ordinal = ordinals.get(id);
+        return ordinal != null ? Optional.of(vectors.get(ordinal)) : Optional.empty();
+    }
+
+    /**
+     * The k items most similar to the query, best first, leaving out the excluded id
+     */
+    List<SimilarityService.Match> nearest(float[] query, int k, int ef, UUID exclude) {
+        int wanted = exclude != null && ordinals.containsKey(exclude) ? k + 1 : k;
+        List<HnswIndex.Neighbor> neighbors = index != null ? index.search(query, wanted, ef) : scan(query, wanted);
+
+        List<SimilarityService.Match> matches = new ArrayList<>(k);
+        for (HnswIndex.Neighbor neighbor : neighbors) {
+            UUID id = ids[neighbor.ordinal()];
+            if (!id.equals(exclude) && matches.size() < k) {
+                matches.add(new SimilarityService.Match(id, labels[neighbor.ordinal()], neighbor.score()));
+            }
+        }
+        return matches;
+    }
+
+    private List<HnswIndex.Neighbor> scan(float[] query, int k) {
+        PriorityQueue<HnswIndex.Neighbor> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(HnswIndex.Neighbor::score));
+        for (int ordinal = 0; ordinal < vectors.size(); ordinal++) {
+            float score = vectors.dot(ordinal, query);
+            if (heap.size() < k) {
+                heap.add(new HnswIndex.Neighbor(ordinal, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new HnswIndex.Neighbor(ordinal, score));
+            }
+        }
+        List<HnswIndex.Neighbor> best = new ArrayList<>(heap);
+        best.sort(Comparator.comparingDouble(HnswIndex.Neighbor::score).reversed());
+        return best;
+    }
+
+    /**
+     * Collects items for one space; items whose text has no words are left out
+     */
+    static final class Builder {
+
+        private final List<UUID> ids = new ArrayList<>();
+        private final List<String> labels = new ArrayList<>();
+        private final List<String> texts = new ArrayList<>();
+
+        void add(UUID id, String label, String text) {
+            ids.add(id);
+            labels.add(label);
+            texts.add(text);
+        }
+
+        List<String> texts() {
+            return texts;
+        }
+
+        VectorSpace build(TextEmbedder embedder, int exactBelow, int m, int efConstruction) {
+            VectorStore vectors = new VectorStore(texts.size(), embedder.dimensions());
+            List<UUID> keptIds = new ArrayList<>(texts.size());
+            List<String> keptLabels = new ArrayList<>(texts.size());
+            for (int i = 0; i < texts.size(); i++) {
+                float[] vector = embedder.embed(texts.get(i));
+                if (!TextEmbedder.isZero(vector)) {
+                    vectors.add(vector);
+                    keptIds.add(ids.get(i));
+                    keptLabels.add(labels.get(i));
+                }
+            }
+            HnswIndex index = vectors.size() >= exactBelow ? HnswIndex.build(vectors, m, efConstruction, 42L) : null;
+            return new VectorSpace(keptIds.toArray(UUID[]::new), keptLabels.toArray(String[]::new), vectors, index);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.careeros.service.similarity;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Fixed-capacity store of equal-length float vectors in one direct (off-heap) buffer, addressed by
+ * ordinal. Keeps large indexes out of the Java heap and away from GC scanning. Written while an index
+ * is built, then only read; reads of a fully built store are safe from any thread.
+ */
+public final class VectorStore {
+
+    private final FloatBuffer vectors;
+    private final int dimensions;
+    private final int capacity;
+    private int size;
+
+    public VectorStore(int capacity, int dimensions) {
+        if ((long) capacity * dimensions * Float.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Vector store of " + capacity + " x " + dimensions + " exceeds 2 GB");
+        }
+        this.vectors = ByteBuffer.allocateDirect(Math.max(1, capacity * dimensions * Float.BYTES))
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer();
+        this.dimensions = dimensions;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Append a vector and return its ordinal
+     */
+    public int add(float[] vector) {
+        if (size == capacity) {
+            throw new IllegalStateException("Vector store is full");
+        }
+        vectors.put(size * dimensions, vector, 0, dimensions);
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public float[] get(int ordinal) {
+        float[] vector = new float[dimensions];
+        vectors.get(ordinal * dimensions, vector, 0, dimensions);
+        return vector;
+    }
+
+    /**
+     * Dot product of a stored vector with a query vector
+     */
+    public float dot(int ordinal, float[] query) {
+        int base = ordinal * dimensions;
+        float sum = 0f;
+        for (int i = 0; i < dimensions; i++) {
+            sum += vectors.get(base + i) * query[i];
+        }
+        return sum;
+    }
+
+    public float dot(int a, int b) {
+        int baseA = a * dimensions;
+        int baseB = b * dimensions;
+        float sum = 0f;
+        for (int i = 0; i < dimensions; i++) {
+            sum += vectors.get(baseA + i) * vectors.get(baseB + i);
+        }
+        return sum;
+    }
+}
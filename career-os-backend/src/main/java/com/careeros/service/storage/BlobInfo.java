@@ -0,0 +1,19 @@
+package com.careeros.service.storage;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.time.Instant;
+
+/**
+ * Metadata of a stored blob. etag is quoted, ready for the ETag header.
+ */
+public record BlobInfo(String key, long size, String etag, String contentType, Instant lastModified) {
+
+    /**
+     * Content type of a key, from its extension
+     */
+    public static String contentTypeOf(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+}
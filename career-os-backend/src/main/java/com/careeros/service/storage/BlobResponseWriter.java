@@ -0,0 +1,140 @@
+package com.careeros.service.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Serves a stored blob over HTTP: ETag and Last-Modified validators with 304 responses, single byte
+ * ranges with 206 (and If-Range), and HEAD. When the blob is a local file and the connector supports
+ * it, the body is handed to Tomcat's sendfile so it goes from the page cache to the socket directly;
+ * otherwise it is copied from {@link BlobStorage#copyTo}.
+ */
+@Component
+public class BlobResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private record ByteRange(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    @Autowired
+    private BlobStorage blobStorage;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void write(BlobInfo blob, String fileName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, blob.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, blob.lastModified().toEpochMilli());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (notModified(blob, request)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(blob.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+
+        ByteRange range = new ByteRange(0, blob.size() - 1);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        // Multi-range requests get the whole blob, which the spec allows in place of multipart/byteranges
+        if (rangeHeader != null && rangeHeader.startsWith("bytes=") && !rangeHeader.contains(",")
+                && blob.size() > 0 && rangeApplies(blob, request)) {
+            Optional<ByteRange> requested = parseRange(rangeHeader, blob.size());
+            if (requested.isEmpty()) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + blob.size());
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            range = requested.get();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + blob.size());
+        }
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equals(request.getMethod()) || range.length() <= 0) {
+            return;
+        }
+
+        Optional<Path> file = blobStorage.localPath(blob.key());
+        if (file.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.get().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            count("sendfile", range.length());
+        } else {
+            blobStorage.copyTo(blob.key(), range.start(), range.length(), response.getOutputStream());
+            count("copy", range.length());
+        }
+    }
+
+    private boolean notModified(BlobInfo blob, HttpServletRequest request) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return "*".equals(ifNoneMatch.trim()) || Arrays.stream(ifNoneMatch.split(","))
+                    .map(tag -> tag.trim().replaceFirst("^W/", ""))
+                    .anyMatch(blob.etag()::equals);
+        }
+        long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        // HTTP dates have second precision
+        return ifModifiedSince >= 0 && blob.lastModified().toEpochMilli() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private boolean rangeApplies(BlobInfo blob, HttpServletRequest request) {
+        // A range against an older version of the blob would splice two versions together
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(blob.etag());
+        }
+        long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+        return blob.lastModified().toEpochMilli() / 1000 <= date / 1000;
+    }
+
+    /**
+     * The range of a single-range "bytes=" header clamped to the size, or empty when unsatisfiable
+     */
+    private static Optional<ByteRange> parseRange(String header, long size) {
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        try {
+            if (dash < 0) {
+                return Optional.empty();
+            }
+            if (dash == 0) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(spec.substring(1));
+                return suffix > 0 ? Optional.of(new ByteRange(Math.max(0, size - suffix), size - 1)) : Optional.empty();
+            }
+            long start = Long.parseLong(spec.substring(0, dash));
+            long end = dash == spec.length() - 1 ? size - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+            return start < size && start <= end ? Optional.of(new ByteRange(start, end)) : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void count(String mode, long bytes) {
+        meterRegistry.counter("storage.download.bytes", "mode", mode).increment(bytes);
+    }
+}
@@ -0,0 +1,65 @@
+package com.careeros.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Store for generated and uploaded files, selected by storage.type: the local filesystem
+ * ({@link LocalBlobStorage}) or any S3-compatible service ({@link S3BlobStorage}).
+ * Keys are relative paths such as "certificates/abc.pdf"; the content type follows from the extension.
+ * Content always moves as streams, so no blob is held in memory whole.
+ */
+public interface BlobStorage {
+
+    /**
+     * Store the stream under the key, replacing any existing blob
+     */
+    BlobInfo put(String key, InputStream content) throws IOException;
+
+    /**
+     * Store a file under the key, taking ownership of it: the file is gone afterwards.
+     * Stage files with {@link #newStagingFile()} so the local backend can rename instead of copy.
+     */
+    BlobInfo move(Path file, String key) throws IOException;
+
+    /**
+     * Store the stream under prefix/sha256.extension. Content already stored is not written again,
+     * so identical uploads share one blob.
+     */
+    BlobInfo putContentAddressed(String prefix, String extension, InputStream content) throws IOException;
+
+    Optional<BlobInfo> stat(String key) throws IOException;
+
+    /**
+     * Set the blob's last-modified time to now, so age-based cleanup treats it as recently used
+     */
+    void touch(String key) throws IOException;
+
+    /**
+     * Write length bytes of the blob starting at offset to the stream
+     */
+    void copyTo(String key, long offset, long length, OutputStream out) throws IOException;
+
+    /**
+     * The file holding the blob, when the backend keeps blobs on the local filesystem
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * Blobs whose keys start with the prefix
+     */
+    List<BlobInfo> list(String prefix) throws IOException;
+
+    boolean delete(String key) throws IOException;
+
+    /**
+     * An empty temporary file to write a blob into before {@link #move}
+     */
+    Path newStagingFile() throws IOException;
+}
@@ -0,0 +1,220 @@
+package com.careeros.service.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Blobs as files under storage.local.upload-dir, one file per key.
+ * Writes go to a staging file first and are renamed into place, so readers never see a partial blob.
+ * Reads use FileChannel.transferTo, and {@link #localPath} lets the download path hand the file to
+ * Tomcat's sendfile so the bytes go from page cache to socket without passing through the heap.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStorage implements BlobStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalBlobStorage.class);
+
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile(".*/([0-9a-f]{64})(\\.\\w+)?");
+
+    @Value("${storage.local.upload-dir:./uploads}")
+    private String uploadDir;
+
+    private Path root;
+    private Path staging;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        staging = root.resolve(".staging");
+        Files.createDirectories(staging);
+
+        // Staging files left by an interrupted write are never completed
+        try (Stream<Path> leftovers = Files.list(staging)) {
+            for (Path leftover : leftovers.collect(Collectors.toList())) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+        logger.info("Local blob storage at {}", root);
+    }
+
+    @Override
+    public BlobInfo put(String key, InputStream content) throws IOException {
+        Path file = newStagingFile();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            content.transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return move(file, key);
+    }
+
+    @Override
+    public BlobInfo move(Path file, String key) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Staged on another filesystem; this copies
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return info(key, target);
+    }
+
+    @Override
+    public BlobInfo putContentAddressed(String prefix, String extension, InputStream content) throws IOException {
+        Path file = newStagingFile();
+        String hash;
+        try (DigestOutputStream out = new DigestOutputStream(Files.newOutputStream(file), sha256())) {
+            content.transferTo(out);
+            hash = HexFormat.of().formatHex(out.getMessageDigest().digest());
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        String key = prefix + "/" + hash + (extension != null && !extension.isEmpty() ? "." + extension : "");
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            Files.delete(file);
+            return info(key, target);
+        }
+        return move(file, key);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        try {
+            return Optional.of(info(key, resolve(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void touch(String key) throws IOException {
+        Files.setLastModifiedTime(resolve(key), FileTime.from(Instant.now()));
+    }
+
+    @Override
+    public void copyTo(String key, long offset, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    throw new EOFException("Blob " + key + " ended at " + position + ", expected " + (offset + length) + " bytes");
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public List<BlobInfo> list(String prefix) throws IOException {
+        // Walk the deepest directory the prefix names fully, then filter on the rest
+        int slash = prefix.lastIndexOf('/');
+        Path directory = slash < 0 ? root : resolve(prefix.substring(0, slash));
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            List<Path> matching = files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> !file.startsWith(staging))
+                    .filter(file -> keyOf(file).startsWith(prefix))
+                    .collect(Collectors.toList());
+            List<BlobInfo> blobs = new ArrayList<>(matching.size());
+            for (Path file : matching) {
+                try {
+                    blobs.add(info(keyOf(file), file));
+                } catch (NoSuchFileException e) {
+                    // Deleted while listing
+                }
+            }
+            return blobs;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Path newStagingFile() throws IOException {
+        return Files.createTempFile(staging, "blob", ".part");
+    }
+
+    private Path resolve(String key) {
+        if (key == null || key.isBlank() || key.startsWith("/") || key.contains("\\")) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(staging)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+
+    private String keyOf(Path file) {
+        return root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private static BlobInfo info(String key, Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Matcher matcher = CONTENT_ADDRESSED.matcher(key);
+        // Content-addressed blobs carry their hash; others get an nginx-style size and mtime tag
+        String etag = matcher.matches()
+                ? matcher.group(1)
+                : Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(attributes.size());
+        return new BlobInfo(key, attributes.size(), "\"" + etag + "\"", BlobInfo.contentTypeOf(key),
+                attributes.lastModifiedTime().toInstant());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.careeros.service.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Blobs as objects in an S3 bucket, or in any S3-compatible store (MinIO, R2, ...) through
+ * storage.s3.endpoint with path-style access.
+ * Streams larger than one part are sent as multipart uploads, part by part, so memory per upload is
+ * bounded by storage.s3.part-size whatever the blob size. Ranged reads map to ranged GETs.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3BlobStorage implements BlobStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3BlobStorage.class);
+
+    // S3 rejects parts below 5MB, except the last
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    @Value("${storage.s3.bucket}")
+    private String bucket;
+
+    @Value("${storage.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${storage.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${storage.s3.path-style:false}")
+    private boolean pathStyle;
+
+    @Value("${storage.s3.access-key:}")
+    private String accessKey;
+
+    @Value("${storage.s3.secret-key:}")
+    private String secretKey;
+
+    @Value("${storage.s3.part-size:8MB}")
+    private DataSize partSize;
+
+    @Value("${storage.s3.staging-dir:${java.io.tmpdir}/career-os-staging}")
+    private String stagingDir;
+
+    private S3Client s3;
+    private Path staging;
+
+    @PostConstruct
+    void init() throws IOException {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(pathStyle).build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        builder.credentialsProvider(accessKey.isBlank()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        s3 = builder.build();
+
+        staging = Paths.get(stagingDir);
+        Files.createDirectories(staging);
+        logger.info("S3 blob storage in bucket {} at {}", bucket, endpoint.isBlank() ? "AWS " + region : endpoint);
+    }
+
+    @PreDestroy
+    void close() {
+        s3.close();
+    }
+
+    @Override
+    public BlobInfo put(String key, InputStream content) throws IOException {
+        int size = (int) Math.max(partSize.toBytes(), MIN_PART_SIZE);
+        byte[] part = new byte[size];
+        int read = content.readNBytes(part, 0, size);
+        try {
+            if (read < size) {
+                // Fits in one part: a plain PUT
+                s3.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(BlobInfo.contentTypeOf(key)).build(),
+                        RequestBody.fromBytes(Arrays.copyOf(part, read)));
+            } else {
+                uploadMultipart(key, content, part, read);
+            }
+        } catch (SdkException e) {
+            throw new IOException("Failed to store " + key + " in bucket " + bucket, e);
+        }
+        return stat(key).orElseThrow(() -> new IOException("Stored " + key + " but cannot find it"));
+    }
+
+    private void uploadMultipart(String key, InputStream content, byte[] part, int read) throws IOException {
+        String uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).contentType(BlobInfo.contentTypeOf(key)).build()).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            while (read > 0) {
+                int partNumber = parts.size() + 1;
+                UploadPartResponse response = s3.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber).build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(part, 0, read), read));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                read = content.readNBytes(part, 0, part.length);
+            }
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // Otherwise the uploaded parts are kept, and billed, until a lifecycle rule removes them
+            try {
+                s3.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+            } catch (SdkException abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public BlobInfo move(Path file, String key) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return put(key, in);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public BlobInfo putContentAddressed(String prefix, String extension, InputStream content) throws IOException {
+        // The key depends on the hash, so the content is staged on disk until it is known
+        Path file = newStagingFile();
+        String hash;
+        try (DigestOutputStream out = new DigestOutputStream(Files.newOutputStream(file), sha256())) {
+            content.transferTo(out);
+            hash = HexFormat.of().formatHex(out.getMessageDigest().digest());
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        String key = prefix + "/" + hash + (extension != null && !extension.isEmpty() ? "." + extension : "");
+        Optional<BlobInfo> existing = stat(key);
+        if (existing.isPresent()) {
+            Files.delete(file);
+            return existing.get();
+        }
+        return move(file, key);
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new BlobInfo(key, head.contentLength(), head.eTag(),
+                    head.contentType() != null ? head.contentType() : BlobInfo.contentTypeOf(key), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("Failed to look up " + key + " in bucket " + bucket, e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to look up " + key + " in bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public void touch(String key) throws IOException {
+        // S3 cannot set the time directly; copying the object onto itself with replaced metadata does
+        try {
+            s3.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket).sourceKey(key)
+                    .destinationBucket(bucket).destinationKey(key)
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .contentType(BlobInfo.contentTypeOf(key))
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("Failed to touch " + key + " in bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public void copyTo(String key, long offset, long length, OutputStream out) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket).key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+        try (ResponseInputStream<GetObjectResponse> in = s3.getObject(request)) {
+            in.transferTo(out);
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("Failed to read " + key + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public List<BlobInfo> list(String prefix) throws IOException {
+        try {
+            return s3.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).build())
+                    .contents().stream()
+                    .map(object -> new BlobInfo(object.key(), object.size(), object.eTag(),
+                            BlobInfo.contentTypeOf(object.key()), object.lastModified()))
+                    .collect(Collectors.toList());
+        } catch (SdkException e) {
+            throw new IOException("Failed to list " + prefix + " in bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        try {
+            s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete " + key + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public Path newStagingFile() throws IOException {
+        return Files.createTempFile(staging, "blob", ".part");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
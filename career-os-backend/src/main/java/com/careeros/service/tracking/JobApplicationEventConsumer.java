@@ -0,0 +1,26 @@
+package com.careeros.service.tracking;
+
+import com.careeros.dto.job.JobApplicationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes job application events into the event log and funnel counters
+ */
+@Component
+public class JobApplicationEventConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobApplicationEventConsumer.class);
+
+    @Autowired
+    private JobApplicationTrackingService trackingService;
+
+    @KafkaListener(topics = "${app.job-applications.topic:job-application-events}", groupId = "job-application-funnel")
+    public void onApplicationEvent(JobApplicationEvent event) {
+        logger.debug("Applying {} event {} for user {}", event.getStage(), event.getEventId(), event.getUserId());
+        trackingService.applyEvent(event);
+    }
+}
@@ -0,0 +1,243 @@
+package com.careeros.service.tracking;
+
+import com.careeros.dto.job.ApplicationFunnel;
+import com.careeros.dto.job.JobApplicationEvent;
+import com.careeros.entity.ApplicationFunnelCounter;
+import com.careeros.entity.ApplicationFunnelCounter.FunnelScope;
+import com.careeros.entity.JobPosting;
+import com.careeros.entity.UserJobApplication;
+import com.careeros.entity.UserJobApplication.ApplicationStage;
+import com.careeros.repository.ApplicationFunnelCounterRepository;
+import com.careeros.repository.JobPostingRepository;
+import com.careeros.repository.UserJobApplicationRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Job application tracking.
+ * Application stage changes are published to Kafka as append-only events keyed by user, so one user's
+ * events are consumed in order. The consumer stores each event once in the month-partitioned event log
+ * and folds it into the user's application row and the user, job and company funnel counters,
+ * which is all the read side ever queries.
+ */
+@Service
+public class JobApplicationTrackingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobApplicationTrackingService.class);
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO job_application_events (event_id, user_id, job_posting_id, company, stage, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (event_id, occurred_at) DO NOTHING";
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private UserJobApplicationRepository userJobApplicationRepository;
+
+    @Autowired
+    private ApplicationFunnelCounterRepository funnelCounterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.job-applications.topic:job-application-events}")
+    private String topic;
+
+    @Value("${app.job-applications.partition-months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    @Value("${app.job-applications.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    /**
+     * Publish an application stage change for a user and job. Returns once the broker has acknowledged
+     * the event and fails otherwise, so a stage change is never reported as tracked and then lost.
+     */
+    public JobApplicationEvent trackApplication(UUID userId, UUID jobId, ApplicationStage stage) {
+        JobPosting job = jobPostingRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        JobApplicationEvent event = new JobApplicationEvent();
+        event.setEventId(UUID.randomUUID());
+        event.setUserId(userId);
+        event.setJobPostingId(jobId);
+        event.setJobTitle(job.getTitle());
+        event.setCompany(job.getCompany());
+        event.setStage(stage);
+        event.setOccurredAt(LocalDateTime.now());
+
+        try {
+            kafkaTemplate.send(topic, userId.toString(), event).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while recording the application", e);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            logger.error("Failed to publish application event {} for user {} and job {}",
+                    event.getEventId(), userId, jobId, e);
+            throw new RuntimeException("Failed to record the application", e);
+        }
+        return event;
+    }
+
+    /**
+     * Store an event and fold it into the application state and funnel counters.
+     * Redelivered events hit the event log's primary key and are skipped.
+     */
+    @Transactional
+    public void applyEvent(JobApplicationEvent event) {
+        int inserted = jdbcTemplate.update(INSERT_EVENT_SQL,
+                event.getEventId(), event.getUserId(), event.getJobPostingId(), event.getCompany(),
+                event.getStage().name(), Timestamp.valueOf(event.getOccurredAt()));
+        if (inserted == 0) {
+            logger.debug("Skipping duplicate application event {}", event.getEventId());
+            return;
+        }
+
+        UserJobApplication application = userJobApplicationRepository
+                .findForUpdate(event.getUserId(), event.getJobPostingId())
+                .orElseGet(() -> {
+                    UserJobApplication created = new UserJobApplication();
+                    created.setUserId(event.getUserId());
+                    created.setJobPostingId(event.getJobPostingId());
+                    created.setJobTitle(event.getJobTitle());
+                    created.setCompany(event.getCompany());
+                    return created;
+                });
+
+        boolean firstTimeAtStage = markStageReached(application, event.getStage(), event.getOccurredAt());
+        if (application.getLastEventAt() == null || !event.getOccurredAt().isBefore(application.getLastEventAt())) {
+            application.setCurrentStage(event.getStage());
+            application.setLastEventAt(event.getOccurredAt());
+        }
+        userJobApplicationRepository.save(application);
+
+        // Count each application once per stage, however many events repeat it
+        if (firstTimeAtStage) {
+            incrementFunnel(FunnelScope.USER, event.getUserId().toString(), event.getStage());
+            incrementFunnel(FunnelScope.JOB, event.getJobPostingId().toString(), event.getStage());
+            if (event.getCompany() != null && !event.getCompany().isBlank()) {
+                incrementFunnel(FunnelScope.COMPANY, companyKey(event.getCompany()), event.getStage());
+            }
+        }
+    }
+
+    /**
+     * Get a user's applications, most recently updated first
+     */
+    public Page<UserJobApplication> getApplications(UUID userId, int page, int size) {
+        return userJobApplicationRepository.findByUserIdOrderByLastEventAtDesc(userId, PageRequest.of(page, size));
+    }
+
+    public ApplicationFunnel getUserFunnel(UUID userId) {
+        return getFunnel(FunnelScope.USER, userId.toString());
+    }
+
+    public ApplicationFunnel getJobFunnel(UUID jobId) {
+        return getFunnel(FunnelScope.JOB, jobId.toString());
+    }
+
+    public ApplicationFunnel getCompanyFunnel(String company) {
+        return getFunnel(FunnelScope.COMPANY, companyKey(company));
+    }
+
+    /**
+     * Create the event log's monthly partitions for the current month and the next few
+     */
+    @PostConstruct
+    @Scheduled(cron = "${app.job-applications.partition-cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= partitionMonthsAhead; i++) {
+            createPartition(month.plusMonths(i));
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = String.format("job_application_events_y%dm%02d", month.getYear(), month.getMonthValue());
+        String sql = String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF job_application_events FOR VALUES FROM ('%s') TO ('%s')",
+                name, month.atDay(1), month.plusMonths(1).atDay(1));
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            logger.error("Failed to create application event partition {}", name, e);
+        }
+    }
+
+    private boolean markStageReached(UserJobApplication application, ApplicationStage stage, LocalDateTime at) {
+        switch (stage) {
+            case APPLIED:
+                if (application.getAppliedAt() != null) return false;
+                application.setAppliedAt(at);
+                return true;
+            case INTERVIEWED:
+                if (application.getInterviewedAt() != null) return false;
+                application.setInterviewedAt(at);
+                return true;
+            case OFFERED:
+                if (application.getOfferedAt() != null) return false;
+                application.setOfferedAt(at);
+                return true;
+            case REJECTED:
+                if (application.getRejectedAt() != null) return false;
+                application.setRejectedAt(at);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void incrementFunnel(FunnelScope scope, String scopeKey, ApplicationStage stage) {
+        funnelCounterRepository.increment(scope.name(), scopeKey,
+                stage == ApplicationStage.APPLIED ? 1 : 0,
+                stage == ApplicationStage.INTERVIEWED ? 1 : 0,
+                stage == ApplicationStage.OFFERED ? 1 : 0,
+                stage == ApplicationStage.REJECTED ? 1 : 0);
+    }
+
+    private ApplicationFunnel getFunnel(FunnelScope scope, String scopeKey) {
+        ApplicationFunnelCounter counter = funnelCounterRepository.findByScopeAndScopeKey(scope, scopeKey)
+                .orElseGet(ApplicationFunnelCounter::new);
+
+        ApplicationFunnel funnel = new ApplicationFunnel();
+        funnel.setScope(scope.name());
+        funnel.setScopeKey(scopeKey);
+        funnel.setApplied(counter.getAppliedCount());
+        funnel.setInterviewed(counter.getInterviewedCount());
+        funnel.setOffered(counter.getOfferedCount());
+        funnel.setRejected(counter.getRejectedCount());
+        funnel.setInterviewRate(counter.getAppliedCount() > 0
+                ? (double) counter.getInterviewedCount() / counter.getAppliedCount() : 0.0);
+        funnel.setOfferRate(counter.getInterviewedCount() > 0
+                ? (double) counter.getOfferedCount() / counter.getInterviewedCount() : 0.0);
+        return funnel;
+    }
+
+    private static String companyKey(String company) {
+        return company.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,28 @@
+-- Normalized role and location dimensions on job postings
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS role_key VARCHAR(255);
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS location_key VARCHAR(255);
+
+CREATE INDEX IF NOT EXISTS idx_job_posting_role_location ON job_postings (role_key, location_key);
+CREATE INDEX IF NOT EXISTS idx_job_posting_location_key ON job_postings (location_key);
+
+-- Precomputed market insights per (role, location, week)
+CREATE TABLE IF NOT EXISTS market_insight_cube (
+    id                            UUID PRIMARY KEY,
+    role_key                      VARCHAR(255) NOT NULL,
+    location_key                  VARCHAR(255) NOT NULL,
+    week_start                    DATE         NOT NULL,
+    total_job_postings            INTEGER      NOT NULL DEFAULT 0,
+    recent_job_postings           INTEGER      NOT NULL DEFAULT 0,
+    remote_job_count              INTEGER      NOT NULL DEFAULT 0,
+    average_salary                DOUBLE PRECISION,
+    median_salary                 DOUBLE PRECISION,
+    top_hiring_companies          JSONB,
+    top_required_skills           JSONB,
+    experience_level_distribution JSONB,
+    job_type_distribution         JSONB,
+    computed_at                   TIMESTAMP    NOT NULL,
+    created_at                    TIMESTAMP    NOT NULL,
+    updated_at                    TIMESTAMP,
+    version                       BIGINT,
+    CONSTRAINT uk_market_insight_cell UNIQUE (role_key, location_key, week_start)
+);
@@ -0,0 +1,16 @@
+-- Mergeable salary quantile sketches per (skill, location, industry, month)
+CREATE TABLE IF NOT EXISTS salary_sketch_cells (
+    id           UUID PRIMARY KEY,
+    skill        VARCHAR(255) NOT NULL,
+    location_key VARCHAR(255) NOT NULL,
+    industry     VARCHAR(255) NOT NULL,
+    month        DATE         NOT NULL,
+    sample_count BIGINT       NOT NULL DEFAULT 0,
+    sketch       BYTEA        NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP,
+    version      BIGINT,
+    CONSTRAINT uk_salary_sketch_cell UNIQUE (skill, location_key, industry, month)
+);
+
+CREATE INDEX IF NOT EXISTS idx_salary_sketch_month ON salary_sketch_cells (month);
@@ -0,0 +1,17 @@
+-- Daily skill demand counters per (skill, location, industry, day)
+CREATE TABLE IF NOT EXISTS skill_demand_daily (
+    id            UUID PRIMARY KEY,
+    skill         VARCHAR(255)     NOT NULL,
+    location_key  VARCHAR(255)     NOT NULL,
+    industry      VARCHAR(255)     NOT NULL,
+    day           DATE             NOT NULL,
+    posting_count BIGINT           NOT NULL DEFAULT 0,
+    salary_sum    DOUBLE PRECISION NOT NULL DEFAULT 0,
+    salary_count  BIGINT           NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP        NOT NULL,
+    updated_at    TIMESTAMP,
+    version       BIGINT,
+    CONSTRAINT uk_skill_demand_daily_cell UNIQUE (skill, location_key, industry, day)
+);
+
+CREATE INDEX IF NOT EXISTS idx_skill_demand_skill_day ON skill_demand_daily (skill, day);
@@ -0,0 +1,10 @@
+-- Gazetteer coordinates and geohash grid cell on job postings
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS geohash VARCHAR(12);
+
+CREATE INDEX IF NOT EXISTS idx_job_posting_geohash ON job_postings (geohash);
+
+-- Radius queries match on 3- or 4-character prefixes, see GeoHash.coverPrecision
+CREATE INDEX IF NOT EXISTS idx_job_posting_geohash_p3 ON job_postings (substring(geohash, 1, 3)) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_job_posting_geohash_p4 ON job_postings (substring(geohash, 1, 4)) WHERE status = 'ACTIVE';
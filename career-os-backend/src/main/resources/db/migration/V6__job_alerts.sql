@@ -0,0 +1,34 @@
+-- Saved job searches that drive job alerts
+CREATE TABLE IF NOT EXISTS saved_job_searches (
+    id             UUID PRIMARY KEY,
+    user_id        UUID             NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    name           VARCHAR(255)     NOT NULL,
+    keywords       VARCHAR(255),
+    skills         JSONB,
+    location       VARCHAR(255),
+    radius_km      DOUBLE PRECISION,
+    remote_only    BOOLEAN          NOT NULL DEFAULT FALSE,
+    min_salary     DOUBLE PRECISION,
+    alerts_enabled BOOLEAN          NOT NULL DEFAULT TRUE,
+    created_at     TIMESTAMP        NOT NULL,
+    updated_at     TIMESTAMP,
+    version        BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_saved_job_search_user ON saved_job_searches (user_id);
+
+-- Matched postings waiting for the user's next alert digest
+CREATE TABLE IF NOT EXISTS job_alert_digest_items (
+    id              UUID PRIMARY KEY,
+    user_id         UUID             NOT NULL,
+    job_posting_id  UUID             NOT NULL,
+    saved_search_id UUID,
+    score           DOUBLE PRECISION NOT NULL,
+    sent_at         TIMESTAMP,
+    created_at      TIMESTAMP        NOT NULL,
+    updated_at      TIMESTAMP,
+    version         BIGINT,
+    CONSTRAINT uk_job_alert_digest_item UNIQUE (user_id, job_posting_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_alert_digest_pending ON job_alert_digest_items (sent_at, user_id);
@@ -0,0 +1,53 @@
+-- Append-only job application event log, range-partitioned by month.
+-- Monthly partitions are created ahead of time by JobApplicationTrackingService;
+-- the default partition only catches events outside the prepared range.
+CREATE TABLE IF NOT EXISTS job_application_events (
+    event_id       UUID         NOT NULL,
+    user_id        UUID         NOT NULL,
+    job_posting_id UUID         NOT NULL,
+    company        VARCHAR(255),
+    stage          VARCHAR(20)  NOT NULL,
+    occurred_at    TIMESTAMP    NOT NULL,
+    recorded_at    TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (event_id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE IF NOT EXISTS job_application_events_default PARTITION OF job_application_events DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_job_application_events_user ON job_application_events (user_id, occurred_at);
+
+-- Current state of each user's application to a job
+CREATE TABLE IF NOT EXISTS user_job_applications (
+    id             UUID PRIMARY KEY,
+    user_id        UUID         NOT NULL,
+    job_posting_id UUID         NOT NULL,
+    job_title      VARCHAR(255),
+    company        VARCHAR(255),
+    current_stage  VARCHAR(20)  NOT NULL,
+    applied_at     TIMESTAMP,
+    interviewed_at TIMESTAMP,
+    offered_at     TIMESTAMP,
+    rejected_at    TIMESTAMP,
+    last_event_at  TIMESTAMP    NOT NULL,
+    created_at     TIMESTAMP    NOT NULL,
+    updated_at     TIMESTAMP,
+    version        BIGINT,
+    CONSTRAINT uk_user_job_application UNIQUE (user_id, job_posting_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_job_application_recent ON user_job_applications (user_id, last_event_at);
+
+-- Funnel counters per user, job and company
+CREATE TABLE IF NOT EXISTS application_funnel_counters (
+    id                UUID PRIMARY KEY,
+    scope             VARCHAR(20)  NOT NULL,
+    scope_key         VARCHAR(255) NOT NULL,
+    applied_count     BIGINT       NOT NULL DEFAULT 0,
+    interviewed_count BIGINT       NOT NULL DEFAULT 0,
+    offered_count     BIGINT       NOT NULL DEFAULT 0,
+    rejected_count    BIGINT       NOT NULL DEFAULT 0,
+    created_at        TIMESTAMP    NOT NULL,
+    updated_at        TIMESTAMP,
+    version           BIGINT,
+    CONSTRAINT uk_application_funnel_counter UNIQUE (scope, scope_key)
+);
@@ -0,0 +1,13 @@
+-- Precomputed top ranked jobs and skill gaps per user
+CREATE TABLE IF NOT EXISTS user_job_recommendations (
+    id          UUID PRIMARY KEY,
+    user_id     UUID      NOT NULL,
+    job_ids     JSONB     NOT NULL,
+    scores      JSONB     NOT NULL,
+    skill_gaps  JSONB,
+    computed_at TIMESTAMP NOT NULL,
+    created_at  TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP,
+    version     BIGINT,
+    CONSTRAINT uk_user_job_recommendation_user UNIQUE (user_id)
+);
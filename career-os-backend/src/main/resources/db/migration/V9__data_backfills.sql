@@ -0,0 +1,5 @@
+-- One-time data backfills run at startup, recorded once complete so they run once per database
+CREATE TABLE IF NOT EXISTS data_backfills (
+    name         VARCHAR(100) PRIMARY KEY,
+    completed_at TIMESTAMP NOT NULL
+);
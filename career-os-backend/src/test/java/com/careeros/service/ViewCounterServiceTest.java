@@ -0,0 +1,111 @@
+package com.careeros.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Views recorded while flushes run, some of which fail, must all reach the database exactly once
+ */
+class ViewCounterServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 250_000;
+
+    @Test
+    void concurrentViewsAndFlushesLoseNothing() throws Exception {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        ViewCounterService service = new ViewCounterService();
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        service.registerMetrics();
+
+        UUID[] jobIds = {UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()};
+        ExecutorService viewers = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> views = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            views.add(viewers.submit(() -> {
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    service.recordJobView(jobIds[(i + offset) % jobIds.length]);
+                }
+            }));
+        }
+
+        int flushes = 0;
+        while (views.stream().anyMatch(view -> !view.isDone())) {
+            // Every few flushes the write fails and its deltas go back to pending
+            jdbcTemplate.failing = flushes++ % 5 == 2;
+            service.flush();
+        }
+        for (Future<?> view : views) {
+            view.get();
+        }
+        viewers.shutdown();
+
+        // The viewers may finish before a failing flush finds anything pending, so fail one for certain
+        service.recordJobView(jobIds[0]);
+        jdbcTemplate.failing = true;
+        service.flush();
+        jdbcTemplate.failing = false;
+        service.flush();
+
+        long written = jdbcTemplate.viewCounts.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(jdbcTemplate.failedWrites).isPositive();
+        assertThat(written).isEqualTo((long) THREADS * VIEWS_PER_THREAD + 1);
+        for (UUID jobId : jobIds) {
+            assertThat(service.getJobViewCount(jobId, 0)).isEqualTo(0);
+        }
+    }
+
+    /**
+     * Applies each flushed id/delta batch to an in-memory table, or fails when told to
+     */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        final Map<UUID, Long> viewCounts = new ConcurrentHashMap<>();
+        volatile boolean failing;
+        int failedWrites;
+
+        @Override
+        public int update(PreparedStatementCreator creator) {
+            if (failing) {
+                failedWrites++;
+                throw new DataAccessResourceFailureException("Database unavailable");
+            }
+            List<Object[]> arrays = new ArrayList<>();
+            Connection connection = mock(Connection.class, invocation -> switch (invocation.getMethod().getName()) {
+                case "prepareStatement" -> mock(PreparedStatement.class);
+                case "createArrayOf" -> {
+                    arrays.add(invocation.getArgument(1));
+                    yield null;
+                }
+                default -> null;
+            });
+            try {
+                creator.createPreparedStatement(connection);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+
+            Object[] ids = arrays.get(0);
+            Object[] deltas = arrays.get(1);
+            for (int i = 0; i < ids.length; i++) {
+                viewCounts.merge((UUID) ids[i], (Long) deltas[i], Long::sum);
+            }
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.careeros.service.ai;
+
+import com.careeros.dto.ai.ResumeAnalysisResponse;
+import com.careeros.dto.ai.SkillRecommendationResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Completions come back wrapped in prose, with loose values and sometimes without the fields the
+ * prompt asked for; the parser must recover what is usable and reject the rest
+ */
+class CompletionParserTest {
+
+    @Test
+    void skipsLeadingProseAndCodeFences() {
+        String completion = """
+                Sure! Here is the analysis you asked for:
+                ```json
+                {"atsScore": 72, "strengths": ["Clear layout"]}
+                ```
+                Let me know if you want more {details}.
+                """;
+
+        ResumeAnalysisResponse analysis = CompletionParser.parseResumeAnalysis(completion);
+
+        assertThat(analysis.getAtsScore()).isEqualTo(72);
+        assertThat(analysis.getStrengths()).containsExactly("Clear layout");
+    }
+
+    @Test
+    void retriesFromNextBraceWhenProseContainsOne() {
+        String completion = "Scores use the {0-100} scale: {\"atsScore\": 64}";
+
+        assertThat(CompletionParser.parseResumeAnalysis(completion).getAtsScore()).isEqualTo(64);
+    }
+
+    @Test
+    void clampsScoresAndAcceptsQuotedNumbers() {
+        ResumeAnalysisResponse analysis = CompletionParser.parseResumeAnalysis("""
+                {"atsScore": 140, "sections": {"experience": {"score": "12/10", "present": "true"}}}
+                """);
+
+        assertThat(analysis.getAtsScore()).isEqualTo(100);
+        assertThat(analysis.getSections().get("experience").getScore()).isEqualTo(10);
+        assertThat(analysis.getSections().get("experience").getPresent()).isEqualTo(true);
+        assertThat(CompletionParser.parseResumeAnalysis("{\"atsScore\": \"85%\"}").getAtsScore()).isEqualTo(85);
+
+        SkillRecommendationResponse.SkillRecommendation recommendation = CompletionParser.parseSkillRecommendations("""
+                {"recommendations": [{"skillName": "Kafka", "marketDemand": 1.7}]}
+                """).getRecommendations().get(0);
+        assertThat(recommendation.getMarketDemand()).isEqualTo(1.0);
+    }
+
+    @Test
+    void normalizesEnumValuesToPromptVocabulary() {
+        SkillRecommendationResponse.SkillRecommendation recommendation = CompletionParser.parseSkillRecommendations("""
+                {"recommendations": [{"skillName": "React", "category": "Web development",
+                                      "priority": "high", "difficulty": "expert"}]}
+                """).getRecommendations().get(0);
+
+        assertThat(recommendation.getCategory()).isEqualTo("WEB_DEVELOPMENT");
+        assertThat(recommendation.getPriority()).isEqualTo("HIGH");
+        assertThat(recommendation.getDifficulty()).isNull();
+
+        ResumeAnalysisResponse.Recommendation resumeRecommendation = CompletionParser.parseResumeAnalysis("""
+                {"atsScore": 50, "recommendations": [{"category": "keywords", "priority": "Low", "suggestion": "Add Kafka"}]}
+                """).getRecommendations().get(0);
+        assertThat(resumeRecommendation.getCategory()).isEqualTo("KEYWORDS");
+        assertThat(resumeRecommendation.getPriority()).isEqualTo("LOW");
+    }
+
+    @Test
+    void defaultsMissingResumeListsToEmpty() {
+        ResumeAnalysisResponse analysis = CompletionParser.parseResumeAnalysis("{\"atsScore\": 60}");
+
+        assertThat(analysis.getStrengths()).isEmpty();
+        assertThat(analysis.getWeaknesses()).isEmpty();
+        assertThat(analysis.getRecommendations()).isEmpty();
+    }
+
+    @Test
+    void rejectsMissingRequiredFields() {
+        assertThatThrownBy(() -> CompletionParser.parseResumeAnalysis("{\"overallFeedback\": \"Solid\"}"))
+                .isInstanceOf(MalformedCompletionException.class)
+                .hasMessageContaining("no ATS score");
+        assertThatThrownBy(() -> CompletionParser.parseSkillRecommendations("{\"learningPath\": \"Start with SQL\"}"))
+                .isInstanceOf(MalformedCompletionException.class)
+                .hasMessageContaining("no skill recommendations");
+        // Recommendations without a skill name are dropped, leaving none
+        assertThatThrownBy(() -> CompletionParser.parseSkillRecommendations("{\"recommendations\": [{\"reason\": \"Popular\"}]}"))
+                .isInstanceOf(MalformedCompletionException.class)
+                .hasMessageContaining("no skill recommendations");
+    }
+
+    @Test
+    void rejectsWrongShapesAndMissingJson() {
+        assertThatThrownBy(() -> CompletionParser.parseResumeAnalysis("{\"atsScore\": 70, \"strengths\": \"Clear layout\"}"))
+                .isInstanceOf(MalformedCompletionException.class)
+                .hasMessageContaining("strengths");
+        assertThatThrownBy(() -> CompletionParser.parseResumeAnalysis("I cannot analyze this resume."))
+                .isInstanceOf(MalformedCompletionException.class)
+                .hasMessageContaining("No JSON object");
+        assertThatThrownBy(() -> CompletionParser.parseResumeAnalysis(null))
+                .isInstanceOf(MalformedCompletionException.class);
+    }
+}
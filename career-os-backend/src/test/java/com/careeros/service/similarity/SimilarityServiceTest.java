@@ -0,0 +1,65 @@
+package com.careeros.service.similarity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Skill coverage must accept spelling variants of a skill but not different skills whose names
+ * happen to look alike, which score around the match threshold with trigram embeddings
+ */
+class SimilarityServiceTest {
+
+    private static final double THRESHOLD = 0.5;
+
+    private SimilarityService similarityService;
+
+    @BeforeEach
+    void setUp() {
+        similarityService = new SimilarityService();
+        ReflectionTestUtils.setField(similarityService, "dimensions", 256);
+        similarityService.init();
+    }
+
+    @Test
+    void exactMatchesIgnoreCase() {
+        assertThat(similarityService.coverage(List.of("Java", "SQL"), List.of("java", "sql"), THRESHOLD)).isEqualTo(1.0);
+    }
+
+    @Test
+    void spellingVariantsCount() {
+        assertThat(covers("PostgreSQL", "Postgres")).isTrue();
+        assertThat(covers("Python3", "Python")).isTrue();
+        assertThat(covers("AngularJS", "Angular")).isTrue();
+        assertThat(covers("node.js", "NodeJS")).isTrue();
+    }
+
+    @Test
+    void longerWordContainingSkillDoesNotCount() {
+        assertThat(covers("Scala", "Scalability")).isFalse();
+        assertThat(covers("Scalability", "Scala")).isFalse();
+        assertThat(covers("Rust", "Trust")).isFalse();
+    }
+
+    @Test
+    void qualifiedSkillDoesNotCount() {
+        assertThat(covers("React", "React Native")).isFalse();
+        assertThat(covers("React Native", "React")).isFalse();
+        assertThat(covers("Spring Boot", "Spring")).isFalse();
+        assertThat(covers("AWS Lambda", "AWS")).isFalse();
+    }
+
+    @Test
+    void coverageIsShareOfRequiredTerms() {
+        assertThat(similarityService.coverage(List.of("Scala", "Postgres", "Docker", "Kafka"),
+                List.of("Scalability", "PostgreSQL", "docker"), THRESHOLD)).isEqualTo(0.5);
+    }
+
+    private boolean covers(String required, String offered) {
+        return similarityService.coverage(List.of(required), List.of(offered), THRESHOLD) == 1.0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.careeros.service.tracking;
+
+import com.careeros.dto.job.JobApplicationEvent;
+import com.careeros.entity.UserJobApplication.ApplicationStage;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Job application events must survive the Kafka serializers configured in application.yml,
+ * or the funnel consumer never sees them
+ */
+class JobApplicationEventSerializationTest {
+
+    private static final String TOPIC = "job-application-events";
+
+    @Test
+    void eventRoundTripsThroughConfiguredSerializers() throws Exception {
+        Properties config = applicationConfig();
+        Serializer<Object> serializer = newInstance(config.getProperty("spring.kafka.producer.value-serializer"));
+        Deserializer<Object> deserializer = newInstance(config.getProperty("spring.kafka.consumer.value-deserializer"));
+        deserializer.configure(Map.of("spring.json.trusted.packages",
+                config.getProperty("spring.kafka.consumer.properties.spring.json.trusted.packages")), false);
+
+        JobApplicationEvent event = new JobApplicationEvent();
+        event.setEventId(UUID.randomUUID());
+        event.setUserId(UUID.randomUUID());
+        event.setJobPostingId(UUID.randomUUID());
+        event.setJobTitle("Backend Engineer");
+        event.setCompany("Acme");
+        event.setStage(ApplicationStage.INTERVIEWED);
+        event.setOccurredAt(LocalDateTime.of(2024, 5, 1, 9, 30));
+
+        RecordHeaders headers = new RecordHeaders();
+        byte[] payload = serializer.serialize(TOPIC, headers, event);
+        Object received = deserializer.deserialize(TOPIC, headers, payload);
+
+        assertThat(received).isInstanceOf(JobApplicationEvent.class).isEqualTo(event);
+    }
+
+    private static Properties applicationConfig() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        return yaml.getObject();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(String className) throws Exception {
+        return (T) Class.forName(className).getDeclaredConstructor().newInstance();
+    }
+}